@@ -32,7 +32,7 @@ module "postgresql" {
   pgsql_server_configuration = [
     {
       name  = "azure.extensions"
-      value = "pg_stat_statements, pg_buffercache"
+      value = "pg_stat_statements, pg_buffercache, pg_trgm"
     }
   ]
 }
@@ -28,14 +28,14 @@ class ViewApiTest extends IntegrationCommonTestBase {
     private static final String USERNAME = "admin";
     private static final String VALID_ROLE = "APPROLE_api.request.admin";
 
-    @DisplayName("Should refresh view with 200 response code")
+    @DisplayName("Should request view refresh with 202 response code")
     @Test
     @WithMockUser(username = USERNAME, authorities = {VALID_ROLE})
     void testRefreshView() throws Exception {
         MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
             .post("/view/refresh");
         mockMvc.perform(mockHttpServletRequestBuilder)
-            .andExpect(status().isOk());
+            .andExpect(status().isAccepted());
     }
 
     @Test
@@ -30,6 +30,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -149,9 +150,10 @@ class PublicationLocationTest extends PublicationIntegrationTestBase {
         );
 
         assertTrue(
-            compareArtefacts(expectedArtefact, returnedArtefact),
+            compareListedArtefacts(expectedArtefact, returnedArtefact),
             "Expected and returned artefacts do not match"
         );
+        assertNull(returnedArtefact.getSearch(), "Search metadata should not be returned when listing artefacts");
     }
 
     @Test
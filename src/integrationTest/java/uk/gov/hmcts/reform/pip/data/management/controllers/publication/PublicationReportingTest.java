@@ -16,12 +16,17 @@ import uk.gov.hmcts.reform.pip.data.management.utils.PublicationIntegrationTestB
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 import uk.gov.hmcts.reform.pip.model.report.PublicationMiData;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(classes = {Application.class},
@@ -35,6 +40,7 @@ class PublicationReportingTest extends PublicationIntegrationTestBase {
     private static final String PUBLICATION_URL = "/publication";
     private static final String REPORT_NO_MATCH_ARTEFACTS_URL = PUBLICATION_URL + "/no-match/reporting";
     private static final String MI_REPORTING_DATA_URL = PUBLICATION_URL + "/mi-data";
+    private static final String MI_REPORTING_DATA_EXPORT_URL = MI_REPORTING_DATA_URL + "/export";
     private static final String PROVENANCE = "MANUAL_UPLOAD";
     private static final String ADMIN = "admin";
     private static final String VALIDATION_MI_REPORT = "Should successfully retrieve MI data";
@@ -112,6 +118,58 @@ class PublicationReportingTest extends PublicationIntegrationTestBase {
                    VALIDATION_MI_REPORT);
     }
 
+    @Test
+    void testExportMiDataSuccess() throws Exception {
+        Artefact artefact = createDailyList(Sensitivity.PUBLIC);
+        Artefact noMatchArtefact = createSscsDailyList(Sensitivity.PUBLIC, "UnknownProvenance");
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get(MI_REPORTING_DATA_EXPORT_URL)
+            .param("days", "7");
+
+        MvcResult responseMiData = performStreamed(request).andExpect(status().isOk()).andReturn();
+        assertNotNull(responseMiData.getResponse(), VALIDATION_MI_REPORT);
+
+        List<PublicationMiData> miData = new ArrayList<>();
+        for (String line : responseMiData.getResponse().getContentAsString().split("\n")) {
+            miData.add(OBJECT_MAPPER.readValue(line, PublicationMiData.class));
+        }
+
+        assertTrue(miData.stream().anyMatch(data ->
+                                                data.getArtefactId().equals(artefact.getArtefactId())
+                                                    && data.getLocationId().equals(artefact.getLocationId())
+                                                    && "Test Location".equals(data.getLocationName())),
+                   VALIDATION_MI_REPORT);
+        assertTrue(miData.stream().anyMatch(data ->
+                                                data.getArtefactId().equals(noMatchArtefact.getArtefactId())
+                                                    && data.getLocationName() == null),
+                   VALIDATION_MI_REPORT);
+    }
+
+    @Test
+    void testExportMiDataIsStreamedOnStreamingExecutor() throws Exception {
+        createDailyList(Sensitivity.PUBLIC);
+
+        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get(MI_REPORTING_DATA_EXPORT_URL))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertEquals(Duration.ofMinutes(5).toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout(),
+                     "MI data export should use the configured request timeout");
+
+        mockMvc.perform(asyncDispatch(asyncResult)).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = ADMIN, authorities = { "APPROLE_api.request.unknown" })
+    void testUnauthorizedExportMiData() throws Exception {
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get(MI_REPORTING_DATA_EXPORT_URL);
+
+        mockMvc.perform(request)
+            .andExpect(status().isForbidden())
+            .andReturn();
+    }
+
     @Test
     void testReportNoMatchArtefactsSuccess() throws Exception {
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
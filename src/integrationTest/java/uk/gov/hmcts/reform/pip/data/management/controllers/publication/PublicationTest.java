@@ -16,6 +16,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
@@ -29,6 +30,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import uk.gov.hmcts.reform.pip.data.management.Application;
 import uk.gov.hmcts.reform.pip.data.management.config.AzureBlobConfigurationTestConfiguration;
 import uk.gov.hmcts.reform.pip.data.management.config.PublicationConfiguration;
+import uk.gov.hmcts.reform.pip.data.management.config.StreamingConfiguration;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.utils.PublicationIntegrationTestBase;
 import uk.gov.hmcts.reform.pip.model.account.PiUser;
@@ -39,7 +41,9 @@ import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -47,18 +51,24 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.Assert.fail;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.hmcts.reform.pip.model.account.Roles.SYSTEM_ADMIN;
 
@@ -169,7 +179,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         when(blobClient.downloadContent()).thenReturn(BinaryData.fromString(new String(file.getBytes())));
 
-        response = mockMvc.perform(MockMvcRequestBuilders
+        response = performStreamed(MockMvcRequestBuilders
                                        .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + FILE_URL)
                                        .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isOk()).andReturn();
@@ -179,6 +189,104 @@ class PublicationTest extends PublicationIntegrationTestBase {
                      response.getResponse().getContentAsString(), "File does not match expected content");
     }
 
+    @Test
+    @DisplayName("File endpoint should stream a slowly written file in full on the streaming executor")
+    void retrieveFileFromAnArtefactStreamedSlowly() throws Exception {
+        when(accountManagementService.getUserById(any())).thenReturn(piUser);
+        MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+            .multipart(PUBLICATION_URL)
+            .file(file);
+
+        mockHttpServletRequestBuilder.header(PublicationConfiguration.TYPE_HEADER, ARTEFACT_TYPE)
+            .header(PublicationConfiguration.SENSITIVITY_HEADER, SENSITIVITY)
+            .header(PublicationConfiguration.LANGUAGE_HEADER, LANGUAGE)
+            .header(PublicationConfiguration.PROVENANCE_HEADER, PROVENANCE)
+            .header(PublicationConfiguration.SOURCE_ARTEFACT_ID_HEADER, SOURCE_ARTEFACT_ID)
+            .header(PublicationConfiguration.DISPLAY_TO_HEADER, DISPLAY_TO.plusMonths(1))
+            .header(PublicationConfiguration.DISPLAY_FROM_HEADER, DISPLAY_FROM)
+            .header(PublicationConfiguration.LIST_TYPE, LIST_TYPE)
+            .header(PublicationConfiguration.COURT_ID, COURT_ID)
+            .header(PublicationConfiguration.CONTENT_DATE, CONTENT_DATE)
+            .header(PublicationConfiguration.REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID)
+            .contentType(MediaType.MULTIPART_FORM_DATA);
+
+        MvcResult response =
+            mockMvc.perform(mockHttpServletRequestBuilder).andExpect(status().isCreated()).andReturn();
+        Artefact artefact = OBJECT_MAPPER.readValue(response.getResponse().getContentAsString(), Artefact.class);
+
+        byte[] content = "streamed content ".repeat(64 * 1024).getBytes(StandardCharsets.UTF_8);
+        List<String> streamingThreads = new CopyOnWriteArrayList<>();
+        when(blobClient.downloadContent()).thenReturn(BinaryData.fromBytes(content));
+        doAnswer(invocation -> {
+            streamingThreads.add(Thread.currentThread().getName());
+            OutputStream outputStream = invocation.getArgument(0);
+            int chunkSize = content.length / 4;
+            for (int offset = 0; offset < content.length; offset += chunkSize) {
+                outputStream.write(content, offset, Math.min(chunkSize, content.length - offset));
+                outputStream.flush();
+                Thread.sleep(250);
+            }
+            return null;
+        }).when(blobClient).downloadStreamWithResponse(any(), any(), any(), any(), anyBoolean(), any(), any());
+
+        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders
+                                                    .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + FILE_URL)
+                                                    .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertEquals(Duration.ofMinutes(5).toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout(),
+                     "Streamed responses should use the configured request timeout");
+
+        response = mockMvc.perform(asyncDispatch(asyncResult)).andExpect(status().isOk()).andReturn();
+
+        assertArrayEquals(content, response.getResponse().getContentAsByteArray(),
+                          "Streamed file does not match expected content");
+        assertEquals(1, streamingThreads.size(), "File should be streamed once");
+        assertTrue(streamingThreads.get(0).startsWith(StreamingConfiguration.THREAD_NAME_PREFIX),
+                   "File should be streamed on the streaming executor");
+    }
+
+    @Test
+    @DisplayName("File endpoint should return part of the file when a range is requested")
+    void retrieveFileRangeFromAnArtefact() throws Exception {
+        when(accountManagementService.getUserById(any())).thenReturn(piUser);
+        MockHttpServletRequestBuilder mockHttpServletRequestBuilder = MockMvcRequestBuilders
+            .multipart(PUBLICATION_URL)
+            .file(file);
+
+        mockHttpServletRequestBuilder.header(PublicationConfiguration.TYPE_HEADER, ARTEFACT_TYPE)
+            .header(PublicationConfiguration.SENSITIVITY_HEADER, SENSITIVITY)
+            .header(PublicationConfiguration.LANGUAGE_HEADER, LANGUAGE)
+            .header(PublicationConfiguration.PROVENANCE_HEADER, PROVENANCE)
+            .header(PublicationConfiguration.SOURCE_ARTEFACT_ID_HEADER, SOURCE_ARTEFACT_ID)
+            .header(PublicationConfiguration.DISPLAY_TO_HEADER, DISPLAY_TO.plusMonths(1))
+            .header(PublicationConfiguration.DISPLAY_FROM_HEADER, DISPLAY_FROM)
+            .header(PublicationConfiguration.LIST_TYPE, LIST_TYPE)
+            .header(PublicationConfiguration.COURT_ID, COURT_ID)
+            .header(PublicationConfiguration.CONTENT_DATE, CONTENT_DATE)
+            .header(PublicationConfiguration.LANGUAGE_HEADER, LANGUAGE)
+            .header(PublicationConfiguration.REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID)
+            .contentType(MediaType.MULTIPART_FORM_DATA);
+
+        MvcResult response =
+            mockMvc.perform(mockHttpServletRequestBuilder).andExpect(status().isCreated()).andReturn();
+
+        Artefact artefact = OBJECT_MAPPER.readValue(response.getResponse().getContentAsString(), Artefact.class);
+
+        when(blobClient.downloadContent()).thenReturn(BinaryData.fromString(new String(file.getBytes())));
+
+        response = performStreamed(MockMvcRequestBuilders
+                                       .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + FILE_URL)
+                                       .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID)
+                                       .header(HttpHeaders.RANGE, "bytes=2-5"))
+            .andExpect(status().isPartialContent()).andReturn();
+
+        assertEquals(new String(file.getBytes()).substring(2, 6),
+                     response.getResponse().getContentAsString(), "File range does not match expected content");
+        assertEquals("bytes 2-5/" + file.getBytes().length,
+                     response.getResponse().getHeader(HttpHeaders.CONTENT_RANGE), "Content range does not match");
+    }
+
     @Test
     @DisplayName("File endpoint should return the file when artefact exists")
     void retrieveFileFromAnArtefactWhereAdmin() throws Exception {
@@ -210,7 +318,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         when(blobClient.downloadContent()).thenReturn(BinaryData.fromString(new String(file.getBytes())));
 
-        response = mockMvc.perform(MockMvcRequestBuilders
+        response = performStreamed(MockMvcRequestBuilders
                                        .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + FILE_URL)
                                        .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID)
                                        .header(ADMIN_HEADER, true))
@@ -251,7 +359,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         Artefact artefact = OBJECT_MAPPER.readValue(response.getResponse().getContentAsString(), Artefact.class);
 
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + FILE_URL)
                             .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isForbidden()).andReturn();
@@ -290,7 +398,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         Artefact artefact = OBJECT_MAPPER.readValue(response.getResponse().getContentAsString(), Artefact.class);
 
-        response = mockMvc.perform(MockMvcRequestBuilders
+        response = performStreamed(MockMvcRequestBuilders
                                        .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + FILE_URL)
                                        .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isOk()).andReturn();
@@ -330,7 +438,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
         Artefact artefact = OBJECT_MAPPER.readValue(
             response.getResponse().getContentAsString(), Artefact.class);
 
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + FILE_URL)
                             .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isForbidden()).andReturn();
@@ -339,7 +447,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
     @Test
     @DisplayName("File endpoint should return 404 when artefact does not exist")
     void retrieveFileOfAnArtefactWhereNotFound() throws Exception {
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get("/publication/7d734e8d-ba1d-4730-bd8b-09a970be00cc/file")
                             .header(USER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isNotFound()).andReturn();
@@ -376,7 +484,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         when(blobClient.downloadContent()).thenReturn(BinaryData.fromString(payload));
 
-        response = mockMvc.perform(MockMvcRequestBuilders
+        response = performStreamed(MockMvcRequestBuilders
                                        .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + PAYLOAD_URL)
                                        .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isOk()).andReturn();
@@ -418,7 +526,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         when(blobClient.downloadContent()).thenReturn(BinaryData.fromString(payload));
 
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + PAYLOAD_URL)
                             .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isNotFound()).andReturn();
@@ -453,7 +561,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         Artefact artefact = OBJECT_MAPPER.readValue(response.getResponse().getContentAsString(), Artefact.class);
 
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + PAYLOAD_URL)
                         .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isForbidden()).andReturn();
@@ -492,7 +600,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         Artefact artefact = OBJECT_MAPPER.readValue(response.getResponse().getContentAsString(), Artefact.class);
 
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + PAYLOAD_URL)
                             .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isOk()).andReturn();
@@ -532,7 +640,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         Artefact artefact = OBJECT_MAPPER.readValue(response.getResponse().getContentAsString(), Artefact.class);
 
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + PAYLOAD_URL)
                             .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isForbidden()).andReturn();
@@ -571,7 +679,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         when(blobClient.downloadContent()).thenReturn(BinaryData.fromString(payload));
 
-        response = mockMvc.perform(MockMvcRequestBuilders
+        response = performStreamed(MockMvcRequestBuilders
                                        .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + PAYLOAD_URL))
             .andExpect(status().isOk()).andReturn();
 
@@ -613,7 +721,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         when(blobClient.downloadContent()).thenReturn(BinaryData.fromString(payload));
 
-        response = mockMvc.perform(MockMvcRequestBuilders
+        response = performStreamed(MockMvcRequestBuilders
                                        .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + PAYLOAD_URL)
                         .header(ADMIN_HEADER, true)
                         .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
@@ -658,7 +766,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
 
         when(blobClient.downloadContent()).thenReturn(BinaryData.fromString(payload));
 
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get(PUBLICATION_URL + "/" + artefact.getArtefactId() + PAYLOAD_URL))
             .andExpect(status().isNotFound()).andReturn();
     }
@@ -666,7 +774,7 @@ class PublicationTest extends PublicationIntegrationTestBase {
     @Test
     @DisplayName("Payload endpoint should return 404 when artefact does not exist")
     void retrievePayloadOfAnArtefactWhereNotFound() throws Exception {
-        mockMvc.perform(MockMvcRequestBuilders
+        performStreamed(MockMvcRequestBuilders
                             .get("/publication/7d734e8d-ba1d-4730-bd8b-09a970be00cc/payload")
                             .header(REQUESTER_ID_HEADER, SYSTEM_ADMIN_ID))
             .andExpect(status().isNotFound()).andReturn();
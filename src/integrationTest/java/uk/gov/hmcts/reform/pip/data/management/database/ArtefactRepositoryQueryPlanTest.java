@@ -0,0 +1,180 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the artefact display window and NoMatch queries are planned as index scans against the Flyway schema.
+ * Sequential scans are disabled so the plans do not depend on the size of the test tables. The SQL of JPQL queries
+ * is captured from Hibernate as the repository runs them, and explained as a prepared statement.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepositoryQueryPlanTest$CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureEmbeddedDatabase(type = AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES)
+class ArtefactRepositoryQueryPlanTest {
+    private static final String CURRENT_DATE = "CAST('2025-01-01' AS date)";
+    private static final String CURRENT_DATETIME = "CAST('2025-01-01 10:00:00' AS timestamp)";
+    private static final String INDEX_MESSAGE = "Query plan does not use the expected index";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ArtefactRepository artefactRepository;
+
+    /**
+     * Captures the SQL which Hibernate generates for each statement it runs.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+    }
+
+    private static String nativeQuery(String methodName) {
+        return Arrays.stream(ArtefactRepository.class.getMethods())
+            .filter(method -> method.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow()
+            .getAnnotation(Query.class)
+            .value();
+    }
+
+    private List<String> indexesUsed(String query) throws JsonProcessingException {
+        Object plan = entityManager.createNativeQuery("EXPLAIN (FORMAT JSON) " + query).getSingleResult();
+        return objectMapper.readTree(plan.toString()).findValuesAsText("Index Name");
+    }
+
+    /**
+     * Run a repository query, and return the SQL Hibernate generated for it.
+     */
+    private static String capturedSql(Runnable repositoryQuery) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        repositoryQuery.run();
+        return CapturingStatementInspector.STATEMENTS.getLast();
+    }
+
+    /**
+     * Explain generated SQL as a prepared statement, with its positional parameters bound to the given values in
+     * order. The last value is bound to any remaining parameters.
+     */
+    private List<String> indexesUsedByPrepared(String sql, String... parameterValues) throws JsonProcessingException {
+        StringBuilder preparedSql = new StringBuilder();
+        int parameterCount = 0;
+        for (char character : sql.toCharArray()) {
+            if (character == '?') {
+                preparedSql.append('$').append(++parameterCount);
+            } else {
+                preparedSql.append(character);
+            }
+        }
+        entityManager.createNativeQuery("PREPARE plan_query AS " + preparedSql).executeUpdate();
+
+        List<String> parameters = new ArrayList<>();
+        for (int i = 0; i < parameterCount; i++) {
+            parameters.add(parameterValues[Math.min(i, parameterValues.length - 1)]);
+        }
+        try {
+            return indexesUsed("EXECUTE plan_query(" + String.join(", ", parameters) + ")");
+        } finally {
+            entityManager.createNativeQuery("DEALLOCATE plan_query").executeUpdate();
+        }
+    }
+
+    @Test
+    void shouldUseDisplayFromIndexForArtefactsByDisplayFrom() throws JsonProcessingException {
+        String query = nativeQuery("findArtefactsByDisplayFrom")
+            .replaceAll(":curr_datetime\\b", CURRENT_DATETIME)
+            .replaceAll(":curr_date\\b", CURRENT_DATE);
+
+        assertThat(indexesUsed(query))
+            .as(INDEX_MESSAGE)
+            .contains("artefact_display_from_idx");
+    }
+
+    @Test
+    void shouldUseListTypeContentDateIndexForActiveArtefactsByListType() throws JsonProcessingException {
+        String query = nativeQuery("findActiveArtefactsByListTypeIn")
+            .replaceAll(":list_types\\b", "'CIVIL_DAILY_CAUSE_LIST', 'SJP_PUBLIC_LIST'")
+            .replaceAll(":curr_datetime\\b", CURRENT_DATETIME)
+            .replaceAll(":curr_date\\b", CURRENT_DATE);
+
+        assertThat(indexesUsed(query))
+            .as(INDEX_MESSAGE)
+            .contains("artefact_list_type_content_date_idx");
+    }
+
+    @Test
+    void shouldUseDisplayToIndexForOutdatedArtefacts() throws JsonProcessingException {
+        String query = nativeQuery("findOutdatedArtefacts")
+            .replaceAll(":curr_date\\b", CURRENT_DATETIME);
+
+        assertThat(indexesUsed(query))
+            .as(INDEX_MESSAGE)
+            .contains("artefact_display_to_idx");
+    }
+
+    @Test
+    void shouldUseLocationDisplayWindowIndexForArtefactsByLocation() throws JsonProcessingException {
+        String sql = capturedSql(() -> artefactRepository.findArtefactsByLocationId(
+            "1", LocalDateTime.of(2025, 1, 1, 10, 0)
+        ));
+
+        assertThat(indexesUsedByPrepared(sql, "'1'", CURRENT_DATETIME))
+            .as(INDEX_MESSAGE)
+            .containsExactly("artefact_location_id_display_from_display_to_idx");
+    }
+
+    @Test
+    void shouldUseNoMatchIndexForNoMatchArtefactsPage() throws JsonProcessingException {
+        String query = "SELECT * FROM artefact WHERE is_no_match = true "
+            + "ORDER BY COALESCE(content_date, TIMESTAMP '1900-01-01 00:00:00'), artefact_id LIMIT 100";
+
+        assertThat(indexesUsed(query))
+            .as(INDEX_MESSAGE)
+            .contains("artefact_no_match_page_content_date_artefact_id_idx");
+    }
+
+    @Test
+    void shouldDropContentDateIndexReplacedByNoMatchIndex() {
+        Object indexCount = entityManager.createNativeQuery(
+            "SELECT COUNT(*) FROM pg_indexes WHERE indexname = 'artefact_content_date_artefact_id_idx'"
+        ).getSingleResult();
+
+        assertThat(((Number) indexCount).longValue())
+            .as("Unused content date index should be dropped")
+            .isZero();
+    }
+}
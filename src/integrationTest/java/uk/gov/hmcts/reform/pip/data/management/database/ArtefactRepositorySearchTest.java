@@ -94,6 +94,15 @@ class ArtefactRepositorySearchTest {
             .containsExactlyInAnyOrder(artefactId1, artefactId2);
     }
 
+    @Test
+    void shouldFindArtefactByPartialCaseNameIgnoringCase() {
+        assertThat(artefactRepository.findArtefactByCaseName("CASE NA", TODAY))
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .hasSize(2)
+            .extracting(Artefact::getArtefactId)
+            .containsExactlyInAnyOrder(artefactId1, artefactId2);
+    }
+
     @Test
     void shouldNotFindArtefactByCaseNameUsingCaseNumber() {
         assertThat(artefactRepository.findArtefactByCaseName(CASE_NUMBER, TODAY))
@@ -124,6 +133,13 @@ class ArtefactRepositorySearchTest {
             .containsExactly(artefactId1);
     }
 
+    @Test
+    void shouldNotFindArtefactBySearchUsingPartialCaseNumber() {
+        assertThat(artefactRepository.findArtefactBySearch(CaseSearchTerm.CASE_ID.dbValue, "Test case", TODAY))
+            .as(ARTEFACT_EMPTY_MESSAGE)
+            .isEmpty();
+    }
+
     @Test
     void shouldNotFindArtefactBySearchWithCaseIdSearchTermUsingCaseUrn() {
         assertThat(artefactRepository.findArtefactBySearch(CaseSearchTerm.CASE_ID.dbValue, CASE_URN, TODAY))
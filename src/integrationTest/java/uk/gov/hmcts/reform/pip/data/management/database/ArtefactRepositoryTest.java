@@ -7,8 +7,10 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPageCursor;
 import uk.gov.hmcts.reform.pip.model.publication.Language;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
@@ -17,9 +19,13 @@ import uk.gov.hmcts.reform.pip.model.report.PublicationMiData;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -34,6 +40,7 @@ class ArtefactRepositoryTest {
     private static final String SOURCE_ARTEFACT_ID = "1234";
     private static final String LOCATION_ID = "1";
     private static final String NO_MATCH_LOCATION_ID = "NoMatch99";
+    private static final String UNDATED_LOCATION_ID = "2";
     private static final String INVALID_LOCATION_ID = "9";
     private static final String INVALID_ARTEFACT_ID = UUID.randomUUID().toString();
     private static final String PROVENANCE = "MANUAL_UPLOAD";
@@ -50,6 +57,12 @@ class ArtefactRepositoryTest {
     @Autowired
     ArtefactRepository artefactRepository;
 
+    @Autowired
+    ArtefactArchivedRepository artefactArchivedRepository;
+
+    @Autowired
+    PendingBlobDeletionRepository pendingBlobDeletionRepository;
+
     @BeforeAll
     void setup() {
         LocalDateTime publicationReceivedDateTime = LocalDateTime.now();
@@ -58,6 +71,7 @@ class ArtefactRepositoryTest {
         artefact1.setLocationId(LOCATION_ID);
         artefact1.setListType(ListType.CIVIL_DAILY_CAUSE_LIST);
         artefact1.setLastReceivedDate(publicationReceivedDateTime.minusDays(5));
+        artefact1.setSearch(Map.of("cases", List.of(Map.of("caseNumber", "123"))));
         setCommonArtefactProperties(artefact1);
 
         Artefact savedArtefact = artefactRepository.save(artefact1);
@@ -95,6 +109,7 @@ class ArtefactRepositoryTest {
 
         Artefact artefact5 = new Artefact();
         artefact5.setLocationId(NO_MATCH_LOCATION_ID);
+        artefact5.setIsNoMatch(true);
         artefact5.setListType(ListType.SJP_PUBLIC_LIST);
         artefact5.setLastReceivedDate(publicationReceivedDateTime.minusDays(40));
         setCommonArtefactProperties(artefact5);
@@ -136,21 +151,6 @@ class ArtefactRepositoryTest {
             .isEmpty();
     }
 
-    @Test
-    void shouldFindByArtefactId() {
-        assertThat(artefactRepository.findByArtefactId(artefactId3.toString(), TODAY))
-            .as(ARTEFACT_MATCHED_MESSAGE)
-            .isPresent()
-            .hasValueSatisfying(a -> a.getArtefactId().equals(artefactId3));
-    }
-
-    @Test
-    void shouldNotFindByArtefactIdIfCurrentDateNotAfterDisplayFromDate() {
-        assertThat(artefactRepository.findByArtefactId(artefactId3.toString(), YESTERDAY))
-            .as(ARTEFACT_EMPTY_MESSAGE)
-            .isEmpty();
-    }
-
     @Test
     void shouldFindArtefactsByLocationId() {
         assertThat(artefactRepository.findArtefactsByLocationId(LOCATION_ID, TODAY))
@@ -160,6 +160,18 @@ class ArtefactRepositoryTest {
             .containsExactlyInAnyOrder(artefactId1, artefactId2, artefactId3);
     }
 
+    @Test
+    void shouldNotLoadSearchWhenListingArtefactsByLocationId() {
+        assertThat(artefactRepository.findArtefactsByLocationId(LOCATION_ID, TODAY))
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .extracting(Artefact::getSearch)
+            .containsOnlyNulls();
+
+        assertThat(artefactRepository.findArtefactByArtefactId(artefactId1.toString()))
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .hasValueSatisfying(artefact -> assertThat(artefact.getSearch()).isNotEmpty());
+    }
+
     @Test
     void shouldNotFindArtefactsByLocationIdIfCurrentDateNotBeforeDisplayToDate() {
         assertThat(artefactRepository.findArtefactsByLocationId(INVALID_LOCATION_ID, TOMORROW))
@@ -192,6 +204,104 @@ class ArtefactRepositoryTest {
             .containsExactlyInAnyOrder(artefactId1, artefactId2, artefactId3);
     }
 
+    @Test
+    void shouldFindArtefactsPagesByLocationIdInContentDateAndArtefactIdOrder() {
+        // Postgres orders UUIDs by their unsigned bytes, which matches the order of their lower case hex strings
+        List<UUID> expectedOrder = Stream.of(artefactId1, artefactId2, artefactId3)
+            .sorted(Comparator.comparing(UUID::toString))
+            .toList();
+
+        List<Artefact> firstPage = artefactRepository.findArtefactsPageByLocationId(LOCATION_ID, TODAY, Limit.of(2));
+        assertThat(firstPage)
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .extracting(Artefact::getArtefactId)
+            .containsExactly(expectedOrder.get(0), expectedOrder.get(1));
+
+        Artefact last = firstPage.get(1);
+        assertThat(artefactRepository.findArtefactsPageByLocationIdAfter(LOCATION_ID, TODAY, last.getContentDate(),
+                                                                         last.getArtefactId(), Limit.of(2)))
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .extracting(Artefact::getArtefactId)
+            .containsExactly(expectedOrder.get(2));
+    }
+
+    @Test
+    void shouldFindArtefactsPagesByLocationIdAdmin() {
+        List<Artefact> firstPage = artefactRepository.findArtefactsPageByLocationIdAdmin(LOCATION_ID, TODAY,
+                                                                                        Limit.of(2));
+        assertThat(firstPage)
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .hasSize(2);
+
+        Artefact last = firstPage.get(1);
+        assertThat(artefactRepository.findArtefactsPageByLocationIdAdminAfter(
+            LOCATION_ID, TODAY, last.getContentDate(), last.getArtefactId(), Limit.of(2)))
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .hasSize(1)
+            .extracting(Artefact::getArtefactId)
+            .doesNotContainAnyElementsOf(firstPage.stream().map(Artefact::getArtefactId).toList());
+    }
+
+    @Test
+    void shouldFindArtefactsPagesByLocationIdIncludingArtefactsWithoutContentDate() {
+        List<UUID> undatedArtefactIds = Stream.of(ListType.CIVIL_DAILY_CAUSE_LIST, ListType.FAMILY_DAILY_CAUSE_LIST)
+            .map(listType -> artefactRepository.save(buildUndatedArtefact(UNDATED_LOCATION_ID, listType))
+                .getArtefactId())
+            .toList();
+        Artefact datedArtefact = new Artefact();
+        datedArtefact.setLocationId(UNDATED_LOCATION_ID);
+        datedArtefact.setListType(ListType.SJP_PUBLIC_LIST);
+        setCommonArtefactProperties(datedArtefact);
+        UUID datedArtefactId = artefactRepository.save(datedArtefact).getArtefactId();
+
+        List<UUID> pagedArtefactIds = new ArrayList<>();
+        List<Artefact> page = artefactRepository.findArtefactsPageByLocationId(UNDATED_LOCATION_ID, TODAY,
+                                                                               Limit.of(1));
+        while (!page.isEmpty()) {
+            pagedArtefactIds.add(page.get(0).getArtefactId());
+            ArtefactPageCursor cursor = ArtefactPageCursor.from(page.get(0));
+            page = artefactRepository.findArtefactsPageByLocationIdAfter(
+                UNDATED_LOCATION_ID, TODAY, cursor.getContentDate(), cursor.getArtefactId(), Limit.of(1));
+        }
+
+        assertThat(pagedArtefactIds)
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .hasSize(3)
+            .containsExactlyElementsOf(Stream.concat(
+                undatedArtefactIds.stream().sorted(Comparator.comparing(UUID::toString)),
+                Stream.of(datedArtefactId)
+            ).toList());
+    }
+
+    @Test
+    void shouldFindNoMatchArtefactsPagesIncludingArtefactsWithoutContentDate() {
+        Artefact undatedArtefact = buildUndatedArtefact(NO_MATCH_LOCATION_ID, ListType.CIVIL_DAILY_CAUSE_LIST);
+        undatedArtefact.setIsNoMatch(true);
+        artefactRepository.save(undatedArtefact);
+
+        List<Artefact> firstPage = artefactRepository.findNoMatchArtefactsPage(Limit.of(1));
+        assertThat(firstPage)
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .extracting(Artefact::getArtefactId)
+            .containsExactly(undatedArtefact.getArtefactId());
+
+        ArtefactPageCursor cursor = ArtefactPageCursor.from(firstPage.get(0));
+        assertThat(artefactRepository.findNoMatchArtefactsPageAfter(cursor.getContentDate(), cursor.getArtefactId(),
+                                                                     Limit.of(1)))
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .extracting(Artefact::getArtefactId)
+            .containsExactly(artefactId5);
+    }
+
+    private Artefact buildUndatedArtefact(String locationId, ListType listType) {
+        Artefact artefact = new Artefact();
+        artefact.setLocationId(locationId);
+        artefact.setListType(listType);
+        setCommonArtefactProperties(artefact);
+        artefact.setContentDate(null);
+        return artefact;
+    }
+
     @Test
     void shouldNotFindArtefactsByLocationIdAdminIfInvalid() {
         assertThat(artefactRepository.findArtefactsByLocationIdAdmin(INVALID_LOCATION_ID, TODAY))
@@ -246,6 +356,59 @@ class ArtefactRepositoryTest {
             .isEmpty();
     }
 
+    @Test
+    void shouldArchiveExpiredArtefactsInBatches() {
+        LocalDateTime archivedDate = LocalDateTime.now();
+        assertThat(artefactRepository.archiveExpiredArtefacts(TOMORROW, archivedDate, 1))
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .extracting(Artefact::getArtefactId)
+            .containsExactly(artefactId4);
+
+        assertThat(artefactRepository.archiveExpiredArtefacts(TOMORROW, archivedDate, 1))
+            .as(ARTEFACT_EMPTY_MESSAGE)
+            .isEmpty();
+
+        assertThat(artefactRepository.findArtefactByArtefactId(artefactId4.toString()))
+            .as(ARTEFACT_EMPTY_MESSAGE)
+            .isEmpty();
+
+        assertThat(artefactArchivedRepository.findAll())
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .filteredOn(archived -> archived.getArtefactId().equals(artefactId4))
+            .singleElement()
+            .satisfies(archived -> {
+                assertThat(archived.getLocationId()).isEqualTo(LOCATION_ID);
+                assertThat(archived.getIsManuallyDeleted()).isFalse();
+            });
+
+        assertThat(pendingBlobDeletionRepository.findById(artefactId4))
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .hasValueSatisfying(pending -> {
+                assertThat(pending.getLocationId()).isEqualTo(LOCATION_ID);
+                assertThat(pending.getListType()).isEqualTo(ListType.CIVIL_DAILY_CAUSE_LIST);
+                assertThat(pending.getCreatedDate()).isNotNull();
+            });
+    }
+
+    @Test
+    void shouldDeleteArtefactsByArtefactIdIn() {
+        Artefact artefact = new Artefact();
+        artefact.setLocationId(LOCATION_ID);
+        artefact.setListType(ListType.CIVIL_DAILY_CAUSE_LIST);
+        setCommonArtefactProperties(artefact);
+        UUID artefactId = artefactRepository.saveAndFlush(artefact).getArtefactId();
+
+        assertThat(artefactRepository.deleteAllByArtefactIdIn(List.of(artefactId, UUID.randomUUID())))
+            .as(RESULT_MATCHED_MESSAGE)
+            .isEqualTo(1);
+
+        assertThat(artefactRepository.findAll())
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .extracting(Artefact::getArtefactId)
+            .doesNotContain(artefactId)
+            .contains(artefactId1, artefactId2, artefactId3);
+    }
+
     @Test
     void shouldFindAllNoMatchArtefacts() {
         assertThat(artefactRepository.findAllNoMatchArtefacts())
@@ -255,6 +418,19 @@ class ArtefactRepositoryTest {
             .containsExactly(artefactId5);
     }
 
+    @Test
+    void shouldFindNoMatchArtefactsPages() {
+        List<Artefact> firstPage = artefactRepository.findNoMatchArtefactsPage(Limit.of(1));
+        assertThat(firstPage)
+            .as(ARTEFACT_MATCHED_MESSAGE)
+            .extracting(Artefact::getArtefactId)
+            .containsExactly(artefactId5);
+
+        assertThat(artefactRepository.findNoMatchArtefactsPageAfter(TODAY, artefactId5, Limit.of(1)))
+            .as(ARTEFACT_EMPTY_MESSAGE)
+            .isEmpty();
+    }
+
     @Test
     void shouldCountNoMatchArtefacts() {
         assertThat(artefactRepository.countNoMatchArtefacts(YESTERDAY))
@@ -258,6 +258,48 @@ class ArtefactSearchRepositoryTest {
             .isEqualTo(CASE_NAME);
     }
 
+    @Test
+    void shouldRankCaseNameFuzzySearchBySimilarity() {
+        Artefact activeArtefact = new Artefact();
+        activeArtefact.setDisplayFrom(LocalDateTime.now().minusDays(1));
+        activeArtefact.setDisplayTo(LocalDateTime.now().plusDays(1));
+        Artefact savedArtefact = artefactRepository.save(activeArtefact);
+
+        ArtefactSearch search = new ArtefactSearch();
+        search.setArtefactId(savedArtefact.getArtefactId());
+        search.setCaseNumber("otherCaseNumber");
+        search.setCaseName("Another caseName with a longer title");
+        artefactSearchRepository.save(search);
+
+        List<ArtefactSearchCaseResult> results = artefactSearchRepository.findTop50ByCaseNameContainingIgnoreCase(
+            CASE_NAME.toLowerCase(), LocalDateTime.now()
+        );
+
+        assertThat(results)
+            .extracting(ArtefactSearchCaseResult::getCaseName)
+            .containsExactly(CASE_NAME, "Another caseName with a longer title");
+    }
+
+    @Test
+    void shouldFindAllNotExpiredWithDisplayWindow() {
+        List<ArtefactSearchIndexRow> results = artefactSearchRepository.findAllNotExpired(LocalDateTime.now());
+
+        assertThat(results)
+            .extracting(ArtefactSearchIndexRow::getArtefactId)
+            .contains(ARTEFACT_SEARCH.getArtefactId(), ARTEFACT_SEARCH2.getArtefactId())
+            .doesNotContain(ARTEFACT_SEARCH3.getArtefactId());
+
+        assertThat(results)
+            .filteredOn(row -> row.getArtefactId().equals(ARTEFACT_SEARCH2.getArtefactId()))
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getCaseNumber()).isEqualTo(CASE_NUMBER);
+                assertThat(row.getCaseName()).isEqualTo(CASE_NAME);
+                assertThat(row.getDisplayFrom()).isNotNull();
+                assertThat(row.getDisplayTo()).isNotNull();
+            });
+    }
+
     private ArtefactSearch createArtefactSearch(UUID artefactId) {
         ArtefactSearch artefactSearch = new ArtefactSearch();
 
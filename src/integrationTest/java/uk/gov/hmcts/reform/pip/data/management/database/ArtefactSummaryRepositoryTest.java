@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSummary;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("integration-jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class ArtefactSummaryRepositoryTest {
+    private static final String SUMMARY = "Summary";
+    private static final String NEW_SUMMARY = "New summary";
+
+    @Autowired
+    private ArtefactSummaryRepository artefactSummaryRepository;
+
+    @Test
+    void shouldFindSummaryForSupersededCount() {
+        UUID artefactId = UUID.randomUUID();
+        artefactSummaryRepository.upsertSummary(artefactId, 0, SUMMARY, LocalDateTime.now());
+
+        assertThat(artefactSummaryRepository.findByArtefactIdAndSupersededCount(artefactId, 0))
+            .map(ArtefactSummary::getSummary)
+            .contains(SUMMARY);
+        assertThat(artefactSummaryRepository.findByArtefactIdAndSupersededCount(artefactId, 1))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldReplaceSummaryForNewerSupersededCount() {
+        UUID artefactId = UUID.randomUUID();
+        artefactSummaryRepository.upsertSummary(artefactId, 0, SUMMARY, LocalDateTime.now());
+        artefactSummaryRepository.upsertSummary(artefactId, 1, NEW_SUMMARY, LocalDateTime.now());
+
+        assertThat(artefactSummaryRepository.findByArtefactIdAndSupersededCount(artefactId, 1))
+            .map(ArtefactSummary::getSummary)
+            .contains(NEW_SUMMARY);
+        assertThat(artefactSummaryRepository.findByArtefactIdAndSupersededCount(artefactId, 0))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldNotReplaceSummaryForOlderSupersededCount() {
+        UUID artefactId = UUID.randomUUID();
+        artefactSummaryRepository.upsertSummary(artefactId, 1, NEW_SUMMARY, LocalDateTime.now());
+        artefactSummaryRepository.upsertSummary(artefactId, 0, SUMMARY, LocalDateTime.now());
+
+        assertThat(artefactSummaryRepository.findByArtefactIdAndSupersededCount(artefactId, 1))
+            .map(ArtefactSummary::getSummary)
+            .contains(NEW_SUMMARY);
+    }
+
+    @Test
+    void shouldDeleteByArtefactId() {
+        UUID artefactId = UUID.randomUUID();
+        artefactSummaryRepository.upsertSummary(artefactId, 0, SUMMARY, LocalDateTime.now());
+
+        artefactSummaryRepository.deleteByArtefactId(artefactId);
+
+        assertThat(artefactSummaryRepository.findById(artefactId)).isEmpty();
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefactCount;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("integration-jpa")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LocationArtefactCountRepositoryTest {
+    private static final String LOCATION_ID = "1";
+    private static final String LOCATION_ID2 = "2";
+    private static final String NO_MATCH_ARTEFACT_LOCATION_ID = "NoMatch1";
+    private static final String NO_MATCH_LOCATION_ID = LocationArtefactCountRepository.NO_MATCH_LOCATION_ID;
+    private static final String COUNT_MESSAGE = "Artefact count does not match";
+
+    @Autowired
+    private LocationArtefactCountRepository locationArtefactCountRepository;
+
+    @Autowired
+    private ArtefactRepository artefactRepository;
+
+    @Test
+    void shouldAddToCount() {
+        locationArtefactCountRepository.addToCount(LOCATION_ID, 1);
+        locationArtefactCountRepository.addToCount(LOCATION_ID, 1);
+        locationArtefactCountRepository.addToCount(LOCATION_ID, -1);
+
+        assertThat(locationArtefactCountRepository.findById(LOCATION_ID))
+            .as(COUNT_MESSAGE)
+            .get()
+            .extracting(LocationArtefactCount::getArtefactCount)
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReconcileCounts() {
+        artefactRepository.save(buildArtefact(LOCATION_ID, false, null));
+        artefactRepository.save(buildArtefact(LOCATION_ID, false, LocalDateTime.now().plusDays(1)));
+        artefactRepository.save(buildArtefact(LOCATION_ID2, false, LocalDateTime.now().minusDays(1)));
+        artefactRepository.save(buildArtefact(NO_MATCH_ARTEFACT_LOCATION_ID, true, null));
+        locationArtefactCountRepository.addToCount(LOCATION_ID, 5);
+        locationArtefactCountRepository.addToCount(LOCATION_ID2, 2);
+
+        locationArtefactCountRepository.reconcileCounts(LocalDateTime.now());
+        locationArtefactCountRepository.deleteUndisplayedCounts(LocalDateTime.now());
+
+        assertThat(locationArtefactCountRepository.findAll())
+            .as(COUNT_MESSAGE)
+            .containsExactlyInAnyOrder(new LocationArtefactCount(LOCATION_ID, 2),
+                                       new LocationArtefactCount(NO_MATCH_LOCATION_ID, 1));
+    }
+
+    @Test
+    void shouldReconcileNoMatchCountWithoutNoMatchArtefacts() {
+        locationArtefactCountRepository.addToCount(NO_MATCH_LOCATION_ID, 3);
+
+        locationArtefactCountRepository.reconcileCounts(LocalDateTime.now());
+        locationArtefactCountRepository.deleteUndisplayedCounts(LocalDateTime.now());
+
+        assertThat(locationArtefactCountRepository.findAll())
+            .as(COUNT_MESSAGE)
+            .containsExactly(new LocationArtefactCount(NO_MATCH_LOCATION_ID, 0));
+    }
+
+    @Test
+    void shouldTakeReconcileLock() {
+        assertThat(locationArtefactCountRepository.tryLockReconcile())
+            .as("Reconcile lock should be taken")
+            .isTrue();
+    }
+
+    private Artefact buildArtefact(String locationId, boolean isNoMatch, LocalDateTime displayTo) {
+        Artefact artefact = new Artefact();
+        artefact.setLocationId(locationId);
+        artefact.setIsNoMatch(isNoMatch);
+        artefact.setListType(ListType.CIVIL_DAILY_CAUSE_LIST);
+        artefact.setSourceArtefactId("1234");
+        artefact.setContentDate(LocalDateTime.now());
+        artefact.setLanguage(Language.ENGLISH);
+        artefact.setProvenance("MANUAL_UPLOAD");
+        artefact.setDisplayFrom(LocalDateTime.now().minusDays(2));
+        artefact.setDisplayTo(displayTo);
+        artefact.setSensitivity(Sensitivity.PUBLIC);
+        artefact.setLastReceivedDate(LocalDateTime.now());
+        return artefact;
+    }
+}
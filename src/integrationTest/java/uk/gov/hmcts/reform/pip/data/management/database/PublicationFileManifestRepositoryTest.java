@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationFileManifest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("integration-jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class PublicationFileManifestRepositoryTest {
+    private static final String PDF_EXTENSION = ".pdf";
+    private static final String EXCEL_EXTENSION = ".xlsx";
+
+    @Autowired
+    private PublicationFileManifestRepository publicationFileManifestRepository;
+
+    @Test
+    void shouldFindByArtefactId() {
+        UUID artefactId = UUID.randomUUID();
+        UUID otherArtefactId = UUID.randomUUID();
+
+        publicationFileManifestRepository.saveAll(List.of(
+            createManifest(artefactId, PDF_EXTENSION),
+            createManifest(artefactId, EXCEL_EXTENSION),
+            createManifest(otherArtefactId, PDF_EXTENSION)
+        ));
+
+        assertThat(publicationFileManifestRepository.findByArtefactId(artefactId))
+            .hasSize(2)
+            .extracting(PublicationFileManifest::getArtefactId)
+            .containsOnly(artefactId);
+    }
+
+    @Test
+    void shouldFindByArtefactIdIn() {
+        UUID artefactId = UUID.randomUUID();
+        UUID otherArtefactId = UUID.randomUUID();
+        UUID unrelatedArtefactId = UUID.randomUUID();
+
+        publicationFileManifestRepository.saveAll(List.of(
+            createManifest(artefactId, PDF_EXTENSION),
+            createManifest(otherArtefactId, EXCEL_EXTENSION),
+            createManifest(unrelatedArtefactId, PDF_EXTENSION)
+        ));
+
+        assertThat(publicationFileManifestRepository.findByArtefactIdIn(List.of(artefactId, otherArtefactId)))
+            .hasSize(2)
+            .extracting(PublicationFileManifest::getArtefactId)
+            .containsOnly(artefactId, otherArtefactId);
+    }
+
+    @Test
+    void shouldDeleteByArtefactId() {
+        UUID artefactIdToDelete = UUID.randomUUID();
+        UUID artefactIdToKeep = UUID.randomUUID();
+
+        publicationFileManifestRepository.saveAll(List.of(
+            createManifest(artefactIdToDelete, PDF_EXTENSION),
+            createManifest(artefactIdToDelete, EXCEL_EXTENSION),
+            createManifest(artefactIdToKeep, PDF_EXTENSION)
+        ));
+
+        publicationFileManifestRepository.deleteByArtefactId(artefactIdToDelete);
+
+        assertThat(publicationFileManifestRepository.findByArtefactId(artefactIdToDelete)).isEmpty();
+        assertThat(publicationFileManifestRepository.findByArtefactId(artefactIdToKeep)).isNotEmpty();
+    }
+
+    private PublicationFileManifest createManifest(UUID artefactId, String extension) {
+        return PublicationFileManifest.builder()
+            .artefactId(artefactId)
+            .fileName(artefactId + extension)
+            .fileSize(100L)
+            .contentHash("hash")
+            .generatedDate(LocalDateTime.now())
+            .build();
+    }
+}
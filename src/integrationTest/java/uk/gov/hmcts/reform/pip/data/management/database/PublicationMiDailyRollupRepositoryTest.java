@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactArchived;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationMiDailyRollup;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("integration-jpa")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PublicationMiDailyRollupRepositoryTest {
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final String PROVENANCE = "MANUAL_UPLOAD";
+    private static final String LOCATION_ID = "1";
+    private static final String LIST_TYPE = ListType.CIVIL_DAILY_CAUSE_LIST.name();
+    private static final String LANGUAGE = Language.ENGLISH.name();
+    private static final String SENSITIVITY = Sensitivity.PUBLIC.name();
+    private static final String ROLLUP_MATCH_MESSAGE = "Daily MI rollups do not match";
+
+    @Autowired
+    private PublicationMiDailyRollupRepository publicationMiDailyRollupRepository;
+
+    @Autowired
+    private ArtefactArchivedRepository artefactArchivedRepository;
+
+    @Test
+    void shouldAddToExistingRollup() {
+        publicationMiDailyRollupRepository.addToRollup(TODAY, PROVENANCE, LIST_TYPE, LOCATION_ID, LANGUAGE,
+                                                       SENSITIVITY, 1, 0, 0);
+        publicationMiDailyRollupRepository.addToRollup(TODAY, PROVENANCE, LIST_TYPE, LOCATION_ID, LANGUAGE,
+                                                       SENSITIVITY, 1, 2, 1);
+
+        List<PublicationMiDailyRollup> rollups = publicationMiDailyRollupRepository.findAllRollups();
+
+        assertThat(rollups)
+            .as(ROLLUP_MATCH_MESSAGE)
+            .singleElement()
+            .extracting(PublicationMiDailyRollup::getPublicationCount, PublicationMiDailyRollup::getSupersededCount,
+                        PublicationMiDailyRollup::getArchivedCount)
+            .containsExactly(2L, 2L, 1L);
+    }
+
+    @Test
+    void shouldFindRollupsFromDateWithPublications() {
+        publicationMiDailyRollupRepository.addToRollup(TODAY, PROVENANCE, LIST_TYPE, LOCATION_ID, LANGUAGE,
+                                                       SENSITIVITY, 1, 0, 0);
+        publicationMiDailyRollupRepository.addToRollup(TODAY.minusDays(10), PROVENANCE, LIST_TYPE, LOCATION_ID,
+                                                       LANGUAGE, SENSITIVITY, 1, 0, 0);
+        publicationMiDailyRollupRepository.addToRollup(TODAY.minusDays(1), PROVENANCE, LIST_TYPE, LOCATION_ID,
+                                                       LANGUAGE, SENSITIVITY, 1, 0, 0);
+        publicationMiDailyRollupRepository.addToRollup(TODAY.minusDays(1), PROVENANCE, LIST_TYPE, LOCATION_ID,
+                                                       LANGUAGE, SENSITIVITY, -1, 0, 0);
+
+        assertThat(publicationMiDailyRollupRepository.findRollupsFrom(TODAY.minusDays(7)))
+            .as(ROLLUP_MATCH_MESSAGE)
+            .extracting(PublicationMiDailyRollup::getReceivedDate)
+            .containsExactly(TODAY);
+    }
+
+    @Test
+    void shouldSubtractArchivedLocations() {
+        ArtefactArchived artefactArchived = new ArtefactArchived();
+        artefactArchived.setArtefactId(UUID.randomUUID());
+        artefactArchived.setLocationId(LOCATION_ID);
+        artefactArchived.setListType(ListType.CIVIL_DAILY_CAUSE_LIST);
+        artefactArchived.setLanguage(Language.ENGLISH);
+        artefactArchived.setProvenance(PROVENANCE);
+        artefactArchived.setSensitivity(Sensitivity.PUBLIC);
+        artefactArchived.setLastReceivedDate(TODAY.atTime(10, 0));
+        artefactArchived.setSupersededCount(1);
+        artefactArchivedRepository.saveAndFlush(artefactArchived);
+
+        publicationMiDailyRollupRepository.addToRollup(TODAY, PROVENANCE, LIST_TYPE, LOCATION_ID, LANGUAGE,
+                                                       SENSITIVITY, 2, 1, 1);
+        publicationMiDailyRollupRepository.subtractArchivedLocations(List.of(LOCATION_ID));
+
+        assertThat(publicationMiDailyRollupRepository.findAllRollups())
+            .as(ROLLUP_MATCH_MESSAGE)
+            .singleElement()
+            .extracting(PublicationMiDailyRollup::getPublicationCount, PublicationMiDailyRollup::getSupersededCount,
+                        PublicationMiDailyRollup::getArchivedCount)
+            .containsExactly(1L, 0L, 0L);
+    }
+}
@@ -1,12 +1,19 @@
 package uk.gov.hmcts.reform.pip.data.management.utils;
 
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactArchivedRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSummaryRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ListSearchConfigRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.LocationArtefactCountRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationMetadataRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PendingBlobDeletionRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationFileManifestRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationMiDailyRollupRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationMiDataExportRepository;
 
 public class IntegrationBasicTestBase extends IntegrationCommonTestBase {
     @MockitoBean
@@ -26,4 +33,25 @@ public class IntegrationBasicTestBase extends IntegrationCommonTestBase {
 
     @MockitoBean
     protected LocationMetadataRepository locationMetadataRepository;
+
+    @MockitoBean
+    ArtefactSummaryRepository artefactSummaryRepository;
+
+    @MockitoBean
+    PublicationFileManifestRepository publicationFileManifestRepository;
+
+    @MockitoBean
+    PublicationMiDataExportRepository publicationMiDataExportRepository;
+
+    @MockitoBean
+    PublicationMiDailyRollupRepository publicationMiDailyRollupRepository;
+
+    @MockitoBean
+    LocationArtefactCountRepository locationArtefactCountRepository;
+
+    @MockitoBean
+    PendingBlobDeletionRepository pendingBlobDeletionRepository;
+
+    @MockitoBean
+    TransactionTemplate transactionTemplate;
 }
@@ -1,13 +1,20 @@
 package uk.gov.hmcts.reform.pip.data.management.utils;
 
+import com.azure.core.util.BinaryData;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.io.OutputStream;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -28,5 +35,22 @@ public class IntegrationCommonTestBase {
         when(artefactBlobContainerClient.getBlobContainerUrl()).thenReturn(BLOB_PAYLOAD_URL);
         when(artefactBlobContainerClient.getBlobClient(any())).thenReturn(blobClient);
         when(publicationBlobContainerClient.getBlobClient(any())).thenReturn(blobClient);
+
+        // Blobs are streamed to clients, so serve the streamed content from whatever content the test has stubbed
+        when(blobClient.getProperties()).thenAnswer(invocation -> blobProperties(blobClient.downloadContent()));
+        when(blobClient.downloadStreamWithResponse(any(), any(), any(), any(), anyBoolean(), any(), any()))
+            .thenAnswer(invocation -> {
+                BlobRange range = invocation.getArgument(1);
+                invocation.<OutputStream>getArgument(0).write(
+                    blobClient.downloadContent().toBytes(), (int) range.getOffset(), range.getCount().intValue()
+                );
+                return null;
+            });
+    }
+
+    private static BlobProperties blobProperties(BinaryData content) {
+        BlobProperties properties = mock(BlobProperties.class);
+        when(properties.getBlobSize()).thenReturn(content == null ? 0L : content.getLength());
+        return properties;
     }
 }
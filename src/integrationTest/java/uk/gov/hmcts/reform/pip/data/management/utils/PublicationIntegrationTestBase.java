@@ -9,6 +9,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import uk.gov.hmcts.reform.pip.data.management.config.PublicationConfiguration;
@@ -26,6 +28,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.hmcts.reform.pip.model.account.Roles.SYSTEM_ADMIN;
 
@@ -62,6 +65,17 @@ public class PublicationIntegrationTestBase extends IntegrationTestBase {
         OBJECT_MAPPER.findAndRegisterModules();
     }
 
+    /**
+     * Perform a request against an endpoint which may stream its response. Streamed responses are written
+     * asynchronously, so the async dispatch is performed to wait for the full response to be written.
+     */
+    protected ResultActions performStreamed(RequestBuilder requestBuilder) throws Exception {
+        ResultActions resultActions = mockMvc.perform(requestBuilder);
+        MvcResult result = resultActions.andReturn();
+
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : resultActions;
+    }
+
     protected Artefact createDailyList(Sensitivity sensitivity) throws Exception {
         return createDailyList(sensitivity, DISPLAY_FROM.minusMonths(2), CONTENT_DATE);
     }
@@ -131,12 +145,16 @@ public class PublicationIntegrationTestBase extends IntegrationTestBase {
     }
 
     protected boolean compareArtefacts(Artefact expectedArtefact, Artefact returnedArtefact) {
+        return expectedArtefact.getSearch().equals(returnedArtefact.getSearch())
+            && compareListedArtefacts(expectedArtefact, returnedArtefact);
+    }
+
+    protected boolean compareListedArtefacts(Artefact expectedArtefact, Artefact returnedArtefact) {
         return expectedArtefact.getArtefactId().equals(returnedArtefact.getArtefactId())
             && expectedArtefact.getProvenance().equals(returnedArtefact.getProvenance())
             && expectedArtefact.getSensitivity().equals(returnedArtefact.getSensitivity())
             && expectedArtefact.getPayload().equals(returnedArtefact.getPayload())
             && expectedArtefact.getType().equals(returnedArtefact.getType())
-            && expectedArtefact.getSearch().equals(returnedArtefact.getSearch())
             && expectedArtefact.getLocationId().equals(returnedArtefact.getLocationId())
             && expectedArtefact.getLanguage().equals(returnedArtefact.getLanguage())
             && expectedArtefact.getListType().equals(returnedArtefact.getListType())
@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.pip.data.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.ListSearchConfigRepository;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ListSearchConfig;
+import uk.gov.hmcts.reform.pip.data.management.service.publication.ArtefactSearchService;
+import uk.gov.hmcts.reform.pip.data.management.service.publication.CaseSuggestionIndex;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks the extraction of the case number and case name search rows from a payload. The repositories are
+ * stubbed, without recording invocations, so only the extraction itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ArtefactSearchExtractionBenchmark {
+    private static final Map<ListType, String[]> SEARCH_FIELDS = Map.of(
+        ListType.CIVIL_DAILY_CAUSE_LIST, new String[]{"caseNumber", "caseName"},
+        ListType.CIC_WEEKLY_HEARING_LIST, new String[]{"caseReferenceNumber", "caseName"},
+        ListType.KINGS_BENCH_DIVISION_DAILY_CAUSE_LIST, new String[]{"caseNumber", "caseDetails"}
+    );
+
+    @Param({"CIVIL_DAILY_CAUSE_LIST", "CIC_WEEKLY_HEARING_LIST", "KINGS_BENCH_DIVISION_DAILY_CAUSE_LIST"})
+    public String listType;
+
+    @Param({"1", "100", "1000"})
+    public int scale;
+
+    private ArtefactSearchService artefactSearchService;
+    private Artefact artefact;
+    private String payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ListType type = ListType.valueOf(listType);
+        String[] searchFields = SEARCH_FIELDS.get(type);
+
+        ListSearchConfigRepository listSearchConfigRepository = mock(
+            ListSearchConfigRepository.class, withSettings().stubOnly()
+        );
+        when(listSearchConfigRepository.findByListType(any())).thenReturn(Optional.of(
+            ListSearchConfig.builder()
+                .listType(type)
+                .caseNumberFieldName(searchFields[0])
+                .caseNameFieldName(searchFields[1])
+                .build()
+        ));
+
+        artefactSearchService = new ArtefactSearchService(
+            mock(ArtefactSearchRepository.class, withSettings().stubOnly()),
+            listSearchConfigRepository,
+            new ObjectMapper(),
+            mock(CaseSuggestionIndex.class, withSettings().stubOnly())
+        );
+
+        artefact = new Artefact();
+        artefact.setArtefactId(UUID.randomUUID());
+        artefact.setListType(type);
+
+        payload = BenchmarkPayloads.toJson(BenchmarkPayloads.scale(BenchmarkPayloads.loadMock(type), scale));
+    }
+
+    @Benchmark
+    public void artefactSearchStore() {
+        artefactSearchService.artefactSearchStore(artefact, payload);
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.pip.data.management.benchmark;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Binds configuration properties from the application.yaml, so the benchmarks run against the same search paths and
+ * validation schemas as the application without starting a Spring context.
+ */
+public final class BenchmarkConfiguration {
+    private static final String APPLICATION_YAML = "application.yaml";
+
+    private BenchmarkConfiguration() {
+    }
+
+    public static <T> T bind(String prefix, Class<T> configurationClass) throws IOException {
+        List<PropertySource<?>> propertySources = new YamlPropertySourceLoader()
+            .load(APPLICATION_YAML, new ClassPathResource(APPLICATION_YAML));
+        return new Binder(ConfigurationPropertySources.from(propertySources))
+            .bind(prefix, configurationClass)
+            .orElseThrow(() -> new IllegalStateException("No configuration found for prefix " + prefix));
+    }
+}
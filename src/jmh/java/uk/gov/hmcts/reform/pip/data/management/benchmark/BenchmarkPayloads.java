@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.pip.data.management.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.google.common.base.CaseFormat;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Helpers used by the benchmarks to load the mock payloads and scale them up to a given size.
+ */
+public final class BenchmarkPayloads {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String STRATEGIC_MOCK_PATH = "mocks/%s.json";
+    private static final String NON_STRATEGIC_MOCK_PATH = "mocks/non-strategic/%s.json";
+    private static final String COURT_LISTS_FIELD = "courtLists";
+
+    // List types which share a mock payload with other list types of the same format
+    private static final Map<ListType, String> SHARED_MOCK_NAMES = Map.of(
+        ListType.MAGISTRATES_ADULT_COURT_LIST_DAILY, "magistratesAdultCourtList",
+        ListType.MAGISTRATES_ADULT_COURT_LIST_FUTURE, "magistratesAdultCourtList",
+        ListType.MAGISTRATES_PUBLIC_ADULT_COURT_LIST_DAILY, "magistratesPublicAdultCourtList",
+        ListType.MAGISTRATES_PUBLIC_ADULT_COURT_LIST_FUTURE, "magistratesPublicAdultCourtList"
+    );
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Load the mock payload for a list type. The mock file name is the camel case form of the list type name, unless
+     * the list type shares a mock with other list types, and is looked up in the strategic mocks first and then the
+     * non-strategic mocks.
+     *
+     * @param listType The list type to load the mock payload for.
+     * @return The mock payload.
+     * @throws IOException if the mock payload could not be read.
+     */
+    public static JsonNode loadMock(ListType listType) throws IOException {
+        String mockName = SHARED_MOCK_NAMES.getOrDefault(
+            listType, CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, listType.name())
+        );
+        for (String path : new String[]{STRATEGIC_MOCK_PATH, NON_STRATEGIC_MOCK_PATH}) {
+            try (InputStream inputStream = BenchmarkPayloads.class.getClassLoader()
+                .getResourceAsStream(String.format(path, mockName))) {
+                if (inputStream != null) {
+                    return OBJECT_MAPPER.readTree(inputStream);
+                }
+            }
+        }
+        throw new IllegalArgumentException("No mock payload found for list type " + listType);
+    }
+
+    /**
+     * Scale a payload by repeating the elements of its court lists, or of its outermost array if it has no court
+     * lists. For non-strategic lists this is the rows of the list.
+     *
+     * @param payload The payload to scale.
+     * @param scale The number of times the elements of the outermost array should be repeated.
+     * @return A scaled copy of the payload.
+     */
+    public static JsonNode scale(JsonNode payload, int scale) {
+        JsonNode scaledPayload = payload.deepCopy();
+        ArrayNode arrayNode = findOutermostArray(scaledPayload);
+        if (arrayNode == null || scale <= 1) {
+            return scaledPayload;
+        }
+
+        ArrayNode originalElements = arrayNode.deepCopy();
+        for (int i = 1; i < scale; i++) {
+            originalElements.forEach(element -> arrayNode.add(element.deepCopy()));
+        }
+        return scaledPayload;
+    }
+
+    /**
+     * Build the metadata passed to the file converters for a list type.
+     *
+     * @param listType The list type of the publication.
+     * @param language The language of the publication.
+     * @return The metadata map.
+     */
+    public static Map<String, String> buildMetadata(ListType listType, String language) {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("contentDate", "1 July 2025");
+        metadata.put("provenance", "MANUAL_UPLOAD");
+        metadata.put("locationName", "Benchmark Court");
+        metadata.put("region", "London");
+        metadata.put("language", language);
+        metadata.put("listType", listType.name());
+        metadata.put("lastReceivedDate", "2025-07-01T09:00:00Z");
+        return metadata;
+    }
+
+    public static String toJson(JsonNode payload) throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(payload);
+    }
+
+    private static ArrayNode findOutermostArray(JsonNode payload) {
+        ArrayNode outermostArray = null;
+        Deque<JsonNode> nodes = new ArrayDeque<>();
+        nodes.add(payload);
+        while (!nodes.isEmpty()) {
+            JsonNode node = nodes.poll();
+            if (node.isArray() && !node.isEmpty() && outermostArray == null) {
+                outermostArray = (ArrayNode) node;
+            }
+
+            // Court lists are preferred where present, as other arrays may sit at the same level (e.g. PDDA lists)
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                if (COURT_LISTS_FIELD.equalsIgnoreCase(field.getKey()) && field.getValue().isArray()) {
+                    return (ArrayNode) field.getValue();
+                }
+            }
+            node.forEach(nodes::add);
+        }
+        return outermostArray;
+    }
+}
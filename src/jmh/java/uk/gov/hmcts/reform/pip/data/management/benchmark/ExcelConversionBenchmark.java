@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.pip.data.management.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import uk.gov.hmcts.reform.pip.data.management.helpers.SyntheticPayloadGenerator;
+import uk.gov.hmcts.reform.pip.data.management.helpers.SyntheticPayloadOptions;
+import uk.gov.hmcts.reform.pip.data.management.service.ExcelConversionService;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion of an uploaded non-strategic Excel file into JSON, for a generated list with the given
+ * number of rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ExcelConversionBenchmark {
+    private static final String XLSX_CONTENT_TYPE
+        = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private final ExcelConversionService excelConversionService = new ExcelConversionService();
+    private MultipartFile file;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SyntheticPayloadGenerator generator = new SyntheticPayloadGenerator(
+            SyntheticPayloadOptions.builder().rows(rows).build()
+        );
+        file = new MockMultipartFile("file", "benchmark.xlsx", XLSX_CONTENT_TYPE,
+                                     generator.generateExcel(ListType.CIC_WEEKLY_HEARING_LIST));
+    }
+
+    @Benchmark
+    public String convert() {
+        return excelConversionService.convert(file);
+    }
+}
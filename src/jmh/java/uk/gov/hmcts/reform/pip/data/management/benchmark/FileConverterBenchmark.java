@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.pip.data.management.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.pip.data.management.service.ListConversionFactory;
+import uk.gov.hmcts.reform.pip.data.management.service.filegeneration.FileConverter;
+import uk.gov.hmcts.reform.pip.data.management.service.helpers.LanguageResourceHelper;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the HTML and Excel generation of each file converter. One list type is benchmarked per converter, with
+ * the non-strategic converter covered by both a weekly and a daily list type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class FileConverterBenchmark {
+    @Param({
+        "CIVIL_AND_FAMILY_DAILY_CAUSE_LIST",
+        "CIVIL_DAILY_CAUSE_LIST",
+        "COP_DAILY_CAUSE_LIST",
+        "CROWN_DAILY_PDDA_LIST",
+        "CROWN_FIRM_PDDA_LIST",
+        "CROWN_WARNED_PDDA_LIST",
+        "ET_DAILY_LIST",
+        "ET_FORTNIGHTLY_PRESS_LIST",
+        "FAMILY_DAILY_CAUSE_LIST",
+        "IAC_DAILY_LIST",
+        "MAGISTRATES_ADULT_COURT_LIST_DAILY",
+        "MAGISTRATES_ADULT_COURT_LIST_FUTURE",
+        "MAGISTRATES_PUBLIC_ADULT_COURT_LIST_DAILY",
+        "MAGISTRATES_PUBLIC_ADULT_COURT_LIST_FUTURE",
+        "MAGISTRATES_PUBLIC_LIST",
+        "MAGISTRATES_STANDARD_LIST",
+        "SJP_PRESS_LIST",
+        "SJP_PUBLIC_LIST",
+        "SSCS_DAILY_LIST",
+        "CIC_WEEKLY_HEARING_LIST",
+        "KINGS_BENCH_DIVISION_DAILY_CAUSE_LIST"
+    })
+    public String listType;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private ListType type;
+    private FileConverter fileConverter;
+    private JsonNode payload;
+    private Map<String, String> metadata;
+    private Map<String, Object> languageResources;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        type = ListType.valueOf(listType);
+        fileConverter = new ListConversionFactory().getFileConverter(type)
+            .orElseThrow(() -> new IllegalArgumentException("No file converter for list type " + listType));
+        payload = BenchmarkPayloads.scale(BenchmarkPayloads.loadMock(type), scale);
+        metadata = BenchmarkPayloads.buildMetadata(type, Language.ENGLISH.name());
+        languageResources = LanguageResourceHelper.getLanguageResources(type, Language.ENGLISH);
+    }
+
+    @Benchmark
+    public String convertToHtml() throws IOException {
+        return fileConverter.convert(payload, metadata, languageResources);
+    }
+
+    @Benchmark
+    public byte[] convertToExcel() throws IOException {
+        return fileConverter.convertToExcel(payload, type, metadata);
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.pip.data.management.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.pip.data.management.config.SearchConfiguration;
+import uk.gov.hmcts.reform.pip.data.management.utils.JsonExtractor;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the extraction of the case and party search terms from a payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class JsonExtractorBenchmark {
+    @Param({"CIVIL_DAILY_CAUSE_LIST", "FAMILY_DAILY_CAUSE_LIST", "SJP_PUBLIC_LIST", "SSCS_DAILY_LIST"})
+    public String listType;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private JsonExtractor jsonExtractor;
+    private String payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        jsonExtractor = new JsonExtractor(BenchmarkConfiguration.bind("payload.json", SearchConfiguration.class));
+        payload = BenchmarkPayloads.toJson(
+            BenchmarkPayloads.scale(BenchmarkPayloads.loadMock(ListType.valueOf(listType)), scale)
+        );
+    }
+
+    @Benchmark
+    public Map<String, List<Object>> extractSearchTerms() {
+        return jsonExtractor.extractSearchTerms(payload);
+    }
+}
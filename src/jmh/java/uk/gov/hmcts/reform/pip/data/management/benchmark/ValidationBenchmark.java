@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.pip.data.management.benchmark;
+
+import com.microsoft.applicationinsights.TelemetryClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.pip.data.management.config.ValidationConfiguration;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.HeaderGroup;
+import uk.gov.hmcts.reform.pip.data.management.service.PublicationMetricsService;
+import uk.gov.hmcts.reform.pip.data.management.service.ValidationService;
+import uk.gov.hmcts.reform.pip.model.publication.ArtefactType;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks the JSON schema validation of a payload against the list type schema, and the master schema where it
+ * applies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ValidationBenchmark {
+    // PDDA and non-strategic payloads are not validated against the master schema on upload
+    private static final Set<ListType> NO_MASTER_SCHEMA_LIST_TYPES = Set.of(
+        ListType.CROWN_DAILY_PDDA_LIST,
+        ListType.CIC_WEEKLY_HEARING_LIST
+    );
+
+    @Param({"CIVIL_DAILY_CAUSE_LIST", "SJP_PUBLIC_LIST", "CROWN_DAILY_PDDA_LIST", "CIC_WEEKLY_HEARING_LIST"})
+    public String listType;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private ValidationService validationService;
+    private HeaderGroup headers;
+    private String payload;
+    private boolean validateMasterSchema;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ListType type = ListType.valueOf(listType);
+        validateMasterSchema = !NO_MASTER_SCHEMA_LIST_TYPES.contains(type);
+        validationService = new ValidationService(
+            BenchmarkConfiguration.bind("validations", ValidationConfiguration.class),
+            mock(TelemetryClient.class, withSettings().stubOnly()),
+            new PublicationMetricsService(new SimpleMeterRegistry())
+        );
+
+        LocalDateTime now = LocalDateTime.now();
+        headers = new HeaderGroup("MANUAL_UPLOAD", "benchmark", ArtefactType.LIST, Sensitivity.PUBLIC,
+                                  Language.ENGLISH, now, now.plusDays(1), type, "1", now);
+        payload = BenchmarkPayloads.toJson(BenchmarkPayloads.scale(BenchmarkPayloads.loadMock(type), scale));
+    }
+
+    @Benchmark
+    public void validateBody() {
+        validationService.validateBody(payload, headers, validateMasterSchema);
+    }
+}
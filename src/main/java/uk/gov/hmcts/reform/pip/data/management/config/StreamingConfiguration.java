@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.pip.data.management.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configures the executor used to write streamed responses (payloads, files and reports) to clients.
+ *
+ * <p>Streamed responses are written on a dedicated, bounded pool rather than the application task executor, so slow
+ * clients cannot hold up the asynchronous processing of publications, and the number of responses being written at
+ * once is limited. The executor is not registered as a bean, so it is not picked up for {@code @Async} methods. The
+ * time allowed to write a response is set by {@code spring.mvc.async.request-timeout}.</p>
+ */
+@Configuration
+public class StreamingConfiguration implements WebMvcConfigurer, DisposableBean {
+    public static final String THREAD_NAME_PREFIX = "streaming-";
+
+    private final ThreadPoolTaskExecutor streamingTaskExecutor;
+
+    public StreamingConfiguration(@Value("${streaming.executor.core-pool-size}") int corePoolSize,
+                                  @Value("${streaming.executor.max-pool-size}") int maxPoolSize,
+                                  @Value("${streaming.executor.queue-capacity}") int queueCapacity) {
+        streamingTaskExecutor = new ThreadPoolTaskExecutor();
+        streamingTaskExecutor.setCorePoolSize(corePoolSize);
+        streamingTaskExecutor.setMaxPoolSize(maxPoolSize);
+        streamingTaskExecutor.setQueueCapacity(queueCapacity);
+        streamingTaskExecutor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        streamingTaskExecutor.initialize();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingTaskExecutor);
+    }
+
+    @Override
+    public void destroy() {
+        streamingTaskExecutor.shutdown();
+    }
+}
@@ -64,7 +64,6 @@ public class TestingSupportController {
     @ApiResponse(responseCode = "409", description = "Conflict when creating location")
     @Operation(summary = "Delete all artefacts with location name prefix")
     @DeleteMapping("publication/{locationNamePrefix}")
-    @Transactional
     public ResponseEntity<String> deletePublicationsWithLocationNamePrefix(@PathVariable String locationNamePrefix) {
         return ResponseEntity.ok(
             publicationLocationService.deleteAllArtefactsWithLocationNamePrefix(locationNamePrefix)
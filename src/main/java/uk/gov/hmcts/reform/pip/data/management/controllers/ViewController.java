@@ -30,11 +30,11 @@ public class ViewController {
         this.viewService = viewService;
     }
 
-    @ApiResponse(responseCode = "200", description = "View Refreshed")
+    @ApiResponse(responseCode = "202", description = "View refresh requested")
     @PostMapping("/refresh")
     public ResponseEntity<Void> refreshView() {
         viewService.refreshView();
-        return ResponseEntity.ok().build();
+        return ResponseEntity.accepted().build();
     }
 
 }
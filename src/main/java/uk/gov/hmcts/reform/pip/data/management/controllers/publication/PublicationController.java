@@ -8,8 +8,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -27,10 +27,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.pip.data.management.config.PublicationConfiguration;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FileFormatNotSupportedException;
+import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactHelper;
 import uk.gov.hmcts.reform.pip.data.management.helpers.NoMatchArtefactHelper;
+import uk.gov.hmcts.reform.pip.data.management.helpers.StreamingResponseHelper;
+import uk.gov.hmcts.reform.pip.data.management.models.StoredPayload;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.HeaderGroup;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.views.ArtefactView;
@@ -48,11 +53,14 @@ import uk.gov.hmcts.reform.pip.model.publication.Language;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 
@@ -75,6 +83,7 @@ public class PublicationController {
     private static final String UNAUTHORISED_MESSAGE = "Invalid access credential";
     private static final String FORBIDDEN_MESSAGE = "User has not been authorized";
     private static final String CONFLICT_MESSAGE = "Conflict while uploading publication";
+    private static final String NOT_MODIFIED_MESSAGE = "Publication has not been modified since the given ETag";
 
     private static final String OK_CODE = "200";
     private static final String NOT_FOUND_CODE = "404";
@@ -82,9 +91,15 @@ public class PublicationController {
     private static final String UNAUTHORISED_CODE = "401";
     private static final String FORBIDDEN_CODE = "403";
     private static final String CONFLICT_CODE = "409";
+    private static final String PARTIAL_CONTENT_CODE = "206";
+    private static final String NOT_MODIFIED_CODE = "304";
+    private static final String RANGE_NOT_SATISFIABLE_CODE = "416";
 
     private static final String DEFAULT_ADMIN_VALUE = "false";
     private static final String REQUESTER_ID_HEADER = "x-requester-id";
+    private static final MediaType JSON_CONTENT_TYPE = new MediaType(MediaType.APPLICATION_JSON,
+                                                                     StandardCharsets.UTF_8);
+    private static final Pattern ZERO_QUALITY = Pattern.compile("\\s*q\\s*=\\s*0(\\.0*)?\\s*");
 
     private final PublicationCreationService publicationCreationService;
     private final PublicationCreationRunner publicationCreationRunner;
@@ -326,6 +341,7 @@ public class PublicationController {
     }
 
     @ApiResponse(responseCode = OK_CODE, description = "Gets the artefact metadata")
+    @ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_MESSAGE)
     @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
     @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
     @ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION)
@@ -337,56 +353,65 @@ public class PublicationController {
         @PathVariable UUID artefactId,
         @RequestHeader(value = REQUESTER_ID_HEADER, required = false) UUID requesterId,
         @RequestHeader(value = ADMIN_HEADER, defaultValue = DEFAULT_ADMIN_VALUE,
-            required = false) Boolean isAdmin) {
-        return ResponseEntity.ok(isAdmin.equals(Boolean.TRUE)
-                                    ? publicationRetrievalService.getMetadataByArtefactId(artefactId) :
-                                     publicationRetrievalService.getMetadataByArtefactId(artefactId, requesterId));
+            required = false) Boolean isAdmin,
+        WebRequest webRequest) {
+        Artefact metadata = isAdmin.equals(Boolean.TRUE)
+            ? publicationRetrievalService.getMetadataByArtefactId(artefactId)
+            : publicationRetrievalService.getMetadataByArtefactId(artefactId, requesterId);
+
+        String eTag = ArtefactHelper.buildETag(metadata);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(metadata);
     }
 
     @ApiResponse(responseCode = OK_CODE, description = "Blob data from the given request in text format.")
+    @ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_MESSAGE)
     @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
     @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
     @ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION)
     @Operation(summary = "Gets the the payload for the blob, given a specific artefact ID")
     @GetMapping("/{artefactId}/payload")
     @PreAuthorize("@authorisationService.userCanAccessPublicationData(#requesterId, #artefactId, #isAdmin)")
-    public ResponseEntity<String> getArtefactPayload(
+    public ResponseEntity<StreamingResponseBody> getArtefactPayload(
         @PathVariable UUID artefactId,
         @RequestHeader(value = REQUESTER_ID_HEADER, required = false) UUID requesterId,
-        @RequestHeader(value = ADMIN_HEADER, defaultValue = DEFAULT_ADMIN_VALUE, required = false) Boolean isAdmin) {
-        return ResponseEntity.ok(isAdmin.equals(Boolean.TRUE)
-                                    ? publicationRetrievalService.getPayloadByArtefactId(artefactId) :
-                                     publicationRetrievalService.getPayloadByArtefactId(artefactId, requesterId));
+        @RequestHeader(value = ADMIN_HEADER, defaultValue = DEFAULT_ADMIN_VALUE, required = false) Boolean isAdmin,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        WebRequest webRequest) {
+        Artefact metadata = isAdmin.equals(Boolean.TRUE)
+            ? publicationRetrievalService.getMetadataByArtefactId(artefactId)
+            : publicationRetrievalService.getMetadataByArtefactId(artefactId, requesterId);
+
+        return streamPayload(metadata, null, null, acceptEncoding, webRequest, JSON_CONTENT_TYPE, null);
     }
 
     @ApiResponse(responseCode = OK_CODE, description = "Blob data from the given request as a file.")
+    @ApiResponse(responseCode = NOT_MODIFIED_CODE, description = NOT_MODIFIED_MESSAGE)
+    @ApiResponse(responseCode = PARTIAL_CONTENT_CODE, description = "Requested byte range of the file streamed "
+        + "successfully")
     @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
     @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
     @ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION)
+    @ApiResponse(responseCode = RANGE_NOT_SATISFIABLE_CODE, description = "Requested byte range cannot be satisfied")
     @Operation(summary = "Gets the the payload for the blob, given a specific artefact ID")
     @GetMapping(value = "/{artefactId}/file", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
     @PreAuthorize("@authorisationService.userCanAccessPublicationData(#requesterId, #artefactId, #isAdmin)")
-    public ResponseEntity<Resource> getArtefactFile(
+    public ResponseEntity<StreamingResponseBody> getArtefactFile(
         @PathVariable UUID artefactId,
         @RequestHeader(value = REQUESTER_ID_HEADER, required = false) UUID requesterId,
-        @RequestHeader(value = ADMIN_HEADER, defaultValue = DEFAULT_ADMIN_VALUE, required = false) Boolean isAdmin) {
-
-        Resource file;
-        Artefact metadata;
-        if (isAdmin.equals(Boolean.TRUE)) {
-            file = publicationRetrievalService.getFlatFileByArtefactID(artefactId);
-            metadata = publicationRetrievalService.getMetadataByArtefactId(artefactId);
-        } else {
-            file = publicationRetrievalService.getFlatFileByArtefactID(artefactId, requesterId);
-            metadata = publicationRetrievalService.getMetadataByArtefactId(artefactId, requesterId);
-        }
-
-        String fileType = metadata.getSourceArtefactId();
-
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileType)
-            .body(file);
+        @RequestHeader(value = ADMIN_HEADER, defaultValue = DEFAULT_ADMIN_VALUE, required = false) Boolean isAdmin,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+        @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+        WebRequest webRequest) {
+        Artefact metadata = isAdmin.equals(Boolean.TRUE)
+            ? publicationRetrievalService.getMetadataByArtefactId(artefactId)
+            : publicationRetrievalService.getMetadataByArtefactId(artefactId, requesterId);
+
+        return streamPayload(metadata, range, ifRange, acceptEncoding, webRequest, MediaType.APPLICATION_OCTET_STREAM,
+                             ContentDisposition.attachment().filename(metadata.getSourceArtefactId()).build());
     }
 
     @ApiResponse(responseCode = OK_CODE, description = "Successfully deleted artefact: {artefactId}")
@@ -428,6 +453,87 @@ public class PublicationController {
         return ResponseEntity.ok(String.format("Artefact of ID %s has been archived", id));
     }
 
+    /**
+     * Streams the stored payload of an artefact to the client. A gzip encoded payload is passed through as it is
+     * stored when the client accepts gzip, with byte ranges applying to the stored content. Otherwise it is
+     * decompressed as it is written, in which case the length is not known up front and ranges are not supported.
+     *
+     * <p>The ETag identifies the version of the publication, and is suffixed when the payload is passed through as
+     * gzip, so the gzip and decompressed representations never share an ETag. The stored payload is only read before
+     * the conditional request is checked when the client accepts gzip, as the ETag sent otherwise never depends on
+     * how the payload is stored.</p>
+     */
+    private ResponseEntity<StreamingResponseBody> streamPayload(Artefact metadata, String range, String ifRange,
+                                                                String acceptEncoding, WebRequest webRequest,
+                                                                MediaType contentType,
+                                                                ContentDisposition contentDisposition) {
+        StoredPayload payload = null;
+        String eTag = ArtefactHelper.buildETag(metadata);
+        if (acceptsGzip(acceptEncoding)) {
+            payload = publicationRetrievalService.getStoredPayload(metadata);
+            if (payload.isGzipEncoded()) {
+                eTag = ArtefactHelper.buildETag(metadata, StoredPayload.GZIP_ENCODING);
+            }
+        }
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        String requestedRange = ifRange == null || ifRange.equals(eTag) ? range : null;
+        return streamPayload(
+            payload == null ? publicationRetrievalService.getStoredPayload(metadata) : payload,
+            requestedRange, eTag, acceptEncoding, contentType, contentDisposition
+        );
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamPayload(StoredPayload payload, String range, String eTag,
+                                                                String acceptEncoding, MediaType contentType,
+                                                                ContentDisposition contentDisposition) {
+        if (!payload.isGzipEncoded()) {
+            return StreamingResponseHelper.buildRangedResponse(
+                payload.getSize(), range, eTag, contentType, contentDisposition,
+                (outputStream, offset, count) -> publicationRetrievalService.streamStoredPayload(
+                    payload, outputStream, offset, count
+                )
+            );
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (!acceptsGzip(acceptEncoding)) {
+            headers.setETag(eTag);
+            headers.setContentType(contentType);
+            if (contentDisposition != null) {
+                headers.setContentDisposition(contentDisposition);
+            }
+            return ResponseEntity.ok()
+                .headers(headers)
+                .body(outputStream -> publicationRetrievalService.streamDecompressedPayload(payload, outputStream));
+        }
+
+        ResponseEntity<StreamingResponseBody> response = StreamingResponseHelper.buildRangedResponse(
+            payload.getSize(), range, eTag, contentType, contentDisposition,
+            (outputStream, offset, count) -> publicationRetrievalService.streamStoredPayload(
+                payload, outputStream, offset, count
+            )
+        );
+        headers.putAll(response.getHeaders());
+        headers.set(HttpHeaders.CONTENT_ENCODING, StoredPayload.GZIP_ENCODING);
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        return Arrays.stream(acceptEncoding.split(","))
+            .map(coding -> coding.trim().split(";"))
+            .filter(coding -> StoredPayload.GZIP_ENCODING.equalsIgnoreCase(coding[0].trim())
+                || "*".equals(coding[0].trim()))
+            .anyMatch(coding -> coding.length == 1 || !ZERO_QUALITY.matcher(coding[1]).matches());
+    }
+
     private void logManualUpload(UUID issuerId, String artefactId) {
         if (issuerId != null) {
             log.info(writeLog(issuerId, UserActions.UPLOAD, artefactId));
@@ -6,19 +6,31 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.pip.data.management.helpers.StreamingResponseHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.PublicationFileSizes;
+import uk.gov.hmcts.reform.pip.data.management.models.StoredPublicationFile;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationFileManagementService;
 import uk.gov.hmcts.reform.pip.model.authentication.roles.IsAdmin;
 import uk.gov.hmcts.reform.pip.model.publication.FileType;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -36,8 +48,15 @@ public class PublicationFileManagementController {
     private final PublicationFileManagementService publicationFileManagementService;
 
     private static final String OK_CODE = "200";
+    private static final String PARTIAL_CONTENT_CODE = "206";
+    private static final String NOT_MODIFIED_CODE = "304";
+    private static final String BAD_REQUEST_CODE = "400";
     private static final String NOT_FOUND_CODE = "404";
     private static final String PAYLOAD_TOO_LARGE_CODE = "413";
+    private static final String RANGE_NOT_SATISFIABLE_CODE = "416";
+
+    private static final String EXCEL_CONTENT_TYPE =
+        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
 
     private static final String REQUESTER_ID_HEADER = "x-requester-id";
 
@@ -66,6 +85,47 @@ public class PublicationFileManagementController {
         );
     }
 
+    @ApiResponse(responseCode = OK_CODE, description = "PDF or Excel file for an artefact streamed successfully")
+    @ApiResponse(responseCode = PARTIAL_CONTENT_CODE, description = "Requested byte range of the file streamed "
+        + "successfully")
+    @ApiResponse(responseCode = NOT_MODIFIED_CODE, description = "File has not changed since the supplied ETag")
+    @ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION)
+    @ApiResponse(responseCode = PAYLOAD_TOO_LARGE_CODE, description = "File size too large")
+    @ApiResponse(responseCode = RANGE_NOT_SATISFIABLE_CODE, description = "Requested byte range cannot be satisfied")
+    @Operation(summary = "Takes in an artefact ID and streams the stored PDF or Excel file as binary content")
+    @GetMapping("/{artefactId}/{fileType}/binary")
+    @PreAuthorize("@authorisationService.userCanAccessPublicationData(#requesterId, #artefactId, #system)")
+    public ResponseEntity<StreamingResponseBody> getFileBinary(
+        @PathVariable UUID artefactId,
+        @PathVariable FileType fileType,
+        @RequestHeader(value = REQUESTER_ID_HEADER, required = false) UUID requesterId,
+        @RequestHeader(value = "x-system", required = false) boolean system,
+        @RequestHeader(name = "x-additional-pdf", defaultValue = "false") boolean additionalPdf,
+        @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+        @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+        @RequestParam(name = "maxFileSize", required = false) Integer maxFileSize,
+        WebRequest webRequest) {
+        StoredPublicationFile file = publicationFileManagementService.getStoredPublicationFile(
+            artefactId, fileType, maxFileSize, requesterId, system, additionalPdf
+        );
+
+        if (webRequest.checkNotModified(file.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        String requestedRange = ifRange == null || ifRange.equals(file.getETag()) ? range : null;
+        return StreamingResponseHelper.buildRangedResponse(
+            file.getSize(),
+            requestedRange,
+            file.getETag(),
+            fileType == FileType.PDF ? MediaType.APPLICATION_PDF : MediaType.parseMediaType(EXCEL_CONTENT_TYPE),
+            ContentDisposition.attachment().filename(file.getFileName()).build(),
+            (outputStream, offset, count) -> publicationFileManagementService.streamStoredPublicationFile(
+                file, outputStream, offset, count
+            )
+        );
+    }
+
     @ApiResponse(responseCode = OK_CODE, description = "PDF or Excel file for an artefact exists")
     @Operation(summary = "Checks if any publication file exists for the artefact")
     @GetMapping("/{artefactId}/exists")
@@ -86,4 +146,18 @@ public class PublicationFileManagementController {
     ) {
         return ResponseEntity.ok(publicationFileManagementService.getFileSizes(artefactId));
     }
+
+    @ApiResponse(responseCode = OK_CODE, description = "Map of artefact ID to publication file sizes")
+    @ApiResponse(responseCode = BAD_REQUEST_CODE, description = "Too many artefact IDs requested")
+    @ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION)
+    @Operation(summary = "Returns the publication file sizes for up to 100 artefacts")
+    @PostMapping("/files/sizes")
+    @PreAuthorize("@authorisationService.userCanAccessPublicationsData(#requesterId, #artefactIds, #system)")
+    public ResponseEntity<Map<UUID, PublicationFileSizes>> getFileSizesForArtefacts(
+        @RequestBody List<UUID> artefactIds,
+        @RequestHeader(value = REQUESTER_ID_HEADER, required = false) UUID requesterId,
+        @RequestHeader(value = "x-system", required = false) boolean system
+    ) {
+        return ResponseEntity.ok(publicationFileManagementService.getFileSizes(artefactIds));
+    }
 }
@@ -6,6 +6,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -17,10 +19,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPage;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.views.ArtefactView;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationLocationService;
 import uk.gov.hmcts.reform.pip.model.location.LocationType;
@@ -39,12 +43,14 @@ public class PublicationLocationController {
     private static final String FORBIDDEN_MESSAGE = "User has not been authorized";
 
     private static final String OK_CODE = "200";
+    private static final String BAD_REQUEST_CODE = "400";
     private static final String NOT_FOUND_CODE = "404";
     private static final String UNAUTHORISED_CODE = "401";
     private static final String FORBIDDEN_CODE = "403";
 
     private static final String BEARER_AUTHENTICATION = "bearerAuth";
     private static final String REQUESTER_ID_HEADER = "x-requester-id";
+    private static final String NEXT_CURSOR_HEADER = "x-next-cursor";
 
     private final PublicationLocationService publicationLocationService;
 
@@ -75,7 +81,10 @@ public class PublicationLocationController {
         return ResponseEntity.ok(publicationLocationService.getLocationType(listType));
     }
 
-    @ApiResponse(responseCode = OK_CODE, description = "List of all artefacts that are noMatch in their id")
+    @ApiResponse(responseCode = OK_CODE, description = "List of all artefacts that are noMatch in their id. When a "
+        + "cursor or page size is given, a page of the artefacts ordered by content date, with the cursor of the next "
+        + "page in the x-next-cursor header")
+    @ApiResponse(responseCode = BAD_REQUEST_CODE, description = "Invalid cursor or page size")
     @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
     @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
     @Operation(summary = "Get all no match publications")
@@ -84,9 +93,22 @@ public class PublicationLocationController {
     @SecurityRequirement(name = BEARER_AUTHENTICATION)
     @PreAuthorize("@authorisationService.userCanGetAllNoMatchPublications(#requesterId)")
     public ResponseEntity<List<Artefact>> getAllNoMatchArtefacts(
-        @RequestHeader(REQUESTER_ID_HEADER) UUID requesterId
+        @RequestHeader(REQUESTER_ID_HEADER) UUID requesterId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) @Min(1) @Max(ArtefactPage.MAX_PAGE_SIZE) Integer pageSize
     ) {
-        return ResponseEntity.ok(publicationLocationService.findAllNoMatchArtefacts());
+        if (cursor == null && pageSize == null) {
+            return ResponseEntity.ok(publicationLocationService.findAllNoMatchArtefacts());
+        }
+
+        ArtefactPage page = publicationLocationService.findNoMatchArtefactsPage(
+            cursor, pageSize == null ? ArtefactPage.DEFAULT_PAGE_SIZE : pageSize
+        );
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getArtefacts());
     }
 
     @ApiResponse(responseCode = OK_CODE, description = "Successfully deleted artefact for location: {locationId}")
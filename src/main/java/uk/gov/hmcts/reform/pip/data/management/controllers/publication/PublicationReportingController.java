@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +16,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationMiDailyRollup;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationReportingService;
 import uk.gov.hmcts.reform.pip.model.authentication.roles.IsAdmin;
 import uk.gov.hmcts.reform.pip.model.report.PublicationMiData;
@@ -37,6 +40,7 @@ public class PublicationReportingController {
     private static final String NO_CONTENT_CODE = "204";
     private static final String UNAUTHORISED_CODE = "401";
     private static final String FORBIDDEN_CODE = "403";
+    private static final String SERVICE_UNAVAILABLE_CODE = "503";
 
     private final PublicationReportingService publicationReportingService;
 
@@ -55,6 +59,29 @@ public class PublicationReportingController {
         return ResponseEntity.ok().body(publicationReportingService.getMiData(days));
     }
 
+    @ApiResponse(responseCode = OK_CODE, description = "Newline delimited JSON with the MI data of each artefact")
+    @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
+    @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
+    @ApiResponse(responseCode = SERVICE_UNAVAILABLE_CODE, description = "Too many responses are being streamed")
+    @Operation(summary = "Streams MI data for artefacts as newline delimited JSON")
+    @GetMapping(value = "/mi-data/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMiData(
+        @RequestParam(required = false) Integer days) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(outputStream -> publicationReportingService.writeMiData(days, outputStream));
+    }
+
+    @ApiResponse(responseCode = OK_CODE, description = "A JSON model which contains a list of daily artefact counts")
+    @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
+    @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
+    @Operation(summary = "Returns daily MI counts for artefacts")
+    @GetMapping("/mi-data/daily")
+    public ResponseEntity<List<PublicationMiDailyRollup>> getDailyMiData(
+        @RequestParam(required = false) Integer days) {
+        return ResponseEntity.ok().body(publicationReportingService.getDailyMiData(days));
+    }
+
     @ApiResponse(responseCode = NO_CONTENT_CODE, description = NO_CONTENT_DESCRIPTION)
     @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
     @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
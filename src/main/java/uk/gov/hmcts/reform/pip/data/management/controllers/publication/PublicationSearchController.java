@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,7 +24,10 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPage;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.ListSearchConfig;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.views.ArtefactView;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationSearchService;
@@ -50,6 +55,7 @@ public class PublicationSearchController {
 
     private static final String OK_CODE = "200";
     private static final String CREATED_CODE = "201";
+    private static final String NOT_MODIFIED_CODE = "304";
     private static final String BAD_REQUEST_CODE = "400";
     private static final String NOT_FOUND_CODE = "404";
     private static final String UNAUTHORISED_CODE = "401";
@@ -58,6 +64,7 @@ public class PublicationSearchController {
 
     private static final String DEFAULT_ADMIN_VALUE = "false";
     private static final String REQUESTER_ID_HEADER = "x-requester-id";
+    private static final String NEXT_CURSOR_HEADER = "x-next-cursor";
 
     private final PublicationSearchService publicationSearchService;
 
@@ -169,8 +176,25 @@ public class PublicationSearchController {
         return ResponseEntity.ok(publicationSearchService.findCasesByCaseName(searchValue, fuzzySearch));
     }
 
+    @ApiResponse(responseCode = OK_CODE, description = "List of case number/name pairs whose case number, or any"
+        + " word of whose case name, starts with the given value")
+    @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
+    @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
+    @Operation(summary = "Suggest case number/name pairs as a case number or case name is typed (prefix match)")
+    @GetMapping("/search/suggest")
+    @PreAuthorize("@authorisationService.userCanSearchInPublicationData(#requesterId)")
+    public ResponseEntity<List<ArtefactCaseInfo>> getCaseSuggestions(
+        @RequestParam @Size(min = 1) String searchValue,
+        @RequestHeader(REQUESTER_ID_HEADER) UUID requesterId) {
+        return ResponseEntity.ok(publicationSearchService.suggestCases(searchValue));
+    }
+
     @ApiResponse(responseCode = OK_CODE, description = "List of Artefacts matching the given locationId and "
-        + "verification parameters and date requirements")
+        + "verification parameters and date requirements. When a cursor or page size is given, a page of the "
+        + "Artefacts ordered by content date, with the cursor of the next page in the x-next-cursor header")
+    @ApiResponse(responseCode = NOT_MODIFIED_CODE, description = "Publications for the location have not been "
+        + "modified since the given ETag")
+    @ApiResponse(responseCode = BAD_REQUEST_CODE, description = "Invalid cursor or page size")
     @ApiResponse(responseCode = UNAUTHORISED_CODE, description = UNAUTHORISED_MESSAGE)
     @ApiResponse(responseCode = FORBIDDEN_CODE, description = FORBIDDEN_MESSAGE)
     @ApiResponse(responseCode = NOT_FOUND_CODE, description = NOT_FOUND_DESCRIPTION)
@@ -181,7 +205,34 @@ public class PublicationSearchController {
     public ResponseEntity<List<Artefact>> getAllRelevantArtefactsByLocationId(
         @PathVariable String locationId,
         @RequestHeader(value = REQUESTER_ID_HEADER, required = false) UUID requesterId,
-        @RequestHeader(value = ADMIN_HEADER, defaultValue = DEFAULT_ADMIN_VALUE, required = false) Boolean isAdmin) {
-        return ResponseEntity.ok(publicationSearchService.findAllByLocationIdAdmin(locationId, requesterId, isAdmin));
+        @RequestHeader(value = ADMIN_HEADER, defaultValue = DEFAULT_ADMIN_VALUE, required = false) Boolean isAdmin,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) @Min(1) @Max(ArtefactPage.MAX_PAGE_SIZE) Integer pageSize,
+        WebRequest webRequest) {
+        List<Artefact> artefacts;
+        String eTag;
+        String nextCursor = null;
+        if (cursor == null && pageSize == null) {
+            artefacts = publicationSearchService.findAllByLocationIdAdmin(locationId, requesterId, isAdmin);
+            eTag = ArtefactHelper.buildETag(artefacts);
+        } else {
+            int size = pageSize == null ? ArtefactPage.DEFAULT_PAGE_SIZE : pageSize;
+            ArtefactPage page = publicationSearchService.findPageByLocationIdAdmin(
+                locationId, requesterId, isAdmin, cursor, size
+            );
+            artefacts = page.getArtefacts();
+            nextCursor = page.getNextCursor();
+            eTag = ArtefactHelper.buildETag(artefacts, cursor, size, nextCursor);
+        }
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag);
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(artefacts);
     }
 }
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.pip.data.management.database;
 
 import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -15,17 +16,41 @@ import uk.gov.hmcts.reform.pip.model.report.PublicationMiData;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 
 @Repository
 public interface ArtefactRepository extends JpaRepository<Artefact, Long> {
 
-    String INITIAL_SELECT =
-        "SELECT DISTINCT on (artefact.artefact_id) artefact.* FROM ARTEFACT INNER JOIN (SELECT "
-            + "artefact_id, json_array_elements(search -> 'cases') caseDetails FROM artefact) searchDetails ON artefact"
-            + ".artefact_id = searchDetails.artefact_id ";
+    String DISPLAYED_CONDITION = "display_from < :curr_date and (display_to > :curr_date or display_to is null)";
+
+    String LISTING_SELECT =
+        "SELECT new uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact("
+            + "a.artefactId, a.provenance, a.sourceArtefactId, a.type, a.sensitivity, a.language, a.displayFrom, "
+            + "a.displayTo, a.listType, a.locationId, a.contentDate, a.isFlatFile, a.payload, a.lastReceivedDate, "
+            + "a.supersededCount, a.payloadSize, a.isNoMatch) FROM Artefact a ";
+
+    String LOCATION_DISPLAYED_CONDITION = "WHERE a.locationId = :location_id AND a.displayFrom < :curr_date "
+        + "AND (a.displayTo > :curr_date OR a.displayTo IS NULL) ";
+
+    String LOCATION_NOT_EXPIRED_CONDITION = "WHERE a.locationId = :location_id "
+        + "AND (a.displayTo > :curr_date OR a.displayTo IS NULL) ";
+
+    String NO_MATCH_CONDITION = "WHERE a.isNoMatch = true ";
+
+    /**
+     * The content date the listing pages are ordered by, with publications without one ordered first. The date must
+     * match ArtefactPageCursor.NO_CONTENT_DATE, and the expression the listing page indexes.
+     */
+    String PAGE_CONTENT_DATE = "COALESCE(a.contentDate, {ts '1900-01-01 00:00:00'})";
+
+    String AFTER_CURSOR_CONDITION =
+        "AND (" + PAGE_CONTENT_DATE + ", a.artefactId) > (:cursor_content_date, :cursor_artefact_id) ";
+
+    String PAGE_ORDER = "ORDER BY " + PAGE_CONTENT_DATE + ", a.artefactId";
 
     String SEARCH_TERM_PARAM = "searchTerm";
     String ARTEFACT_ID_PARAM = "artefact_id";
@@ -39,6 +64,11 @@ public interface ArtefactRepository extends JpaRepository<Artefact, Long> {
     String LIST_TYPES_PARAM = "list_types";
     String PROVENANCE_PARAM = "provenance";
     String CURRENT_DATETIME_PARAM = "curr_datetime";
+    String CURSOR_CONTENT_DATE_PARAM = "cursor_content_date";
+    String CURSOR_ARTEFACT_ID_PARAM = "cursor_artefact_id";
+    String ARCHIVED_DATE_PARAM = "archived_date";
+    String BATCH_SIZE_PARAM = "batch_size";
+    String ARTEFACT_IDS_PARAM = "artefact_ids";
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Artefact a WHERE a.locationId = :location_id AND a.contentDate = :content_date AND "
@@ -49,29 +79,37 @@ public interface ArtefactRepository extends JpaRepository<Artefact, Long> {
                                                  @Param(LIST_TYPE_PARAM) ListType listType,
                                                  @Param(PROVENANCE_PARAM) String provenance);
 
-    @Query(value = "select * from Artefact where artefact_id = CAST(:artefact_id AS uuid) and display_from < "
-        + ":curr_date and (display_to > :curr_date or display_to is null)",
-        nativeQuery = true)
-    Optional<Artefact> findByArtefactId(@Param(ARTEFACT_ID_PARAM) String artefactId,
-                                        @Param(CURRENT_DATE_PARAM) LocalDateTime currentDate);
-
-    @Query(value = "select * from Artefact where location_id = :location_id and display_from < "
-        + ":curr_date and (display_to > :curr_date or display_to is null)",
-        nativeQuery = true)
+    @Query(LISTING_SELECT + LOCATION_DISPLAYED_CONDITION)
     List<Artefact> findArtefactsByLocationId(@Param(LOCATION_ID_PARAM) String locationId,
                                              @Param(CURRENT_DATE_PARAM) LocalDateTime currentDate);
 
+    @Query(LISTING_SELECT + LOCATION_DISPLAYED_CONDITION + PAGE_ORDER)
+    List<Artefact> findArtefactsPageByLocationId(@Param(LOCATION_ID_PARAM) String locationId,
+                                                 @Param(CURRENT_DATE_PARAM) LocalDateTime currentDate,
+                                                 Limit limit);
+
+    @Query(LISTING_SELECT + LOCATION_DISPLAYED_CONDITION + AFTER_CURSOR_CONDITION + PAGE_ORDER)
+    List<Artefact> findArtefactsPageByLocationIdAfter(@Param(LOCATION_ID_PARAM) String locationId,
+                                                      @Param(CURRENT_DATE_PARAM) LocalDateTime currentDate,
+                                                      @Param(CURSOR_CONTENT_DATE_PARAM) LocalDateTime contentDate,
+                                                      @Param(CURSOR_ARTEFACT_ID_PARAM) UUID artefactId,
+                                                      Limit limit);
+
     @Deprecated
-    @Query(value = INITIAL_SELECT + "WHERE LOWER(searchDetails.caseDetails ->> 'caseName') LIKE LOWER"
-        + "('%' || :caseName || '%') and display_from < :curr_date and (display_to > :curr_date or display_to is "
-        + "null)",
+    @Query(value = "SELECT * FROM artefact "
+        + "WHERE artefact_search_case_names(search) LIKE '%' || LOWER(:caseName) || '%' "
+        + "AND EXISTS (SELECT 1 FROM jsonb_array_elements(search -> 'cases') caseDetails "
+        + "WHERE LOWER(caseDetails ->> 'caseName') LIKE LOWER('%' || :caseName || '%')) "
+        + "AND " + DISPLAYED_CONDITION,
         nativeQuery = true)
     List<Artefact> findArtefactByCaseName(@Param(CASE_NAME_PARAM) String caseName,
                                           @Param(CURRENT_DATE_PARAM) LocalDateTime currentDate);
 
     @Deprecated
-    @Query(value = INITIAL_SELECT + "WHERE searchDetails.caseDetails ->> :searchTerm = :searchValue and "
-        + "display_from < :curr_date and (display_to > :curr_date or display_to is null)",
+    @Query(value = "SELECT * FROM artefact "
+        + "WHERE search -> 'cases' @> jsonb_build_array(jsonb_build_object(CAST(:searchTerm AS text), "
+        + "CAST(:searchValue AS text))) "
+        + "AND " + DISPLAYED_CONDITION,
         nativeQuery = true)
     List<Artefact> findArtefactBySearch(@Param(SEARCH_TERM_PARAM) String searchTerm,
                                         @Param(SEARCH_VAL_PARAM) String searchVal,
@@ -85,19 +123,30 @@ public interface ArtefactRepository extends JpaRepository<Artefact, Long> {
         nativeQuery = true)
     List<Object[]> countArtefactsByLocation(@Param(CURRENT_DATE_PARAM) LocalDateTime currentDate);
 
-    @Query(value = "select * from Artefact "
-        + "where location_id = :location_id "
-        + "and (display_to > :curr_date or display_to is null)",
-        nativeQuery = true)
+    @Query(LISTING_SELECT + LOCATION_NOT_EXPIRED_CONDITION)
     List<Artefact> findArtefactsByLocationIdAdmin(@Param(LOCATION_ID_PARAM) String locationId,
                                                   @Param(CURRENT_DATE_PARAM) LocalDateTime currentDate);
 
+    @Query(LISTING_SELECT + LOCATION_NOT_EXPIRED_CONDITION + PAGE_ORDER)
+    List<Artefact> findArtefactsPageByLocationIdAdmin(@Param(LOCATION_ID_PARAM) String locationId,
+                                                      @Param(CURRENT_DATE_PARAM) LocalDateTime currentDate,
+                                                      Limit limit);
+
+    @Query(LISTING_SELECT + LOCATION_NOT_EXPIRED_CONDITION + AFTER_CURSOR_CONDITION + PAGE_ORDER)
+    List<Artefact> findArtefactsPageByLocationIdAdminAfter(@Param(LOCATION_ID_PARAM) String locationId,
+                                                           @Param(CURRENT_DATE_PARAM) LocalDateTime currentDate,
+                                                           @Param(CURSOR_CONTENT_DATE_PARAM) LocalDateTime contentDate,
+                                                           @Param(CURSOR_ARTEFACT_ID_PARAM) UUID artefactId,
+                                                           Limit limit);
+
     @Query(value = "select * from Artefact where artefact_id = CAST(:artefact_id AS uuid)",
         nativeQuery = true)
     Optional<Artefact> findArtefactByArtefactId(@Param(ARTEFACT_ID_PARAM) String artefactId);
 
+    List<Artefact> findAllByArtefactIdIn(Collection<UUID> artefactIds);
+
     @Query(value = "SELECT * FROM Artefact "
-        + "WHERE DATE(display_from) = :curr_date "
+        + "WHERE display_from >= :curr_date AND display_from < CAST(:curr_date AS date) + 1 "
         + "AND (display_to > :curr_datetime or display_to is null)",
         nativeQuery = true)
     List<Artefact> findArtefactsByDisplayFrom(@Param(CURRENT_DATE_PARAM) LocalDate today,
@@ -107,12 +156,64 @@ public interface ArtefactRepository extends JpaRepository<Artefact, Long> {
         + "WHERE display_to < :curr_date", nativeQuery = true)
     List<Artefact> findOutdatedArtefacts(@Param(CURRENT_DATE_PARAM) LocalDateTime today);
 
-    @Query(value = "SELECT * FROM Artefact WHERE location_id LIKE '%NoMatch%'",
+    /**
+     * Move a batch of expired artefacts to the archived artefact table, in a single statement. Rows locked by another
+     * archival run are skipped. The search, summary and file manifest rows of the artefacts are removed by their
+     * cascading foreign keys, and the blobs of the artefacts are recorded as pending deletion.
+     *
+     * @param currentDate Artefacts displayed to before this date are archived.
+     * @param archivedDate The archived date recorded against the artefacts.
+     * @param batchSize The maximum number of artefacts to archive.
+     * @return The artefacts archived.
+     */
+    @Transactional
+    @Query(value = "WITH expired AS ("
+        + "SELECT artefact_id FROM artefact WHERE display_to < :curr_date "
+        + "ORDER BY display_to LIMIT :batch_size FOR UPDATE SKIP LOCKED"
+        + "), archived AS ("
+        + "INSERT INTO artefact_archived (artefact_id, content_date, display_from, display_to, is_flat_file, "
+        + "language, list_type, location_id, provenance, sensitivity, type, last_received_date, superseded_count, "
+        + "archived_date, is_manually_deleted) "
+        + "SELECT a.artefact_id, a.content_date, a.display_from, a.display_to, a.is_flat_file, a.language, "
+        + "a.list_type, a.location_id, a.provenance, a.sensitivity, a.type, a.last_received_date, "
+        + "a.superseded_count, CAST(:archived_date AS timestamp), false "
+        + "FROM artefact a JOIN expired e ON e.artefact_id = a.artefact_id"
+        + "), pending AS ("
+        + "INSERT INTO pending_blob_deletion (artefact_id, payload, is_flat_file, location_id, list_type, language, "
+        + "created_date) "
+        + "SELECT a.artefact_id, a.payload, a.is_flat_file, a.location_id, a.list_type, a.language, "
+        + "CAST(:archived_date AS timestamp) "
+        + "FROM artefact a JOIN expired e ON e.artefact_id = a.artefact_id"
+        + ") "
+        + "DELETE FROM artefact a USING expired e WHERE a.artefact_id = e.artefact_id RETURNING a.*",
         nativeQuery = true)
+    List<Artefact> archiveExpiredArtefacts(@Param(CURRENT_DATE_PARAM) LocalDateTime currentDate,
+                                           @Param(ARCHIVED_DATE_PARAM) LocalDateTime archivedDate,
+                                           @Param(BATCH_SIZE_PARAM) int batchSize);
+
+    /**
+     * Delete many artefacts in a single statement. Must be run within a transaction.
+     *
+     * @param artefactIds The IDs of the artefacts to delete.
+     * @return The number of artefacts deleted.
+     */
+    @Modifying
+    @Query("DELETE FROM Artefact a WHERE a.artefactId IN :artefact_ids")
+    int deleteAllByArtefactIdIn(@Param(ARTEFACT_IDS_PARAM) Collection<UUID> artefactIds);
+
+    @Query(LISTING_SELECT + NO_MATCH_CONDITION)
     List<Artefact> findAllNoMatchArtefacts();
 
+    @Query(LISTING_SELECT + NO_MATCH_CONDITION + PAGE_ORDER)
+    List<Artefact> findNoMatchArtefactsPage(Limit limit);
+
+    @Query(LISTING_SELECT + NO_MATCH_CONDITION + AFTER_CURSOR_CONDITION + PAGE_ORDER)
+    List<Artefact> findNoMatchArtefactsPageAfter(@Param(CURSOR_CONTENT_DATE_PARAM) LocalDateTime contentDate,
+                                                 @Param(CURSOR_ARTEFACT_ID_PARAM) UUID artefactId,
+                                                 Limit limit);
+
     @Query(value = "SELECT COUNT(artefact_id) FROM Artefact "
-        + "WHERE location_id LIKE '%NoMatch%'"
+        + "WHERE is_no_match = true "
         + "AND (display_to > :curr_date or display_to is null)",
         nativeQuery = true)
     Integer countNoMatchArtefacts(@Param(CURRENT_DATE_PARAM) LocalDateTime currentDate);
@@ -142,7 +243,7 @@ public interface ArtefactRepository extends JpaRepository<Artefact, Long> {
     List<Artefact> findAllByLocationIdIn(List<String> locationId);
 
     @Query(value = "SELECT * FROM Artefact "
-        + "WHERE DATE(content_date) = :curr_date "
+        + "WHERE content_date >= :curr_date AND content_date < CAST(:curr_date AS date) + 1 "
         + "AND display_to > :curr_datetime "
         + "AND list_type IN (:list_types)",
         nativeQuery = true)
@@ -152,6 +253,15 @@ public interface ArtefactRepository extends JpaRepository<Artefact, Long> {
 
     @Transactional
     @Modifying
-    @Query(value = "REFRESH MATERIALIZED VIEW sdp_mat_view_artefact", nativeQuery = true)
+    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY sdp_mat_view_artefact", nativeQuery = true)
     void refreshArtefactView();
+
+    /**
+     * Take the lock which ensures only one instance refreshes the materialised views at a time. The lock is held
+     * until the current transaction ends.
+     *
+     * @return true if the lock was taken, or false if another instance is refreshing the views.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('sdp_mat_view_refresh'))", nativeQuery = true)
+    boolean tryLockViewRefresh();
 }
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ArtefactSearchIndexRow {
+    UUID getArtefactId();
+
+    String getCaseNumber();
+
+    String getCaseName();
+
+    LocalDateTime getDisplayFrom();
+
+    LocalDateTime getDisplayTo();
+}
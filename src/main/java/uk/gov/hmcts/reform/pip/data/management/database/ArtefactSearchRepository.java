@@ -1,12 +1,14 @@
 package uk.gov.hmcts.reform.pip.data.management.database;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSearch;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +19,19 @@ public interface ArtefactSearchRepository extends JpaRepository<ArtefactSearch,
 
     void deleteByArtefactId(UUID artefactId);
 
+    List<ArtefactSearch> findByArtefactIdIn(Collection<UUID> artefactIds);
+
+    @Modifying
+    @Query("DELETE FROM ArtefactSearch s WHERE s.artefactId IN :artefact_ids")
+    void deleteAllByArtefactIdIn(@Param("artefact_ids") Collection<UUID> artefactIds);
+
+    @Query("SELECT s.artefactId AS artefactId, s.caseNumber AS caseNumber, s.caseName AS caseName, "
+        + "a.displayFrom AS displayFrom, a.displayTo AS displayTo "
+        + "FROM ArtefactSearch s, Artefact a "
+        + "WHERE s.artefactId = a.artefactId "
+        + "AND (a.displayTo > :curr_date OR a.displayTo IS NULL)")
+    List<ArtefactSearchIndexRow> findAllNotExpired(@Param("curr_date") LocalDateTime currentDate);
+
     @Query(value = "SELECT DISTINCT ars.case_number AS caseNumber, ars.case_name AS caseName "
         + "FROM artefact_search ars "
         + "INNER JOIN artefact a ON ars.artefact_id = a.artefact_id "
@@ -32,7 +47,7 @@ public interface ArtefactSearchRepository extends JpaRepository<ArtefactSearch,
     @Query(value = "SELECT DISTINCT ars.case_number AS caseNumber, ars.case_name AS caseName "
         + "FROM artefact_search ars "
         + "INNER JOIN artefact a ON ars.artefact_id = a.artefact_id "
-        + "WHERE LOWER(ars.case_name) = LOWER(CONCAT(:caseName)) "
+        + "WHERE LOWER(ars.case_name) = LOWER(:caseName) "
         + "AND a.display_from < :curr_date "
         + "AND (a.display_to > :curr_date OR a.display_to IS NULL)",
         nativeQuery = true)
@@ -41,12 +56,14 @@ public interface ArtefactSearchRepository extends JpaRepository<ArtefactSearch,
         @Param("curr_date") LocalDateTime currentDate
     );
 
-    @Query(value = "SELECT DISTINCT ars.case_number AS caseNumber, ars.case_name AS caseName "
+    @Query(value = "SELECT matches.caseNumber, matches.caseName FROM ("
+        + "SELECT DISTINCT ars.case_number AS caseNumber, ars.case_name AS caseName "
         + "FROM artefact_search ars "
         + "INNER JOIN artefact a ON ars.artefact_id = a.artefact_id "
         + "WHERE LOWER(ars.case_name) LIKE LOWER(CONCAT('%', :caseName, '%')) "
         + "AND a.display_from < :curr_date "
-        + "AND (a.display_to > :curr_date OR a.display_to IS NULL) "
+        + "AND (a.display_to > :curr_date OR a.display_to IS NULL)) matches "
+        + "ORDER BY similarity(LOWER(matches.caseName), LOWER(:caseName)) DESC, matches.caseName "
         + "LIMIT 50",
         nativeQuery = true)
     List<ArtefactSearchCaseResult> findTop50ByCaseNameContainingIgnoreCase(
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSummary;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ArtefactSummaryRepository extends JpaRepository<ArtefactSummary, UUID> {
+    String ARTEFACT_ID_PARAM = "artefactId";
+
+    Optional<ArtefactSummary> findByArtefactIdAndSupersededCount(UUID artefactId, int supersededCount);
+
+    /**
+     * Store the summary for an artefact, replacing any summary generated from an older version of the artefact.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO artefact_summary (artefact_id, superseded_count, summary, generated_date) "
+        + "VALUES (:artefactId, :supersededCount, :summary, :generatedDate) "
+        + "ON CONFLICT (artefact_id) DO UPDATE SET superseded_count = EXCLUDED.superseded_count, "
+        + "summary = EXCLUDED.summary, generated_date = EXCLUDED.generated_date "
+        + "WHERE artefact_summary.superseded_count <= EXCLUDED.superseded_count",
+        nativeQuery = true)
+    void upsertSummary(@Param(ARTEFACT_ID_PARAM) UUID artefactId,
+                       @Param("supersededCount") int supersededCount,
+                       @Param("summary") String summary,
+                       @Param("generatedDate") LocalDateTime generatedDate);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM artefact_summary WHERE artefact_id = :artefactId", nativeQuery = true)
+    void deleteByArtefactId(@Param(ARTEFACT_ID_PARAM) UUID artefactId);
+}
@@ -1,19 +1,25 @@
 package uk.gov.hmcts.reform.pip.data.management.database;
 
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
 import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.options.BlobInputStreamOptions;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FlatFileException;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
 
 import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 
@@ -79,10 +85,49 @@ public class AzureArtefactBlobService {
         return blobClient.downloadContent().toString();
     }
 
-    public Resource getBlobFile(String payloadId) {
+    /**
+     * Gets the properties of a blob from the blob service without downloading its content.
+     *
+     * @param payloadId the identifier of the payload
+     * @return the blob properties, including the size, ETag and content encoding of the blob.
+     */
+    public BlobProperties getBlobProperties(String payloadId) {
+        BlobClient blobClient = blobContainerClient.getBlobClient(payloadId);
+        return blobClient.getProperties();
+    }
+
+    /**
+     * Streams a byte range of a blob, exactly as it is stored, straight to an output stream.
+     *
+     * @param payloadId the identifier of the payload
+     * @param outputStream the stream to write the blob content to
+     * @param offset the position of the first byte to stream
+     * @param count the number of bytes to stream
+     * @param eTag the expected ETag of the blob, so a blob replaced during the request is not streamed
+     */
+    public void streamBlob(String payloadId, OutputStream outputStream, long offset, long count, String eTag) {
+        BlobClient blobClient = blobContainerClient.getBlobClient(payloadId);
+        blobClient.downloadStreamWithResponse(outputStream, new BlobRange(offset, count), null,
+                                              new BlobRequestConditions().setIfMatch(eTag), false,
+                                              null, Context.NONE);
+    }
+
+    /**
+     * Streams the decompressed content of a gzip encoded blob to an output stream.
+     *
+     * @param payloadId the identifier of the payload
+     * @param outputStream the stream to write the decompressed content to
+     * @param eTag the expected ETag of the blob, so a blob replaced during the request is not streamed
+     * @throws IOException if the blob content could not be decompressed or written
+     */
+    public void streamDecompressedBlob(String payloadId, OutputStream outputStream, String eTag) throws IOException {
         BlobClient blobClient = blobContainerClient.getBlobClient(payloadId);
-        byte[] data = blobClient.downloadContent().toBytes();
-        return new ByteArrayResource(data);
+        BlobInputStreamOptions options = new BlobInputStreamOptions()
+            .setRequestConditions(new BlobRequestConditions().setIfMatch(eTag));
+
+        try (InputStream inputStream = new GZIPInputStream(blobClient.openInputStream(options))) {
+            inputStream.transferTo(outputStream);
+        }
     }
 
     public String deleteBlob(String payloadId) {
@@ -1,7 +1,11 @@
 package uk.gov.hmcts.reform.pip.data.management.database;
 
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
 import com.azure.storage.blob.models.BlobStorageException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +14,7 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.PublicationFileNotFoundException;
 
 import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 
 import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 
@@ -55,6 +60,37 @@ public class AzurePublicationBlobService {
         }
     }
 
+    /**
+     * Get the properties of a file from the blobstore without downloading its content.
+     *
+     * @param fileId The id of the file to retrieve the properties for
+     * @return The blob properties, including the size and ETag of the file
+     */
+    public BlobProperties getBlobProperties(String fileId) {
+        try {
+            BlobClient blobClient = blobContainerClient.getBlobClient(fileId);
+            return blobClient.getProperties();
+        } catch (BlobStorageException e) {
+            throw new PublicationFileNotFoundException(String.format("Blob file with id %s not found", fileId));
+        }
+    }
+
+    /**
+     * Stream a byte range of a file from the blobstore straight to an output stream.
+     *
+     * @param fileId The id of the file to stream
+     * @param outputStream The stream to write the file content to
+     * @param offset The position of the first byte to stream
+     * @param count The number of bytes to stream
+     * @param eTag The expected ETag of the file, so a file replaced during the request is not streamed
+     */
+    public void streamBlobFile(String fileId, OutputStream outputStream, long offset, long count, String eTag) {
+        BlobClient blobClient = blobContainerClient.getBlobClient(fileId);
+        blobClient.downloadStreamWithResponse(outputStream, new BlobRange(offset, count), null,
+                                              new BlobRequestConditions().setIfMatch(eTag), false,
+                                              null, Context.NONE);
+    }
+
     /**
      * Delete a blob file in the publications storage container.
      *
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefactCount;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface LocationArtefactCountRepository extends JpaRepository<LocationArtefactCount, String> {
+    String LOCATION_ID_PARAM = "locationId";
+    String CURRENT_DATE_PARAM = "curr_date";
+    String NO_MATCH_LOCATION_ID = "noMatch";
+    String DISPLAYED_CONDITION = "AND (display_to > :curr_date OR display_to IS NULL) ";
+
+    /**
+     * Add to the artefact count of a location, creating it if it does not exist. A negative amount is subtracted.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO location_artefact_count AS c (location_id, artefact_count) "
+        + "VALUES (:locationId, :amount) "
+        + "ON CONFLICT (location_id) DO UPDATE SET artefact_count = c.artefact_count + EXCLUDED.artefact_count",
+        nativeQuery = true)
+    void addToCount(@Param(LOCATION_ID_PARAM) String locationId, @Param("amount") int amount);
+
+    /**
+     * Recalculate the artefact counts of all locations with displayed artefacts, and of the no match artefacts, in a
+     * single statement.
+     *
+     * @return The number of counts written.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO location_artefact_count AS c (location_id, artefact_count) "
+        + "SELECT location_id, COUNT(*) FROM artefact "
+        + "WHERE location_id ~ '^[0-9]+$' " + DISPLAYED_CONDITION
+        + "GROUP BY location_id "
+        + "UNION ALL "
+        + "SELECT '" + NO_MATCH_LOCATION_ID + "', COUNT(*) FROM artefact "
+        + "WHERE is_no_match = true " + DISPLAYED_CONDITION
+        + "ON CONFLICT (location_id) DO UPDATE SET artefact_count = EXCLUDED.artefact_count",
+        nativeQuery = true)
+    int reconcileCounts(@Param(CURRENT_DATE_PARAM) LocalDateTime currentDate);
+
+    /**
+     * Delete the artefact counts of locations which no longer have any displayed artefacts.
+     *
+     * @return The number of counts deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM location_artefact_count c "
+        + "WHERE c.location_id <> '" + NO_MATCH_LOCATION_ID + "' "
+        + "AND NOT EXISTS (SELECT 1 FROM artefact WHERE location_id = c.location_id " + DISPLAYED_CONDITION + ")",
+        nativeQuery = true)
+    int deleteUndisplayedCounts(@Param(CURRENT_DATE_PARAM) LocalDateTime currentDate);
+
+    /**
+     * Take the lock which ensures only one instance reconciles the artefact counts at a time. The lock is held until
+     * the current transaction ends.
+     *
+     * @return true if the lock was taken, or false if another instance is reconciling the counts.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('location_artefact_count_reconcile'))",
+        nativeQuery = true)
+    boolean tryLockReconcile();
+}
@@ -54,6 +54,6 @@ public interface LocationRepository extends JpaRepository<Location, Integer> {
 
     @Modifying
     @Transactional
-    @Query(value = "REFRESH MATERIALIZED VIEW sdp_mat_view_location", nativeQuery = true)
+    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY sdp_mat_view_location", nativeQuery = true)
     void refreshLocationView();
 }
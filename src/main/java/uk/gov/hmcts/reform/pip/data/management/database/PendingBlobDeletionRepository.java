@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PendingBlobDeletion;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PendingBlobDeletionRepository extends JpaRepository<PendingBlobDeletion, UUID> {
+
+    List<PendingBlobDeletion> findAllByOrderByCreatedDate(Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM pending_blob_deletion WHERE artefact_id IN (:artefactIds)", nativeQuery = true)
+    void deleteAllByArtefactIdIn(@Param("artefactIds") Collection<UUID> artefactIds);
+}
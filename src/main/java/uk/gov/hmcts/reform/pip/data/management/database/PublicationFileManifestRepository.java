@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationFileManifest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PublicationFileManifestRepository extends JpaRepository<PublicationFileManifest, UUID> {
+
+    List<PublicationFileManifest> findByArtefactId(UUID artefactId);
+
+    List<PublicationFileManifest> findByArtefactIdIn(Collection<UUID> artefactIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM publication_file_manifest WHERE artefact_id = :artefactId", nativeQuery = true)
+    void deleteByArtefactId(@Param("artefactId") UUID artefactId);
+}
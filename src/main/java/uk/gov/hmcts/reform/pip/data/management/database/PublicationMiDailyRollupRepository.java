@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationMiDailyRollup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PublicationMiDailyRollupRepository extends JpaRepository<PublicationMiDailyRollup, Long> {
+    /**
+     * Add to the counts of a rollup, creating it if it does not exist. Negative counts are subtracted.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO publication_mi_daily_rollup AS r (received_date, provenance, list_type, location_id, "
+        + "language, sensitivity, publication_count, superseded_count, archived_count) "
+        + "VALUES (:receivedDate, :provenance, :listType, :locationId, :language, :sensitivity, "
+        + ":publicationCount, :supersededCount, :archivedCount) "
+        + "ON CONFLICT (received_date, provenance, list_type, location_id, language, sensitivity) DO UPDATE SET "
+        + "publication_count = r.publication_count + EXCLUDED.publication_count, "
+        + "superseded_count = r.superseded_count + EXCLUDED.superseded_count, "
+        + "archived_count = r.archived_count + EXCLUDED.archived_count",
+        nativeQuery = true)
+    void addToRollup(@Param("receivedDate") LocalDate receivedDate,
+                     @Param("provenance") String provenance,
+                     @Param("listType") String listType,
+                     @Param("locationId") String locationId,
+                     @Param("language") String language,
+                     @Param("sensitivity") String sensitivity,
+                     @Param("publicationCount") long publicationCount,
+                     @Param("supersededCount") long supersededCount,
+                     @Param("archivedCount") long archivedCount);
+
+    /**
+     * Subtract the archived publications of the given locations from the rollups, before they are deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE publication_mi_daily_rollup r SET "
+        + "publication_count = r.publication_count - a.publication_count, "
+        + "superseded_count = r.superseded_count - a.superseded_count, "
+        + "archived_count = r.archived_count - a.publication_count "
+        + "FROM (SELECT CAST(last_received_date AS date) AS received_date, COALESCE(provenance, '') AS provenance, "
+        + "COALESCE(list_type, '') AS list_type, COALESCE(location_id, '') AS location_id, "
+        + "COALESCE(language, '') AS language, COALESCE(sensitivity, '') AS sensitivity, "
+        + "COUNT(*) AS publication_count, COALESCE(SUM(superseded_count), 0) AS superseded_count "
+        + "FROM artefact_archived "
+        + "WHERE location_id IN (:locationIds) AND last_received_date IS NOT NULL "
+        + "GROUP BY 1, 2, 3, 4, 5, 6) a "
+        + "WHERE r.received_date = a.received_date AND r.provenance = a.provenance AND r.list_type = a.list_type "
+        + "AND r.location_id = a.location_id AND r.language = a.language AND r.sensitivity = a.sensitivity",
+        nativeQuery = true)
+    void subtractArchivedLocations(@Param("locationIds") List<String> locationIds);
+
+    @Query("SELECT r FROM PublicationMiDailyRollup r WHERE r.receivedDate >= :fromDate AND r.publicationCount > 0 "
+        + "ORDER BY r.receivedDate")
+    List<PublicationMiDailyRollup> findRollupsFrom(@Param("fromDate") LocalDate fromDate);
+
+    @Query("SELECT r FROM PublicationMiDailyRollup r WHERE r.publicationCount > 0 ORDER BY r.receivedDate")
+    List<PublicationMiDailyRollup> findAllRollups();
+}
@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.pip.data.management.database;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.pip.model.publication.ArtefactType;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
+import uk.gov.hmcts.reform.pip.model.report.PublicationMiData;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams MI data for current and archived publications row by row, so the export does not hold the full history in
+ * memory. Location names are joined in the database rather than looked up per row.
+ *
+ * <p>The Postgres driver only fetches rows in batches of the fetch size when called inside a transaction, so callers
+ * must be transactional.</p>
+ */
+@Repository
+public class PublicationMiDataExportRepository {
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String MI_DATA_QUERY = "SELECT mi.*, l.name AS location_name FROM ("
+        + "SELECT artefact_id, display_from, display_to, language, provenance, sensitivity, source_artefact_id, "
+        + "superseded_count, type, content_date, location_id, list_type, last_received_date FROM artefact "
+        + "UNION ALL "
+        + "SELECT artefact_id, display_from, display_to, language, provenance, sensitivity, '' AS source_artefact_id, "
+        + "superseded_count, type, content_date, location_id, list_type, last_received_date FROM artefact_archived"
+        + ") mi "
+        + "LEFT JOIN location l ON l.location_id = CASE "
+        + "WHEN mi.location_id ~ '^-?[0-9]+$' AND length(mi.location_id) < 10 THEN CAST(mi.location_id AS integer) "
+        + "END";
+
+    private static final String RECEIVED_DATE_CONDITION = " WHERE mi.last_received_date >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PublicationMiDataExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stream the MI data of all publications, current and archived.
+     *
+     * @param publicationReceivedDate Only publications received on or after this date are streamed, or all
+     *                                publications if null.
+     * @param consumer Consumer called with the MI data of each publication in turn.
+     */
+    public void streamMiData(LocalDateTime publicationReceivedDate, Consumer<PublicationMiData> consumer) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    publicationReceivedDate == null ? MI_DATA_QUERY : MI_DATA_QUERY + RECEIVED_DATE_CONDITION
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                if (publicationReceivedDate != null) {
+                    statement.setTimestamp(1, Timestamp.valueOf(publicationReceivedDate));
+                }
+                return statement;
+            },
+            (RowCallbackHandler) resultSet -> consumer.accept(mapRow(resultSet))
+        );
+    }
+
+    private static PublicationMiData mapRow(ResultSet resultSet) throws SQLException {
+        String language = resultSet.getString("language");
+        String sensitivity = resultSet.getString("sensitivity");
+        String type = resultSet.getString("type");
+        String listType = resultSet.getString("list_type");
+
+        PublicationMiData publicationMiData = new PublicationMiData(
+            resultSet.getObject("artefact_id", UUID.class),
+            resultSet.getObject("display_from", LocalDateTime.class),
+            resultSet.getObject("display_to", LocalDateTime.class),
+            language == null ? null : Language.valueOf(language),
+            resultSet.getString("provenance"),
+            sensitivity == null ? null : Sensitivity.valueOf(sensitivity),
+            resultSet.getString("source_artefact_id"),
+            resultSet.getObject("superseded_count", Integer.class),
+            type == null ? null : ArtefactType.valueOf(type),
+            resultSet.getObject("content_date", LocalDateTime.class),
+            resultSet.getString("location_id"),
+            listType == null ? null : ListType.valueOf(listType)
+        );
+        publicationMiData.setLocationName(resultSet.getString("location_name"));
+        return publicationMiData;
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.pip.data.management.errorhandling;
 import com.azure.storage.blob.models.BlobStorageException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FileForm
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FileSizeLimitException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FlatFileException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.HeaderValidationException;
+import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.InvalidPageCursorException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.LocationNameValidationException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.PayloadValidationException;
@@ -152,6 +154,20 @@ public class GlobalExceptionHandler {
             .body(generateExceptionResponse(ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidPageCursorException.class)
+    public ResponseEntity<ExceptionResponse> handle(InvalidPageCursorException ex) {
+        log.error(writeLog("400, " + ex.getMessage()));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(generateExceptionResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ExceptionResponse> handle(TaskRejectedException ex) {
+        log.error(writeLog("503, too many responses are being streamed"));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(generateExceptionResponse("Too many responses are being streamed, please try again later"));
+    }
+
     private ExceptionResponse generateExceptionResponse(String message) {
         ExceptionResponse exceptionResponse = new ExceptionResponse();
         exceptionResponse.setMessage(message);
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions;
+
+public class InvalidPageCursorException extends RuntimeException {
+    private static final long serialVersionUID = 4821503396517410542L;
+
+    public InvalidPageCursorException(String message) {
+        super(message);
+    }
+}
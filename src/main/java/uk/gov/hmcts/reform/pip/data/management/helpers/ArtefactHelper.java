@@ -1,5 +1,13 @@
 package uk.gov.hmcts.reform.pip.data.management.helpers;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+
 public final class ArtefactHelper {
 
     private ArtefactHelper() {
@@ -14,4 +22,68 @@ public final class ArtefactHelper {
     public static String getUuidFromUrl(String payloadUrl) {
         return payloadUrl.substring(payloadUrl.lastIndexOf('/') + 1);
     }
+
+    /**
+     * Build a strong ETag for an artefact. A new version of a publication always increments the superseded count
+     * and updates the last received date, so the ETag changes whenever the metadata or payload of the artefact does.
+     *
+     * @param artefact The artefact to build the ETag for.
+     * @return The quoted ETag.
+     */
+    public static String buildETag(Artefact artefact) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putVersion(hasher, artefact);
+        return quote(hasher.hash().toString());
+    }
+
+    /**
+     * Build a strong ETag for the payload of an artefact sent with a content coding, such as gzip. The bytes sent
+     * differ from those of the decoded payload, so the ETag is suffixed with the coding to keep it distinct from the
+     * ETag of the decoded payload, and a byte range of one is never resumed from the other.
+     *
+     * @param artefact The artefact to build the ETag for.
+     * @param contentCoding The content coding of the payload sent.
+     * @return The quoted ETag.
+     */
+    public static String buildETag(Artefact artefact, String contentCoding) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putVersion(hasher, artefact);
+        return quote(hasher.hash() + "-" + contentCoding);
+    }
+
+    /**
+     * Build a strong ETag for a listing of artefacts, which changes whenever an artefact is added to or removed from
+     * the listing, or a new version of any artefact in the listing is received. Any other values which distinguish
+     * one representation of the listing from another, such as the page requested and the cursor of the next page,
+     * are included in the ETag.
+     *
+     * @param artefacts The artefacts in the listing.
+     * @param representation The other values which make up the representation of the listing.
+     * @return The quoted ETag.
+     */
+    public static String buildETag(Collection<Artefact> artefacts, Object... representation) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putInt(artefacts.size());
+        artefacts.stream()
+            .sorted(Comparator.comparing(Artefact::getArtefactId))
+            .forEach(artefact -> putVersion(hasher, artefact));
+        for (Object value : representation) {
+            hasher.putBoolean(value != null);
+            if (value != null) {
+                String stringValue = value.toString();
+                hasher.putInt(stringValue.length()).putString(stringValue, StandardCharsets.UTF_8);
+            }
+        }
+        return quote(hasher.hash().toString());
+    }
+
+    private static void putVersion(Hasher hasher, Artefact artefact) {
+        hasher.putString(String.valueOf(artefact.getArtefactId()), StandardCharsets.UTF_8)
+            .putInt(artefact.getSupersededCount())
+            .putString(String.valueOf(artefact.getLastReceivedDate()), StandardCharsets.UTF_8);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
 }
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.pip.data.management.helpers;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public final class StreamingResponseHelper {
+    private static final String BYTES_UNIT = "bytes";
+
+    private StreamingResponseHelper() {
+    }
+
+    /**
+     * Writes a byte range of a resource to an output stream.
+     */
+    @FunctionalInterface
+    public interface RangeWriter {
+        void write(OutputStream outputStream, long offset, long count) throws IOException;
+    }
+
+    /**
+     * Build a streaming response for a resource of known length, honouring a single byte range if requested.
+     * Multiple ranges are not supported, so the full resource is returned instead.
+     *
+     * @param contentLength The total length of the resource in bytes.
+     * @param rangeHeader The value of the Range request header, or null if not provided.
+     * @param eTag The ETag of the resource, or null if not known.
+     * @param contentType The content type of the resource.
+     * @param contentDisposition The content disposition of the resource, or null if not required.
+     * @param rangeWriter The writer used to stream the requested byte range.
+     * @return A 200 response with the full resource, a 206 response with the requested range, or a 416 response if
+     *     the requested range cannot be satisfied. An invalid Range header is ignored.
+     */
+    public static ResponseEntity<StreamingResponseBody> buildRangedResponse(long contentLength, String rangeHeader,
+                                                                            String eTag, MediaType contentType,
+                                                                            ContentDisposition contentDisposition,
+                                                                            RangeWriter rangeWriter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+        headers.setContentType(contentType);
+        if (contentDisposition != null) {
+            headers.setContentDisposition(contentDisposition);
+        }
+        if (eTag != null) {
+            headers.setETag(eTag.startsWith("\"") || eTag.startsWith("W/") ? eTag : "\"" + eTag + "\"");
+        }
+
+        List<HttpRange> ranges = parseRanges(rangeHeader);
+        if (ranges.size() == 1) {
+            long start;
+            long end;
+            try {
+                start = ranges.get(0).getRangeStart(contentLength);
+                end = ranges.get(0).getRangeEnd(contentLength);
+            } catch (IllegalArgumentException e) {
+                headers.setContentLength(0);
+                headers.set(HttpHeaders.CONTENT_RANGE, String.format("%s */%d", BYTES_UNIT, contentLength));
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .headers(headers)
+                    .build();
+            }
+            long count = end - start + 1;
+
+            headers.setContentLength(count);
+            headers.set(HttpHeaders.CONTENT_RANGE,
+                        String.format("%s %d-%d/%d", BYTES_UNIT, start, end, contentLength));
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .headers(headers)
+                .body(outputStream -> rangeWriter.write(outputStream, start, count));
+        }
+
+        headers.setContentLength(contentLength);
+        return ResponseEntity.ok()
+            .headers(headers)
+            .body(outputStream -> rangeWriter.write(outputStream, 0, contentLength));
+    }
+
+    /**
+     * Parse the Range request header. A header which is not syntactically valid is ignored, as required by
+     * RFC 9110, so the full resource is returned rather than an error.
+     *
+     * @param rangeHeader The value of the Range request header, or null if not provided.
+     * @return The requested ranges, or an empty list if none were validly requested.
+     */
+    private static List<HttpRange> parseRanges(String rangeHeader) {
+        if (rangeHeader == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.pip.data.management.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class StoredPayload {
+    public static final String GZIP_ENCODING = "gzip";
+
+    private String payloadId;
+    private long size;
+    private String eTag;
+    private String contentEncoding;
+
+    public boolean isGzipEncoded() {
+        return GZIP_ENCODING.equalsIgnoreCase(contentEncoding);
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.pip.data.management.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.pip.model.publication.FileType;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class StoredPublicationFile {
+    private String fileName;
+    private FileType fileType;
+    private long size;
+    private String eTag;
+}
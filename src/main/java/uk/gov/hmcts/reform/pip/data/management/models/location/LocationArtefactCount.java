@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.pip.data.management.models.location;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The number of displayed artefacts for a location, or for all no match artefacts together.
+ */
+@Entity
+@Table(name = "location_artefact_count")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationArtefactCount {
+    @Id
+    @Column(nullable = false)
+    private String locationId;
+
+    @Column(nullable = false)
+    private int artefactCount;
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.pip.data.management.models.publication;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonView;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.Column;
@@ -31,7 +32,7 @@ import java.util.UUID;
  */
 @Entity
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Artefact {
@@ -82,7 +83,7 @@ public class Artefact {
      * Metadata that will be indexed for searching.
      */
     @Type(JsonType.class)
-    @Column(columnDefinition = "json")
+    @Column(columnDefinition = "jsonb")
     @JsonView(ArtefactView.External.class)
     private Map<String, List<Object>> search;
 
@@ -151,4 +152,29 @@ public class Artefact {
      */
     @JsonView(ArtefactView.Internal.class)
     private Float payloadSize;
+
+    /**
+     * Whether the location of the publication could not be matched to a known location. The location ID of a
+     * NoMatch publication is prefixed with NoMatch, but the flag is stored so NoMatch publications can be found
+     * from an index.
+     */
+    @Builder.Default
+    @JsonIgnore
+    @Column(nullable = false)
+    private Boolean isNoMatch = false;
+
+    /**
+     * Constructor used by listing queries, which build artefacts without the search metadata. The search metadata
+     * holds every case and party in the list, so it can be far larger than the rest of the artefact and is not
+     * needed when listing publications.
+     */
+    public Artefact(UUID artefactId, String provenance, String sourceArtefactId, ArtefactType type,
+                    Sensitivity sensitivity, Language language, LocalDateTime displayFrom, LocalDateTime displayTo,
+                    ListType listType, String locationId, LocalDateTime contentDate, Boolean isFlatFile,
+                    String payload, LocalDateTime lastReceivedDate, int supersededCount, Float payloadSize,
+                    Boolean isNoMatch) {
+        this(artefactId, provenance, sourceArtefactId, type, sensitivity, language, null, displayFrom, displayTo,
+             listType, locationId, contentDate, isFlatFile, payload, lastReceivedDate, supersededCount, payloadSize,
+             isNoMatch);
+    }
 }
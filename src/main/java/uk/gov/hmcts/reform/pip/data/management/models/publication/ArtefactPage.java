@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.pip.data.management.models.publication;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A page of a publication listing, ordered by content date and artefact ID, with the cursor of the next page if
+ * there is one.
+ */
+@AllArgsConstructor
+@Getter
+public class ArtefactPage {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private List<Artefact> artefacts;
+    private String nextCursor;
+
+    /**
+     * Build a page from the publications retrieved for it. Listings retrieve one publication more than the page size,
+     * so that a next cursor is only returned when there are further publications.
+     *
+     * @param artefacts The publications retrieved, up to one more than the page size.
+     * @param pageSize The number of publications on the page.
+     * @return The page.
+     */
+    public static ArtefactPage of(List<Artefact> artefacts, int pageSize) {
+        if (artefacts.size() <= pageSize) {
+            return new ArtefactPage(artefacts, null);
+        }
+
+        List<Artefact> pageArtefacts = artefacts.subList(0, pageSize);
+        return new ArtefactPage(pageArtefacts, ArtefactPageCursor.from(pageArtefacts.get(pageSize - 1)).encode());
+    }
+}
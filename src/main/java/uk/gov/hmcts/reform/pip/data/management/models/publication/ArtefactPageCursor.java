@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.pip.data.management.models.publication;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.InvalidPageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position of the last publication on a page of a listing ordered by content date and artefact ID. The next page
+ * starts with the first publication after this position.
+ *
+ * <p>Publications without a content date are ordered first, as if they had the content date
+ * {@link #NO_CONTENT_DATE}, so every publication has a position. Cursors are passed to clients as an opaque URL safe
+ * string.</p>
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+public class ArtefactPageCursor {
+    /**
+     * The content date used to order publications without one. Must match the date used by the listing page queries
+     * in {@code ArtefactRepository} and by the listing page indexes.
+     */
+    public static final LocalDateTime NO_CONTENT_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "null";
+
+    private LocalDateTime contentDate;
+    private UUID artefactId;
+
+    public static ArtefactPageCursor from(Artefact artefact) {
+        return new ArtefactPageCursor(Objects.requireNonNullElse(artefact.getContentDate(), NO_CONTENT_DATE),
+                                      artefact.getArtefactId());
+    }
+
+    /**
+     * Decode a cursor previously returned to a client.
+     *
+     * @param cursor The encoded cursor.
+     * @return The decoded cursor.
+     * @throws InvalidPageCursorException if the cursor was not produced by {@link #encode()}.
+     */
+    public static ArtefactPageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidPageCursorException(String.format("Invalid page cursor %s", cursor));
+            }
+            // Cursors encoded before publications without a content date were given a position hold null
+            String contentDate = decoded.substring(0, separatorIndex);
+            return new ArtefactPageCursor(
+                NULL_VALUE.equals(contentDate) ? NO_CONTENT_DATE : LocalDateTime.parse(contentDate),
+                UUID.fromString(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPageCursorException(String.format("Invalid page cursor %s", cursor));
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((contentDate + SEPARATOR + artefactId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.pip.data.management.models.publication;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The precomputed summary of a publication used in subscription emails. The summary is only valid for the version of
+ * the publication it was generated from, identified by the superseded count.
+ */
+@Entity
+@Table(name = "artefact_summary")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtefactSummary {
+    @Id
+    @Column(columnDefinition = "uuid", nullable = false)
+    private UUID artefactId;
+
+    @Column(nullable = false)
+    private int supersededCount;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String summary;
+
+    private LocalDateTime generatedDate;
+}
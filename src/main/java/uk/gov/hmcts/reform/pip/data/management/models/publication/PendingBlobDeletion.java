@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.pip.data.management.models.publication;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The blobs of an archived artefact which have not yet been deleted. Recorded in the same statement that archives
+ * the artefact, and removed once its blobs are deleted.
+ */
+@Entity
+@Table(name = "pending_blob_deletion")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingBlobDeletion {
+    @Id
+    @Column(columnDefinition = "uuid", nullable = false)
+    private UUID artefactId;
+
+    private String payload;
+
+    private Boolean isFlatFile;
+
+    private String locationId;
+
+    @Enumerated(EnumType.STRING)
+    private ListType listType;
+
+    @Enumerated(EnumType.STRING)
+    private Language language;
+
+    private LocalDateTime createdDate;
+
+    /**
+     * Build the artefact details needed to delete the blobs.
+     *
+     * @return The artefact holding the blob details.
+     */
+    public Artefact toArtefact() {
+        return Artefact.builder()
+            .artefactId(artefactId)
+            .payload(payload)
+            .isFlatFile(isFlatFile)
+            .locationId(locationId)
+            .listType(listType)
+            .language(language)
+            .build();
+    }
+}
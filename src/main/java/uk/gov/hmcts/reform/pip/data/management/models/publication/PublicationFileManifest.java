@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.pip.data.management.models.publication;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A record of a generated publication file (PDF/Excel) stored in the publications blob container.
+ */
+@Entity
+@Table(name = "publication_file_manifest")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationFileManifest {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(columnDefinition = "uuid", insertable = false, updatable = false,
+        nullable = false)
+    private UUID id;
+
+    private UUID artefactId;
+
+    private String fileName;
+
+    private Long fileSize;
+
+    private String contentHash;
+
+    private LocalDateTime generatedDate;
+}
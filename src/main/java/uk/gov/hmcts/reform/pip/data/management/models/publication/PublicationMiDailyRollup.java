@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.pip.data.management.models.publication;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Daily MI counts of current and archived publications, by the day they were last received. The counts are kept up
+ * to date as publications are created, superseded, archived and deleted, so reports do not reprocess the publication
+ * history.
+ */
+@Entity
+@Table(name = "publication_mi_daily_rollup", uniqueConstraints = @UniqueConstraint(
+    name = "publication_mi_daily_rollup_key",
+    columnNames = {"received_date", "provenance", "list_type", "location_id", "language", "sensitivity"}
+))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationMiDailyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @JsonIgnore
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate receivedDate;
+
+    @Column(nullable = false)
+    private String provenance;
+
+    @Column(nullable = false)
+    private String listType;
+
+    @Column(nullable = false)
+    private String locationId;
+
+    @Column(nullable = false)
+    private String language;
+
+    @Column(nullable = false)
+    private String sensitivity;
+
+    @Column(nullable = false)
+    private long publicationCount;
+
+    @Column(nullable = false)
+    private long supersededCount;
+
+    @Column(nullable = false)
+    private long archivedCount;
+}
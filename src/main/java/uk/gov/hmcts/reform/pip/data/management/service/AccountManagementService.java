@@ -10,6 +10,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import uk.gov.hmcts.reform.pip.model.account.PiUser;
 import uk.gov.hmcts.reform.pip.model.publication.Artefact;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
@@ -17,13 +19,17 @@ import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 
 @Slf4j
 @Component
 public class AccountManagementService {
+    private static final int DELETED_ARTEFACT_NOTIFICATION_CONCURRENCY = 8;
 
     private final WebClient webClient;
 
@@ -40,7 +46,7 @@ public class AccountManagementService {
      * @param userId The UUID of the user to retrieve.
      * @param listType The list type of the publication.
      * @param sensitivity The sensitivity of the publication
-     * @return A flag indicating whether the user is authorised.
+     * @return A flag indicating whether the user is authorised, or null if Account Management could not be reached.
      */
     public Boolean getIsAuthorised(UUID userId, ListType listType, Sensitivity sensitivity) {
         try {
@@ -54,7 +60,7 @@ public class AccountManagementService {
                 String.format("Request to Account Management to check user authorisation failed with error: %s",
                               ex.getMessage())
             ));
-            return false;
+            return null;
         }
     }
 
@@ -184,6 +190,36 @@ public class AccountManagementService {
         }
     }
 
+    /**
+     * Send many deleted artefacts to third parties. The requests are sent concurrently, with the number in flight
+     * bounded, and a failed request does not stop the others.
+     *
+     * @param artefacts The deleted artefacts to send.
+     * @return The failure message of each artefact which failed to send, keyed by artefact ID.
+     */
+    public Map<UUID, String> sendDeletedArtefactsForThirdParties(List<Artefact> artefacts) {
+        Map<UUID, String> failures = new ConcurrentHashMap<>();
+        Flux.fromIterable(artefacts)
+            .flatMap(artefact -> Mono.defer(() -> webClient.post().uri(url + "/subscription/deleted-artefact")
+                             .body(BodyInserters.fromValue(artefact))
+                             .retrieve()
+                             .bodyToMono(String.class))
+                         .onErrorResume(ex -> {
+                             // Any error is recorded against its artefact, so it does not stop the other requests
+                             String message = Objects.toString(ex.getMessage(), ex.getClass().getSimpleName());
+                             log.error(writeLog(
+                                 String.format("Request to Account Management to send deleted artefact %s to third "
+                                                   + "party failed with error: %s",
+                                               artefact.getArtefactId(), message)
+                             ));
+                             failures.put(artefact.getArtefactId(), message);
+                             return Mono.empty();
+                         }),
+                     DELETED_ARTEFACT_NOTIFICATION_CONCURRENCY)
+            .blockLast();
+        return failures;
+    }
+
     public String findSubscriptionsByLocationId(String locationId) {
         try {
             return webClient.get().uri(url + "/subscription/location/" + locationId)
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.pip.data.management.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cache of the authorisation decisions returned by Account Management, keyed by user, list type and sensitivity.
+ * Decisions are held for a short time-to-live so changes to a user's role are picked up quickly. If Account
+ * Management cannot be reached the user is treated as not authorised, but no decision is cached, so access is
+ * restored as soon as Account Management recovers.
+ */
+@Component
+public class AuthorisationDecisionCache {
+    public static final String CACHE_NAME = "authorisation.decision.cache";
+    private static final int MAX_CONCURRENT_REQUESTS = 8;
+
+    private final AccountManagementService accountManagementService;
+    private final Cache<DecisionKey, Boolean> cache;
+
+    @Autowired
+    public AuthorisationDecisionCache(AccountManagementService accountManagementService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${authorisation-decision-cache.ttl-seconds}") long ttlSeconds,
+                                      @Value("${authorisation-decision-cache.max-size}") long maxSize) {
+        this.accountManagementService = accountManagementService;
+        this.cache = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Determine whether a user is allowed to see publications of a list type and sensitivity.
+     *
+     * @param userId The ID of the user.
+     * @param listType The list type of the publication.
+     * @param sensitivity The sensitivity of the publication.
+     * @return A flag indicating whether the user is authorised.
+     */
+    public boolean isAuthorised(UUID userId, ListType listType, Sensitivity sensitivity) {
+        DecisionKey key = new DecisionKey(userId, listType, sensitivity);
+        Boolean decision = cache.getIfPresent(key);
+        return decision == null ? requestDecision(key) : decision;
+    }
+
+    /**
+     * Resolve the authorisation decisions needed for a set of artefacts, so the artefacts can then be checked one by
+     * one from the cache. Each distinct list type and sensitivity not already cached is requested from Account
+     * Management concurrently, rather than one blocking request per artefact.
+     *
+     * @param userId The ID of the user.
+     * @param artefacts The artefacts the user is requesting.
+     */
+    public void preload(UUID userId, Collection<Artefact> artefacts) {
+        List<DecisionKey> missingKeys = artefacts.stream()
+            .filter(artefact -> !Sensitivity.PUBLIC.equals(artefact.getSensitivity()))
+            .map(artefact -> new DecisionKey(userId, artefact.getListType(), artefact.getSensitivity()))
+            .distinct()
+            .filter(key -> cache.getIfPresent(key) == null)
+            .toList();
+
+        if (missingKeys.size() == 1) {
+            requestDecision(missingKeys.get(0));
+        } else if (!missingKeys.isEmpty()) {
+            Flux.fromIterable(missingKeys)
+                .flatMap(key -> Mono.fromRunnable(() -> requestDecision(key))
+                    .subscribeOn(Schedulers.boundedElastic()), MAX_CONCURRENT_REQUESTS)
+                .blockLast();
+        }
+    }
+
+    private boolean requestDecision(DecisionKey key) {
+        Boolean decision = accountManagementService.getIsAuthorised(key.userId(), key.listType(),
+                                                                     key.sensitivity());
+        if (decision == null) {
+            return false;
+        }
+        cache.put(key, decision);
+        return decision;
+    }
+
+    private record DecisionKey(UUID userId, ListType listType, Sensitivity sensitivity) {
+    }
+}
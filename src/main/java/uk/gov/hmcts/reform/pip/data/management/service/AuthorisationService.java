@@ -4,12 +4,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.PayloadValidationException;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationRetrievalService;
-import uk.gov.hmcts.reform.pip.model.account.PiUser;
 import uk.gov.hmcts.reform.pip.model.account.Roles;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 
 import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
@@ -17,14 +19,18 @@ import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 @Service("authorisationService")
 @Slf4j
 public class AuthorisationService {
+    public static final int MAX_PUBLICATIONS_DATA_REQUEST = 100;
 
-    private final AccountManagementService accountManagementService;
+    private final UserRoleCache userRoleCache;
     private final PublicationRetrievalService publicationRetrievalService;
+    private final AuthorisationDecisionCache authorisationDecisionCache;
 
-    public AuthorisationService(AccountManagementService accountManagementService,
-                                PublicationRetrievalService publicationRetrievalService) {
-        this.accountManagementService = accountManagementService;
+    public AuthorisationService(UserRoleCache userRoleCache,
+                                PublicationRetrievalService publicationRetrievalService,
+                                AuthorisationDecisionCache authorisationDecisionCache) {
+        this.userRoleCache = userRoleCache;
         this.publicationRetrievalService = publicationRetrievalService;
+        this.authorisationDecisionCache = authorisationDecisionCache;
     }
 
     public boolean userCanUploadPublication(UUID requesterId, String provenance) {
@@ -111,6 +117,37 @@ public class AuthorisationService {
         return true;
     }
 
+    public boolean userCanAccessPublicationsData(UUID requesterId, Collection<UUID> artefactIds,
+                                                 boolean systemOrAdmin) {
+        if (artefactIds.size() > MAX_PUBLICATIONS_DATA_REQUEST) {
+            throw new PayloadValidationException(String.format(
+                "Publication data can be requested for a maximum of %s artefacts", MAX_PUBLICATIONS_DATA_REQUEST
+            ));
+        }
+
+        if (!hasOAuthAdminRole()) {
+            log.error(writeLog("API token permission missing when accessing publication data"));
+            return false;
+        }
+
+        Collection<Artefact> artefacts = publicationRetrievalService.getMetadataByArtefactIds(artefactIds);
+        if (!systemOrAdmin && requesterId != null) {
+            authorisationDecisionCache.preload(requesterId, artefacts);
+        }
+
+        Optional<Artefact> unauthorisedArtefact = artefacts.stream()
+            .filter(artefact -> !isAuthorised(artefact, requesterId, systemOrAdmin))
+            .findFirst();
+        if (unauthorisedArtefact.isPresent()) {
+            log.error(writeLog(
+                String.format("User with ID %s is not authorised to access publication data with ID %s",
+                              requesterId, unauthorisedArtefact.get().getArtefactId())
+            ));
+            return false;
+        }
+        return true;
+    }
+
     public boolean  userCanAccessListSearchConfig(UUID requesterId) {
         if (hasOAuthAdminRole() && isUserSystemAdmin(requesterId)) {
             return true;
@@ -214,36 +251,25 @@ public class AuthorisationService {
     }
 
     private boolean isUserAdmin(UUID requesterId) {
-        if (requesterId != null) {
-            PiUser user = accountManagementService.getUserById(requesterId);
-            if (user != null && user.getRoles() != null) {
-                return Roles.ALL_ADMINS.contains(user.getRoles());
-            }
-        }
-
-        return false;
+        return getUserRoles(requesterId)
+            .map(Roles.ALL_ADMINS::contains)
+            .orElse(false);
     }
 
     private boolean isUserSystemAdmin(UUID requesterId) {
-        if (requesterId != null) {
-            PiUser user = accountManagementService.getUserById(requesterId);
-            if (user != null && user.getRoles() != null) {
-                return Roles.SYSTEM_ADMIN.equals(user.getRoles());
-            }
-        }
-
-        return false;
+        return getUserRoles(requesterId)
+            .map(Roles.SYSTEM_ADMIN::equals)
+            .orElse(false);
     }
 
     private boolean isVerifiedUser(UUID requesterId) {
-        if (requesterId != null) {
-            PiUser user = accountManagementService.getUserById(requesterId);
-            if (user != null && user.getRoles() != null) {
-                return Roles.VERIFIED.equals(user.getRoles());
-            }
-        }
+        return getUserRoles(requesterId)
+            .map(Roles.VERIFIED::equals)
+            .orElse(false);
+    }
 
-        return false;
+    private Optional<Roles> getUserRoles(UUID requesterId) {
+        return requesterId == null ? Optional.empty() : userRoleCache.getRoles(requesterId);
     }
 
     private boolean hasOAuthPublisherRole() {
@@ -267,6 +293,6 @@ public class AuthorisationService {
             return true;
         }
         return userId != null
-            && accountManagementService.getIsAuthorised(userId, artefact.getListType(), artefact.getSensitivity());
+            && authorisationDecisionCache.isAuthorised(userId, artefact.getListType(), artefact.getSensitivity());
     }
 }
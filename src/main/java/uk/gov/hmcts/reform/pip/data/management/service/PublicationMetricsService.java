@@ -0,0 +1,153 @@
+package uk.gov.hmcts.reform.pip.data.management.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import java.util.Set;
+
+/**
+ * Service which records Micrometer metrics for each stage of the publication lifecycle. All metrics are tagged by
+ * list type, provenance and language so they can be broken down per list type on the actuator.
+ *
+ * <p>The provenance is taken from a request header, so only the known provenances are used as tag values, with any
+ * other provenance tagged as {@code OTHER}. This keeps the number of series of the histogram metrics bounded.</p>
+ */
+@Service
+public class PublicationMetricsService {
+    public static final String STAGE_DURATION_METRIC = "publication.stage.duration";
+    public static final String STAGE_SIZE_METRIC = "publication.stage.size";
+    public static final String CREATION_RETRY_METRIC = "publication.creation.retries";
+    public static final String PDF_SIZE_FALLBACK_METRIC = "publication.pdf.size.fallbacks";
+
+    public static final String HEADER_VALIDATION = "header_validation";
+    public static final String SCHEMA_VALIDATION = "schema_validation";
+    public static final String SEARCH_EXTRACTION = "search_extraction";
+    public static final String SEARCH_STORE = "search_store";
+    public static final String BLOB_UPLOAD = "blob_upload";
+    public static final String DB_UPSERT = "db_upsert";
+    public static final String HTML_TEMPLATING = "html_templating";
+    public static final String PDF_RENDER = "pdf_render";
+    public static final String EXCEL_RENDER = "excel_render";
+    public static final String NOTIFICATION_DISPATCH = "notification_dispatch";
+
+    private static final String STAGE_TAG = "stage";
+    private static final String LIST_TYPE_TAG = "list_type";
+    private static final String PROVENANCE_TAG = "provenance";
+    private static final String LANGUAGE_TAG = "language";
+    private static final String UNKNOWN_TAG_VALUE = "UNKNOWN";
+    private static final String OTHER_PROVENANCE_TAG_VALUE = "OTHER";
+    private static final Set<String> KNOWN_PROVENANCES = Set.of("MANUAL_UPLOAD", "SNL", "CP_CATH", "PDDA");
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public PublicationMetricsService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Start timing a publication stage.
+     *
+     * @return The timer sample to pass to one of the stop methods once the stage has completed.
+     */
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Stop timing a publication stage for an artefact.
+     *
+     * @param sample The sample returned when the timer was started.
+     * @param stage The publication stage being timed.
+     * @param artefact The artefact the stage was run for.
+     */
+    public void stopTimer(Timer.Sample sample, String stage, Artefact artefact) {
+        stopTimer(sample, stage, artefact.getListType(), artefact.getProvenance(), artefact.getLanguage());
+    }
+
+    /**
+     * Stop timing a publication stage.
+     *
+     * @param sample The sample returned when the timer was started.
+     * @param stage The publication stage being timed.
+     * @param listType The list type of the publication.
+     * @param provenance The provenance of the publication.
+     * @param language The language of the publication.
+     */
+    public void stopTimer(Timer.Sample sample, String stage, ListType listType, String provenance,
+                          Language language) {
+        sample.stop(Timer.builder(STAGE_DURATION_METRIC)
+                        .description("Time taken by each stage of the publication lifecycle")
+                        .tags(buildTags(listType, provenance, language).and(STAGE_TAG, stage))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Record the size of the data handled by a publication stage, e.g. the payload uploaded or the file rendered.
+     *
+     * @param stage The publication stage.
+     * @param artefact The artefact the stage was run for.
+     * @param language The language of the data handled.
+     * @param sizeInBytes The size of the data in bytes.
+     */
+    public void recordSize(String stage, Artefact artefact, Language language, long sizeInBytes) {
+        DistributionSummary.builder(STAGE_SIZE_METRIC)
+            .description("Size of the data handled by each stage of the publication lifecycle")
+            .baseUnit("bytes")
+            .tags(buildTags(artefact.getListType(), artefact.getProvenance(), language).and(STAGE_TAG, stage))
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(sizeInBytes);
+    }
+
+    /**
+     * Count a retry of the publication creation.
+     *
+     * @param artefact The artefact being created.
+     */
+    public void incrementCreationRetry(Artefact artefact) {
+        Counter.builder(CREATION_RETRY_METRIC)
+            .description("Number of retries when creating a publication")
+            .tags(buildTags(artefact.getListType(), artefact.getProvenance(), artefact.getLanguage()))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Count a PDF being regenerated without accessibility features because it was over the size limit.
+     *
+     * @param artefact The artefact the PDF was generated for.
+     * @param language The language of the PDF.
+     */
+    public void incrementPdfSizeFallback(Artefact artefact, Language language) {
+        Counter.builder(PDF_SIZE_FALLBACK_METRIC)
+            .description("Number of PDFs regenerated without accessibility features due to the size limit")
+            .tags(buildTags(artefact.getListType(), artefact.getProvenance(), language))
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private Tags buildTags(ListType listType, String provenance, Language language) {
+        return Tags.of(
+            LIST_TYPE_TAG, listType == null ? UNKNOWN_TAG_VALUE : listType.name(),
+            PROVENANCE_TAG, provenanceTagValue(provenance),
+            LANGUAGE_TAG, language == null ? UNKNOWN_TAG_VALUE : language.name()
+        );
+    }
+
+    private String provenanceTagValue(String provenance) {
+        if (provenance == null) {
+            return UNKNOWN_TAG_VALUE;
+        }
+        return KNOWN_PROVENANCES.contains(provenance) ? provenance : OTHER_PROVENANCE_TAG_VALUE;
+    }
+}
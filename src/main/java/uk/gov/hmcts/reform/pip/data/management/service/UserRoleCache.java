@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.pip.data.management.service;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.pip.model.account.PiUser;
+import uk.gov.hmcts.reform.pip.model.account.Roles;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache of the roles of the users held in Account Management, used by the pre-authorisation checks.
+ *
+ * <p>Concurrent lookups for the same user share a single request to Account Management. Failed lookups are also
+ * cached, for a shorter time-to-live, so that requests do not keep calling Account Management while it is
+ * unavailable.</p>
+ */
+@Component
+public class UserRoleCache {
+    public static final String CACHE_NAME = "user.role.cache";
+
+    private final AccountManagementService accountManagementService;
+    private final LoadingCache<UUID, RoleLookup> cache;
+    private final long failureTtlNanos;
+
+    @Autowired
+    public UserRoleCache(AccountManagementService accountManagementService,
+                         MeterRegistry meterRegistry,
+                         @Value("${user-role-cache.ttl-seconds}") long ttlSeconds,
+                         @Value("${user-role-cache.failure-ttl-seconds}") long failureTtlSeconds,
+                         @Value("${user-role-cache.max-size}") long maxSize) {
+        this.accountManagementService = accountManagementService;
+        this.failureTtlNanos = Duration.ofSeconds(failureTtlSeconds).toNanos();
+        this.cache = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maxSize)
+            .recordStats()
+            .build(CacheLoader.from(this::lookupRoles));
+
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the role of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The role of the user, or empty if the user could not be found.
+     */
+    public Optional<Roles> getRoles(UUID userId) {
+        RoleLookup lookup = cache.getUnchecked(userId);
+        if (lookup.roles() == null && System.nanoTime() - lookup.lookupTime() >= failureTtlNanos) {
+            // Only remove the failed lookup if another thread has not already replaced it
+            cache.asMap().remove(userId, lookup);
+            lookup = cache.getUnchecked(userId);
+        }
+        return Optional.ofNullable(lookup.roles());
+    }
+
+    private RoleLookup lookupRoles(UUID userId) {
+        PiUser user = accountManagementService.getUserById(userId);
+        return new RoleLookup(user == null ? null : user.getRoles(), System.nanoTime());
+    }
+
+    private record RoleLookup(Roles roles, long lookupTime) {
+    }
+}
@@ -6,6 +6,7 @@ import com.networknt.schema.InputFormat;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.SpecificationVersion;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,10 +43,13 @@ public class ValidationService {
 
     private final TelemetryClient telemetry;
 
+    private final PublicationMetricsService publicationMetricsService;
+
     Map<ListType, Schema> validationSchemas = new ConcurrentHashMap<>();
 
     @Autowired
-    public ValidationService(ValidationConfiguration validationConfiguration, TelemetryClient telemetry) {
+    public ValidationService(ValidationConfiguration validationConfiguration, TelemetryClient telemetry,
+                             PublicationMetricsService publicationMetricsService) {
         SchemaRegistry schemaRegistry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_7);
 
         try (InputStream masterFile = this.getClass().getClassLoader()
@@ -69,6 +73,7 @@ public class ValidationService {
         });
 
         this.telemetry = telemetry;
+        this.publicationMetricsService = publicationMetricsService;
     }
 
     /**
@@ -80,11 +85,26 @@ public class ValidationService {
      *      are created, ensure the logic affects the headers map within this class.
      */
     public HeaderGroup validateHeaders(HeaderGroup headers) {
-        handleStringValidation(headers);
-        handleDateValidation(headers);
-        handleDefaultSensitivity(headers);
-        handleListValidation(headers);
-        handleListTypeDeprecation(headers);
+        Timer.Sample sample = publicationMetricsService.startTimer();
+        boolean valid = false;
+        try {
+            handleStringValidation(headers);
+            handleDateValidation(headers);
+            handleDefaultSensitivity(headers);
+            handleListValidation(headers);
+            handleListTypeDeprecation(headers);
+            valid = true;
+        } finally {
+            // Rejected headers are not used as tags, as they have not been validated
+            if (valid) {
+                publicationMetricsService.stopTimer(sample, PublicationMetricsService.HEADER_VALIDATION,
+                                                    headers.getListType(), headers.getProvenance(),
+                                                    headers.getLanguage());
+            } else {
+                publicationMetricsService.stopTimer(sample, PublicationMetricsService.HEADER_VALIDATION,
+                                                    null, null, null);
+            }
+        }
 
         return headers;
     }
@@ -183,6 +203,7 @@ public class ValidationService {
     public void validateBody(String jsonPayload, HeaderGroup headers, boolean validateMasterSchema) {
         Map<String, String> propertiesMap = headers.getAppInsightsHeaderMap();
         Set<String> errors = new HashSet<>();
+        Timer.Sample sample = publicationMetricsService.startTimer();
         try {
             if (validateMasterSchema) {
                 masterSchema.validate(jsonPayload, InputFormat.JSON).forEach(vm -> errors.add(vm.toString()));
@@ -199,6 +220,10 @@ public class ValidationService {
             propertiesMap.put("ERROR", exception.getMessage());
             telemetry.trackTrace("Unable to parse JSON payload", SeverityLevel.Error, propertiesMap);
             throw new PayloadValidationException("Error while parsing JSON Payload");
+        } finally {
+            publicationMetricsService.stopTimer(sample, PublicationMetricsService.SCHEMA_VALIDATION,
+                                                headers.getListType(), headers.getProvenance(),
+                                                headers.getLanguage());
         }
 
         if (!errors.isEmpty()) {
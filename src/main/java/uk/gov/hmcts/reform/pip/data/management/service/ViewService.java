@@ -1,34 +1,94 @@
 package uk.gov.hmcts.reform.pip.data.management.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 
 /**
  * Service class which handles dealing with views.
+ *
+ * <p>Refresh requests are coalesced, and the views refreshed at most once per debounce window. The views are
+ * refreshed concurrently so readers are not blocked, and an advisory lock ensures only one instance refreshes them
+ * at a time.</p>
  */
 @Service
 @Slf4j
 public class ViewService {
+    public static final String REFRESH_DURATION_METRIC = "view.refresh.duration";
+
     private final ArtefactRepository artefactRepository;
     private final LocationRepository locationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer refreshTimer;
+    private final AtomicBoolean refreshRequested = new AtomicBoolean(false);
 
     @Autowired
-    public ViewService(ArtefactRepository artefactRepository, LocationRepository locationRepository) {
+    public ViewService(ArtefactRepository artefactRepository, LocationRepository locationRepository,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
         this.artefactRepository = artefactRepository;
         this.locationRepository = locationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.refreshTimer = Timer.builder(REFRESH_DURATION_METRIC)
+            .description("Time taken to refresh the artefact and location materialised views")
+            .register(meterRegistry);
     }
 
     /**
-     * Service method which refreshes the view.
+     * Service method which requests a refresh of the view. The view is refreshed at the end of the current debounce
+     * window, together with any other requests received during it.
      */
     public void refreshView() {
-        log.info(writeLog("Refreshing Artefact and Location view"));
-        artefactRepository.refreshArtefactView();
-        locationRepository.refreshLocationView();
+        refreshRequested.set(true);
+    }
+
+    /**
+     * Refresh the view if a refresh has been requested since the last one. If another instance is already refreshing
+     * the view, or the refresh fails, the request is kept and retried in the next debounce window.
+     */
+    @Scheduled(fixedDelayString = "${view-refresh.debounce-seconds}", timeUnit = TimeUnit.SECONDS)
+    public void refreshRequestedView() {
+        if (!refreshRequested.getAndSet(false)) {
+            return;
+        }
+
+        boolean refreshed = false;
+        try {
+            refreshed = refreshViewIfUnlocked();
+        } catch (DataAccessException | TransactionException e) {
+            log.error(writeLog("Failed to refresh Artefact and Location view - " + e.getMessage()));
+        }
+
+        if (!refreshed) {
+            refreshRequested.set(true);
+        }
+    }
+
+    private boolean refreshViewIfUnlocked() {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!artefactRepository.tryLockViewRefresh()) {
+                log.info(writeLog("Artefact and Location view is being refreshed by another instance"));
+                return false;
+            }
+
+            log.info(writeLog("Refreshing Artefact and Location view"));
+            refreshTimer.record(() -> {
+                artefactRepository.refreshArtefactView();
+                locationRepository.refreshLocationView();
+            });
+            return true;
+        }));
     }
 }
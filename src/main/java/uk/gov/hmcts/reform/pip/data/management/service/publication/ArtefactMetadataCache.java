@@ -0,0 +1,184 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache of artefact metadata, so the authorisation checks and the services handling a request can share a single
+ * metadata lookup.
+ *
+ * <p>Artefacts are memoised for the lifetime of the current HTTP request, and held in a shared cache for a short
+ * time-to-live. Entries are evicted from the shared cache when an artefact is superseded, archived or deleted, and
+ * again once the transaction making the change has committed. The shared cache is local to each pod, so other pods
+ * may serve the previous metadata until their entry expires.</p>
+ *
+ * <p>The shared cache holds detached copies of the artefacts, with unmodifiable search metadata, and each caller is
+ * given its own copy, so changes made by one caller are never seen by another thread.</p>
+ */
+@Component
+public class ArtefactMetadataCache {
+    public static final String CACHE_NAME = "publication.metadata.cache";
+    private static final String REQUEST_ATTRIBUTE = ArtefactMetadataCache.class.getName();
+
+    private final ArtefactRepository artefactRepository;
+    private final Cache<UUID, Artefact> cache;
+
+    @Autowired
+    public ArtefactMetadataCache(ArtefactRepository artefactRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${artefact-metadata-cache.ttl-seconds}") long ttlSeconds,
+                                 @Value("${artefact-metadata-cache.max-size}") long maxSize) {
+        this.artefactRepository = artefactRepository;
+        this.cache = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the metadata for an artefact, regardless of its display dates.
+     *
+     * @param artefactId The ID of the artefact.
+     * @return The artefact if it exists.
+     */
+    public Optional<Artefact> getArtefact(UUID artefactId) {
+        Map<UUID, Artefact> requestArtefacts = getRequestArtefacts();
+        if (requestArtefacts != null && requestArtefacts.containsKey(artefactId)) {
+            return Optional.of(requestArtefacts.get(artefactId));
+        }
+
+        Artefact artefact = getCachedArtefact(artefactId);
+        if (artefact == null) {
+            artefact = artefactRepository.findArtefactByArtefactId(artefactId.toString()).orElse(null);
+            if (artefact == null) {
+                return Optional.empty();
+            }
+            cache.put(artefactId, detachedCopy(artefact));
+        }
+
+        if (requestArtefacts != null) {
+            requestArtefacts.put(artefactId, artefact);
+        }
+        return Optional.of(artefact);
+    }
+
+    /**
+     * Get the metadata for multiple artefacts, regardless of their display dates. Artefacts which are not already
+     * cached are retrieved using a single lookup.
+     *
+     * @param artefactIds The IDs of the artefacts.
+     * @return A map of artefact ID to the artefact, for the artefacts which exist.
+     */
+    public Map<UUID, Artefact> getArtefacts(Collection<UUID> artefactIds) {
+        Map<UUID, Artefact> requestArtefacts = getRequestArtefacts();
+        Map<UUID, Artefact> artefacts = new HashMap<>();
+        List<UUID> missingArtefactIds = new ArrayList<>();
+
+        for (UUID artefactId : artefactIds) {
+            Artefact artefact = requestArtefacts == null ? null : requestArtefacts.get(artefactId);
+            if (artefact == null) {
+                artefact = getCachedArtefact(artefactId);
+            }
+            if (artefact == null) {
+                missingArtefactIds.add(artefactId);
+            } else {
+                artefacts.put(artefactId, artefact);
+            }
+        }
+
+        if (!missingArtefactIds.isEmpty()) {
+            artefactRepository.findAllByArtefactIdIn(missingArtefactIds).forEach(artefact -> {
+                cache.put(artefact.getArtefactId(), detachedCopy(artefact));
+                artefacts.put(artefact.getArtefactId(), artefact);
+            });
+        }
+
+        if (requestArtefacts != null) {
+            requestArtefacts.putAll(artefacts);
+        }
+        return artefacts;
+    }
+
+    /**
+     * Evict an artefact which has been superseded, archived or deleted. If called within a transaction, the artefact
+     * is evicted again after the transaction commits, so metadata read by other threads before the commit is not
+     * left in the cache.
+     *
+     * @param artefactId The ID of the artefact.
+     */
+    public void evict(UUID artefactId) {
+        cache.invalidate(artefactId);
+
+        Map<UUID, Artefact> requestArtefacts = getRequestArtefacts();
+        if (requestArtefacts != null) {
+            requestArtefacts.remove(artefactId);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(artefactId);
+                }
+            });
+        }
+    }
+
+    private Artefact getCachedArtefact(UUID artefactId) {
+        Artefact artefact = cache.getIfPresent(artefactId);
+        return artefact == null ? null : artefact.toBuilder().build();
+    }
+
+    private static Artefact detachedCopy(Artefact artefact) {
+        Map<String, List<Object>> search = null;
+        if (artefact.getSearch() != null) {
+            search = new HashMap<>();
+            for (Map.Entry<String, List<Object>> entry : artefact.getSearch().entrySet()) {
+                search.put(entry.getKey(), entry.getValue() == null
+                    ? null : Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+            }
+            search = Collections.unmodifiableMap(search);
+        }
+        return artefact.toBuilder().search(search).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Artefact> getRequestArtefacts() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Map<UUID, Artefact> requestArtefacts = (Map<UUID, Artefact>) requestAttributes
+            .getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (requestArtefacts == null) {
+            requestArtefacts = new HashMap<>();
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE, requestArtefacts, RequestAttributes.SCOPE_REQUEST);
+        }
+        return requestArtefacts;
+    }
+}
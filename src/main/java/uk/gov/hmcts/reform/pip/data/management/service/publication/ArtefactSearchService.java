@@ -25,13 +25,16 @@ public class ArtefactSearchService {
     private final ArtefactSearchRepository artefactSearchRepository;
     private final ListSearchConfigRepository listSearchConfigRepository;
     private final ObjectMapper objectMapper;
+    private final CaseSuggestionIndex caseSuggestionIndex;
 
     public ArtefactSearchService(ArtefactSearchRepository artefactSearchRepository,
                                  ListSearchConfigRepository listSearchConfigRepository,
-                                 ObjectMapper objectMapper) {
+                                 ObjectMapper objectMapper,
+                                 CaseSuggestionIndex caseSuggestionIndex) {
         this.artefactSearchRepository = artefactSearchRepository;
         this.listSearchConfigRepository = listSearchConfigRepository;
         this.objectMapper = objectMapper;
+        this.caseSuggestionIndex = caseSuggestionIndex;
     }
 
     /**
@@ -62,6 +65,7 @@ public class ArtefactSearchService {
             );
         }
         artefactSearchRepository.deleteByArtefactId(artefactId);
+        caseSuggestionIndex.remove(artefactId);
     }
 
     /**
@@ -85,6 +89,7 @@ public class ArtefactSearchService {
         if (!artefactRows.isEmpty()) {
             artefactSearchRepository.saveAll(artefactRows);
         }
+        caseSuggestionIndex.update(artefact, artefactRows);
     }
 
 
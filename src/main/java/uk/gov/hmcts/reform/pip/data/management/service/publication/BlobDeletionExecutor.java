@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
+
+/**
+ * Runs the blob deletions of many publications in parallel. The number of deletions in flight is bounded, so bulk
+ * removals do not flood the blob store with requests.
+ */
+@Component
+@Slf4j
+public class BlobDeletionExecutor {
+    private final ExecutorService executorService;
+
+    @Autowired
+    public BlobDeletionExecutor(@Value("${blob-deletion.parallelism}") int parallelism) {
+        this.executorService = Executors.newFixedThreadPool(
+            parallelism, Thread.ofPlatform().name("blob-deletion-", 0).daemon().factory()
+        );
+    }
+
+    /**
+     * Run the blob deletion of each artefact in parallel, and wait for them all to complete. A failed deletion does
+     * not stop the others.
+     *
+     * @param artefacts The artefacts to delete the blobs of.
+     * @param deletion The blob deletion to run for each artefact.
+     * @return The failure message of each artefact whose deletion failed, keyed by artefact ID.
+     */
+    public Map<UUID, String> deleteAll(Collection<Artefact> artefacts, Consumer<Artefact> deletion) {
+        Map<UUID, String> failures = new ConcurrentHashMap<>();
+        CompletableFuture.allOf(
+            artefacts.stream()
+                .map(artefact -> CompletableFuture.runAsync(() -> delete(artefact, deletion, failures),
+                                                            executorService))
+                .toArray(CompletableFuture<?>[]::new)
+        ).join();
+        return failures;
+    }
+
+    private static void delete(Artefact artefact, Consumer<Artefact> deletion, Map<UUID, String> failures) {
+        try {
+            deletion.accept(artefact);
+        } catch (RuntimeException e) {
+            String message = Objects.toString(e.getMessage(), e.getClass().getSimpleName());
+            log.error(writeLog(String.format("Failed to delete blobs for artefact %s - %s",
+                                             artefact.getArtefactId(), message)));
+            failures.put(artefact.getArtefactId(), message);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
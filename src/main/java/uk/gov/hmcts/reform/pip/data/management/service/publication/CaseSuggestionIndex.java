@@ -0,0 +1,239 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchIndexRow;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSearch;
+import uk.gov.hmcts.reform.pip.model.publication.ArtefactCaseInfo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
+
+/**
+ * In-memory prefix index of the case numbers and case names held in the artefact_search table, used to suggest cases
+ * as the user types without querying the database.
+ *
+ * <p>Case numbers are matched from their start, and case names from the start of any word. Artefacts stay in the
+ * index until they expire, but are only suggested while they are displayed. The index is updated as search rows are
+ * stored and deleted by this instance, and rebuilt from the database at startup and periodically afterwards, so
+ * changes made by other instances are also picked up.</p>
+ */
+@Slf4j
+@Component
+public class CaseSuggestionIndex {
+    public static final String INDEX_SIZE_METRIC = "case.suggestion.index.size";
+
+    private final ArtefactSearchRepository artefactSearchRepository;
+    private final int maxResults;
+
+    private volatile Index index = new Index();
+
+    /**
+     * Updates made while the index is being rebuilt, which are applied to the rebuilt index before it replaces the
+     * current one. A null value records a removal. Only set while a rebuild is in progress.
+     */
+    private Map<UUID, IndexedArtefact> pendingUpdates;
+
+    @Autowired
+    public CaseSuggestionIndex(ArtefactSearchRepository artefactSearchRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${case-suggestion-index.max-results}") int maxResults) {
+        this.artefactSearchRepository = artefactSearchRepository;
+        this.maxResults = maxResults;
+
+        meterRegistry.gauge(INDEX_SIZE_METRIC, this, caseSuggestionIndex -> caseSuggestionIndex.index.size());
+    }
+
+    /**
+     * Rebuild the index from the search rows of all artefacts which have not expired.
+     */
+    @Scheduled(fixedDelayString = "${case-suggestion-index.refresh-interval-seconds}", timeUnit = TimeUnit.SECONDS)
+    public void rebuild() {
+        synchronized (this) {
+            pendingUpdates = new HashMap<>();
+        }
+
+        try {
+            Index rebuiltIndex = new Index();
+            artefactSearchRepository.findAllNotExpired(LocalDateTime.now()).stream()
+                .collect(Collectors.groupingBy(ArtefactSearchIndexRow::getArtefactId))
+                .forEach((artefactId, rows) -> rebuiltIndex.put(artefactId, IndexedArtefact.fromRows(rows)));
+
+            synchronized (this) {
+                pendingUpdates.forEach(rebuiltIndex::put);
+                index = rebuiltIndex;
+            }
+        } catch (DataAccessException e) {
+            log.error(writeLog(String.format("Failed to rebuild the case suggestion index: %s", e.getMessage())));
+        } finally {
+            synchronized (this) {
+                pendingUpdates = null;
+            }
+        }
+    }
+
+    /**
+     * Replace the cases indexed for an artefact with its newly stored search rows.
+     *
+     * @param artefact The artefact the search rows were stored for.
+     * @param searchRows The search rows stored for the artefact.
+     */
+    public synchronized void update(Artefact artefact, List<ArtefactSearch> searchRows) {
+        Set<CaseSuggestion> suggestions = searchRows.stream()
+            .map(row -> new CaseSuggestion(row.getCaseNumber(), row.getCaseName()))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        apply(artefact.getArtefactId(), suggestions.isEmpty()
+            ? null
+            : new IndexedArtefact(artefact.getDisplayFrom(), artefact.getDisplayTo(), suggestions));
+    }
+
+    /**
+     * Remove the cases indexed for an artefact, once its search rows have been deleted.
+     *
+     * @param artefactId The ID of the artefact.
+     */
+    public synchronized void remove(UUID artefactId) {
+        apply(artefactId, null);
+    }
+
+    /**
+     * Suggest the cases of displayed artefacts whose case number, or any word of whose case name, starts with the
+     * given text. Matching ignores case and repeated whitespace.
+     *
+     * @param query The text entered so far.
+     * @return The distinct case number and case name pairs matching the text, up to the configured maximum.
+     */
+    public List<ArtefactCaseInfo> suggest(String query) {
+        String prefix = normalise(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        Index currentIndex = index;
+        LocalDateTime now = LocalDateTime.now();
+        Set<CaseSuggestion> suggestions = new LinkedHashSet<>();
+
+        for (Set<Posting> postings : currentIndex.terms.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            for (Posting posting : postings) {
+                IndexedArtefact artefact = currentIndex.artefacts.get(posting.artefactId());
+                if (artefact != null && artefact.isDisplayed(now) && suggestions.add(posting.suggestion())
+                    && suggestions.size() >= maxResults) {
+                    return toCaseInfo(suggestions);
+                }
+            }
+        }
+        return toCaseInfo(suggestions);
+    }
+
+    private void apply(UUID artefactId, IndexedArtefact artefact) {
+        index.put(artefactId, artefact);
+        if (pendingUpdates != null) {
+            pendingUpdates.put(artefactId, artefact);
+        }
+    }
+
+    private static List<ArtefactCaseInfo> toCaseInfo(Set<CaseSuggestion> suggestions) {
+        return suggestions.stream()
+            .map(suggestion -> new ArtefactCaseInfo(suggestion.caseNumber(), suggestion.caseName()))
+            .toList();
+    }
+
+    private static String normalise(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The terms a case can be found by: its case number, and its case name from the start of each word.
+     */
+    private static List<String> termsFor(CaseSuggestion suggestion) {
+        List<String> terms = new ArrayList<>();
+        String caseNumber = normalise(suggestion.caseNumber());
+        if (!caseNumber.isEmpty()) {
+            terms.add(caseNumber);
+        }
+
+        String caseName = normalise(suggestion.caseName());
+        for (int i = 0; i < caseName.length(); i++) {
+            if (i == 0 || caseName.charAt(i - 1) == ' ') {
+                terms.add(caseName.substring(i));
+            }
+        }
+        return terms;
+    }
+
+    private static final class Index {
+        private final Map<UUID, IndexedArtefact> artefacts = new ConcurrentHashMap<>();
+        private final ConcurrentNavigableMap<String, Set<Posting>> terms = new ConcurrentSkipListMap<>();
+
+        /**
+         * Replace the cases indexed for an artefact. The artefact is added before its terms and removed before
+         * them, so concurrent suggestions never see terms for an artefact which is not indexed.
+         */
+        private void put(UUID artefactId, IndexedArtefact artefact) {
+            IndexedArtefact existing = artefacts.remove(artefactId);
+            if (existing != null) {
+                existing.suggestions().forEach(suggestion -> termsFor(suggestion).forEach(
+                    term -> terms.computeIfPresent(term, (key, postings) -> {
+                        postings.remove(new Posting(artefactId, suggestion));
+                        return postings.isEmpty() ? null : postings;
+                    })
+                ));
+            }
+
+            if (artefact != null) {
+                artefacts.put(artefactId, artefact);
+                artefact.suggestions().forEach(suggestion -> termsFor(suggestion).forEach(
+                    term -> terms.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet())
+                        .add(new Posting(artefactId, suggestion))
+                ));
+            }
+        }
+
+        private int size() {
+            return artefacts.size();
+        }
+    }
+
+    private record CaseSuggestion(String caseNumber, String caseName) {
+    }
+
+    private record Posting(UUID artefactId, CaseSuggestion suggestion) {
+    }
+
+    private record IndexedArtefact(LocalDateTime displayFrom, LocalDateTime displayTo,
+                                   Set<CaseSuggestion> suggestions) {
+        private static IndexedArtefact fromRows(List<ArtefactSearchIndexRow> rows) {
+            Set<CaseSuggestion> suggestions = rows.stream()
+                .map(row -> new CaseSuggestion(row.getCaseNumber(), row.getCaseName()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+            return new IndexedArtefact(rows.get(0).getDisplayFrom(), rows.get(0).getDisplayTo(), suggestions);
+        }
+
+        private boolean isDisplayed(LocalDateTime now) {
+            return displayFrom != null && displayFrom.isBefore(now)
+                && (displayTo == null || displayTo.isAfter(now));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.pip.data.management.database.LocationArtefactCountRepository;
+import uk.gov.hmcts.reform.pip.data.management.helpers.NoMatchArtefactHelper;
+import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefact;
+import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefactCount;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
+
+/**
+ * Maintains the number of displayed artefacts per location, so they can be reported without scanning the artefacts.
+ * No match artefacts are counted together under a single entry.
+ *
+ * <p>Counts are updated as artefacts are created, superseded, archived and deleted. Artefacts also stop being
+ * displayed when their display window ends, which no change records, so the counts are periodically reconciled
+ * against the artefacts.</p>
+ */
+@Slf4j
+@Service
+public class LocationArtefactCountService {
+    public static final String NO_MATCH_LOCATION_ID = LocationArtefactCountRepository.NO_MATCH_LOCATION_ID;
+
+    private final LocationArtefactCountRepository locationArtefactCountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public LocationArtefactCountService(LocationArtefactCountRepository locationArtefactCountRepository,
+                                        TransactionTemplate transactionTemplate) {
+        this.locationArtefactCountRepository = locationArtefactCountRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Count an artefact which has been stored, if it is displayed.
+     *
+     * @param artefact The artefact as stored.
+     */
+    public void recordAdded(Artefact artefact) {
+        addToCount(artefact, 1);
+    }
+
+    /**
+     * Stop counting an artefact which is being archived, deleted or superseded, if it is displayed.
+     *
+     * @param artefact The artefact as it was stored.
+     */
+    public void recordRemoved(Artefact artefact) {
+        addToCount(artefact, -1);
+    }
+
+    /**
+     * Recalculate the counts of all locations from the displayed artefacts. If another instance is already
+     * reconciling the counts, this run is skipped.
+     *
+     * <p>The counts are recalculated and written in a single statement, so a change counted while they are being
+     * reconciled is only missed if it commits during that statement, and is corrected by the next reconcile.</p>
+     */
+    @Scheduled(fixedDelayString = "${location-artefact-count.reconcile-interval-seconds}", timeUnit = TimeUnit.SECONDS)
+    public void reconcile() {
+        transactionTemplate.execute(status -> {
+            if (!locationArtefactCountRepository.tryLockReconcile()) {
+                log.info(writeLog("Artefact counts are being reconciled by another instance"));
+                return null;
+            }
+
+            LocalDateTime currentDate = LocalDateTime.now();
+            int reconciled = locationArtefactCountRepository.reconcileCounts(currentDate);
+            int deleted = locationArtefactCountRepository.deleteUndisplayedCounts(currentDate);
+
+            log.info(writeLog(String.format("Artefact counts reconciled for %s locations, and removed for %s",
+                                            reconciled, deleted)));
+            return null;
+        });
+    }
+
+    /**
+     * Get the number of displayed artefacts for each location with any, followed by the number of no match
+     * artefacts.
+     *
+     * @return The artefact counts.
+     */
+    public List<LocationArtefact> getArtefactCounts() {
+        List<LocationArtefact> artefactsPerLocations = new ArrayList<>();
+        int noMatchCount = 0;
+        for (LocationArtefactCount count : locationArtefactCountRepository.findAll()) {
+            if (NO_MATCH_LOCATION_ID.equals(count.getLocationId())) {
+                noMatchCount = Math.max(count.getArtefactCount(), 0);
+            } else if (count.getArtefactCount() > 0) {
+                artefactsPerLocations.add(new LocationArtefact(count.getLocationId(), count.getArtefactCount()));
+            }
+        }
+        artefactsPerLocations.add(new LocationArtefact(NO_MATCH_LOCATION_ID, noMatchCount));
+        return artefactsPerLocations;
+    }
+
+    private void addToCount(Artefact artefact, int amount) {
+        String locationId = artefact.getLocationId();
+        if (locationId == null || !isDisplayed(artefact)) {
+            return;
+        }
+
+        if (NoMatchArtefactHelper.isNoMatchLocationId(locationId)) {
+            locationArtefactCountRepository.addToCount(NO_MATCH_LOCATION_ID, amount);
+        } else if (locationId.matches("[0-9]+")) {
+            locationArtefactCountRepository.addToCount(locationId, amount);
+        }
+    }
+
+    private static boolean isDisplayed(Artefact artefact) {
+        return artefact.getDisplayTo() == null || artefact.getDisplayTo().isAfter(LocalDateTime.now());
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.ConcurrencyFailureException;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.CreateArtefactConflictException;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.service.PublicationMetricsService;
 import uk.gov.hmcts.reform.pip.data.management.utils.JsonExtractor;
 import uk.gov.hmcts.reform.pip.model.enums.UserActions;
 
@@ -26,13 +28,17 @@ public class PublicationCreationRunner {
 
     private final JsonExtractor jsonExtractor;
 
+    private final PublicationMetricsService publicationMetricsService;
+
     @Autowired
     public PublicationCreationRunner(PublicationCreationService publicationCreationService,
                                      PublicationRetrievalService publicationRetrievalService,
-                                     JsonExtractor jsonExtractor) {
+                                     JsonExtractor jsonExtractor,
+                                     PublicationMetricsService publicationMetricsService) {
         this.publicationCreationService = publicationCreationService;
         this.publicationRetrievalService = publicationRetrievalService;
         this.jsonExtractor = jsonExtractor;
+        this.publicationMetricsService = publicationMetricsService;
     }
 
     /**
@@ -89,7 +95,9 @@ public class PublicationCreationRunner {
         if (extractSearchTerms
             && payload != null
             && publicationRetrievalService.payloadWithinJsonSearchLimit(artefact.getPayloadSize())) {
+            Timer.Sample sample = publicationMetricsService.startTimer();
             artefact.setSearch(jsonExtractor.extractSearchTerms(payload));
+            publicationMetricsService.stopTimer(sample, PublicationMetricsService.SEARCH_EXTRACTION, artefact);
         } else {
             artefact.setSearch(Collections.emptyMap());
         }
@@ -1,10 +1,13 @@
 package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
@@ -17,6 +20,7 @@ import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactHelper;
 import uk.gov.hmcts.reform.pip.data.management.helpers.NoMatchArtefactHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.location.Location;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.service.PublicationMetricsService;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -43,6 +47,10 @@ public class PublicationCreationService {
 
     private static final String MANUAL_UPLOAD_VALUE = "MANUAL_UPLOAD";
     private final ArtefactSearchService artefactSearchService;
+    private final PublicationMetricsService publicationMetricsService;
+    private final ArtefactMetadataCache artefactMetadataCache;
+    private final PublicationMiRollupService publicationMiRollupService;
+    private final LocationArtefactCountService locationArtefactCountService;
 
     @Autowired
     public PublicationCreationService(ArtefactRepository artefactRepository,
@@ -50,13 +58,21 @@ public class PublicationCreationService {
                                       LocationRepository locationRepository,
                                       PublicationFileManagementService publicationFileManagementService,
                                       PublicationSubscriptionService publicationSubscriptionService,
-                                      ArtefactSearchService artefactSearchService) {
+                                      ArtefactSearchService artefactSearchService,
+                                      PublicationMetricsService publicationMetricsService,
+                                      ArtefactMetadataCache artefactMetadataCache,
+                                      PublicationMiRollupService publicationMiRollupService,
+                                      LocationArtefactCountService locationArtefactCountService) {
         this.artefactRepository = artefactRepository;
         this.azureArtefactBlobService = azureArtefactBlobService;
         this.locationRepository = locationRepository;
         this.publicationFileManagementService = publicationFileManagementService;
         this.publicationSubscriptionService = publicationSubscriptionService;
         this.artefactSearchService = artefactSearchService;
+        this.publicationMetricsService = publicationMetricsService;
+        this.artefactMetadataCache = artefactMetadataCache;
+        this.publicationMiRollupService = publicationMiRollupService;
+        this.locationArtefactCountService = locationArtefactCountService;
     }
 
     /**
@@ -70,12 +86,19 @@ public class PublicationCreationService {
     @Retryable(retryFor = { CannotAcquireLockException.class, DataIntegrityViolationException.class},
         maxAttempts = RETRY_MAX_ATTEMPTS)
     public Artefact createPublication(Artefact artefact, String payload) {
+        recordRetry(artefact);
         String existingPayload = applyExistingArtefact(artefact) ? artefact.getPayload() : null;
+
+        Timer.Sample sample = publicationMetricsService.startTimer();
         String blobUrl = azureArtefactBlobService.createPayload(UUID.randomUUID().toString(), payload);
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.BLOB_UPLOAD, artefact);
 
         artefact.setPayload(blobUrl);
-        Artefact createdArtefact = artefactRepository.save(artefact);
+        Artefact createdArtefact = saveArtefact(artefact);
+
+        sample = publicationMetricsService.startTimer();
         artefactSearchService.artefactSearchStore(createdArtefact, payload);
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.SEARCH_STORE, createdArtefact);
 
         // Remove the old payload after superseded by the new one
         if (existingPayload != null) {
@@ -96,11 +119,15 @@ public class PublicationCreationService {
     @Retryable(retryFor = { CannotAcquireLockException.class, DataIntegrityViolationException.class },
         maxAttempts = RETRY_MAX_ATTEMPTS)
     public Artefact createPublication(Artefact artefact, MultipartFile file) {
+        recordRetry(artefact);
         String existingPayload = applyExistingArtefact(artefact) ? artefact.getPayload() : null;
+
+        Timer.Sample sample = publicationMetricsService.startTimer();
         String blobUrl = azureArtefactBlobService.uploadFlatFile(UUID.randomUUID().toString(), file);
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.BLOB_UPLOAD, artefact);
 
         artefact.setPayload(blobUrl);
-        Artefact createdArtefact = artefactRepository.save(artefact);
+        Artefact createdArtefact = saveArtefact(artefact);
 
         // Remove the old payload after superseded by the new one
         if (existingPayload != null) {
@@ -113,12 +140,42 @@ public class PublicationCreationService {
     @Async
     public void processCreatedPublication(Artefact artefact, String payload) {
         publicationFileManagementService.generateFiles(artefact.getArtefactId(), payload);
-        publicationSubscriptionService.checkAndTriggerPublicationSubscription(artefact);
+        // The summary is stored before triggering the subscriptions, as it is requested for the subscription emails
+        publicationSubscriptionService.precomputeArtefactSummary(artefact, payload);
+        triggerPublicationSubscription(artefact);
     }
 
     @Async
     public void processCreatedPublication(Artefact artefact) {
+        triggerPublicationSubscription(artefact);
+    }
+
+    private Artefact saveArtefact(Artefact artefact) {
+        Timer.Sample sample = publicationMetricsService.startTimer();
+        Artefact createdArtefact = artefactRepository.save(artefact);
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.DB_UPSERT, artefact);
+        artefactMetadataCache.evict(createdArtefact.getArtefactId());
+        publicationMiRollupService.recordReceived(createdArtefact);
+        locationArtefactCountService.recordAdded(createdArtefact);
+        return createdArtefact;
+    }
+
+    private void triggerPublicationSubscription(Artefact artefact) {
+        Timer.Sample sample = publicationMetricsService.startTimer();
         publicationSubscriptionService.checkAndTriggerPublicationSubscription(artefact);
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.NOTIFICATION_DISPATCH, artefact);
+    }
+
+    /**
+     * Count the call as a retry if it has been re-attempted by the retry interceptor.
+     *
+     * @param artefact The artefact being created.
+     */
+    private void recordRetry(Artefact artefact) {
+        RetryContext retryContext = RetrySynchronizationManager.getContext();
+        if (retryContext != null && retryContext.getRetryCount() > 0) {
+            publicationMetricsService.incrementCreationRetry(artefact);
+        }
     }
 
     /**
@@ -137,11 +194,16 @@ public class PublicationCreationService {
         );
 
         foundArtefact.ifPresent(value -> {
+            // Recorded before the update, which overwrites the previous version's received date and display window
+            publicationMiRollupService.recordSuperseded(value);
+            locationArtefactCountService.recordRemoved(value);
             artefact.setArtefactId(value.getArtefactId());
             artefact.setPayload(value.getPayload());
             artefact.setSupersededCount(value.getSupersededCount() + 1);
             publicationFileManagementService.deleteFiles(artefact.getArtefactId(), artefact.getListType(),
                                                      artefact.getLanguage());
+            publicationFileManagementService.deleteManifest(artefact.getArtefactId());
+            publicationSubscriptionService.deleteArtefactSummary(artefact.getArtefactId());
         });
         return foundArtefact.isPresent();
     }
@@ -161,6 +223,7 @@ public class PublicationCreationService {
 
         } else {
             artefact.setLocationId(NoMatchArtefactHelper.buildNoMatchLocationId(artefact.getLocationId()));
+            artefact.setIsNoMatch(true);
         }
     }
 }
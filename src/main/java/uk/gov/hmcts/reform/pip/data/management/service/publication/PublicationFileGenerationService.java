@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 import com.openhtmltopdf.slf4j.Slf4jLogger;
 import com.openhtmltopdf.util.XRLog;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.text.WordUtils;
@@ -16,6 +17,7 @@ import uk.gov.hmcts.reform.pip.data.management.models.PublicationFiles;
 import uk.gov.hmcts.reform.pip.data.management.models.location.Location;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.service.ListConversionFactory;
+import uk.gov.hmcts.reform.pip.data.management.service.PublicationMetricsService;
 import uk.gov.hmcts.reform.pip.data.management.service.filegeneration.FileConverter;
 import uk.gov.hmcts.reform.pip.data.management.service.helpers.DateHelper;
 import uk.gov.hmcts.reform.pip.data.management.service.helpers.LanguageResourceHelper;
@@ -45,6 +47,7 @@ public class PublicationFileGenerationService {
     private final PublicationRetrievalService publicationRetrievalService;
     private final LocationService locationService;
     private final ListConversionFactory listConversionFactory;
+    private final PublicationMetricsService publicationMetricsService;
 
     @Value("${pdf.font}")
     private String pdfFont;
@@ -52,10 +55,12 @@ public class PublicationFileGenerationService {
     @Autowired
     public PublicationFileGenerationService(PublicationRetrievalService publicationRetrievalService,
                                             LocationService locationService,
-                                            ListConversionFactory listConversionFactory) {
+                                            ListConversionFactory listConversionFactory,
+                                            PublicationMetricsService publicationMetricsService) {
         this.publicationRetrievalService = publicationRetrievalService;
         this.locationService = locationService;
         this.listConversionFactory = listConversionFactory;
+        this.publicationMetricsService = publicationMetricsService;
         XRLog.setLoggerImpl(new Slf4jLogger());
     }
 
@@ -100,9 +105,13 @@ public class PublicationFileGenerationService {
             }
             byte[] excel = new byte[0];
             if (publicationRetrievalService.payloadWithinExcelLimit(artefact.getPayloadSize())) {
+                Timer.Sample sample = publicationMetricsService.startTimer();
                 excel = fileConverter.get().convertToExcel(
                     topLevelNode, listType, buildArtefactMetadata(artefact, location, artefact.getLanguage())
                 );
+                publicationMetricsService.stopTimer(sample, PublicationMetricsService.EXCEL_RENDER, artefact);
+                publicationMetricsService.recordSize(PublicationMetricsService.EXCEL_RENDER, artefact,
+                                                     artefact.getLanguage(), excel.length);
             }
 
             Pair<byte[], byte[]> pdfs = Pair.of(new byte[0], new byte[0]);
@@ -133,25 +142,40 @@ public class PublicationFileGenerationService {
         Language language = artefact.getLanguage();
 
         if (artefact.getListType().hasAdditionalPdf() && language != Language.ENGLISH) {
-            byte[] englishPdf = generatePdf(fileConverter, topLevelNode, artefact, location, Language.ENGLISH, true);
-            if (englishPdf.length > MAX_FILE_SIZE) {
-                englishPdf = generatePdf(fileConverter, topLevelNode, artefact, location, Language.ENGLISH, false);
-            }
-
-            byte[] welshPdf = generatePdf(fileConverter, topLevelNode, artefact, location, Language.WELSH, true);
-            if (welshPdf.length > MAX_FILE_SIZE) {
-                welshPdf = generatePdf(fileConverter, topLevelNode, artefact, location, Language.WELSH, false);
-            }
-
+            byte[] englishPdf = generatePdfWithinSizeLimit(fileConverter, topLevelNode, artefact, location,
+                                                           Language.ENGLISH);
+            byte[] welshPdf = generatePdfWithinSizeLimit(fileConverter, topLevelNode, artefact, location,
+                                                         Language.WELSH);
             return Pair.of(englishPdf, welshPdf);
         }
 
+        byte[] pdf = generatePdfWithinSizeLimit(fileConverter, topLevelNode, artefact, location, language);
+        return Pair.of(pdf, new byte[0]);
+    }
+
+    /**
+     * Generate the accessible PDF for a given artefact, falling back to a PDF without accessibility features if the
+     * accessible PDF is over the file size limit.
+     *
+     * @param fileConverter The file converter to use to generate the PDF
+     * @param topLevelNode The data node.
+     * @param artefact The artefact.
+     * @param location The location where the artefact is uploaded to.
+     * @param language The language of the PDF.
+     * @return a byte array of the generated pdf.
+     * @throws IOException Throw if error generating.
+     */
+    private byte[] generatePdfWithinSizeLimit(FileConverter fileConverter, JsonNode topLevelNode,
+                                              Artefact artefact, Location location, Language language)
+        throws IOException {
         byte[] pdf = generatePdf(fileConverter, topLevelNode, artefact, location, language, true);
         if (pdf.length > MAX_FILE_SIZE) {
+            publicationMetricsService.incrementPdfSizeFallback(artefact, language);
             pdf = generatePdf(fileConverter, topLevelNode, artefact, location, language, false);
         }
 
-        return Pair.of(pdf, new byte[0]);
+        publicationMetricsService.recordSize(PublicationMetricsService.PDF_RENDER, artefact, language, pdf.length);
+        return pdf;
     }
 
     /**
@@ -171,8 +195,13 @@ public class PublicationFileGenerationService {
                                boolean accessibility) throws IOException {
         Map<String, Object> languageResource = LanguageResourceHelper.getLanguageResources(
             artefact.getListType(), language);
+        Timer.Sample sample = publicationMetricsService.startTimer();
         String html = fileConverter.convert(topLevelNode, buildArtefactMetadata(artefact, location, language),
                                             languageResource);
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.HTML_TEMPLATING,
+                                            artefact.getListType(), artefact.getProvenance(), language);
+
+        sample = publicationMetricsService.startTimer();
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
 
             PdfRendererBuilder builder = new PdfRendererBuilder();
@@ -191,6 +220,9 @@ public class PublicationFileGenerationService {
                 .toStream(baos)
                 .run();
             return baos.toByteArray();
+        } finally {
+            publicationMetricsService.stopTimer(sample, PublicationMetricsService.PDF_RENDER,
+                                                artefact.getListType(), artefact.getProvenance(), language);
         }
     }
 
@@ -1,22 +1,40 @@
 package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
+import com.azure.storage.blob.models.BlobProperties;
+import com.google.common.hash.Hashing;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.AzurePublicationBlobService;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationFileManifestRepository;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FileSizeLimitException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.UnauthorisedRequestException;
 import uk.gov.hmcts.reform.pip.data.management.models.PublicationFileSizes;
+import uk.gov.hmcts.reform.pip.data.management.models.StoredPublicationFile;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
-import uk.gov.hmcts.reform.pip.data.management.service.AccountManagementService;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationFileManifest;
+import uk.gov.hmcts.reform.pip.data.management.service.AuthorisationDecisionCache;
 import uk.gov.hmcts.reform.pip.model.publication.FileType;
 import uk.gov.hmcts.reform.pip.model.publication.Language;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 import static uk.gov.hmcts.reform.pip.model.publication.FileType.EXCEL;
 import static uk.gov.hmcts.reform.pip.model.publication.FileType.PDF;
 
@@ -24,25 +42,33 @@ import static uk.gov.hmcts.reform.pip.model.publication.FileType.PDF;
 @Service
 public class PublicationFileManagementService {
     private static final String ADDITIONAL_PDF_SUFFIX = "_cy";
+    private static final String NO_FILES_MARKER = "";
 
     private final AzurePublicationBlobService azureBlobService;
     private final PublicationRetrievalService publicationRetrievalService;
-    private final AccountManagementService accountManagementService;
+    private final AuthorisationDecisionCache authorisationDecisionCache;
     private final PublicationFileGenerationService publicationFileGenerationService;
+    private final PublicationFileManifestRepository publicationFileManifestRepository;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public PublicationFileManagementService(AzurePublicationBlobService azureBlobService,
                                             PublicationRetrievalService publicationRetrievalService,
-                                            AccountManagementService accountManagementService,
-                                            PublicationFileGenerationService publicationFileGenerationService) {
+                                            AuthorisationDecisionCache authorisationDecisionCache,
+                                            PublicationFileGenerationService publicationFileGenerationService,
+                                            PublicationFileManifestRepository publicationFileManifestRepository,
+                                            TransactionTemplate transactionTemplate) {
         this.azureBlobService = azureBlobService;
         this.publicationRetrievalService = publicationRetrievalService;
-        this.accountManagementService = accountManagementService;
+        this.authorisationDecisionCache = authorisationDecisionCache;
         this.publicationFileGenerationService = publicationFileGenerationService;
+        this.publicationFileManifestRepository = publicationFileManifestRepository;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
-     * Generate and store the PDF/Excel/CSV files for a given artefact.
+     * Generate and store the PDF/Excel/CSV files for a given artefact, and record them in the file manifest. The
+     * previous manifest of the artefact is replaced in a single transaction, so it is never left empty or partial.
      *
      * @param artefactId The artefact ID to generate the files for.
      * @param payload The payload of the artefact.
@@ -50,18 +76,22 @@ public class PublicationFileManagementService {
     public void generateFiles(UUID artefactId, String payload) {
         publicationFileGenerationService.generate(artefactId, payload)
             .ifPresent(files -> {
-                if (files.getPrimaryPdf().length > 0) {
-                    azureBlobService.uploadFile(artefactId + PDF.getExtension(), files.getPrimaryPdf());
-                }
-
-                if (files.getAdditionalPdf().length > 0) {
-                    azureBlobService.uploadFile(artefactId + ADDITIONAL_PDF_SUFFIX + PDF.getExtension(),
-                                                files.getAdditionalPdf());
-                }
-
-                if (files.getExcel().length > 0) {
-                    azureBlobService.uploadFile(artefactId + EXCEL.getExtension(), files.getExcel());
-                }
+                LocalDateTime generatedDate = LocalDateTime.now();
+                List<PublicationFileManifest> manifest = new ArrayList<>();
+
+                uploadFile(artefactId, artefactId + PDF.getExtension(), files.getPrimaryPdf(), generatedDate)
+                    .ifPresent(manifest::add);
+                uploadFile(artefactId, artefactId + ADDITIONAL_PDF_SUFFIX + PDF.getExtension(),
+                           files.getAdditionalPdf(), generatedDate)
+                    .ifPresent(manifest::add);
+                uploadFile(artefactId, artefactId + EXCEL.getExtension(), files.getExcel(), generatedDate)
+                    .ifPresent(manifest::add);
+
+                transactionTemplate.execute(status -> {
+                    publicationFileManifestRepository.deleteByArtefactId(artefactId);
+                    publicationFileManifestRepository.saveAll(manifest);
+                    return null;
+                });
             });
     }
 
@@ -78,27 +108,60 @@ public class PublicationFileManagementService {
      */
     public String getStoredPublication(UUID artefactId, FileType fileType, Integer maxFileSize, UUID userId,
                                        boolean system, boolean additionalPdf) {
-        Artefact artefact = publicationRetrievalService.getMetadataByArtefactId(artefactId);
-        if (!isAuthorised(artefact, userId, system)) {
-            throw new UnauthorisedRequestException(
-                String.format("User with id %s is not authorised to access artefact with id %s", userId, artefactId)
-            );
+        checkAuthorised(artefactId, userId, system);
+
+        String filename = buildFilename(artefactId, fileType, additionalPdf);
+        if (maxFileSize != null) {
+            checkFileSize(azureBlobService.getBlobProperties(filename).getBlobSize(),
+                          artefactId, fileType, maxFileSize);
         }
+        return Base64.getEncoder().encodeToString(azureBlobService.getBlobFile(filename));
+    }
 
-        String filename = fileType == PDF && additionalPdf
-            ? artefactId + ADDITIONAL_PDF_SUFFIX : artefactId.toString();
-        byte[] file = azureBlobService.getBlobFile(filename + fileType.getExtension());
-        if (maxFileSize != null && file.length > maxFileSize) {
-            throw new FileSizeLimitException(
-                String.format("File with type %s for artefact with id %s has size over the limit of %s bytes",
-                              fileType, artefactId, maxFileSize)
-            );
+    /**
+     * Get the details of a stored file (PDF/Excel) for an artefact so that it can be streamed to the client.
+     *
+     * @param artefactId The artefact ID to get the file for.
+     * @param fileType The type of File. Can be either PDF or Excel.
+     * @param maxFileSize The file size limit to return the file.
+     * @param userId The ID of user performing the operation.
+     * @param system Is system user?
+     * @param additionalPdf Is getting the additional Welsh PDF?
+     * @return The name, size and ETag of the stored file.
+     */
+    public StoredPublicationFile getStoredPublicationFile(UUID artefactId, FileType fileType, Integer maxFileSize,
+                                                          UUID userId, boolean system, boolean additionalPdf) {
+        checkAuthorised(artefactId, userId, system);
+
+        String filename = buildFilename(artefactId, fileType, additionalPdf);
+        BlobProperties properties = azureBlobService.getBlobProperties(filename);
+        if (maxFileSize != null) {
+            checkFileSize(properties.getBlobSize(), artefactId, fileType, maxFileSize);
+        }
+        return new StoredPublicationFile(filename, fileType, properties.getBlobSize(), properties.getETag());
+    }
+
+    /**
+     * Stream a byte range of a stored file (PDF/Excel) to an output stream.
+     *
+     * @param file The stored file to stream.
+     * @param outputStream The stream to write the file content to.
+     * @param offset The position of the first byte to stream.
+     * @param count The number of bytes to stream.
+     */
+    public void streamStoredPublicationFile(StoredPublicationFile file, OutputStream outputStream,
+                                            long offset, long count) {
+        if (count > 0) {
+            azureBlobService.streamBlobFile(file.getFileName(), outputStream, offset, count, file.getETag());
         }
-        return Base64.getEncoder().encodeToString(file);
     }
 
     /**
-     * Delete all publication files for a given artefact.
+     * Delete all publication files for a given artefact from the blob store.
+     *
+     * <p>The file manifest is not changed, as this may be called outside the transaction which removes the artefact.
+     * The manifest rows of a deleted artefact are removed with it, otherwise {@link #deleteManifest} must be
+     * called.</p>
      *
      * @param artefactId The artefact ID to delete the files for.
      * @param listType The list type of the publication.
@@ -118,38 +181,163 @@ public class PublicationFileManagementService {
     }
 
     /**
-     * Checks if any publication file exists for a given artefact.
+     * Delete the file manifest of a given artefact, for when its files are deleted but the artefact is kept.
+     *
+     * @param artefactId The artefact ID to delete the file manifest for.
+     */
+    public void deleteManifest(UUID artefactId) {
+        publicationFileManifestRepository.deleteByArtefactId(artefactId);
+    }
+
+    /**
+     * Checks if any publication file exists for a given artefact. The file manifest is used where it has been
+     * recorded, otherwise it is recorded from the blob store for files generated before the manifest was introduced.
      *
      * @param artefactId The artefact ID to check for the existence of files.
      * @return true if any file exists, else false.
      */
     public boolean fileExists(UUID artefactId) {
-        return azureBlobService.blobFileExists(artefactId + PDF.getExtension())
-            || azureBlobService.blobFileExists(artefactId + ADDITIONAL_PDF_SUFFIX + PDF.getExtension())
-            || azureBlobService.blobFileExists(artefactId + EXCEL.getExtension());
+        return getManifest(artefactId).stream()
+            .anyMatch(file -> !NO_FILES_MARKER.equals(file.getFileName()));
     }
 
     /**
-     * Retrieves the file sizes of all publication files for a given artefact.
+     * Retrieves the file sizes of all publication files for a given artefact. The file manifest is used where it
+     * has been recorded, otherwise it is recorded from the blob store.
      *
      * @param artefactId The artefact ID to retrieve the file sizes.
      * @return The file sizes.
      */
     public PublicationFileSizes getFileSizes(UUID artefactId) {
+        return buildFileSizes(artefactId, getManifest(artefactId));
+    }
+
+    /**
+     * Retrieves the file sizes of all publication files for multiple artefacts using a single manifest lookup.
+     *
+     * @param artefactIds The artefact IDs to retrieve the file sizes.
+     * @return A map of artefact ID to the file sizes for that artefact.
+     */
+    public Map<UUID, PublicationFileSizes> getFileSizes(Collection<UUID> artefactIds) {
+        Map<UUID, List<PublicationFileManifest>> manifests = publicationFileManifestRepository
+            .findByArtefactIdIn(artefactIds).stream()
+            .collect(Collectors.groupingBy(PublicationFileManifest::getArtefactId));
+
+        Map<UUID, PublicationFileSizes> fileSizes = new LinkedHashMap<>();
+        artefactIds.forEach(artefactId -> fileSizes.put(
+            artefactId,
+            buildFileSizes(artefactId, manifests.containsKey(artefactId)
+                ? manifests.get(artefactId)
+                : recordManifestFromBlobStore(artefactId))
+        ));
+        return fileSizes;
+    }
+
+    private Optional<PublicationFileManifest> uploadFile(UUID artefactId, String fileName, byte[] file,
+                                                         LocalDateTime generatedDate) {
+        if (file.length == 0) {
+            return Optional.empty();
+        }
+
+        azureBlobService.uploadFile(fileName, file);
+        return Optional.of(PublicationFileManifest.builder()
+                               .artefactId(artefactId)
+                               .fileName(fileName)
+                               .fileSize((long) file.length)
+                               .contentHash(Hashing.sha256().hashBytes(file).toString())
+                               .generatedDate(generatedDate)
+                               .build());
+    }
+
+    private PublicationFileSizes buildFileSizes(UUID artefactId, List<PublicationFileManifest> manifest) {
+        Map<String, Long> sizes = new HashMap<>();
+        manifest.forEach(file -> sizes.put(file.getFileName(), file.getFileSize()));
+
         return new PublicationFileSizes(
-            azureBlobService.getBlobSize(artefactId + PDF.getExtension()),
-            azureBlobService.getBlobSize(artefactId + ADDITIONAL_PDF_SUFFIX + PDF.getExtension()),
-            azureBlobService.getBlobSize(artefactId + EXCEL.getExtension())
+            sizes.get(artefactId + PDF.getExtension()),
+            sizes.get(artefactId + ADDITIONAL_PDF_SUFFIX + PDF.getExtension()),
+            sizes.get(artefactId + EXCEL.getExtension())
         );
     }
 
+    private List<PublicationFileManifest> getManifest(UUID artefactId) {
+        List<PublicationFileManifest> manifest = publicationFileManifestRepository.findByArtefactId(artefactId);
+        return manifest.isEmpty() ? recordManifestFromBlobStore(artefactId) : manifest;
+    }
+
+    /**
+     * Record the manifest of an artefact whose files were generated before the manifest was introduced, or which has
+     * no files, from the blob store. An artefact with no files is recorded with a marker entry, so the blob store is
+     * only checked once for each artefact.
+     *
+     * @param artefactId The artefact ID to record the manifest for.
+     * @return The manifest recorded.
+     */
+    private List<PublicationFileManifest> recordManifestFromBlobStore(UUID artefactId) {
+        LocalDateTime checkedDate = LocalDateTime.now();
+        List<PublicationFileManifest> manifest = new ArrayList<>();
+        for (String fileName : List.of(artefactId + PDF.getExtension(),
+                                       artefactId + ADDITIONAL_PDF_SUFFIX + PDF.getExtension(),
+                                       artefactId + EXCEL.getExtension())) {
+            Long fileSize = azureBlobService.getBlobSize(fileName);
+            if (fileSize != null) {
+                manifest.add(buildManifestEntry(artefactId, fileName, fileSize, checkedDate));
+            }
+        }
+        if (manifest.isEmpty()) {
+            manifest.add(buildManifestEntry(artefactId, NO_FILES_MARKER, null, checkedDate));
+        }
+
+        try {
+            publicationFileManifestRepository.saveAll(manifest);
+        } catch (DataAccessException ex) {
+            log.error(writeLog(String.format("Failed to record file manifest for artefact id %s: %s",
+                                             artefactId, ex.getMessage())));
+        }
+        return manifest;
+    }
+
+    private static PublicationFileManifest buildManifestEntry(UUID artefactId, String fileName, Long fileSize,
+                                                              LocalDateTime generatedDate) {
+        return PublicationFileManifest.builder()
+            .artefactId(artefactId)
+            .fileName(fileName)
+            .fileSize(fileSize)
+            .generatedDate(generatedDate)
+            .build();
+    }
+
+    private void checkAuthorised(UUID artefactId, UUID userId, boolean system) {
+        Artefact artefact = publicationRetrievalService.getMetadataByArtefactId(artefactId);
+        if (!isAuthorised(artefact, userId, system)) {
+            throw new UnauthorisedRequestException(
+                String.format("User with id %s is not authorised to access artefact with id %s", userId, artefactId)
+            );
+        }
+    }
+
+    private String buildFilename(UUID artefactId, FileType fileType, boolean additionalPdf) {
+        String filename = fileType == PDF && additionalPdf
+            ? artefactId + ADDITIONAL_PDF_SUFFIX : artefactId.toString();
+        return filename + fileType.getExtension();
+    }
+
+    private void checkFileSize(long fileSize, UUID artefactId, FileType fileType, Integer maxFileSize) {
+        if (fileSize > maxFileSize) {
+            throw new FileSizeLimitException(
+                String.format("File with type %s for artefact with id %s has size over the limit of %s bytes",
+                              fileType, artefactId, maxFileSize)
+            );
+        }
+    }
+
     private boolean isAuthorised(Artefact artefact, UUID userId, boolean system) {
         if (system || artefact.getSensitivity().equals(Sensitivity.PUBLIC)) {
             return true;
         } else if (userId == null) {
             return false;
         }
-        return accountManagementService.getIsAuthorised(userId, artefact.getListType(),
-                                                        artefact.getSensitivity());
+        return authorisationDecisionCache.isAuthorised(userId, artefact.getListType(),
+                                                       artefact.getSensitivity());
     }
 }
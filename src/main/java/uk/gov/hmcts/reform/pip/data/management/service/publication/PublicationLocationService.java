@@ -3,21 +3,26 @@ package uk.gov.hmcts.reform.pip.data.management.service.publication;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactArchivedRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.ArtefactNotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPage;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPageCursor;
 import uk.gov.hmcts.reform.pip.data.management.service.location.LocationService;
 import uk.gov.hmcts.reform.pip.model.location.LocationType;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 
@@ -28,28 +33,28 @@ public class PublicationLocationService {
     private final LocationService locationService;
     private final PublicationRemovalService publicationRemovalService;
     private final ArtefactArchivedRepository artefactArchivedRepository;
+    private final PublicationMiRollupService publicationMiRollupService;
+    private final LocationArtefactCountService locationArtefactCountService;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public PublicationLocationService(ArtefactRepository artefactRepository, LocationService locationService,
                                       PublicationRemovalService publicationRemovalService,
-                                      ArtefactArchivedRepository artefactArchivedRepository) {
+                                      ArtefactArchivedRepository artefactArchivedRepository,
+                                      PublicationMiRollupService publicationMiRollupService,
+                                      LocationArtefactCountService locationArtefactCountService,
+                                      TransactionTemplate transactionTemplate) {
         this.artefactRepository = artefactRepository;
         this.locationService = locationService;
         this.publicationRemovalService = publicationRemovalService;
         this.artefactArchivedRepository = artefactArchivedRepository;
+        this.publicationMiRollupService = publicationMiRollupService;
+        this.locationArtefactCountService = locationArtefactCountService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public List<LocationArtefact> countArtefactsByLocation() {
-        List<LocationArtefact> artefactsPerLocations = new ArrayList<>();
-        LocalDateTime currDate = LocalDateTime.now();
-        List<Object[]> returnedData = artefactRepository.countArtefactsByLocation(currDate);
-        for (Object[] result : returnedData) {
-            artefactsPerLocations.add(
-                new LocationArtefact(result[0].toString(), Integer.parseInt(result[1].toString())));
-        }
-        artefactsPerLocations.add(
-            new LocationArtefact("noMatch", artefactRepository.countNoMatchArtefacts(currDate)));
-        return artefactsPerLocations;
+        return locationArtefactCountService.getArtefactCounts();
     }
 
     public LocationType getLocationType(ListType listType) {
@@ -60,6 +65,26 @@ public class PublicationLocationService {
         return artefactRepository.findAllNoMatchArtefacts();
     }
 
+    /**
+     * Get a page of the no match artefacts, ordered by content date and artefact ID.
+     *
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param pageSize The maximum number of artefacts on the page.
+     * @return The page of no match artefacts.
+     */
+    public ArtefactPage findNoMatchArtefactsPage(String cursor, int pageSize) {
+        Limit limit = Limit.of(pageSize + 1);
+        if (cursor == null) {
+            return ArtefactPage.of(artefactRepository.findNoMatchArtefactsPage(limit), pageSize);
+        }
+
+        ArtefactPageCursor after = ArtefactPageCursor.decode(cursor);
+        return ArtefactPage.of(
+            artefactRepository.findNoMatchArtefactsPageAfter(after.getContentDate(), after.getArtefactId(), limit),
+            pageSize
+        );
+    }
+
     public String deleteArtefactByLocation(Integer locationId, UUID requesterId)
         throws JsonProcessingException {
         List<Artefact> activeArtefacts = artefactRepository.findActiveArtefactsForLocation(
@@ -76,22 +101,50 @@ public class PublicationLocationService {
         log.info(writeLog(String.format("User %s attempting to delete all artefacts for location %s. "
                         + "%s artefact(s) found", requesterId, locationId, activeArtefacts.size())));
 
-        publicationRemovalService.deleteArtefactByLocation(activeArtefacts, locationId, requesterId);
-        return String.format("Total %s artefact deleted for location id %s", activeArtefacts.size(), locationId);
+        Map<UUID, String> failures = publicationRemovalService.deleteArtefactByLocation(
+            activeArtefacts, locationId, requesterId
+        );
+        return String.format("Total %s artefact deleted for location id %s", activeArtefacts.size(), locationId)
+            + formatDeletionFailures(failures);
     }
 
+    /**
+     * Delete the artefacts and archived artefacts of the locations with the given name prefix.
+     *
+     * <p>This is not run in a single transaction, as the artefacts are deleted in batches which each commit before
+     * their blobs are deleted on other threads.</p>
+     *
+     * @param prefix The location name prefix.
+     * @return A summary of the artefacts deleted, and of any which were not fully deleted.
+     */
     public String deleteAllArtefactsWithLocationNamePrefix(String prefix) {
         List<String> locationIds = locationService.getAllLocationsWithNamePrefix(prefix).stream()
             .map(Object::toString)
             .toList();
 
         List<Artefact> artefactsToDelete = Collections.emptyList();
+        Map<UUID, String> failures = Map.of();
         if (!locationIds.isEmpty()) {
             artefactsToDelete = artefactRepository.findAllByLocationIdIn(locationIds);
-            publicationRemovalService.deleteArtefacts(artefactsToDelete);
-            artefactArchivedRepository.deleteAllByLocationIdIn(locationIds);
+            failures = publicationRemovalService.deleteArtefacts(artefactsToDelete);
+            transactionTemplate.execute(status -> {
+                publicationMiRollupService.recordArchivedLocationsDeleted(locationIds);
+                artefactArchivedRepository.deleteAllByLocationIdIn(locationIds);
+                return null;
+            });
         }
         return String.format("%s artefacts(s) deleted for location name starting with %s",
-                             artefactsToDelete.size(), prefix);
+                             artefactsToDelete.size(), prefix)
+            + formatDeletionFailures(failures);
+    }
+
+    private static String formatDeletionFailures(Map<UUID, String> failures) {
+        if (failures.isEmpty()) {
+            return "";
+        }
+        return String.format(". %s artefact(s) were not fully deleted: %s", failures.size(),
+                             failures.entrySet().stream()
+                                 .map(failure -> failure.getKey() + " - " + failure.getValue())
+                                 .collect(Collectors.joining(", ")));
     }
 }
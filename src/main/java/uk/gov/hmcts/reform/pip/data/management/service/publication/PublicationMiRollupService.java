@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationMiDailyRollupRepository;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps the daily MI rollups in step with the publications. Each publication, current or archived, is counted once
+ * against the day it was last received, matching the rows returned for MI reporting.
+ *
+ * <p>Rollups are updated in the transaction of the change that caused them, so they are rolled back with it.</p>
+ */
+@Service
+public class PublicationMiRollupService {
+    private final PublicationMiDailyRollupRepository publicationMiDailyRollupRepository;
+
+    @Autowired
+    public PublicationMiRollupService(PublicationMiDailyRollupRepository publicationMiDailyRollupRepository) {
+        this.publicationMiDailyRollupRepository = publicationMiDailyRollupRepository;
+    }
+
+    /**
+     * Count a publication which has been created, or the new version of a superseded publication.
+     *
+     * @param artefact The publication as stored.
+     */
+    public void recordReceived(Artefact artefact) {
+        addToRollup(artefact, 1, artefact.getSupersededCount(), 0);
+    }
+
+    /**
+     * Stop counting the previous version of a publication which is about to be superseded. This must be called before
+     * the stored publication is updated, as the version may have been received on a different day.
+     *
+     * @param artefact The previous version of the publication.
+     */
+    public void recordSuperseded(Artefact artefact) {
+        addToRollup(artefact, -1, -artefact.getSupersededCount(), 0);
+    }
+
+    /**
+     * Count a publication as archived. Archived publications are still reported, so it is not removed from the
+     * publication count.
+     *
+     * @param artefact The publication being archived.
+     */
+    public void recordArchived(Artefact artefact) {
+        addToRollup(artefact, 0, 0, 1);
+    }
+
+    /**
+     * Stop counting a publication which has been deleted without being archived.
+     *
+     * @param artefact The publication being deleted.
+     */
+    public void recordDeleted(Artefact artefact) {
+        addToRollup(artefact, -1, -artefact.getSupersededCount(), 0);
+    }
+
+    /**
+     * Stop counting the archived publications of the given locations, before they are deleted.
+     *
+     * @param locationIds The IDs of the locations.
+     */
+    public void recordArchivedLocationsDeleted(List<String> locationIds) {
+        publicationMiDailyRollupRepository.subtractArchivedLocations(locationIds);
+    }
+
+    private void addToRollup(Artefact artefact, long publicationCount, long supersededCount, long archivedCount) {
+        // Publications without a received date are never returned for a reporting period, so are not counted
+        if (artefact.getLastReceivedDate() == null) {
+            return;
+        }
+
+        publicationMiDailyRollupRepository.addToRollup(
+            artefact.getLastReceivedDate().toLocalDate(),
+            Objects.toString(artefact.getProvenance(), ""),
+            artefact.getListType() == null ? "" : artefact.getListType().name(),
+            Objects.toString(artefact.getLocationId(), ""),
+            artefact.getLanguage() == null ? "" : artefact.getLanguage().name(),
+            artefact.getSensitivity() == null ? "" : artefact.getSensitivity().name(),
+            publicationCount,
+            supersededCount,
+            archivedCount
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import com.google.common.base.Throwables;
+import com.google.common.base.Utf8;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.pip.data.management.database.AzureArtefactBlobService;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of publication payloads held in the Azure artefact blob store.
+ *
+ * <p>Entries are keyed by the payload blob ID. A new blob is created each time a publication is superseded, so a
+ * cached payload can never become stale and no invalidation is required. The cache is bounded by the total size of
+ * the cached payloads, measured as their UTF-8 encoded size, rather than the number of entries, with the least recently
+ * used payloads evicted first.</p>
+ *
+ * <p>Concurrent requests for a payload which is not cached wait for a single download. The total size of the cached
+ * payloads is kept as they are added and removed, so it can be reported without measuring every cached payload.</p>
+ */
+@Component
+public class PublicationPayloadCache {
+    public static final String CACHE_NAME = "publication.payload.cache";
+    private static final String WEIGHT_METRIC = CACHE_NAME + ".weight";
+
+    private final LoadingCache<String, String> cache;
+    private final AtomicLong weight = new AtomicLong();
+
+    @Autowired
+    public PublicationPayloadCache(AzureArtefactBlobService azureArtefactBlobService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${payload.cache.max-size-bytes}") long maxSizeBytes) {
+        // A single segment so that the whole budget is available to a single large payload
+        this.cache = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(maxSizeBytes)
+            .weigher((String payloadId, String payload) -> addWeight(Utf8.encodedLength(payload)))
+            .removalListener((RemovalNotification<String, String> notification) ->
+                                 weight.addAndGet(-Utf8.encodedLength(notification.getValue())))
+            .recordStats()
+            .build(CacheLoader.from(azureArtefactBlobService::getBlobData));
+
+        GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(WEIGHT_METRIC, weight, AtomicLong::get)
+            .description("The approximate size in bytes of the payloads held in the cache")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Get the payload for a blob, downloading it from the blob store if it is not already cached.
+     *
+     * @param payloadId The ID of the payload blob.
+     * @return The payload in string format.
+     */
+    public String getPayload(String payloadId) {
+        try {
+            return cache.getUnchecked(payloadId);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    private int addWeight(int payloadWeight) {
+        weight.addAndGet(payloadWeight);
+        return payloadWeight;
+    }
+}
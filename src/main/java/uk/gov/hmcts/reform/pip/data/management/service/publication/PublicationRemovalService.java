@@ -2,19 +2,24 @@ package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactArchivedRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.AzureArtefactBlobService;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PendingBlobDeletionRepository;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.ArtefactNotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactHelper;
 import uk.gov.hmcts.reform.pip.data.management.helpers.NoMatchArtefactHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.location.Location;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactArchived;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PendingBlobDeletion;
 import uk.gov.hmcts.reform.pip.data.management.service.AccountManagementService;
 import uk.gov.hmcts.reform.pip.data.management.service.SystemAdminNotificationService;
 import uk.gov.hmcts.reform.pip.model.account.PiUser;
@@ -23,7 +28,10 @@ import uk.gov.hmcts.reform.pip.model.system.admin.ActionResult;
 import uk.gov.hmcts.reform.pip.model.system.admin.ChangeType;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +40,7 @@ import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
 @Slf4j
 @Service
 public class PublicationRemovalService {
+    private static final int DELETION_BATCH_SIZE = 500;
 
     private final ArtefactRepository artefactRepository;
     private final LocationRepository locationRepository;
@@ -42,6 +51,16 @@ public class PublicationRemovalService {
     private final AzureArtefactBlobService azureArtefactBlobService;
     private final AccountManagementService accountManagementService;
     private final SystemAdminNotificationService systemAdminNotificationService;
+    private final ArtefactMetadataCache artefactMetadataCache;
+    private final CaseSuggestionIndex caseSuggestionIndex;
+    private final PublicationMiRollupService publicationMiRollupService;
+    private final LocationArtefactCountService locationArtefactCountService;
+    private final BlobDeletionExecutor blobDeletionExecutor;
+    private final PendingBlobDeletionRepository pendingBlobDeletionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${archival.batch-size}")
+    private int archivalBatchSize;
 
     public PublicationRemovalService(ArtefactRepository artefactRepository, LocationRepository locationRepository,
                                      PublicationFileManagementService publicationFileManagementService,
@@ -50,7 +69,14 @@ public class PublicationRemovalService {
                                      AccountManagementService accountManagementService,
                                      SystemAdminNotificationService systemAdminNotificationService,
                                      ArtefactArchivedRepository artefactArchivedRepository,
-                                     ArtefactSearchRepository artefactSearchRepository) {
+                                     ArtefactSearchRepository artefactSearchRepository,
+                                     ArtefactMetadataCache artefactMetadataCache,
+                                     CaseSuggestionIndex caseSuggestionIndex,
+                                     PublicationMiRollupService publicationMiRollupService,
+                                     LocationArtefactCountService locationArtefactCountService,
+                                     BlobDeletionExecutor blobDeletionExecutor,
+                                     PendingBlobDeletionRepository pendingBlobDeletionRepository,
+                                     TransactionTemplate transactionTemplate) {
         this.artefactRepository = artefactRepository;
         this.locationRepository = locationRepository;
         this.publicationFileManagementService = publicationFileManagementService;
@@ -60,6 +86,13 @@ public class PublicationRemovalService {
         this.systemAdminNotificationService = systemAdminNotificationService;
         this.artefactArchivedRepository = artefactArchivedRepository;
         this.artefactSearchRepository = artefactSearchRepository;
+        this.artefactMetadataCache = artefactMetadataCache;
+        this.caseSuggestionIndex = caseSuggestionIndex;
+        this.publicationMiRollupService = publicationMiRollupService;
+        this.locationArtefactCountService = locationArtefactCountService;
+        this.blobDeletionExecutor = blobDeletionExecutor;
+        this.pendingBlobDeletionRepository = pendingBlobDeletionRepository;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -82,19 +115,97 @@ public class PublicationRemovalService {
 
     /**
      * Archive expired artefacts from the database, Artefact and Publications Azure storage.
+     *
+     * <p>Artefacts are archived in batches, each in its own transaction, so a failure only rolls back the current
+     * batch. Archived artefacts are removed from the artefact table as each batch commits, so an interrupted run
+     * resumes from the remaining expired artefacts when next triggered. The blobs of a batch are only deleted once it
+     * has committed, so a rolled back batch never refers to deleted blobs.</p>
+     *
+     * <p>The blobs of each archived artefact are recorded as pending deletion by the batch, and the record removed
+     * once they are deleted. Blobs left pending by a failed or interrupted run are deleted first.</p>
      */
-    @Transactional
     public void archiveExpiredArtefacts() {
+        retryPendingBlobDeletions();
+
         LocalDateTime searchDateTime = LocalDateTime.now();
-        List<Artefact> outdatedArtefacts = artefactRepository.findOutdatedArtefacts(searchDateTime);
-        outdatedArtefacts.forEach(artefact -> handleArtefactArchiving(artefact, Boolean.FALSE));
+        int archivedCount = 0;
+        int batchCount;
+        do {
+            List<Artefact> archivedArtefacts = Objects.requireNonNullElse(
+                transactionTemplate.execute(status -> archiveExpiredArtefactBatch(searchDateTime)), List.of()
+            );
+            removeArchivedArtefactData(archivedArtefacts);
+            batchCount = archivedArtefacts.size();
+            archivedCount += batchCount;
+        } while (batchCount > 0 && batchCount == archivalBatchSize);
 
         log.info(writeLog(
-            String.format("%s outdated artefacts found and archived for before %s",
-                          outdatedArtefacts.size(), searchDateTime)
+            String.format("%s outdated artefacts found and archived for before %s", archivedCount, searchDateTime)
         ));
     }
 
+    /**
+     * Archive a batch of expired artefacts with set based SQL.
+     *
+     * @param searchDateTime Artefacts displayed to before this date are archived.
+     * @return The artefacts archived.
+     */
+    private List<Artefact> archiveExpiredArtefactBatch(LocalDateTime searchDateTime) {
+        List<Artefact> archivedArtefacts = artefactRepository.archiveExpiredArtefacts(
+            searchDateTime, LocalDateTime.now(), archivalBatchSize
+        );
+        archivedArtefacts.forEach(artefact -> {
+            publicationMiRollupService.recordArchived(artefact);
+            locationArtefactCountService.recordRemoved(artefact);
+        });
+        return archivedArtefacts;
+    }
+
+    /**
+     * Delete the blobs of a committed batch of archived artefacts in parallel, and remove them from the caches.
+     *
+     * @param archivedArtefacts The artefacts archived.
+     */
+    private void removeArchivedArtefactData(List<Artefact> archivedArtefacts) {
+        deleteArchivedBlobs(archivedArtefacts);
+        archivedArtefacts.forEach(artefact -> {
+            artefactMetadataCache.evict(artefact.getArtefactId());
+            caseSuggestionIndex.remove(artefact.getArtefactId());
+        });
+    }
+
+    /**
+     * Delete the blobs left pending by earlier archival runs, a batch at a time. Retrying stops at the first batch
+     * with a failed deletion, which is left pending for the next run.
+     */
+    private void retryPendingBlobDeletions() {
+        List<PendingBlobDeletion> pendingDeletions;
+        int failedCount;
+        do {
+            pendingDeletions = pendingBlobDeletionRepository.findAllByOrderByCreatedDate(Limit.of(archivalBatchSize));
+            failedCount = deleteArchivedBlobs(pendingDeletions.stream().map(PendingBlobDeletion::toArtefact).toList());
+        } while (failedCount == 0 && pendingDeletions.size() == archivalBatchSize);
+    }
+
+    /**
+     * Delete the blobs of archived artefacts in parallel, and remove the pending deletion record of each artefact
+     * whose blobs were deleted.
+     *
+     * @param archivedArtefacts The archived artefacts.
+     * @return The number of artefacts whose blobs failed to delete.
+     */
+    private int deleteArchivedBlobs(List<Artefact> archivedArtefacts) {
+        Map<UUID, String> failures = blobDeletionExecutor.deleteAll(archivedArtefacts, this::deleteDataFromBlobStore);
+        List<UUID> deletedArtefactIds = archivedArtefacts.stream()
+            .map(Artefact::getArtefactId)
+            .filter(artefactId -> !failures.containsKey(artefactId))
+            .toList();
+        if (!deletedArtefactIds.isEmpty()) {
+            pendingBlobDeletionRepository.deleteAllByArtefactIdIn(deletedArtefactIds);
+        }
+        return failures.size();
+    }
+
     /**
      * Delete all data stored in the blobstore for an artefact.
      *
@@ -126,15 +237,21 @@ public class PublicationRemovalService {
         log.info(writeLog(requesterId, UserActions.REMOVE, artefactId));
     }
 
-    public void deleteArtefactByLocation(List<Artefact> artefactsToDelete, Integer locationId, UUID requesterId)
-        throws JsonProcessingException {
-        artefactsToDelete.forEach(artefact -> {
-            handleArtefactDeletion(artefact);
-            log.info(writeLog(
-                String.format("Artefact deleted by %s, with artefact id: %s",
-                        requesterId, artefact.getArtefactId())
-            ));
-        });
+    /**
+     * Delete the artefacts of a location, and notify the requesting admin of the deletion.
+     *
+     * @param artefactsToDelete The artefacts of the location to delete.
+     * @param locationId The ID of the location.
+     * @param requesterId The ID of the admin user who is deleting the artefacts.
+     * @return The failure message of each artefact which was not fully deleted, keyed by artefact ID.
+     */
+    public Map<UUID, String> deleteArtefactByLocation(List<Artefact> artefactsToDelete, Integer locationId,
+                                                      UUID requesterId) throws JsonProcessingException {
+        Map<UUID, String> failures = deleteArtefacts(artefactsToDelete);
+        log.info(writeLog(
+            String.format("%s artefact(s) deleted by %s for location %s",
+                          artefactsToDelete.size(), requesterId, locationId)
+        ));
         Optional<Location> location = locationRepository.getLocationByLocationId(locationId);
 
         PiUser userInfo = accountManagementService.getUserById(requesterId);
@@ -142,16 +259,79 @@ public class PublicationRemovalService {
         systemAdminNotificationService.sendEmailNotification(userInfo.getEmail(), requesterId, ActionResult.SUCCEEDED,
                 String.format("Total %s artefact(s) for location %s", artefactsToDelete.size(), locationName),
                 ChangeType.DELETE_LOCATION_ARTEFACT);
+        return failures;
+    }
+
+    /**
+     * Delete many artefacts along with their stored blobs, and notify third parties of the deletions.
+     *
+     * <p>Artefacts are deleted in batches with set based SQL, each batch in its own transaction. The blobs of each
+     * deleted batch are then removed in parallel, and the third parties notified concurrently. A failed blob deletion
+     * or notification does not stop the others, and is reported against its artefact.</p>
+     *
+     * @param artefacts The artefacts to delete.
+     * @return The failure message of each artefact which was not fully deleted, keyed by artefact ID.
+     */
+    public Map<UUID, String> deleteArtefacts(List<Artefact> artefacts) {
+        Map<UUID, String> failures = new HashMap<>();
+        for (int i = 0; i < artefacts.size(); i += DELETION_BATCH_SIZE) {
+            List<Artefact> batch = artefacts.subList(i, Math.min(i + DELETION_BATCH_SIZE, artefacts.size()));
+            failures.putAll(deleteArtefactBatch(batch));
+        }
+
+        if (!failures.isEmpty()) {
+            log.error(writeLog(String.format("%s of %s artefact(s) were not fully deleted",
+                                             failures.size(), artefacts.size())));
+        }
+        return failures;
+    }
+
+    private Map<UUID, String> deleteArtefactBatch(List<Artefact> artefacts) {
+        // Converted before deletion, so the notifications still carry the case information of the artefacts
+        List<uk.gov.hmcts.reform.pip.model.publication.Artefact> deletedArtefactNotifications =
+            publicationSubscriptionService.convertArtefactsToSharedModel(
+                artefacts.stream()
+                    .filter(artefact -> !NoMatchArtefactHelper.isNoMatchLocationId(artefact.getLocationId()))
+                    .toList()
+            );
+
+        List<UUID> artefactIds = artefacts.stream().map(Artefact::getArtefactId).toList();
+        transactionTemplate.execute(status -> {
+            artefactSearchRepository.deleteAllByArtefactIdIn(artefactIds);
+            artefactRepository.deleteAllByArtefactIdIn(artefactIds);
+            artefacts.forEach(artefact -> {
+                publicationMiRollupService.recordDeleted(artefact);
+                locationArtefactCountService.recordRemoved(artefact);
+            });
+            return null;
+        });
+
+        Map<UUID, String> failures = new HashMap<>();
+        blobDeletionExecutor.deleteAll(artefacts, this::deleteDataFromBlobStore)
+            .forEach((artefactId, message) -> addFailure(failures, artefactId, "Blob deletion failed: " + message));
+        artefacts.forEach(artefact -> {
+            artefactMetadataCache.evict(artefact.getArtefactId());
+            caseSuggestionIndex.remove(artefact.getArtefactId());
+        });
+
+        publicationSubscriptionService.sendDeleteArtefactsForApiSubscription(deletedArtefactNotifications)
+            .forEach((artefactId, message) -> addFailure(failures, artefactId,
+                                                         "Third party notification failed: " + message));
+        return failures;
     }
 
-    public void deleteArtefacts(List<Artefact> artefacts) {
-        artefacts.forEach(this::handleArtefactDeletion);
+    private static void addFailure(Map<UUID, String> failures, UUID artefactId, String message) {
+        failures.merge(artefactId, message, (existing, added) -> existing + "; " + added);
     }
 
     public void handleArtefactDeletion(Artefact artefact) {
         deleteDataFromBlobStore(artefact);
         artefactSearchRepository.deleteByArtefactId(artefact.getArtefactId());
         artefactRepository.delete(artefact);
+        artefactMetadataCache.evict(artefact.getArtefactId());
+        caseSuggestionIndex.remove(artefact.getArtefactId());
+        publicationMiRollupService.recordDeleted(artefact);
+        locationArtefactCountService.recordRemoved(artefact);
         if (!NoMatchArtefactHelper.isNoMatchLocationId(artefact.getLocationId())) {
             publicationSubscriptionService.sendDeleteArtefactForApiSubscription(artefact);
         }
@@ -163,5 +343,9 @@ public class PublicationRemovalService {
         artefactArchivedRepository.save(artefactArchived);
         artefactSearchRepository.deleteByArtefactId(artefact.getArtefactId());
         artefactRepository.delete(artefact);
+        artefactMetadataCache.evict(artefact.getArtefactId());
+        caseSuggestionIndex.remove(artefact.getArtefactId());
+        publicationMiRollupService.recordArchived(artefact);
+        locationArtefactCountService.recordRemoved(artefact);
     }
 }
@@ -1,18 +1,26 @@
 package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactArchivedRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationMiDailyRollupRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationMiDataExportRepository;
 import uk.gov.hmcts.reform.pip.data.management.helpers.NoMatchArtefactHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.location.Location;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.NoMatchArtefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationMiDailyRollup;
 import uk.gov.hmcts.reform.pip.data.management.service.PublicationServicesService;
 import uk.gov.hmcts.reform.pip.model.report.PublicationMiData;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -25,17 +33,26 @@ public class PublicationReportingService {
     private final ArtefactRepository artefactRepository;
     private final ArtefactArchivedRepository artefactArchivedRepository;
     private final LocationRepository locationRepository;
+    private final PublicationMiDataExportRepository publicationMiDataExportRepository;
+    private final PublicationMiDailyRollupRepository publicationMiDailyRollupRepository;
     private final PublicationServicesService publicationServicesService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public PublicationReportingService(ArtefactRepository artefactRepository,
                                        ArtefactArchivedRepository artefactArchivedRepository,
                                        LocationRepository locationRepository,
-                                       PublicationServicesService publicationServicesService) {
+                                       PublicationMiDataExportRepository publicationMiDataExportRepository,
+                                       PublicationMiDailyRollupRepository publicationMiDailyRollupRepository,
+                                       PublicationServicesService publicationServicesService,
+                                       ObjectMapper objectMapper) {
         this.artefactRepository = artefactRepository;
         this.artefactArchivedRepository = artefactArchivedRepository;
         this.locationRepository = locationRepository;
+        this.publicationMiDataExportRepository = publicationMiDataExportRepository;
+        this.publicationMiDailyRollupRepository = publicationMiDailyRollupRepository;
         this.publicationServicesService = publicationServicesService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -81,6 +98,47 @@ public class PublicationReportingService {
         return publicationMiData;
     }
 
+    /**
+     * Write artefact data for MI reporting to an output stream as newline delimited JSON, one publication per line.
+     * Rows are streamed from the database as they are written, so memory use does not grow with the number of
+     * publications.
+     *
+     * @param days Only publications received in this many days are written, or all publications if null.
+     * @param outputStream The stream to write the MI data to.
+     * @throws IOException if the MI data could not be written.
+     */
+    @Transactional(readOnly = true)
+    public void writeMiData(Integer days, OutputStream outputStream) throws IOException {
+        LocalDateTime publicationReceivedDate = days == null ? null : LocalDate.now().minusDays(days).atStartOfDay();
+
+        try {
+            publicationMiDataExportRepository.streamMiData(publicationReceivedDate, miData -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(miData));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Retrieve the daily MI counts of publications, by provenance, list type, location, language and sensitivity.
+     *
+     * @param days Only counts for publications received in this many days are returned, or all counts if null.
+     * @return The daily counts, ordered by the day the publications were received.
+     */
+    public List<PublicationMiDailyRollup> getDailyMiData(Integer days) {
+        if (days == null) {
+            return publicationMiDailyRollupRepository.findAllRollups();
+        }
+        return publicationMiDailyRollupRepository.findRollupsFrom(LocalDate.now().minusDays(days));
+    }
+
     /**
      * Find artefacts with NoMatch location and send them for reporting.
      */
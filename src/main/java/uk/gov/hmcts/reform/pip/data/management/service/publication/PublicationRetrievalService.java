@@ -1,19 +1,24 @@
 package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
+import com.azure.storage.blob.models.BlobProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.AzureArtefactBlobService;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.ArtefactNotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactHelper;
+import uk.gov.hmcts.reform.pip.data.management.models.StoredPayload;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
-import uk.gov.hmcts.reform.pip.data.management.service.AccountManagementService;
+import uk.gov.hmcts.reform.pip.data.management.service.AuthorisationDecisionCache;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,9 +26,10 @@ import java.util.UUID;
 @Service
 public class PublicationRetrievalService {
 
-    private final ArtefactRepository artefactRepository;
-    private final AccountManagementService accountManagementService;
+    private final AuthorisationDecisionCache authorisationDecisionCache;
     private final AzureArtefactBlobService azureArtefactBlobService;
+    private final PublicationPayloadCache publicationPayloadCache;
+    private final ArtefactMetadataCache artefactMetadataCache;
 
     @Value("${payload.json.max-size-search}")
     private int maxPayloadSizeForJsonSearch;
@@ -35,22 +41,42 @@ public class PublicationRetrievalService {
     private int maxPayloadSizeForPdf;
 
     @Autowired
-    public PublicationRetrievalService(ArtefactRepository artefactRepository,
-                                       AccountManagementService accountManagementService,
-                                       AzureArtefactBlobService azureArtefactBlobService) {
-        this.artefactRepository = artefactRepository;
-        this.accountManagementService = accountManagementService;
+    public PublicationRetrievalService(AuthorisationDecisionCache authorisationDecisionCache,
+                                       AzureArtefactBlobService azureArtefactBlobService,
+                                       PublicationPayloadCache publicationPayloadCache,
+                                       ArtefactMetadataCache artefactMetadataCache) {
+        this.authorisationDecisionCache = authorisationDecisionCache;
         this.azureArtefactBlobService = azureArtefactBlobService;
+        this.publicationPayloadCache = publicationPayloadCache;
+        this.artefactMetadataCache = artefactMetadataCache;
     }
 
     public Artefact getMetadataByArtefactId(UUID artefactId) {
-        return artefactRepository.findArtefactByArtefactId(artefactId.toString())
+        return artefactMetadataCache.getArtefact(artefactId)
             .orElseThrow(() -> new ArtefactNotFoundException(String.format(
                 "No artefact found with the ID: %s",
                 artefactId
             )));
     }
 
+    /**
+     * Takes in multiple artefact IDs and returns the metadata for the artefacts, regardless of their display dates.
+     *
+     * @param artefactIds The IDs of the artefacts.
+     * @return The metadata for the found artefacts.
+     * @throws ArtefactNotFoundException if any of the artefacts does not exist.
+     */
+    public Collection<Artefact> getMetadataByArtefactIds(Collection<UUID> artefactIds) {
+        Map<UUID, Artefact> artefacts = artefactMetadataCache.getArtefacts(artefactIds);
+        artefactIds.stream()
+            .filter(artefactId -> !artefacts.containsKey(artefactId))
+            .findFirst()
+            .ifPresent(artefactId -> {
+                throw new ArtefactNotFoundException(String.format("No artefact found with the ID: %s", artefactId));
+            });
+        return artefacts.values();
+    }
+
     /**
      * Takes in artefact id and returns the metadata for the artefact.
      *
@@ -63,10 +89,8 @@ public class PublicationRetrievalService {
 
         LocalDateTime currentDate = LocalDateTime.now();
 
-        Optional<Artefact> artefact = artefactRepository.findByArtefactId(
-            artefactId.toString(),
-            currentDate
-        );
+        Optional<Artefact> artefact = artefactMetadataCache.getArtefact(artefactId)
+            .filter(found -> isDisplayed(found, currentDate));
 
         if (artefact.isPresent() && isAuthorised(artefact.get(), userId)) {
             return artefact.get();
@@ -75,20 +99,6 @@ public class PublicationRetrievalService {
         throw new ArtefactNotFoundException(String.format("No artefact found with the ID: %s", artefactId));
     }
 
-    /**
-     * Takes in artefact id and returns the payload within the matching blob in string format.
-     *
-     * @param artefactId represents the artefact id which is then used to get an artefact to populate the inputs
-     *                   for the blob request.
-     * @param userId     represents the user ID of the user who is making the request
-     * @return The data within the blob in string format.
-     */
-    public String getPayloadByArtefactId(UUID artefactId, UUID userId) {
-        Artefact artefact = getMetadataByArtefactId(artefactId, userId);
-
-        return azureArtefactBlobService.getBlobData(ArtefactHelper.getUuidFromUrl(artefact.getPayload()));
-    }
-
     /**
      * Takes in artefact id and returns the payload within the matching blob in string format. This is used for admin
      * requests
@@ -100,32 +110,48 @@ public class PublicationRetrievalService {
     public String getPayloadByArtefactId(UUID artefactId) {
         Artefact artefact = getMetadataByArtefactId(artefactId);
 
-        return azureArtefactBlobService.getBlobData(ArtefactHelper.getUuidFromUrl(artefact.getPayload()));
+        return publicationPayloadCache.getPayload(ArtefactHelper.getUuidFromUrl(artefact.getPayload()));
     }
 
     /**
-     * Retrieves a flat file for an artefact.
+     * Gets the details of the stored payload blob (JSON payload or flat file) for an artefact, without downloading
+     * its content.
      *
-     * @param artefactId The artefact ID to retrieve the flat file from.
-     * @param userId     represents the user ID of the user who is making the request
-     * @return The flat file resource.
+     * @param artefact The artefact to get the stored payload for.
+     * @return The size, ETag and content encoding of the stored payload.
      */
-    public Resource getFlatFileByArtefactID(UUID artefactId, UUID userId) {
-        Artefact artefact = getMetadataByArtefactId(artefactId, userId);
+    public StoredPayload getStoredPayload(Artefact artefact) {
+        String payloadId = ArtefactHelper.getUuidFromUrl(artefact.getPayload());
+        BlobProperties properties = azureArtefactBlobService.getBlobProperties(payloadId);
 
-        return azureArtefactBlobService.getBlobFile(ArtefactHelper.getUuidFromUrl(artefact.getPayload()));
+        return new StoredPayload(payloadId, properties.getBlobSize(), properties.getETag(),
+                                 properties.getContentEncoding());
     }
 
     /**
-     * Retrieves a flat file for an artefact. This is used for admin requests
+     * Stream a byte range of a stored payload, exactly as it is stored, to an output stream.
      *
-     * @param artefactId The artefact ID to retrieve the flat file from.
-     * @return The flat file resource.
+     * @param payload The stored payload to stream.
+     * @param outputStream The stream to write the payload content to.
+     * @param offset The position of the first byte to stream.
+     * @param count The number of bytes to stream.
      */
-    public Resource getFlatFileByArtefactID(UUID artefactId) {
-        Artefact artefact = getMetadataByArtefactId(artefactId);
+    public void streamStoredPayload(StoredPayload payload, OutputStream outputStream, long offset, long count) {
+        if (count > 0) {
+            azureArtefactBlobService.streamBlob(payload.getPayloadId(), outputStream, offset, count,
+                                                payload.getETag());
+        }
+    }
 
-        return azureArtefactBlobService.getBlobFile(ArtefactHelper.getUuidFromUrl(artefact.getPayload()));
+    /**
+     * Stream the decompressed content of a gzip encoded stored payload to an output stream.
+     *
+     * @param payload The stored payload to stream.
+     * @param outputStream The stream to write the decompressed content to.
+     * @throws IOException if the payload could not be decompressed or written.
+     */
+    public void streamDecompressedPayload(StoredPayload payload, OutputStream outputStream) throws IOException {
+        azureArtefactBlobService.streamDecompressedBlob(payload.getPayloadId(), outputStream, payload.getETag());
     }
 
     public boolean isAuthorised(Artefact artefact, UUID userId) {
@@ -134,10 +160,28 @@ public class PublicationRetrievalService {
         } else if (userId == null) {
             return false;
         } else {
-            return accountManagementService.getIsAuthorised(userId, artefact.getListType(), artefact.getSensitivity());
+            return authorisationDecisionCache.isAuthorised(userId, artefact.getListType(), artefact.getSensitivity());
         }
     }
 
+    /**
+     * Resolve the authorisation decisions needed to check a list of artefacts in a single concurrent batch, rather
+     * than one request to Account Management per artefact.
+     *
+     * @param artefacts The artefacts to be checked.
+     * @param userId The user ID of the user who is making the request.
+     */
+    public void preloadAuthorisations(List<Artefact> artefacts, UUID userId) {
+        if (userId != null) {
+            authorisationDecisionCache.preload(userId, artefacts);
+        }
+    }
+
+    private boolean isDisplayed(Artefact artefact, LocalDateTime currentDate) {
+        return artefact.getDisplayFrom() != null && artefact.getDisplayFrom().isBefore(currentDate)
+            && (artefact.getDisplayTo() == null || artefact.getDisplayTo().isAfter(currentDate));
+    }
+
     public boolean payloadWithinJsonSearchLimit(Float artefactPayloadSize) {
         return artefactPayloadSize == null || artefactPayloadSize < maxPayloadSizeForJsonSearch;
     }
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.pip.data.management.service.publication;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
@@ -12,6 +13,8 @@ import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.Artefact
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.CreateListSearchConfigConflictException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPage;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPageCursor;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.ListSearchConfig;
 import uk.gov.hmcts.reform.pip.data.management.utils.CaseSearchTerm;
 import uk.gov.hmcts.reform.pip.model.enums.UserActions;
@@ -31,16 +34,19 @@ public class PublicationSearchService {
     private final ArtefactSearchRepository artefactSearchRepository;
     private final ListSearchConfigRepository listSearchConfigRepository;
     private final PublicationRetrievalService publicationRetrievalService;
+    private final CaseSuggestionIndex caseSuggestionIndex;
 
     @Autowired
     public PublicationSearchService(ArtefactRepository artefactRepository,
                                     ArtefactSearchRepository artefactSearchRepository,
                                     ListSearchConfigRepository listSearchConfigRepository,
-                                    PublicationRetrievalService publicationRetrievalService) {
+                                    PublicationRetrievalService publicationRetrievalService,
+                                    CaseSuggestionIndex caseSuggestionIndex) {
         this.artefactRepository = artefactRepository;
         this.artefactSearchRepository = artefactSearchRepository;
         this.listSearchConfigRepository = listSearchConfigRepository;
         this.publicationRetrievalService = publicationRetrievalService;
+        this.caseSuggestionIndex = caseSuggestionIndex;
     }
 
     /**
@@ -126,6 +132,7 @@ public class PublicationSearchService {
     public List<Artefact> findAllByLocationId(String searchValue, UUID userId) {
         LocalDateTime currDate = LocalDateTime.now();
         List<Artefact> artefacts = artefactRepository.findArtefactsByLocationId(searchValue, currDate);
+        publicationRetrievalService.preloadAuthorisations(artefacts, userId);
 
         return artefacts.stream()
             .filter(artefact -> publicationRetrievalService.isAuthorised(artefact, userId))
@@ -147,6 +154,51 @@ public class PublicationSearchService {
                 : findAllByLocationId(locationId, userId);
     }
 
+    /**
+     * Get a page of the artefacts for a location, ordered by content date and artefact ID. For non-admin requests,
+     * artefacts the user is not authorised to see are removed from the page, so a page can hold fewer artefacts than
+     * the page size while still having a next cursor.
+     *
+     * @param locationId The location id to search for.
+     * @param userId     represents the user ID of the user who is making the request
+     * @param isAdmin    bool to check whether admin search is needed, as in findAllByLocationIdAdmin().
+     * @param cursor     the cursor returned with the previous page, or null for the first page.
+     * @param pageSize   the maximum number of artefacts on the page.
+     * @return the page of matching artefacts.
+     */
+    public ArtefactPage findPageByLocationIdAdmin(String locationId, UUID userId, boolean isAdmin,
+                                                  String cursor, int pageSize) {
+        LocalDateTime currDate = LocalDateTime.now();
+        ArtefactPageCursor after = cursor == null ? null : ArtefactPageCursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Artefact> artefacts;
+        if (isAdmin) {
+            artefacts = after == null
+                ? artefactRepository.findArtefactsPageByLocationIdAdmin(locationId, currDate, limit)
+                : artefactRepository.findArtefactsPageByLocationIdAdminAfter(
+                    locationId, currDate, after.getContentDate(), after.getArtefactId(), limit);
+        } else {
+            artefacts = after == null
+                ? artefactRepository.findArtefactsPageByLocationId(locationId, currDate, limit)
+                : artefactRepository.findArtefactsPageByLocationIdAfter(
+                    locationId, currDate, after.getContentDate(), after.getArtefactId(), limit);
+        }
+
+        ArtefactPage page = ArtefactPage.of(artefacts, pageSize);
+        if (isAdmin) {
+            return page;
+        }
+
+        publicationRetrievalService.preloadAuthorisations(page.getArtefacts(), userId);
+        return new ArtefactPage(
+            page.getArtefacts().stream()
+                .filter(artefact -> publicationRetrievalService.isAuthorised(artefact, userId))
+                .toList(),
+            page.getNextCursor()
+        );
+    }
+
     /**
      * Get all relevant Artefacts based on search values stored in the Artefact.
      *
@@ -167,6 +219,7 @@ public class PublicationSearchService {
             default -> throw new IllegalArgumentException(String.format("Invalid search term: %s", searchTerm));
         }
 
+        publicationRetrievalService.preloadAuthorisations(artefacts, userId);
         artefacts = artefacts.stream()
             .filter(artefact -> publicationRetrievalService.isAuthorised(artefact, userId))
             .toList();
@@ -196,8 +249,8 @@ public class PublicationSearchService {
      * Get all case number/name pairs from the artefact_search table matching the given case name.
      *
      * @param caseName the case name to search for (case-insensitive)
-     * @return list of ArtefactCaseInfo containing case number and case name pairs (only the top 50 matches are
-     *         returned for fuzzy search)
+     * @return list of ArtefactCaseInfo containing case number and case name pairs (only the top 50 matches, ranked by
+     *         similarity to the given case name, are returned for fuzzy search)
      */
     public List<ArtefactCaseInfo> findCasesByCaseName(String caseName, boolean fuzzySearch) {
         LocalDateTime currDate = LocalDateTime.now();
@@ -209,4 +262,15 @@ public class PublicationSearchService {
             .map(r -> new ArtefactCaseInfo(r.getCaseNumber(), r.getCaseName()))
             .toList();
     }
+
+    /**
+     * Suggest case number/name pairs of displayed publications as the user types, from the in-memory case suggestion
+     * index.
+     *
+     * @param searchValue the text entered so far, matched against the start of the case number or any case name word
+     * @return list of ArtefactCaseInfo containing the suggested case number and case name pairs
+     */
+    public List<ArtefactCaseInfo> suggestCases(String searchValue) {
+        return caseSuggestionIndex.suggest(searchValue);
+    }
 }
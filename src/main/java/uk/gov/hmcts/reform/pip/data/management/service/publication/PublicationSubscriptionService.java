@@ -2,11 +2,16 @@ package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSummaryRepository;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.ProcessingException;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSearch;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSummary;
 import uk.gov.hmcts.reform.pip.data.management.service.AccountManagementService;
 import uk.gov.hmcts.reform.pip.data.management.service.ListConversionFactory;
 import uk.gov.hmcts.reform.pip.data.management.service.artefactsummary.ArtefactSummaryData;
@@ -23,7 +28,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static uk.gov.hmcts.reform.pip.model.LogBuilder.writeLog;
+
+@Slf4j
 @Service
 public class PublicationSubscriptionService {
     private static final ObjectMapper MAPPER = new ObjectMapper();
@@ -33,19 +42,22 @@ public class PublicationSubscriptionService {
     private final ArtefactRepository artefactRepository;
     private final ArtefactSearchRepository artefactSearchRepository;
     private final AccountManagementService accountManagementService;
+    private final ArtefactSummaryRepository artefactSummaryRepository;
 
     public PublicationSubscriptionService(PublicationRetrievalService publicationRetrievalService,
                                           PublicationSummaryGenerationService publicationSummaryGenerationService,
                                           ListConversionFactory listConversionFactory,
                                           ArtefactRepository artefactRepository,
                                           ArtefactSearchRepository artefactSearchRepository,
-                                          AccountManagementService accountManagementService) {
+                                          AccountManagementService accountManagementService,
+                                          ArtefactSummaryRepository artefactSummaryRepository) {
         this.publicationRetrievalService = publicationRetrievalService;
         this.publicationSummaryGenerationService = publicationSummaryGenerationService;
         this.listConversionFactory = listConversionFactory;
         this.artefactRepository = artefactRepository;
         this.artefactSearchRepository = artefactSearchRepository;
         this.accountManagementService = accountManagementService;
+        this.artefactSummaryRepository = artefactSummaryRepository;
     }
 
     /**
@@ -106,7 +118,23 @@ public class PublicationSubscriptionService {
     }
 
     /**
-     * Generate the artefact summary by provided artefact id.
+     * Send many deleted artefacts to the third party API subscribers. The artefacts must have been converted to the
+     * shared model before they were deleted, so they still carry their case information.
+     *
+     * @param artefacts The deleted artefacts, in the shared model.
+     * @return The failure message of each artefact which failed to send, keyed by artefact ID.
+     */
+    public Map<UUID, String> sendDeleteArtefactsForApiSubscription(
+        List<uk.gov.hmcts.reform.pip.model.publication.Artefact> artefacts) {
+        if (artefacts.isEmpty()) {
+            return Map.of();
+        }
+        return accountManagementService.sendDeletedArtefactsForThirdParties(artefacts);
+    }
+
+    /**
+     * Generate the artefact summary by provided artefact id. The summary precomputed for the current version of the
+     * artefact is returned if present, otherwise the summary is generated from the payload and stored.
      *
      * @param artefactId The artefact Id to generate the summary for.
      * @return A string of the generated summary
@@ -120,20 +148,105 @@ public class PublicationSubscriptionService {
             return "";
         }
 
-        try {
-            String rawJson = publicationRetrievalService.getPayloadByArtefactId(artefactId);
-            Map<String, List<Map<String, String>>> summaryData = artefactSummaryData.get()
-                .get(MAPPER.readTree(rawJson));
+        Optional<ArtefactSummary> storedSummary = artefactSummaryRepository
+            .findByArtefactIdAndSupersededCount(artefactId, artefact.getSupersededCount());
+        if (storedSummary.isPresent()) {
+            return storedSummary.get().getSummary();
+        }
+
+        String rawJson = publicationRetrievalService.getPayloadByArtefactId(artefactId);
+        String summary = buildArtefactSummary(artefactId, artefactSummaryData.get(), rawJson);
+        storeArtefactSummary(artefact, summary);
+        return summary;
+    }
+
+    /**
+     * Generate and store the summary of a newly uploaded artefact, so it does not need to be generated from the
+     * stored payload when the subscription emails are sent. Failures are logged, as the summary can still be
+     * generated on request.
+     *
+     * @param artefact The artefact to generate the summary for.
+     * @param payload The payload of the artefact.
+     */
+    public void precomputeArtefactSummary(Artefact artefact, String payload) {
+        listConversionFactory.getArtefactSummaryData(artefact.getListType()).ifPresent(artefactSummaryData -> {
+            try {
+                storeArtefactSummary(
+                    artefact, buildArtefactSummary(artefact.getArtefactId(), artefactSummaryData, payload)
+                );
+            } catch (ProcessingException ex) {
+                log.error(writeLog(String.format("Failed to precompute summary for artefact id %s: %s",
+                                                 artefact.getArtefactId(), ex.getMessage())));
+            }
+        });
+    }
+
+    /**
+     * Remove the stored summary of an artefact, e.g. when it has been superseded.
+     *
+     * @param artefactId The artefact Id to remove the summary for.
+     */
+    public void deleteArtefactSummary(UUID artefactId) {
+        artefactSummaryRepository.deleteByArtefactId(artefactId);
+    }
 
+    private String buildArtefactSummary(UUID artefactId, ArtefactSummaryData artefactSummaryData, String rawJson) {
+        try {
+            Map<String, List<Map<String, String>>> summaryData = artefactSummaryData.get(MAPPER.readTree(rawJson));
             return publicationSummaryGenerationService.generate(summaryData);
         } catch (JsonProcessingException ex) {
             throw new ProcessingException(String.format("Failed to generate summary for artefact id %s", artefactId));
         }
     }
 
+    private void storeArtefactSummary(Artefact artefact, String summary) {
+        if (summary == null) {
+            return;
+        }
+
+        try {
+            artefactSummaryRepository.upsertSummary(artefact.getArtefactId(), artefact.getSupersededCount(), summary,
+                                                    LocalDateTime.now());
+        } catch (DataAccessException ex) {
+            log.error(writeLog(String.format("Failed to store summary for artefact id %s: %s",
+                                             artefact.getArtefactId(), ex.getMessage())));
+        }
+    }
+
     public uk.gov.hmcts.reform.pip.model.publication.Artefact convertArtefactToSharedModel(Artefact artefact) {
+        return convertArtefactToSharedModel(
+            artefact, artefactSearchRepository.findByArtefactId(artefact.getArtefactId())
+        );
+    }
+
+    /**
+     * Convert many artefacts to the shared model, looking up the case information of all of them in one query.
+     *
+     * @param artefacts The artefacts to convert.
+     * @return The artefacts in the shared model, in the same order.
+     */
+    public List<uk.gov.hmcts.reform.pip.model.publication.Artefact> convertArtefactsToSharedModel(
+        List<Artefact> artefacts) {
+        if (artefacts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<ArtefactSearch>> searchRowsByArtefactId = artefactSearchRepository
+            .findByArtefactIdIn(artefacts.stream().map(Artefact::getArtefactId).toList())
+            .stream()
+            .collect(Collectors.groupingBy(ArtefactSearch::getArtefactId));
+
+        return artefacts.stream()
+            .map(artefact -> convertArtefactToSharedModel(
+                artefact, searchRowsByArtefactId.getOrDefault(artefact.getArtefactId(), List.of())
+            ))
+            .toList();
+    }
+
+    private uk.gov.hmcts.reform.pip.model.publication.Artefact convertArtefactToSharedModel(
+        Artefact artefact, List<ArtefactSearch> searchRows) {
         List<ArtefactCaseInfo> artefactCaseInfo = new ArrayList<>();
-        artefactSearchRepository.findByArtefactId(artefact.getArtefactId()).forEach(row -> {
+        searchRows.forEach(row -> {
             artefactCaseInfo.add(ArtefactCaseInfo.builder()
                 .caseNumber(row.getCaseNumber())
                 .caseName(row.getCaseName())
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS publication_file_manifest (
+  id uuid NOT NULL PRIMARY KEY,
+  artefact_id uuid NOT NULL,
+  file_name varchar(255) NOT NULL,
+  file_size bigint,
+  content_hash varchar(64),
+  generated_date timestamp,
+
+  CONSTRAINT fk_publication_file_manifest_artefact_id
+  FOREIGN KEY (artefact_id)
+  REFERENCES artefact (artefact_id)
+  ON DELETE CASCADE
+  );
+
+CREATE INDEX IF NOT EXISTS publication_file_manifest_artefact_id_idx
+  ON publication_file_manifest (artefact_id);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS artefact_summary (
+  artefact_id uuid NOT NULL PRIMARY KEY,
+  superseded_count integer NOT NULL,
+  summary text NOT NULL,
+  generated_date timestamp,
+
+  CONSTRAINT fk_artefact_summary_artefact_id
+  FOREIGN KEY (artefact_id)
+  REFERENCES artefact (artefact_id)
+  ON DELETE CASCADE
+  );
@@ -0,0 +1,26 @@
+--
+-- Store the artefact search metadata as jsonb so the legacy case searches can be served from indexes
+--
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE artefact
+  ALTER COLUMN search TYPE jsonb USING search::jsonb;
+
+-- Case names in the search metadata, lower cased and separated by new lines, for substring matching
+CREATE OR REPLACE FUNCTION artefact_search_case_names(search jsonb)
+  RETURNS text
+  LANGUAGE sql
+  IMMUTABLE
+  PARALLEL SAFE
+AS $$
+  SELECT lower(string_agg(cases ->> 'caseName', E'\n'))
+  FROM jsonb_array_elements(
+    CASE WHEN jsonb_typeof(search -> 'cases') = 'array' THEN search -> 'cases' ELSE '[]'::jsonb END
+  ) cases
+$$;
+
+CREATE INDEX IF NOT EXISTS artefact_search_cases_idx
+  ON artefact USING GIN ((search -> 'cases') jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS artefact_search_case_names_idx
+  ON artefact USING GIN (artefact_search_case_names(search) gin_trgm_ops);
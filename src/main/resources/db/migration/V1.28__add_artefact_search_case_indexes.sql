@@ -0,0 +1,13 @@
+--
+-- Index the case number and case name searches on artefact_search
+--
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS artefact_search_case_number_lower_idx
+  ON artefact_search (lower(case_number));
+
+CREATE INDEX IF NOT EXISTS artefact_search_case_name_lower_idx
+  ON artefact_search (lower(case_name));
+
+CREATE INDEX IF NOT EXISTS artefact_search_case_name_trgm_idx
+  ON artefact_search USING GIN (lower(case_name) gin_trgm_ops);
@@ -0,0 +1,8 @@
+--
+-- Support keyset pagination of the location and no-match publication listings, ordered by content date and artefact ID
+--
+CREATE INDEX IF NOT EXISTS artefact_location_id_content_date_artefact_id_idx
+  ON artefact (location_id, content_date, artefact_id);
+
+CREATE INDEX IF NOT EXISTS artefact_content_date_artefact_id_idx
+  ON artefact (content_date, artefact_id);
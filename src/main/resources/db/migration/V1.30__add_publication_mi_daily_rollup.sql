@@ -0,0 +1,36 @@
+CREATE TABLE IF NOT EXISTS publication_mi_daily_rollup (
+  id bigserial PRIMARY KEY,
+  received_date date NOT NULL,
+  provenance varchar(255) NOT NULL,
+  list_type varchar(255) NOT NULL,
+  location_id varchar(255) NOT NULL,
+  language varchar(255) NOT NULL,
+  sensitivity varchar(255) NOT NULL,
+  publication_count bigint NOT NULL DEFAULT 0,
+  superseded_count bigint NOT NULL DEFAULT 0,
+  archived_count bigint NOT NULL DEFAULT 0,
+
+  CONSTRAINT publication_mi_daily_rollup_key
+  UNIQUE (received_date, provenance, list_type, location_id, language, sensitivity)
+  );
+
+INSERT INTO publication_mi_daily_rollup (received_date, provenance, list_type, location_id, language, sensitivity,
+                                         publication_count, superseded_count, archived_count)
+SELECT CAST(mi.last_received_date AS date),
+       COALESCE(mi.provenance, ''),
+       COALESCE(mi.list_type, ''),
+       COALESCE(mi.location_id, ''),
+       COALESCE(mi.language, ''),
+       COALESCE(mi.sensitivity, ''),
+       COUNT(*),
+       COALESCE(SUM(mi.superseded_count), 0),
+       COUNT(*) FILTER (WHERE mi.archived)
+FROM (SELECT last_received_date, provenance, list_type, location_id, language, sensitivity, superseded_count,
+             false AS archived
+      FROM artefact
+      UNION ALL
+      SELECT last_received_date, provenance, list_type, location_id, language, sensitivity, superseded_count,
+             true AS archived
+      FROM artefact_archived) mi
+WHERE mi.last_received_date IS NOT NULL
+GROUP BY 1, 2, 3, 4, 5, 6;
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS location_artefact_count (
+  location_id varchar(255) NOT NULL PRIMARY KEY,
+  artefact_count integer NOT NULL DEFAULT 0
+  );
+
+INSERT INTO location_artefact_count (location_id, artefact_count)
+SELECT CASE WHEN location_id LIKE '%NoMatch%' THEN 'noMatch' ELSE location_id END, COUNT(*)
+FROM artefact
+WHERE (location_id ~ '^[0-9]+$' OR location_id LIKE '%NoMatch%')
+  AND (display_to > LOCALTIMESTAMP OR display_to IS NULL)
+GROUP BY 1;
@@ -0,0 +1,9 @@
+--
+-- Unique indexes are required to refresh the materialised views concurrently, without blocking readers.
+-- An artefact is never both current and archived, but is_archived is included so the index cannot fail to build.
+--
+CREATE UNIQUE INDEX IF NOT EXISTS sdp_mat_view_artefact_artefact_id_idx
+  ON sdp_mat_view_artefact (artefact_id, is_archived);
+
+CREATE UNIQUE INDEX IF NOT EXISTS sdp_mat_view_location_location_id_idx
+  ON sdp_mat_view_location (location_id);
@@ -0,0 +1,14 @@
+--
+-- Support the display window, daily subscription and expiry queries on artefact with index range scans
+--
+CREATE INDEX IF NOT EXISTS artefact_location_id_display_from_display_to_idx
+  ON artefact (location_id, display_from, display_to);
+
+CREATE INDEX IF NOT EXISTS artefact_list_type_content_date_idx
+  ON artefact (list_type, content_date);
+
+CREATE INDEX IF NOT EXISTS artefact_display_from_idx
+  ON artefact (display_from);
+
+CREATE INDEX IF NOT EXISTS artefact_display_to_idx
+  ON artefact (display_to);
@@ -0,0 +1,13 @@
+--
+-- Flag NoMatch artefacts, so they can be found from an index rather than by a wildcard match on the location ID
+--
+ALTER TABLE artefact
+  ADD COLUMN IF NOT EXISTS is_no_match BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE artefact SET is_no_match = TRUE WHERE location_id LIKE '%NoMatch%';
+
+CREATE INDEX IF NOT EXISTS artefact_no_match_content_date_artefact_id_idx
+  ON artefact (content_date, artefact_id) WHERE is_no_match;
+
+-- The no-match listing now uses the partial index above, so the full content date index is no longer used
+DROP INDEX IF EXISTS artefact_content_date_artefact_id_idx;
@@ -0,0 +1,13 @@
+--
+-- Order the listing pages with artefacts without a content date first, so keyset pagination reaches every artefact.
+-- The expression must match the listing page queries in ArtefactRepository.
+--
+DROP INDEX IF EXISTS artefact_location_id_content_date_artefact_id_idx;
+
+CREATE INDEX IF NOT EXISTS artefact_location_id_page_content_date_artefact_id_idx
+  ON artefact (location_id, (COALESCE(content_date, TIMESTAMP '1900-01-01 00:00:00')), artefact_id);
+
+DROP INDEX IF EXISTS artefact_no_match_content_date_artefact_id_idx;
+
+CREATE INDEX IF NOT EXISTS artefact_no_match_page_content_date_artefact_id_idx
+  ON artefact ((COALESCE(content_date, TIMESTAMP '1900-01-01 00:00:00')), artefact_id) WHERE is_no_match;
@@ -0,0 +1,16 @@
+--
+-- Record the blobs of archived artefacts until they are deleted, so deletions interrupted after the archive commits
+-- are retried by the next archival run
+--
+CREATE TABLE IF NOT EXISTS pending_blob_deletion (
+  artefact_id uuid NOT NULL PRIMARY KEY,
+  payload varchar(255),
+  is_flat_file boolean,
+  location_id varchar(255),
+  list_type varchar(255),
+  language varchar(255),
+  created_date timestamp NOT NULL
+  );
+
+CREATE INDEX IF NOT EXISTS pending_blob_deletion_created_date_idx
+  ON pending_blob_deletion (created_date);
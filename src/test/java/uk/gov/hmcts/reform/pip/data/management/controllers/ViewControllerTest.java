@@ -25,7 +25,8 @@ class ViewControllerTest {
     @Test
     void testResponseFromViewService() {
         ResponseEntity<Void> response = viewController.refreshView();
-        assertEquals(HttpStatus.OK, response.getStatusCode(), "Unknown response message returned from controller");
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode(),
+                     "Unknown response message returned from controller");
         verify(viewService, times(1)).refreshView();
     }
 
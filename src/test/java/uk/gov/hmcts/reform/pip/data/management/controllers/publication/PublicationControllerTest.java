@@ -9,15 +9,22 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FileFormatNotSupportedException;
+import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactHelper;
+import uk.gov.hmcts.reform.pip.data.management.models.StoredPayload;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.HeaderGroup;
 import uk.gov.hmcts.reform.pip.data.management.service.ExcelConversionService;
@@ -32,7 +39,9 @@ import uk.gov.hmcts.reform.pip.model.publication.Language;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -43,6 +52,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -82,6 +92,10 @@ class PublicationControllerTest {
         "The expected exception does not contain the correct message";
     private static final String ARTEFACT_MATCH_MESSAGE = "Artefact does not match";
     private static final String NOT_EQUAL_MESSAGE = "The expected strings are not the same";
+    private static final String HEADER_MESSAGE = "Header does not match";
+    private static final String GZIP = "gzip";
+    private static final StoredPayload STORED_PAYLOAD = new StoredPayload("payload-id", 100, "\"etag\"", null);
+    private static final StoredPayload GZIP_STORED_PAYLOAD = new StoredPayload("payload-id", 50, "\"etag\"", GZIP);
     private static final String DELETED_MESSAGE = "Successfully deleted artefact: ";
     private static final String NO_MATCH = "NoMatch";
     private static final String FILE_NAME = "TestFileName";
@@ -252,19 +266,27 @@ class PublicationControllerTest {
 
     @Test
     void testGetMetadataEndpointReturnsOk() {
-        assertEquals(HttpStatus.OK, publicationController.getArtefactMetadata(ARTEFACT_ID, USER_ID, false)
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID)).thenReturn(artefactWithId);
+        assertEquals(HttpStatus.OK, publicationController.getArtefactMetadata(ARTEFACT_ID, USER_ID, false,
+                                                                              buildWebRequest(null))
             .getStatusCode(), STATUS_CODE_MATCH);
     }
 
     @Test
     void testGetPayloadEndpointReturnsOkWhenAdmin() {
-        assertEquals(HttpStatus.OK, publicationController.getArtefactPayload(ARTEFACT_ID, USER_ID, true)
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID)).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(STORED_PAYLOAD);
+        assertEquals(HttpStatus.OK, publicationController.getArtefactPayload(ARTEFACT_ID, USER_ID, true, null,
+                                                                             buildWebRequest(null))
             .getStatusCode(), STATUS_CODE_MATCH);
     }
 
     @Test
     void testGetPayloadEndpointReturnsOkWhenNotAdmin() {
-        assertEquals(HttpStatus.OK, publicationController.getArtefactPayload(ARTEFACT_ID, USER_ID, false)
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID)).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(STORED_PAYLOAD);
+        assertEquals(HttpStatus.OK, publicationController.getArtefactPayload(ARTEFACT_ID, USER_ID, false, null,
+                                                                             buildWebRequest(null))
             .getStatusCode(), STATUS_CODE_MATCH);
     }
 
@@ -273,7 +295,7 @@ class PublicationControllerTest {
         when(publicationRetrievalService.getMetadataByArtefactId(any(), any()))
             .thenReturn(artefactWithId);
         ResponseEntity<Artefact> unmappedBlob = publicationController
-            .getArtefactMetadata(UUID.randomUUID(), USER_ID, false);
+            .getArtefactMetadata(UUID.randomUUID(), USER_ID, false, buildWebRequest(null));
 
         assertEquals(HttpStatus.OK, unmappedBlob.getStatusCode(),
                      STATUS_CODE_MATCH
@@ -286,7 +308,7 @@ class PublicationControllerTest {
         when(publicationRetrievalService.getMetadataByArtefactId(any()))
             .thenReturn(artefactWithId);
         ResponseEntity<Artefact> unmappedBlob = publicationController
-            .getArtefactMetadata(UUID.randomUUID(), USER_ID, true);
+            .getArtefactMetadata(UUID.randomUUID(), USER_ID, true, buildWebRequest(null));
 
         assertEquals(HttpStatus.OK, unmappedBlob.getStatusCode(),
                      STATUS_CODE_MATCH
@@ -296,53 +318,255 @@ class PublicationControllerTest {
 
 
     @Test
-    void checkGetPayloadContentReturns() {
-        when(publicationRetrievalService.getPayloadByArtefactId(any(), any()))
-            .thenReturn(String.valueOf(artefactWithId));
-        ResponseEntity<String> unmappedBlob =
-            publicationController.getArtefactPayload(UUID.randomUUID(), USER_ID, false);
-        assertEquals(HttpStatus.OK, unmappedBlob.getStatusCode(),
+    void checkGetPayloadContentReturns() throws IOException {
+        when(publicationRetrievalService.getMetadataByArtefactId(any(), any())).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(STORED_PAYLOAD);
+        ResponseEntity<StreamingResponseBody> payload =
+            publicationController.getArtefactPayload(UUID.randomUUID(), USER_ID, false, null, buildWebRequest(null));
+        assertEquals(HttpStatus.OK, payload.getStatusCode(),
                      STATUS_CODE_MATCH
         );
-        assertEquals(artefactWithId.toString(), unmappedBlob.getBody(), NOT_EQUAL_MESSAGE);
+        assertEquals(STORED_PAYLOAD.getSize(), payload.getHeaders().getContentLength(), HEADER_MESSAGE);
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(payload.getHeaders().getContentType()),
+                   HEADER_MESSAGE);
+
+        OutputStream outputStream = new ByteArrayOutputStream();
+        payload.getBody().writeTo(outputStream);
+        verify(publicationRetrievalService).streamStoredPayload(STORED_PAYLOAD, outputStream, 0,
+                                                                STORED_PAYLOAD.getSize());
     }
 
+    @Test
+    void checkGetPayloadPassesThroughGzipWhenAccepted() throws IOException {
+        when(publicationRetrievalService.getMetadataByArtefactId(any(), any())).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(GZIP_STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> payload =
+            publicationController.getArtefactPayload(UUID.randomUUID(), USER_ID, false, "deflate, gzip;q=0.8",
+                                                     buildWebRequest(null));
+
+        assertEquals(HttpStatus.OK, payload.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(GZIP, payload.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), HEADER_MESSAGE);
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), payload.getHeaders().getVary(), HEADER_MESSAGE);
+        assertEquals(GZIP_STORED_PAYLOAD.getSize(), payload.getHeaders().getContentLength(), HEADER_MESSAGE);
+
+        OutputStream outputStream = new ByteArrayOutputStream();
+        payload.getBody().writeTo(outputStream);
+        verify(publicationRetrievalService).streamStoredPayload(GZIP_STORED_PAYLOAD, outputStream, 0,
+                                                                GZIP_STORED_PAYLOAD.getSize());
+    }
+
+    @Test
+    void checkGetPayloadDecompressesGzipWhenNotAccepted() throws IOException {
+        when(publicationRetrievalService.getMetadataByArtefactId(any(), any())).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(GZIP_STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> payload =
+            publicationController.getArtefactPayload(UUID.randomUUID(), USER_ID, false, "gzip;q=0, br",
+                                                     buildWebRequest(null));
+
+        assertEquals(HttpStatus.OK, payload.getStatusCode(), STATUS_CODE_MATCH);
+        assertNull(payload.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), HEADER_MESSAGE);
+        assertEquals(-1, payload.getHeaders().getContentLength(), HEADER_MESSAGE);
+
+        OutputStream outputStream = new ByteArrayOutputStream();
+        payload.getBody().writeTo(outputStream);
+        verify(publicationRetrievalService).streamDecompressedPayload(GZIP_STORED_PAYLOAD, outputStream);
+    }
 
     @Test
     void checkGetFileContentReturns() {
-        String string = "Hello";
-        byte[] testData = string.getBytes();
-        when(publicationRetrievalService.getFlatFileByArtefactID(any(), any()))
-            .thenReturn(new ByteArrayResource(testData));
         when(publicationRetrievalService.getMetadataByArtefactId(any(), any())).thenReturn(artefactWithId);
-        ResponseEntity<Resource> flatFileBlob = publicationController.getArtefactFile(
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(STORED_PAYLOAD);
+        ResponseEntity<StreamingResponseBody> flatFileBlob = publicationController.getArtefactFile(
             UUID.randomUUID(),
             USER_ID,
-            false
+            false,
+            null,
+            null,
+            null,
+            buildWebRequest(null)
         );
         assertEquals(HttpStatus.OK, flatFileBlob.getStatusCode(), STATUS_CODE_MATCH);
-        assertEquals(new ByteArrayResource(testData), flatFileBlob.getBody(), NOT_EQUAL_MESSAGE);
+        assertEquals(STORED_PAYLOAD.getSize(), flatFileBlob.getHeaders().getContentLength(), HEADER_MESSAGE);
         String filename = flatFileBlob.getHeaders().get("Content-Disposition").toString();
         assertTrue(filename.contains(artefactWithId.getSourceArtefactId()), NOT_EQUAL_MESSAGE);
     }
 
     @Test
     void checkGetFileContentAdminReturns() {
-        String string = "Hello";
-        byte[] testData = string.getBytes();
-        when(publicationRetrievalService.getFlatFileByArtefactID(any())).thenReturn(new ByteArrayResource(testData));
         when(publicationRetrievalService.getMetadataByArtefactId(any())).thenReturn(artefactWithId);
-        ResponseEntity<Resource> flatFileBlob = publicationController.getArtefactFile(
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(STORED_PAYLOAD);
+        ResponseEntity<StreamingResponseBody> flatFileBlob = publicationController.getArtefactFile(
             UUID.randomUUID(),
             USER_ID,
-            true
+            true,
+            null,
+            null,
+            null,
+            buildWebRequest(null)
         );
         assertEquals(HttpStatus.OK, flatFileBlob.getStatusCode(), STATUS_CODE_MATCH);
-        assertEquals(new ByteArrayResource(testData), flatFileBlob.getBody(), NOT_EQUAL_MESSAGE);
         String filename = flatFileBlob.getHeaders().get("Content-Disposition").toString();
         assertTrue(filename.contains(artefactWithId.getSourceArtefactId()), NOT_EQUAL_MESSAGE);
     }
 
+    @Test
+    void checkGetFileContentWithRange() throws IOException {
+        when(publicationRetrievalService.getMetadataByArtefactId(any(), any())).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> flatFileBlob = publicationController.getArtefactFile(
+            UUID.randomUUID(), USER_ID, false, null, "bytes=10-19", null, buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, flatFileBlob.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(10, flatFileBlob.getHeaders().getContentLength(), HEADER_MESSAGE);
+        assertEquals("bytes 10-19/100", flatFileBlob.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE),
+                     HEADER_MESSAGE);
+
+        OutputStream outputStream = new ByteArrayOutputStream();
+        flatFileBlob.getBody().writeTo(outputStream);
+        verify(publicationRetrievalService).streamStoredPayload(STORED_PAYLOAD, outputStream, 10, 10);
+    }
+
+    @Test
+    void checkGetFileContentIgnoresRangeWhenIfRangeDoesNotMatch() {
+        when(publicationRetrievalService.getMetadataByArtefactId(any(), any())).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> flatFileBlob = publicationController.getArtefactFile(
+            UUID.randomUUID(), USER_ID, false, null, "bytes=10-19", "\"stale\"", buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.OK, flatFileBlob.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(STORED_PAYLOAD.getSize(), flatFileBlob.getHeaders().getContentLength(), HEADER_MESSAGE);
+    }
+
+    @Test
+    void checkGetMetadataReturnsETag() {
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID)).thenReturn(artefactWithId);
+
+        ResponseEntity<Artefact> metadata = publicationController.getArtefactMetadata(ARTEFACT_ID, USER_ID, false,
+                                                                                      buildWebRequest(null));
+
+        assertEquals(HttpStatus.OK, metadata.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(ArtefactHelper.buildETag(artefactWithId), metadata.getHeaders().getETag(), HEADER_MESSAGE);
+    }
+
+    @Test
+    void checkGetMetadataNotModified() {
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID)).thenReturn(artefactWithId);
+
+        ResponseEntity<Artefact> metadata = publicationController.getArtefactMetadata(
+            ARTEFACT_ID, USER_ID, false, buildWebRequest(ArtefactHelper.buildETag(artefactWithId))
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, metadata.getStatusCode(), STATUS_CODE_MATCH);
+        assertNull(metadata.getBody(), VALIDATION_EXPECTED_MESSAGE);
+    }
+
+    @Test
+    void checkGetPayloadReturnsETag() {
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID)).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> payload = publicationController.getArtefactPayload(
+            ARTEFACT_ID, USER_ID, false, null, buildWebRequest("\"stale\"")
+        );
+
+        assertEquals(HttpStatus.OK, payload.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(ArtefactHelper.buildETag(artefactWithId), payload.getHeaders().getETag(), HEADER_MESSAGE);
+    }
+
+    @Test
+    void checkGetPayloadNotModifiedDoesNotReadBlob() {
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID)).thenReturn(artefactWithId);
+
+        ResponseEntity<StreamingResponseBody> payload = publicationController.getArtefactPayload(
+            ARTEFACT_ID, USER_ID, false, null, buildWebRequest(ArtefactHelper.buildETag(artefactWithId))
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, payload.getStatusCode(), STATUS_CODE_MATCH);
+        verify(publicationRetrievalService, never()).getStoredPayload(any());
+    }
+
+    @Test
+    void checkGetFileNotModifiedDoesNotReadBlob() {
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID)).thenReturn(artefactWithId);
+
+        ResponseEntity<StreamingResponseBody> flatFileBlob = publicationController.getArtefactFile(
+            ARTEFACT_ID, USER_ID, true, null, null, null, buildWebRequest(ArtefactHelper.buildETag(artefactWithId))
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, flatFileBlob.getStatusCode(), STATUS_CODE_MATCH);
+        verify(publicationRetrievalService, never()).getStoredPayload(any());
+    }
+
+    @Test
+    void checkGzipAndDecompressedPayloadsHaveDifferentETags() {
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID)).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(GZIP_STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> gzipPayload = publicationController.getArtefactPayload(
+            ARTEFACT_ID, USER_ID, false, GZIP, buildWebRequest(null)
+        );
+        ResponseEntity<StreamingResponseBody> decompressedPayload = publicationController.getArtefactPayload(
+            ARTEFACT_ID, USER_ID, false, null, buildWebRequest(null)
+        );
+
+        assertEquals(ArtefactHelper.buildETag(artefactWithId, GZIP), gzipPayload.getHeaders().getETag(),
+                     HEADER_MESSAGE);
+        assertEquals(ArtefactHelper.buildETag(artefactWithId), decompressedPayload.getHeaders().getETag(),
+                     HEADER_MESSAGE);
+    }
+
+    @Test
+    void checkGetGzipPayloadNotModifiedOnlyForGzipETag() {
+        when(publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID)).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(GZIP_STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> gzipETagPayload = publicationController.getArtefactPayload(
+            ARTEFACT_ID, USER_ID, false, GZIP, buildWebRequest(ArtefactHelper.buildETag(artefactWithId, GZIP))
+        );
+        ResponseEntity<StreamingResponseBody> identityETagPayload = publicationController.getArtefactPayload(
+            ARTEFACT_ID, USER_ID, false, GZIP, buildWebRequest(ArtefactHelper.buildETag(artefactWithId))
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, gzipETagPayload.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(HttpStatus.OK, identityETagPayload.getStatusCode(), STATUS_CODE_MATCH);
+    }
+
+    @Test
+    void checkGetGzipFileIgnoresRangeWhenIfRangeIsDecompressedETag() {
+        when(publicationRetrievalService.getMetadataByArtefactId(any(), any())).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(GZIP_STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> flatFileBlob = publicationController.getArtefactFile(
+            UUID.randomUUID(), USER_ID, false, GZIP, "bytes=10-19", ArtefactHelper.buildETag(artefactWithId),
+            buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.OK, flatFileBlob.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(GZIP_STORED_PAYLOAD.getSize(), flatFileBlob.getHeaders().getContentLength(), HEADER_MESSAGE);
+        assertEquals(GZIP, flatFileBlob.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), HEADER_MESSAGE);
+    }
+
+    @Test
+    void checkGetGzipFileHonoursRangeWhenIfRangeIsGzipETag() {
+        when(publicationRetrievalService.getMetadataByArtefactId(any(), any())).thenReturn(artefactWithId);
+        when(publicationRetrievalService.getStoredPayload(artefactWithId)).thenReturn(GZIP_STORED_PAYLOAD);
+
+        ResponseEntity<StreamingResponseBody> flatFileBlob = publicationController.getArtefactFile(
+            UUID.randomUUID(), USER_ID, false, GZIP, "bytes=10-19", ArtefactHelper.buildETag(artefactWithId, GZIP),
+            buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, flatFileBlob.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(ArtefactHelper.buildETag(artefactWithId, GZIP), flatFileBlob.getHeaders().getETag(),
+                     HEADER_MESSAGE);
+    }
+
     @Test
     void testCreatePublicationMultipartFile() {
         Map<String, List<Object>> search = new HashMap<>();
@@ -546,4 +770,12 @@ class PublicationControllerTest {
         assertEquals("File format is not supported for LCSU.", exception.getMessage(),
                      "Exception message does not match expected");
     }
+
+    private static WebRequest buildWebRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/publication");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
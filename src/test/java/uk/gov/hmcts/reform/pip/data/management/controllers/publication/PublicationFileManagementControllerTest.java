@@ -5,18 +5,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.pip.data.management.models.PublicationFileSizes;
+import uk.gov.hmcts.reform.pip.data.management.models.StoredPublicationFile;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationFileManagementService;
 import uk.gov.hmcts.reform.pip.model.publication.FileType;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ActiveProfiles("test")
@@ -28,6 +45,12 @@ class PublicationFileManagementControllerTest {
 
     private static final String STATUS_MESSAGE = "Status did not match";
     private static final String RESPONSE_BODY_MESSAGE = "Body did not match";
+    private static final String HEADER_MESSAGE = "Header did not match";
+
+    private static final String ETAG = "\"0x8DC1234567890AB\"";
+    private static final StoredPublicationFile STORED_FILE = new StoredPublicationFile(
+        ARTEFACT_ID + FileType.PDF.getExtension(), FileType.PDF, 100, ETAG
+    );
 
     @Mock
     private PublicationFileManagementService publicationFileManagementService;
@@ -49,6 +72,106 @@ class PublicationFileManagementControllerTest {
         assertEquals(FILE, response.getBody(), RESPONSE_BODY_MESSAGE);
     }
 
+    @Test
+    void testGetFileBinary() throws IOException {
+        when(publicationFileManagementService.getStoredPublicationFile(any(), any(), any(),
+            eq(USER_ID), eq(true), eq(false)
+        )).thenReturn(STORED_FILE);
+
+        ResponseEntity<StreamingResponseBody> response = publicationFileManagementController.getFileBinary(
+            ARTEFACT_ID, FileType.PDF, USER_ID, true, false, null, null, null, buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_MESSAGE);
+        assertEquals(STORED_FILE.getSize(), response.getHeaders().getContentLength(), HEADER_MESSAGE);
+        assertEquals(MediaType.APPLICATION_PDF, response.getHeaders().getContentType(), HEADER_MESSAGE);
+        assertEquals(ETAG, response.getHeaders().getETag(), HEADER_MESSAGE);
+
+        OutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        verify(publicationFileManagementService).streamStoredPublicationFile(STORED_FILE, outputStream, 0,
+                                                                             STORED_FILE.getSize());
+    }
+
+    @Test
+    void testGetFileBinaryWithRange() throws IOException {
+        when(publicationFileManagementService.getStoredPublicationFile(any(), any(), any(),
+            eq(USER_ID), eq(true), eq(false)
+        )).thenReturn(STORED_FILE);
+
+        ResponseEntity<StreamingResponseBody> response = publicationFileManagementController.getFileBinary(
+            ARTEFACT_ID, FileType.PDF, USER_ID, true, false, "bytes=10-19", ETAG, null, buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode(), STATUS_MESSAGE);
+        assertEquals(10, response.getHeaders().getContentLength(), HEADER_MESSAGE);
+        assertEquals("bytes 10-19/100", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE),
+                     HEADER_MESSAGE);
+
+        OutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        verify(publicationFileManagementService).streamStoredPublicationFile(STORED_FILE, outputStream, 10, 10);
+    }
+
+    @Test
+    void testGetFileBinaryIgnoresRangeWhenIfRangeDoesNotMatch() {
+        when(publicationFileManagementService.getStoredPublicationFile(any(), any(), any(),
+            eq(USER_ID), eq(true), eq(false)
+        )).thenReturn(STORED_FILE);
+
+        ResponseEntity<StreamingResponseBody> response = publicationFileManagementController.getFileBinary(
+            ARTEFACT_ID, FileType.PDF, USER_ID, true, false, "bytes=10-19", "\"old\"", null,
+            buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_MESSAGE);
+        assertEquals(STORED_FILE.getSize(), response.getHeaders().getContentLength(), HEADER_MESSAGE);
+    }
+
+    @Test
+    void testGetFileBinaryRangeNotSatisfiable() {
+        when(publicationFileManagementService.getStoredPublicationFile(any(), any(), any(),
+            eq(USER_ID), eq(true), eq(false)
+        )).thenReturn(STORED_FILE);
+
+        ResponseEntity<StreamingResponseBody> response = publicationFileManagementController.getFileBinary(
+            ARTEFACT_ID, FileType.PDF, USER_ID, true, false, "bytes=200-300", null, null, buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode(), STATUS_MESSAGE);
+        assertEquals("bytes */100", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE), HEADER_MESSAGE);
+    }
+
+    @Test
+    void testGetFileBinaryIgnoresInvalidRange() {
+        when(publicationFileManagementService.getStoredPublicationFile(any(), any(), any(),
+            eq(USER_ID), eq(true), eq(false)
+        )).thenReturn(STORED_FILE);
+
+        ResponseEntity<StreamingResponseBody> response = publicationFileManagementController.getFileBinary(
+            ARTEFACT_ID, FileType.PDF, USER_ID, true, false, "bytes=abc", null, null, buildWebRequest(null)
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_MESSAGE);
+        assertEquals(STORED_FILE.getSize(), response.getHeaders().getContentLength(), HEADER_MESSAGE);
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE), HEADER_MESSAGE);
+    }
+
+    @Test
+    void testGetFileBinaryNotModified() {
+        when(publicationFileManagementService.getStoredPublicationFile(any(), any(), any(),
+            eq(USER_ID), eq(true), eq(false)
+        )).thenReturn(STORED_FILE);
+
+        ResponseEntity<StreamingResponseBody> response = publicationFileManagementController.getFileBinary(
+            ARTEFACT_ID, FileType.PDF, USER_ID, true, false, null, null, null, buildWebRequest(ETAG)
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode(), STATUS_MESSAGE);
+        verify(publicationFileManagementService, never()).streamStoredPublicationFile(any(), any(), anyLong(),
+                                                                                      anyLong());
+    }
+
     @Test
     void testFileExists() {
         when(publicationFileManagementService.fileExists(ARTEFACT_ID)).thenReturn(true);
@@ -68,4 +191,23 @@ class PublicationFileManagementControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_MESSAGE);
         assertEquals(fileSizes, response.getBody(), RESPONSE_BODY_MESSAGE);
     }
+
+    @Test
+    void testGetFileSizesForArtefacts() {
+        Map<UUID, PublicationFileSizes> fileSizes = Map.of(ARTEFACT_ID, new PublicationFileSizes(1234L, null, 123L));
+        when(publicationFileManagementService.getFileSizes(List.of(ARTEFACT_ID))).thenReturn(fileSizes);
+
+        ResponseEntity<Map<UUID, PublicationFileSizes>> response =
+            publicationFileManagementController.getFileSizesForArtefacts(List.of(ARTEFACT_ID), USER_ID, false);
+        assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_MESSAGE);
+        assertEquals(fileSizes, response.getBody(), RESPONSE_BODY_MESSAGE);
+    }
+
+    private static WebRequest buildWebRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/publication");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
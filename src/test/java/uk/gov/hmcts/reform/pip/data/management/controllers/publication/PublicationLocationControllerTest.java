@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPage;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationLocationService;
 import uk.gov.hmcts.reform.pip.model.location.LocationType;
 import uk.gov.hmcts.reform.pip.model.publication.ArtefactType;
@@ -94,12 +95,27 @@ class PublicationLocationControllerTest {
         when(publicationLocationService.findAllNoMatchArtefacts()).thenReturn(artefactList);
 
         ResponseEntity<List<Artefact>> response =
-            publicationLocationController.getAllNoMatchArtefacts(USER_ID);
+            publicationLocationController.getAllNoMatchArtefacts(USER_ID, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_CODE_MATCH);
         assertEquals(artefactList, response.getBody(), "Body should match");
     }
 
+    @Test
+    void testGetNoMatchArtefactsPage() {
+        List<Artefact> artefactList = List.of(ARTEFACT_WITH_ID);
+
+        when(publicationLocationService.findNoMatchArtefactsPage(null, 1))
+            .thenReturn(new ArtefactPage(artefactList, "nextCursor"));
+
+        ResponseEntity<List<Artefact>> response =
+            publicationLocationController.getAllNoMatchArtefacts(USER_ID, null, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(artefactList, response.getBody(), "Body should match");
+        assertEquals("nextCursor", response.getHeaders().getFirst("x-next-cursor"), "Next cursor should match");
+    }
+
     @Test
     void testDeleteArtefactsByLocationReturnsOk() throws JsonProcessingException {
         int locationId = 1;
@@ -6,8 +6,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationMiDailyRollup;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationReportingService;
 import uk.gov.hmcts.reform.pip.model.publication.ArtefactType;
 import uk.gov.hmcts.reform.pip.model.publication.Language;
@@ -15,6 +18,9 @@ import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 import uk.gov.hmcts.reform.pip.model.report.PublicationMiData;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -22,6 +28,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ConstantsTestHelper.STATUS_CODE_MATCH;
 
@@ -54,6 +61,33 @@ class PublicationReportingControllerTest {
         assertThat(response.getBody()).containsExactlyInAnyOrder(publicationMiData, publicationMiData2);
     }
 
+    @Test
+    void testExportMiDataReturnsSuccessfully() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = publicationReportingController.exportMiData(7);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType(),
+                     "Content type should be newline delimited JSON");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        verify(publicationReportingService).writeMiData(7, outputStream);
+    }
+
+    @Test
+    void testDailyMiDataReturnsSuccessfully() {
+        PublicationMiDailyRollup rollup = new PublicationMiDailyRollup(
+            1L, LocalDate.now(), "MANUAL_UPLOAD", ListType.CIVIL_DAILY_CAUSE_LIST.name(), "1",
+            Language.ENGLISH.name(), Sensitivity.PUBLIC.name(), 2, 0, 1);
+
+        when(publicationReportingService.getDailyMiData(7)).thenReturn(List.of(rollup));
+
+        ResponseEntity<List<PublicationMiDailyRollup>> response = publicationReportingController.getDailyMiData(7);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), STATUS_CODE_MATCH);
+        assertThat(response.getBody()).containsExactly(rollup);
+    }
+
     @Test
     void testReportNoMatchArtefactsSuccess() {
         doNothing().when(publicationReportingService).reportNoMatchArtefacts();
@@ -6,10 +6,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPage;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.ListSearchConfig;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationSearchService;
 import uk.gov.hmcts.reform.pip.data.management.utils.CaseSearchTerm;
@@ -26,6 +33,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.SEARCH_VALUES;
@@ -48,6 +56,8 @@ class PublicationSearchControllerTest {
     private static final String EMPTY_FIELD = "";
     private static final CaseSearchTerm SEARCH_TERM = CaseSearchTerm.CASE_ID;
     private static final String TEST_STRING = "test";
+    private static final String NEXT_CURSOR = "cursor";
+    private static final String NEXT_CURSOR_HEADER = "x-next-cursor";
     private static final String VALIDATION_EXPECTED_MESSAGE =
         "The expected exception does not contain the correct message";
 
@@ -191,10 +201,80 @@ class PublicationSearchControllerTest {
 
         when(publicationSearchService.findAllByLocationIdAdmin(EMPTY_FIELD, USER_ID, false)).thenReturn(artefactList);
         ResponseEntity<List<Artefact>> unmappedArtefact = publicationSearchController
-            .getAllRelevantArtefactsByLocationId(EMPTY_FIELD, USER_ID, false);
+            .getAllRelevantArtefactsByLocationId(EMPTY_FIELD, USER_ID, false, null, null, buildWebRequest(null));
 
         assertEquals(artefactList, unmappedArtefact.getBody(), VALIDATION_EXPECTED_MESSAGE);
         assertEquals(HttpStatus.OK, unmappedArtefact.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals(ArtefactHelper.buildETag(artefactList), unmappedArtefact.getHeaders().getETag(),
+                     MESSAGES_MATCH);
+    }
+
+    @Test
+    void checkGetArtefactsByCourtIdReturnsNotModified() {
+        List<Artefact> artefactList = List.of(ARTEFACT_WITH_ID);
+
+        when(publicationSearchService.findAllByLocationIdAdmin(EMPTY_FIELD, USER_ID, false)).thenReturn(artefactList);
+        ResponseEntity<List<Artefact>> unmappedArtefact = publicationSearchController
+            .getAllRelevantArtefactsByLocationId(EMPTY_FIELD, USER_ID, false, null, null,
+                                                 buildWebRequest(ArtefactHelper.buildETag(artefactList)));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, unmappedArtefact.getStatusCode(), STATUS_CODE_MATCH);
+    }
+
+    @Test
+    void checkGetArtefactsPageByCourtIdReturnsNextCursor() {
+        List<Artefact> artefactList = List.of(ARTEFACT_WITH_ID);
+
+        when(publicationSearchService.findPageByLocationIdAdmin(EMPTY_FIELD, USER_ID, true, NEXT_CURSOR, 1))
+            .thenReturn(new ArtefactPage(artefactList, "nextCursor"));
+        ResponseEntity<List<Artefact>> unmappedArtefact = publicationSearchController
+            .getAllRelevantArtefactsByLocationId(EMPTY_FIELD, USER_ID, true, NEXT_CURSOR, 1, buildWebRequest(null));
+
+        assertEquals(artefactList, unmappedArtefact.getBody(), VALIDATION_EXPECTED_MESSAGE);
+        assertEquals(HttpStatus.OK, unmappedArtefact.getStatusCode(), STATUS_CODE_MATCH);
+        assertEquals("nextCursor", unmappedArtefact.getHeaders().getFirst(NEXT_CURSOR_HEADER), MESSAGES_MATCH);
+    }
+
+    @Test
+    void checkGetArtefactsPageByCourtIdUsesDefaultPageSize() {
+        List<Artefact> artefactList = List.of(ARTEFACT_WITH_ID);
+
+        when(publicationSearchService.findPageByLocationIdAdmin(EMPTY_FIELD, USER_ID, false, NEXT_CURSOR,
+                                                                ArtefactPage.DEFAULT_PAGE_SIZE))
+            .thenReturn(new ArtefactPage(artefactList, null));
+        ResponseEntity<List<Artefact>> unmappedArtefact = publicationSearchController
+            .getAllRelevantArtefactsByLocationId(EMPTY_FIELD, USER_ID, false, NEXT_CURSOR, null,
+                                                 buildWebRequest(null));
+
+        assertEquals(artefactList, unmappedArtefact.getBody(), VALIDATION_EXPECTED_MESSAGE);
+        assertFalse(unmappedArtefact.getHeaders().containsKey(NEXT_CURSOR_HEADER), MESSAGES_MATCH);
+    }
+
+    @Test
+    void checkGetArtefactsPageByCourtIdETagIncludesPage() {
+        List<Artefact> artefactList = List.of(ARTEFACT_WITH_ID);
+
+        when(publicationSearchService.findPageByLocationIdAdmin(EMPTY_FIELD, USER_ID, true, NEXT_CURSOR, 1))
+            .thenReturn(new ArtefactPage(artefactList, "nextCursor"));
+        ResponseEntity<List<Artefact>> unmappedArtefact = publicationSearchController
+            .getAllRelevantArtefactsByLocationId(EMPTY_FIELD, USER_ID, true, NEXT_CURSOR, 1, buildWebRequest(null));
+
+        assertEquals(ArtefactHelper.buildETag(artefactList, NEXT_CURSOR, 1, "nextCursor"),
+                     unmappedArtefact.getHeaders().getETag(), MESSAGES_MATCH);
+    }
+
+    @Test
+    void checkGetArtefactsPageByCourtIdIsModifiedWhenNextCursorChanges() {
+        List<Artefact> artefactList = List.of(ARTEFACT_WITH_ID);
+
+        when(publicationSearchService.findPageByLocationIdAdmin(EMPTY_FIELD, USER_ID, true, NEXT_CURSOR, 1))
+            .thenReturn(new ArtefactPage(artefactList, "nextCursor"));
+        ResponseEntity<List<Artefact>> unmappedArtefact = publicationSearchController
+            .getAllRelevantArtefactsByLocationId(EMPTY_FIELD, USER_ID, true, NEXT_CURSOR, 1,
+                                                 buildWebRequest(ArtefactHelper.buildETag(artefactList, NEXT_CURSOR,
+                                                                                          1, null)));
+
+        assertEquals(HttpStatus.OK, unmappedArtefact.getStatusCode(), STATUS_CODE_MATCH);
     }
 
     @Test
@@ -240,4 +320,34 @@ class PublicationSearchControllerTest {
             .as(MESSAGES_MATCH)
             .isEqualTo(TEST_STRING);
     }
+
+    @Test
+    void testGetCaseSuggestionsReturnsOk() {
+        ArtefactCaseInfo caseInfo = new ArtefactCaseInfo("123", TEST_STRING);
+        when(publicationSearchService.suggestCases("te"))
+            .thenReturn(List.of(caseInfo));
+
+        ResponseEntity<List<ArtefactCaseInfo>> result =
+            publicationSearchController.getCaseSuggestions("te", USER_ID);
+
+        assertThat(result.getStatusCode())
+            .as(STATUS_CODE_MATCH)
+            .isEqualTo(HttpStatus.OK);
+
+        assertThat(result.getBody())
+            .as(MESSAGES_MATCH)
+            .hasSize(1);
+
+        assertThat(result.getBody().get(0).getCaseNumber())
+            .as(MESSAGES_MATCH)
+            .isEqualTo("123");
+    }
+
+    private static WebRequest buildWebRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/publication");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
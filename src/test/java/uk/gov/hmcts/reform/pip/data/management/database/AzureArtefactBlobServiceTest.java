@@ -1,22 +1,36 @@
 package uk.gov.hmcts.reform.pip.data.management.database;
 
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.options.BlobInputStreamOptions;
+import com.azure.storage.blob.specialized.BlobInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ConstantsTestHelper.MESSAGES_MATCH;
 
@@ -27,6 +41,7 @@ class AzureArtefactBlobServiceTest {
     private static final String CONTAINER_URL = "https://localhost";
     private static final MultipartFile FILE = new MockMultipartFile("test", (byte[]) null);
     private static final String BLOB_NAME = UUID.randomUUID().toString();
+    private static final String TEST_ETAG = "\"0x8DC1234567890AB\"";
 
     @Mock
     BlobContainerClient blobContainerClient;
@@ -34,6 +49,9 @@ class AzureArtefactBlobServiceTest {
     @Mock
     BlobClient blobClient;
 
+    @Mock
+    BlobProperties blobProperties;
+
     @InjectMocks
     AzureArtefactBlobService azureArtefactBlobService;
 
@@ -63,12 +81,46 @@ class AzureArtefactBlobServiceTest {
 
 
     @Test
-    void testGetBlobFile() {
-        BinaryData binaryData = BinaryData.fromString("TestString");
-        when(blobClient.downloadContent()).thenReturn(binaryData);
-        Resource blobFile = azureArtefactBlobService.getBlobFile(BLOB_NAME);
-        byte[] data = binaryData.toBytes();
-        assertEquals(blobFile, new ByteArrayResource(data), "Wrong data returned.");
+    void testGetBlobProperties() {
+        when(blobClient.getProperties()).thenReturn(blobProperties);
+
+        assertEquals(blobProperties, azureArtefactBlobService.getBlobProperties(BLOB_NAME),
+                     "Blob properties do not match");
+    }
+
+    @Test
+    void testStreamBlob() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        azureArtefactBlobService.streamBlob(BLOB_NAME, outputStream, 2, 10, TEST_ETAG);
+
+        verify(blobClient).downloadStreamWithResponse(
+            eq(outputStream),
+            argThat(range -> range.getOffset() == 2 && range.getCount() == 10),
+            isNull(),
+            argThat(conditions -> TEST_ETAG.equals(conditions.getIfMatch())),
+            eq(false),
+            isNull(),
+            eq(Context.NONE)
+        );
+    }
+
+    @Test
+    void testStreamDecompressedBlob() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            gzipOutputStream.write(PAYLOAD.getBytes(StandardCharsets.UTF_8));
+        }
+        BlobInputStream blobInputStream = mock(BlobInputStream.class,
+                                               delegatesTo(new ByteArrayInputStream(compressed.toByteArray())));
+        when(blobClient.openInputStream(any(BlobInputStreamOptions.class))).thenReturn(blobInputStream);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        azureArtefactBlobService.streamDecompressedBlob(BLOB_NAME, outputStream, TEST_ETAG);
+
+        assertEquals(PAYLOAD, outputStream.toString(StandardCharsets.UTF_8), "Decompressed payload does not match");
+        verify(blobClient).openInputStream(
+            argThat((BlobInputStreamOptions options) -> TEST_ETAG.equals(options.getRequestConditions().getIfMatch()))
+        );
     }
 
     @Test
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.pip.data.management.database;
 
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobProperties;
@@ -14,13 +15,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.PublicationFileNotFoundException;
 
+import java.io.ByteArrayOutputStream;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +40,7 @@ class AzurePublicationBlobServiceTest {
 
     private static final String FILE_EXISTS_FLAG_MESSAGE = "File exists flag does not match";
     private static final String FILE_SIZE_MESSAGE = "File size does not match";
+    private static final String TEST_ETAG = "\"0x8DC1234567890AB\"";
 
     @Mock
     BlobContainerClient blobContainerClient;
@@ -77,6 +84,40 @@ class AzurePublicationBlobServiceTest {
             .hasMessage(String.format("Blob file with id %s not found", BLOB_NAME));
     }
 
+    @Test
+    void testGetBlobProperties() {
+        when(blobClient.getProperties()).thenReturn(blobProperties);
+
+        assertThat(azureBlobService.getBlobProperties(BLOB_NAME))
+            .as("Blob properties do not match")
+            .isEqualTo(blobProperties);
+    }
+
+    @Test
+    void testGetBlobPropertiesNotFound() {
+        doThrow(BlobStorageException.class).when(blobClient).getProperties();
+
+        assertThatThrownBy(() -> azureBlobService.getBlobProperties(BLOB_NAME))
+            .isInstanceOf(PublicationFileNotFoundException.class)
+            .hasMessage(String.format("Blob file with id %s not found", BLOB_NAME));
+    }
+
+    @Test
+    void testStreamBlobFile() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        azureBlobService.streamBlobFile(BLOB_NAME, outputStream, 2, 10, TEST_ETAG);
+
+        verify(blobClient).downloadStreamWithResponse(
+            eq(outputStream),
+            argThat(range -> range.getOffset() == 2 && range.getCount() == 10),
+            isNull(),
+            argThat(conditions -> TEST_ETAG.equals(conditions.getIfMatch())),
+            eq(false),
+            isNull(),
+            eq(Context.NONE)
+        );
+    }
+
     @Test
     void testDeleteBlobFileWhenFileExists() {
         try (LogCaptor logCaptor = LogCaptor.forClass(AzurePublicationBlobService.class)) {
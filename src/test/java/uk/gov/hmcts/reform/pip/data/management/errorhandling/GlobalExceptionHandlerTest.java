@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingRequestHeaderException;
@@ -21,6 +22,7 @@ import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FileForm
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FileSizeLimitException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FlatFileException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.HeaderValidationException;
+import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.InvalidPageCursorException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.LocationNameValidationException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.LocationNotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.NotFoundException;
@@ -342,4 +344,29 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody(), NOT_NULL_MESSAGE);
         assertEquals(errorMessage, response.getBody().getMessage(), ASSERTION_MESSAGE);
     }
+
+    @Test
+    void testHandleInvalidPageCursorException() {
+        String errorMessage = "Invalid page cursor";
+        InvalidPageCursorException exception = new InvalidPageCursorException(errorMessage);
+
+        ResponseEntity<ExceptionResponse> response = globalExceptionHandler.handle(exception);
+
+        assertNotNull(response, ASSERTION_RESPONSE_BODY);
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getStatusCode().value(), BAD_REQUEST_ASSERTION);
+        assertNotNull(response.getBody(), NOT_NULL_MESSAGE);
+        assertEquals(errorMessage, response.getBody().getMessage(), ASSERTION_MESSAGE);
+    }
+
+    @Test
+    void testHandleTaskRejectedException() {
+        TaskRejectedException exception = new TaskRejectedException("Executor queue is full");
+
+        ResponseEntity<ExceptionResponse> response = globalExceptionHandler.handle(exception);
+
+        assertNotNull(response, ASSERTION_RESPONSE_BODY);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatusCode().value(),
+                     "Status code should be service unavailable");
+        assertNotNull(response.getBody(), NOT_NULL_MESSAGE);
+    }
 }
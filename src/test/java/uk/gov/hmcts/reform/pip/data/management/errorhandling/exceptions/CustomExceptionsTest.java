@@ -122,4 +122,10 @@ class CustomExceptionsTest {
             = new FileFormatNotSupportedException(TEST_MESSAGE);
         assertEquals(TEST_MESSAGE, fileFormatNotSupportedException.getMessage(), ASSERTION_MESSAGE);
     }
+
+    @Test
+    void testInvalidPageCursorException() {
+        InvalidPageCursorException exception = new InvalidPageCursorException(TEST_MESSAGE);
+        assertEquals(TEST_MESSAGE, exception.getMessage(), ASSERTION_MESSAGE);
+    }
 }
@@ -102,6 +102,7 @@ public final class ArtefactConstantTestHelper {
             .payload(PAYLOAD_URL)
             .search(SEARCH_VALUES)
             .locationId(NO_MATCH_LOCATION_ID)
+            .isNoMatch(true)
             .contentDate(CONTENT_DATE)
             .listType(ListType.CIVIL_DAILY_CAUSE_LIST)
             .language(Language.ENGLISH)
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.pip.data.management.helpers;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArtefactHelperTest {
+    private static final LocalDateTime LAST_RECEIVED_DATE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private Artefact buildArtefact(UUID artefactId, int supersededCount, LocalDateTime lastReceivedDate) {
+        return Artefact.builder()
+            .artefactId(artefactId)
+            .supersededCount(supersededCount)
+            .lastReceivedDate(lastReceivedDate)
+            .build();
+    }
+
+    @Test
+    void shouldGetUuidFromUrl() {
+        assertThat(ArtefactHelper.getUuidFromUrl("https://localhost/artefact/1234")).isEqualTo("1234");
+    }
+
+    @Test
+    void shouldBuildQuotedETag() {
+        String eTag = ArtefactHelper.buildETag(buildArtefact(UUID.randomUUID(), 0, LAST_RECEIVED_DATE));
+
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void shouldBuildSameETagForSameVersion() {
+        UUID artefactId = UUID.randomUUID();
+
+        assertThat(ArtefactHelper.buildETag(buildArtefact(artefactId, 1, LAST_RECEIVED_DATE)))
+            .isEqualTo(ArtefactHelper.buildETag(buildArtefact(artefactId, 1, LAST_RECEIVED_DATE)));
+    }
+
+    @Test
+    void shouldBuildNewETagWhenArtefactIsSuperseded() {
+        UUID artefactId = UUID.randomUUID();
+
+        assertThat(ArtefactHelper.buildETag(buildArtefact(artefactId, 1, LAST_RECEIVED_DATE.plusMinutes(1))))
+            .isNotEqualTo(ArtefactHelper.buildETag(buildArtefact(artefactId, 0, LAST_RECEIVED_DATE)));
+    }
+
+    @Test
+    void shouldBuildDistinctETagForContentCoding() {
+        Artefact artefact = buildArtefact(UUID.randomUUID(), 0, LAST_RECEIVED_DATE);
+
+        assertThat(ArtefactHelper.buildETag(artefact, "gzip"))
+            .startsWith("\"").endsWith("-gzip\"")
+            .isNotEqualTo(ArtefactHelper.buildETag(artefact));
+    }
+
+    @Test
+    void shouldBuildListETagIndependentOfOrder() {
+        Artefact first = buildArtefact(UUID.randomUUID(), 0, LAST_RECEIVED_DATE);
+        Artefact second = buildArtefact(UUID.randomUUID(), 2, LAST_RECEIVED_DATE);
+
+        assertThat(ArtefactHelper.buildETag(List.of(first, second)))
+            .isEqualTo(ArtefactHelper.buildETag(List.of(second, first)));
+    }
+
+    @Test
+    void shouldBuildNewListETagWhenArtefactIsRemoved() {
+        Artefact first = buildArtefact(UUID.randomUUID(), 0, LAST_RECEIVED_DATE);
+        Artefact second = buildArtefact(UUID.randomUUID(), 0, LAST_RECEIVED_DATE);
+
+        assertThat(ArtefactHelper.buildETag(List.of(first)))
+            .isNotEqualTo(ArtefactHelper.buildETag(List.of(first, second)));
+    }
+
+    @Test
+    void shouldBuildNewListETagForDifferentPage() {
+        List<Artefact> artefacts = List.of(buildArtefact(UUID.randomUUID(), 0, LAST_RECEIVED_DATE));
+
+        assertThat(ArtefactHelper.buildETag(artefacts, null, 10, "nextCursor"))
+            .isNotEqualTo(ArtefactHelper.buildETag(artefacts, null, 10, null))
+            .isNotEqualTo(ArtefactHelper.buildETag(artefacts, null, 20, "nextCursor"))
+            .isNotEqualTo(ArtefactHelper.buildETag(artefacts, "cursor", 10, "nextCursor"))
+            .isNotEqualTo(ArtefactHelper.buildETag(artefacts));
+    }
+}
@@ -0,0 +1,341 @@
+package uk.gov.hmcts.reform.pip.data.management.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+import uk.gov.hmcts.reform.pip.data.management.config.ValidationConfiguration;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static com.google.common.base.CaseFormat.LOWER_CAMEL;
+import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
+
+/**
+ * Generates synthetic, schema-valid payloads of a configurable size for scale testing.
+ *
+ * <p>Each payload is grown from the mock payload of its list type, so the generated payload keeps the structure
+ * accepted by the list type schema. The court lists, court rooms, sittings, hearings, parties and offences (or the
+ * rows of a non-strategic list) are resized to the counts in the {@link SyntheticPayloadOptions}, and identifying
+ * values such as case numbers and party names are randomised keeping their format, so they remain valid against any
+ * schema pattern.</p>
+ */
+public class SyntheticPayloadGenerator {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String APPLICATION_YAML = "application.yaml";
+    private static final String STRATEGIC_MOCK_PATH = "mocks/%s.json";
+    private static final String NON_STRATEGIC_MOCK_PATH = "mocks/non-strategic/%s.json";
+
+    // Mocks which are not named after their list type or schema
+    private static final Map<String, String> MOCK_OVERRIDES = Map.of(
+        "ut_iac_judicial_reviews_daily_hearing_list", "utIacJudicialReviewDailyHearingList",
+        "ut_iac_judicial_reviews_london_daily_hearing_list", "utIacJudicialReviewLondonDailyHearingList"
+    );
+
+    private static final Set<String> RANDOMISED_FIELDS = Set.of(
+        "casenumber", "casename", "caseurn", "casereferencenumber", "appealreferencenumber", "appellant",
+        "individualforenames", "individualsurname", "organisationname", "citizennameforename",
+        "citizennamesurname", "caseno", "def_name"
+    );
+
+    private final SyntheticPayloadOptions options;
+    private final Map<ListType, String> validationSchemas = new EnumMap<>(ListType.class);
+
+    public SyntheticPayloadGenerator(SyntheticPayloadOptions options) {
+        this.options = options;
+        loadValidationConfiguration().getValidationSchemas()
+            .forEach((listType, schema) -> validationSchemas.put(ListType.valueOf(listType), schema));
+    }
+
+    /**
+     * Load the validation configuration from the application.yaml, which maps each list type to its schema.
+     *
+     * @return The validation configuration.
+     */
+    public static ValidationConfiguration loadValidationConfiguration() {
+        try {
+            return new Binder(ConfigurationPropertySources.from(
+                new YamlPropertySourceLoader().load(APPLICATION_YAML, new ClassPathResource(APPLICATION_YAML))
+            ))
+                .bind("validations", ValidationConfiguration.class)
+                .orElseThrow(() -> new IllegalStateException("No validation configuration found"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The list types with a schema which payloads can be generated for.
+     *
+     * @return The supported list types.
+     */
+    public Set<ListType> getSupportedListTypes() {
+        Set<ListType> listTypes = new LinkedHashSet<>();
+        validationSchemas.keySet().forEach(listType -> {
+            if (findTemplate(listType).isPresent()) {
+                listTypes.add(listType);
+            }
+        });
+        return listTypes;
+    }
+
+    /**
+     * Generate a payload for a list type.
+     *
+     * @param listType The list type to generate the payload for.
+     * @return The generated payload.
+     */
+    public JsonNode generate(ListType listType) {
+        JsonNode template = findTemplate(listType)
+            .orElseThrow(() -> new IllegalArgumentException("No template payload for list type " + listType));
+        Random random = new Random(options.getSeed());
+
+        if (template.isArray()) {
+            return resizeRows((ArrayNode) template, random);
+        }
+
+        if (isMultiSheetList(template)) {
+            ObjectNode payload = template.deepCopy();
+            payload.properties().forEach(sheet -> sheet.setValue(resizeRows((ArrayNode) sheet.getValue(), random)));
+            return payload;
+        }
+
+        JsonNode payload = template.deepCopy();
+        expand(payload, null, buildArrayCounts(template), random);
+        return payload;
+    }
+
+    /**
+     * Generate a payload for a list type as a JSON string.
+     *
+     * @param listType The list type to generate the payload for.
+     * @return The generated payload.
+     */
+    public String generateJson(ListType listType) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(generate(listType));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generate a non-strategic list in the Excel format uploaded by users. Multi-sheet lists have one sheet for each
+     * field of the payload.
+     *
+     * @param listType The non-strategic list type to generate the Excel file for.
+     * @return The generated Excel file.
+     */
+    public byte[] generateExcel(ListType listType) {
+        JsonNode payload = generate(listType);
+
+        try (Workbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            if (payload.isArray()) {
+                writeSheet(workbook.createSheet(), payload);
+            } else if (isMultiSheetList(payload)) {
+                payload.properties().forEach(sheet -> writeSheet(
+                    workbook.createSheet(LOWER_CAMEL.to(UPPER_UNDERSCORE, sheet.getKey()).replace('_', ' ')),
+                    sheet.getValue()
+                ));
+            } else {
+                throw new IllegalArgumentException("List type " + listType + " is not a non-strategic list");
+            }
+
+            workbook.write(outputStream);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<JsonNode> findTemplate(ListType listType) {
+        List<String> mockNames = new ArrayList<>();
+        mockNames.add(UPPER_UNDERSCORE.to(LOWER_CAMEL, listType.name()));
+        if (listType.getParentListType() != null) {
+            mockNames.add(UPPER_UNDERSCORE.to(LOWER_CAMEL, listType.getParentListType().name()));
+        }
+
+        String schema = validationSchemas.get(listType);
+        if (schema != null) {
+            String schemaName = schema.substring(schema.lastIndexOf('/') + 1).replace(".json", "");
+            mockNames.add(UPPER_UNDERSCORE.to(LOWER_CAMEL, schemaName.replace('-', '_').toUpperCase(Locale.ENGLISH)));
+            Optional.ofNullable(MOCK_OVERRIDES.get(schemaName)).ifPresent(mockNames::add);
+
+            // List types sharing a schema can share a template
+            validationSchemas.forEach((otherListType, otherSchema) -> {
+                if (otherListType != listType && otherSchema.equals(schema)) {
+                    mockNames.add(UPPER_UNDERSCORE.to(LOWER_CAMEL, otherListType.name()));
+                }
+            });
+        }
+
+        for (String mockName : mockNames) {
+            for (String path : List.of(STRATEGIC_MOCK_PATH, NON_STRATEGIC_MOCK_PATH)) {
+                Optional<JsonNode> template = readMock(String.format(path, mockName));
+                if (template.isPresent()) {
+                    return template;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<JsonNode> readMock(String path) {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(path)) {
+            return inputStream == null ? Optional.empty() : Optional.of(OBJECT_MAPPER.readTree(inputStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, Integer> buildArrayCounts(JsonNode template) {
+        Map<String, Integer> arrayCounts = new HashMap<>();
+        arrayCounts.put("courtlists", options.getCourtHouses());
+        arrayCounts.put("courtroom", options.getCourtRooms());
+        arrayCounts.put("sittings", options.getSittings());
+        arrayCounts.put("hearing", options.getHearings());
+        arrayCounts.put("hearings", options.getHearings());
+        arrayCounts.put("party", options.getParties());
+        arrayCounts.put("defendants", options.getParties());
+        arrayCounts.put("offence", options.getOffences());
+        arrayCounts.put("charges", options.getOffences());
+
+        // Magistrates adult court lists have a session per court room, split into blocks of cases
+        if (template.findValue("courtLists") == null && template.findValue("CourtLists") == null) {
+            arrayCounts.put("session", options.getCourtRooms());
+            arrayCounts.put("block", options.getSittings());
+            arrayCounts.put("case", options.getHearings());
+        }
+        return arrayCounts;
+    }
+
+    private void expand(JsonNode node, String fieldName, Map<String, Integer> arrayCounts, Random random) {
+        if (node.isObject()) {
+            ObjectNode objectNode = (ObjectNode) node;
+            objectNode.properties().forEach(field -> {
+                if (field.getValue().isTextual() && isRandomised(field.getKey())) {
+                    field.setValue(randomise(field.getValue().asText(), random));
+                } else {
+                    expand(field.getValue(), field.getKey(), arrayCounts, random);
+                }
+            });
+        } else if (node.isArray()) {
+            ArrayNode arrayNode = (ArrayNode) node;
+            Integer count = fieldName == null ? null : arrayCounts.get(fieldName.toLowerCase(Locale.ENGLISH));
+            if (count != null) {
+                resize(arrayNode, count, random);
+            }
+
+            for (int i = 0; i < arrayNode.size(); i++) {
+                JsonNode element = arrayNode.get(i);
+                if (element.isTextual() && fieldName != null && isRandomised(fieldName)) {
+                    arrayNode.set(i, randomise(element.asText(), random));
+                } else {
+                    expand(element, null, arrayCounts, random);
+                }
+            }
+        }
+    }
+
+    private ArrayNode resizeRows(ArrayNode rows, Random random) {
+        ArrayNode resizedRows = rows.deepCopy();
+        resize(resizedRows, options.getRows(), random);
+        resizedRows.forEach(row -> expand(row, null, Map.of(), random));
+        return resizedRows;
+    }
+
+    private void resize(ArrayNode arrayNode, int count, Random random) {
+        if (arrayNode.isEmpty()) {
+            return;
+        }
+
+        List<JsonNode> templates = new ArrayList<>();
+        arrayNode.forEach(templates::add);
+        arrayNode.removeAll();
+        for (int i = 0; i < Math.max(count, 1); i++) {
+            arrayNode.add(templates.get(random.nextInt(templates.size())).deepCopy());
+        }
+    }
+
+    private boolean isRandomised(String fieldName) {
+        return RANDOMISED_FIELDS.contains(fieldName.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Randomise a value keeping its format, so digits are replaced with digits and letters with letters of the same
+     * case. Any other characters are kept.
+     */
+    private TextNode randomise(String value, Random random) {
+        StringBuilder randomised = new StringBuilder(value.length());
+        for (char character : value.toCharArray()) {
+            if (Character.isDigit(character)) {
+                randomised.append((char) ('0' + random.nextInt(10)));
+            } else if (character >= 'A' && character <= 'Z') {
+                randomised.append((char) ('A' + random.nextInt(26)));
+            } else if (character >= 'a' && character <= 'z') {
+                randomised.append((char) ('a' + random.nextInt(26)));
+            } else {
+                randomised.append(character);
+            }
+        }
+        return TextNode.valueOf(randomised.toString());
+    }
+
+    private static boolean isMultiSheetList(JsonNode payload) {
+        if (!payload.isObject() || payload.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, JsonNode> field : payload.properties()) {
+            if (!field.getValue().isArray()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeSheet(Sheet sheet, JsonNode rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> headers = new ArrayList<>();
+        rows.get(0).fieldNames().forEachRemaining(headers::add);
+
+        Row headerRow = sheet.createRow(0);
+        for (int column = 0; column < headers.size(); column++) {
+            headerRow.createCell(column)
+                .setCellValue(LOWER_CAMEL.to(UPPER_UNDERSCORE, headers.get(column)).replace('_', ' '));
+        }
+
+        for (int rowNumber = 0; rowNumber < rows.size(); rowNumber++) {
+            Row row = sheet.createRow(rowNumber + 1);
+            for (int column = 0; column < headers.size(); column++) {
+                row.createCell(column).setCellValue(rows.get(rowNumber).path(headers.get(column)).asText(""));
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.pip.data.management.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.applicationinsights.TelemetryClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.mock.web.MockMultipartFile;
+import uk.gov.hmcts.reform.pip.data.management.config.ValidationConfiguration;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.HeaderGroup;
+import uk.gov.hmcts.reform.pip.data.management.service.ExcelConversionService;
+import uk.gov.hmcts.reform.pip.data.management.service.PublicationMetricsService;
+import uk.gov.hmcts.reform.pip.data.management.service.ValidationService;
+import uk.gov.hmcts.reform.pip.model.publication.ArtefactType;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SyntheticPayloadGeneratorTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String XLSX_CONTENT_TYPE
+        = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final SyntheticPayloadOptions OPTIONS = SyntheticPayloadOptions.builder()
+        .courtHouses(2)
+        .courtRooms(3)
+        .sittings(2)
+        .hearings(4)
+        .parties(3)
+        .offences(2)
+        .rows(25)
+        .build();
+
+    private final SyntheticPayloadGenerator generator = new SyntheticPayloadGenerator(OPTIONS);
+
+    private ValidationConfiguration validationConfiguration;
+    private ValidationService validationService;
+
+    @BeforeAll
+    void setup() {
+        validationConfiguration = SyntheticPayloadGenerator.loadValidationConfiguration();
+        validationService = new ValidationService(validationConfiguration, mock(TelemetryClient.class),
+                                                  new PublicationMetricsService(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void testAllListTypesWithSchemaAreSupported() {
+        assertThat(generator.getSupportedListTypes())
+            .as("Payloads should be generated for every list type with a schema")
+            .hasSize(validationConfiguration.getValidationSchemas().size());
+    }
+
+    @Test
+    void testGeneratedPayloadsAreValidAgainstSchema() {
+        generator.getSupportedListTypes().forEach(listType -> {
+            LocalDateTime now = LocalDateTime.now();
+            HeaderGroup headers = new HeaderGroup("MANUAL_UPLOAD", "test", ArtefactType.LIST, Sensitivity.PUBLIC,
+                                                  Language.ENGLISH, now, now, listType, "1", now);
+
+            assertThatCode(() -> validationService.validateBody(generator.generateJson(listType), headers, false))
+                .as("Generated payload for %s should be valid", listType)
+                .doesNotThrowAnyException();
+        });
+    }
+
+    @Test
+    void testHearingCountsAreApplied() {
+        JsonNode payload = generator.generate(ListType.CIVIL_DAILY_CAUSE_LIST);
+
+        assertThat(payload.get("courtLists"))
+            .as("Court list count does not match")
+            .hasSize(2);
+        assertThat(payload.findValues("courtRoom"))
+            .as("Court room count does not match")
+            .allSatisfy(courtRooms -> assertThat(courtRooms).hasSize(3));
+        assertThat(payload.findValues("hearing"))
+            .as("Hearing count does not match")
+            .allSatisfy(hearings -> assertThat(hearings).hasSize(4));
+    }
+
+    @Test
+    void testNonStrategicRowCountIsApplied() {
+        assertThat(generator.generate(ListType.CIC_WEEKLY_HEARING_LIST))
+            .as("Row count does not match")
+            .hasSize(25);
+    }
+
+    @Test
+    void testSameSeedGeneratesSamePayload() {
+        SyntheticPayloadGenerator otherGenerator = new SyntheticPayloadGenerator(OPTIONS);
+
+        assertThat(otherGenerator.generateJson(ListType.SJP_PUBLIC_LIST))
+            .as("Payloads generated with the same seed should match")
+            .isEqualTo(generator.generateJson(ListType.SJP_PUBLIC_LIST));
+    }
+
+    @Test
+    void testDifferentSeedGeneratesDifferentPayload() {
+        SyntheticPayloadGenerator otherGenerator = new SyntheticPayloadGenerator(
+            OPTIONS.toBuilder().seed(2L).build()
+        );
+
+        assertThat(otherGenerator.generateJson(ListType.SJP_PUBLIC_LIST))
+            .as("Payloads generated with different seeds should not match")
+            .isNotEqualTo(generator.generateJson(ListType.SJP_PUBLIC_LIST));
+    }
+
+    @Test
+    void testScaledByMultipliesVolume() {
+        SyntheticPayloadOptions scaledOptions = SyntheticPayloadOptions.productionLike().scaledBy(10);
+
+        assertThat(scaledOptions.getCourtRooms())
+            .as("Court room count does not match")
+            .isEqualTo(SyntheticPayloadOptions.productionLike().getCourtRooms() * 10);
+        assertThat(scaledOptions.getRows())
+            .as("Row count does not match")
+            .isEqualTo(SyntheticPayloadOptions.productionLike().getRows() * 10);
+    }
+
+    @Test
+    void testGeneratedExcelConvertsToGeneratedPayload() throws IOException {
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "test.xlsx", XLSX_CONTENT_TYPE, generator.generateExcel(ListType.CIC_WEEKLY_HEARING_LIST)
+        );
+
+        String json = new ExcelConversionService().convert(file);
+
+        assertThat(OBJECT_MAPPER.readTree(json))
+            .as("Converted Excel file should match the generated payload")
+            .isEqualTo(generator.generate(ListType.CIC_WEEKLY_HEARING_LIST));
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.pip.data.management.helpers;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options used by the {@link SyntheticPayloadGenerator} to control the size of the generated payloads. Counts are per
+ * parent element, e.g. the number of hearings is the number of hearings in each sitting.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class SyntheticPayloadOptions {
+    /**
+     * The seed used for all random choices, so the same options always generate the same payload.
+     */
+    @Builder.Default
+    private long seed = 1L;
+
+    @Builder.Default
+    private int courtHouses = 1;
+
+    @Builder.Default
+    private int courtRooms = 2;
+
+    @Builder.Default
+    private int sittings = 2;
+
+    @Builder.Default
+    private int hearings = 3;
+
+    @Builder.Default
+    private int parties = 2;
+
+    @Builder.Default
+    private int offences = 1;
+
+    /**
+     * The number of rows in each non-strategic list (or each sheet, for multi-sheet lists).
+     */
+    @Builder.Default
+    private int rows = 20;
+
+    /**
+     * Options for a list of a similar size to a large list received in production.
+     *
+     * @return The production-like options.
+     */
+    public static SyntheticPayloadOptions productionLike() {
+        return SyntheticPayloadOptions.builder()
+            .courtHouses(1)
+            .courtRooms(10)
+            .sittings(4)
+            .hearings(8)
+            .parties(4)
+            .offences(2)
+            .rows(500)
+            .build();
+    }
+
+    /**
+     * Scale up the volume of the list by the given factor, keeping the shape of each hearing the same.
+     *
+     * @param factor The factor to scale the number of court rooms and rows by.
+     * @return The scaled options.
+     */
+    public SyntheticPayloadOptions scaledBy(int factor) {
+        return toBuilder()
+            .courtRooms(courtRooms * factor)
+            .rows(rows * factor)
+            .build();
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.pip.data.management.models.publication;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.InvalidPageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArtefactPageTest {
+    private static final LocalDateTime CONTENT_DATE = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_456_000);
+    private static final String PAGE_MESSAGE = "Page does not match";
+    private static final String CURSOR_MESSAGE = "Cursor does not match";
+
+    private static Artefact buildArtefact(LocalDateTime contentDate) {
+        return Artefact.builder()
+            .artefactId(UUID.randomUUID())
+            .contentDate(contentDate)
+            .build();
+    }
+
+    @Test
+    void testCursorRoundTrip() {
+        ArtefactPageCursor cursor = new ArtefactPageCursor(CONTENT_DATE, UUID.randomUUID());
+
+        assertEquals(cursor, ArtefactPageCursor.decode(cursor.encode()), CURSOR_MESSAGE);
+    }
+
+    @Test
+    void testCursorOfArtefactWithoutContentDate() {
+        Artefact artefact = buildArtefact(null);
+
+        ArtefactPageCursor cursor = ArtefactPageCursor.decode(ArtefactPageCursor.from(artefact).encode());
+
+        assertEquals(new ArtefactPageCursor(ArtefactPageCursor.NO_CONTENT_DATE, artefact.getArtefactId()), cursor,
+                     CURSOR_MESSAGE);
+    }
+
+    @Test
+    void testDecodeCursorWithNullContentDate() {
+        UUID artefactId = UUID.randomUUID();
+        String cursor = Base64.getUrlEncoder()
+            .encodeToString(("null|" + artefactId).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new ArtefactPageCursor(ArtefactPageCursor.NO_CONTENT_DATE, artefactId),
+                     ArtefactPageCursor.decode(cursor), CURSOR_MESSAGE);
+    }
+
+    @Test
+    void testDecodeInvalidCursor() {
+        assertThrows(InvalidPageCursorException.class, () -> ArtefactPageCursor.decode("not a cursor"),
+                     CURSOR_MESSAGE);
+    }
+
+    @Test
+    void testDecodeCursorWithoutArtefactId() {
+        String cursor = Base64.getUrlEncoder().encodeToString(CONTENT_DATE.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidPageCursorException.class, () -> ArtefactPageCursor.decode(cursor), CURSOR_MESSAGE);
+    }
+
+    @Test
+    void testPageWithoutFurtherArtefactsHasNoNextCursor() {
+        List<Artefact> artefacts = List.of(buildArtefact(CONTENT_DATE), buildArtefact(CONTENT_DATE.plusDays(1)));
+
+        ArtefactPage page = ArtefactPage.of(artefacts, 2);
+
+        assertEquals(artefacts, page.getArtefacts(), PAGE_MESSAGE);
+        assertNull(page.getNextCursor(), CURSOR_MESSAGE);
+    }
+
+    @Test
+    void testPageWithFurtherArtefactsHasNextCursorOfLastArtefact() {
+        Artefact first = buildArtefact(CONTENT_DATE);
+        Artefact second = buildArtefact(CONTENT_DATE.plusDays(1));
+        Artefact third = buildArtefact(CONTENT_DATE.plusDays(2));
+
+        ArtefactPage page = ArtefactPage.of(List.of(first, second, third), 2);
+
+        assertEquals(List.of(first, second), page.getArtefacts(), PAGE_MESSAGE);
+        assertEquals(ArtefactPageCursor.from(second), ArtefactPageCursor.decode(page.getNextCursor()),
+                     CURSOR_MESSAGE);
+    }
+}
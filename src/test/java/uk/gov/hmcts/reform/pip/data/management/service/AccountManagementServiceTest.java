@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import uk.gov.hmcts.reform.pip.model.account.PiUser;
 import uk.gov.hmcts.reform.pip.model.publication.Artefact;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
@@ -16,7 +17,10 @@ import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -71,10 +75,10 @@ class AccountManagementServiceTest {
     void testIsAuthorisedError() {
         mockAccountManagementEndpoint.enqueue(new MockResponse().setResponseCode(BAD_REQUEST.value()));
 
-        boolean isAuthorised = accountManagementService.getIsAuthorised(UUID.randomUUID(),
+        Boolean isAuthorised = accountManagementService.getIsAuthorised(UUID.randomUUID(),
                                                                         ListType.CIVIL_DAILY_CAUSE_LIST,
                                                                         Sensitivity.PUBLIC);
-        assertFalse(isAuthorised, "Not authorised has not been returned from the server");
+        assertNull(isAuthorised, "No decision should be returned when the request fails");
     }
 
     @Test
@@ -228,6 +232,58 @@ class AccountManagementServiceTest {
                    "Exception was not logged.");
     }
 
+    @Test
+    void testSendDeletedArtefacts() {
+        mockAccountManagementEndpoint.enqueue(new MockResponse().setBody(TRIGGER_RECEIVED).setResponseCode(200));
+        mockAccountManagementEndpoint.enqueue(new MockResponse().setBody(TRIGGER_RECEIVED).setResponseCode(200));
+
+        Map<UUID, String> failures = accountManagementService.sendDeletedArtefactsForThirdParties(List.of(
+            Artefact.builder().artefactId(UUID.randomUUID()).build(),
+            Artefact.builder().artefactId(UUID.randomUUID()).build()
+        ));
+
+        assertTrue(failures.isEmpty(), "No deleted artefact should fail to send");
+        assertEquals(2, mockAccountManagementEndpoint.getRequestCount(), "Deleted artefacts were not all sent");
+    }
+
+    @Test
+    void testSendDeletedArtefactsReportsFailedSends() {
+        mockAccountManagementEndpoint.enqueue(new MockResponse().setResponseCode(BAD_REQUEST.value()));
+        UUID artefactId = UUID.randomUUID();
+
+        Map<UUID, String> failures = accountManagementService.sendDeletedArtefactsForThirdParties(
+            List.of(Artefact.builder().artefactId(artefactId).build())
+        );
+
+        assertEquals(Set.of(artefactId), failures.keySet(), "Failed send was not reported against its artefact");
+        assertTrue(logCaptor.getErrorLogs().get(0)
+                       .contains("Request to Account Management to send deleted artefact " + artefactId
+                                     + " to third party failed with error:"),
+                   "Exception was not logged.");
+    }
+
+    @Test
+    void testSendDeletedArtefactsReportsUnexpectedErrors() {
+        mockAccountManagementEndpoint.enqueue(new MockResponse().setBody(TRIGGER_RECEIVED).setResponseCode(200));
+        AtomicBoolean failed = new AtomicBoolean();
+        WebClient failingWebClient = WebClient.builder()
+            .baseUrl(mockAccountManagementEndpoint.url("/").toString())
+            .filter((request, next) -> failed.compareAndSet(false, true)
+                ? Mono.error(new IllegalStateException()) : next.exchange(request))
+            .build();
+        UUID failedArtefactId = UUID.randomUUID();
+
+        Map<UUID, String> failures = new AccountManagementService(failingWebClient)
+            .sendDeletedArtefactsForThirdParties(List.of(
+                Artefact.builder().artefactId(failedArtefactId).build(),
+                Artefact.builder().artefactId(UUID.randomUUID()).build()
+            ));
+
+        assertEquals(Map.of(failedArtefactId, "IllegalStateException"), failures,
+                     "Unexpected error was not reported against its artefact");
+        assertEquals(1, mockAccountManagementEndpoint.getRequestCount(), "Remaining deleted artefact was not sent");
+    }
+
     @Test
     void testSubscriptionsByLocationId() {
         mockAccountManagementEndpoint.enqueue(new MockResponse()
@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.pip.data.management.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorisationDecisionCacheTest {
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final ListType LIST_TYPE = ListType.CIVIL_DAILY_CAUSE_LIST;
+    private static final ListType OTHER_LIST_TYPE = ListType.FAMILY_DAILY_CAUSE_LIST;
+    private static final long TTL_SECONDS = 60;
+    private static final long MAX_SIZE = 10;
+
+    private static final String DECISION_MESSAGE = "Authorisation decision does not match";
+    private static final String METRIC_MESSAGE = "Cache metric does not match";
+
+    @Mock
+    private AccountManagementService accountManagementService;
+
+    private MeterRegistry meterRegistry;
+    private AuthorisationDecisionCache authorisationDecisionCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        authorisationDecisionCache = new AuthorisationDecisionCache(accountManagementService, meterRegistry,
+                                                                    TTL_SECONDS, MAX_SIZE);
+    }
+
+    private Artefact buildArtefact(ListType listType, Sensitivity sensitivity) {
+        return Artefact.builder()
+            .listType(listType)
+            .sensitivity(sensitivity)
+            .build();
+    }
+
+    @Test
+    void testDecisionIsRequestedOnceAndThenServedFromCache() {
+        when(accountManagementService.getIsAuthorised(USER_ID, LIST_TYPE, Sensitivity.CLASSIFIED))
+            .thenReturn(true);
+
+        assertThat(authorisationDecisionCache.isAuthorised(USER_ID, LIST_TYPE, Sensitivity.CLASSIFIED))
+            .as(DECISION_MESSAGE)
+            .isTrue();
+        assertThat(authorisationDecisionCache.isAuthorised(USER_ID, LIST_TYPE, Sensitivity.CLASSIFIED))
+            .as(DECISION_MESSAGE)
+            .isTrue();
+
+        verify(accountManagementService, times(1)).getIsAuthorised(USER_ID, LIST_TYPE, Sensitivity.CLASSIFIED);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+            .as(METRIC_MESSAGE)
+            .isEqualTo(1);
+    }
+
+    @Test
+    void testMissingDecisionIsNotCached() {
+        when(accountManagementService.getIsAuthorised(USER_ID, LIST_TYPE, Sensitivity.CLASSIFIED))
+            .thenReturn(null);
+
+        assertThat(authorisationDecisionCache.isAuthorised(USER_ID, LIST_TYPE, Sensitivity.CLASSIFIED))
+            .as(DECISION_MESSAGE)
+            .isFalse();
+        authorisationDecisionCache.isAuthorised(USER_ID, LIST_TYPE, Sensitivity.CLASSIFIED);
+
+        verify(accountManagementService, times(2)).getIsAuthorised(USER_ID, LIST_TYPE, Sensitivity.CLASSIFIED);
+    }
+
+    @Test
+    void testPreloadRequestsEachDistinctDecisionOnce() {
+        when(accountManagementService.getIsAuthorised(any(), any(), any())).thenReturn(true);
+
+        authorisationDecisionCache.preload(USER_ID, List.of(
+            buildArtefact(LIST_TYPE, Sensitivity.CLASSIFIED),
+            buildArtefact(LIST_TYPE, Sensitivity.CLASSIFIED),
+            buildArtefact(LIST_TYPE, Sensitivity.PRIVATE),
+            buildArtefact(OTHER_LIST_TYPE, Sensitivity.CLASSIFIED),
+            buildArtefact(OTHER_LIST_TYPE, Sensitivity.PUBLIC)
+        ));
+
+        verify(accountManagementService, times(3)).getIsAuthorised(any(), any(), any());
+
+        assertThat(authorisationDecisionCache.isAuthorised(USER_ID, OTHER_LIST_TYPE, Sensitivity.CLASSIFIED))
+            .as(DECISION_MESSAGE)
+            .isTrue();
+        verify(accountManagementService, times(3)).getIsAuthorised(any(), any(), any());
+    }
+
+    @Test
+    void testPreloadWithOnlyPublicArtefacts() {
+        authorisationDecisionCache.preload(USER_ID, List.of(buildArtefact(LIST_TYPE, Sensitivity.PUBLIC)));
+
+        verifyNoInteractions(accountManagementService);
+    }
+}
@@ -12,19 +12,26 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.PayloadValidationException;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.service.publication.PublicationRetrievalService;
-import uk.gov.hmcts.reform.pip.model.account.PiUser;
 import uk.gov.hmcts.reform.pip.model.account.Roles;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,7 +45,10 @@ class AuthorisationServiceTest {
     private static final String PROVENANCE = "MANUAL_UPLOAD";
 
     @Mock
-    private AccountManagementService accountManagementService;
+    private UserRoleCache userRoleCache;
+
+    @Mock
+    private AuthorisationDecisionCache authorisationDecisionCache;
 
     @Mock
     private PublicationRetrievalService publicationRetrievalService;
@@ -52,12 +62,6 @@ class AuthorisationServiceTest {
     @InjectMocks
     private AuthorisationService authorisationService;
 
-    private PiUser createUser(Roles role) {
-        PiUser user = new PiUser();
-        user.setRoles(role);
-        return user;
-    }
-
     @BeforeEach
     void setup() {
         SecurityContextHolder.setContext(securityContext);
@@ -72,8 +76,8 @@ class AuthorisationServiceTest {
         Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(auth);
 
         assertTrue(authorisationService.userCanUploadPublication(TEST_USER_ID, PROVENANCE),
@@ -103,8 +107,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testUserCannotUploadPublicationWhenNotAdmin() {
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.VERIFIED));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.VERIFIED));
 
         assertFalse(authorisationService.userCanUploadPublication(TEST_USER_ID, PROVENANCE),
                     "API Token with no admin permission can upload publication");
@@ -112,8 +116,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testUserCannotUploadPublicationWhenNotPublisher() {
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getAuthorities()).thenReturn(Collections.emptyList());
 
@@ -129,8 +133,8 @@ class AuthorisationServiceTest {
         Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(auth);
 
         assertTrue(authorisationService.userCanUploadLocation(TEST_USER_ID),
@@ -139,8 +143,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testUserCannotUploadLocationWhenNotSystemAdmin() {
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.VERIFIED));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.VERIFIED));
 
         assertFalse(authorisationService.userCanUploadLocation(TEST_USER_ID),
                     "Verified User can upload location");
@@ -154,8 +158,8 @@ class AuthorisationServiceTest {
         Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(auth);
 
         assertTrue(authorisationService.userCanDeleteLocation(TEST_USER_ID),
@@ -164,8 +168,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testUserCannotDeleteLocationWhenNotSystemAdmin() {
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.VERIFIED));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.VERIFIED));
 
         assertFalse(authorisationService.userCanDeleteLocation(TEST_USER_ID),
                     "Verified User can delete location");
@@ -173,8 +177,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testUserCannotDeleteLocationWhenNotAdminRole() {
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getAuthorities()).thenReturn(Collections.emptyList());
 
@@ -226,7 +230,7 @@ class AuthorisationServiceTest {
         SecurityContextHolder.getContext().setAuthentication(auth);
         when(securityContext.getAuthentication()).thenReturn(auth);
         when(publicationRetrievalService.getMetadataByArtefactId(TEST_UUID)).thenReturn(artefact);
-        when(accountManagementService.getIsAuthorised(TEST_UUID, LIST_TYPE, Sensitivity.PRIVATE))
+        when(authorisationDecisionCache.isAuthorised(TEST_UUID, LIST_TYPE, Sensitivity.PRIVATE))
             .thenReturn(true);
 
         assertTrue(authorisationService.userCanAccessPublicationData(TEST_UUID, TEST_UUID, false),
@@ -245,7 +249,7 @@ class AuthorisationServiceTest {
         SecurityContextHolder.getContext().setAuthentication(auth);
         when(securityContext.getAuthentication()).thenReturn(auth);
         when(publicationRetrievalService.getMetadataByArtefactId(TEST_UUID)).thenReturn(artefact);
-        when(accountManagementService.getIsAuthorised(TEST_UUID, LIST_TYPE, Sensitivity.PRIVATE))
+        when(authorisationDecisionCache.isAuthorised(TEST_UUID, LIST_TYPE, Sensitivity.PRIVATE))
             .thenReturn(false);
 
         assertFalse(authorisationService.userCanAccessPublicationData(TEST_UUID, TEST_UUID, false),
@@ -267,10 +271,79 @@ class AuthorisationServiceTest {
                     "Authorised User cannot access public publication");
     }
 
+    @Test
+    void testUserCanAccessMultiplePublicationsData() {
+        Artefact artefact = new Artefact();
+        artefact.setSensitivity(Sensitivity.PUBLIC);
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(ADMIN_ROLE));
+        Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        when(securityContext.getAuthentication()).thenReturn(auth);
+        when(publicationRetrievalService.getMetadataByArtefactIds(List.of(TEST_UUID, TEST_USER_ID)))
+            .thenReturn(List.of(artefact, artefact));
+
+        assertTrue(authorisationService.userCanAccessPublicationsData(TEST_UUID, List.of(TEST_UUID, TEST_USER_ID),
+                                                                      false),
+                   "User cannot access multiple publications with sensitivity PUBLIC");
+        verify(publicationRetrievalService, never()).getMetadataByArtefactId(any());
+    }
+
+    @Test
+    void testSystemCanAccessMultiplePrivatePublicationsData() {
+        Artefact artefact = new Artefact();
+        artefact.setSensitivity(Sensitivity.PRIVATE);
+        artefact.setListType(LIST_TYPE);
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(ADMIN_ROLE));
+        Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        when(securityContext.getAuthentication()).thenReturn(auth);
+        when(publicationRetrievalService.getMetadataByArtefactIds(List.of(TEST_UUID, TEST_USER_ID)))
+            .thenReturn(List.of(artefact, artefact));
+
+        assertTrue(authorisationService.userCanAccessPublicationsData(null, List.of(TEST_UUID, TEST_USER_ID),
+                                                                      true),
+                   "System cannot access multiple private publications");
+        verifyNoInteractions(authorisationDecisionCache);
+    }
+
+    @Test
+    void testUserCannotAccessTooManyPublicationsData() {
+        List<UUID> artefactIds = Stream.generate(UUID::randomUUID)
+            .limit(AuthorisationService.MAX_PUBLICATIONS_DATA_REQUEST + 1L)
+            .toList();
+
+        assertThrows(PayloadValidationException.class,
+                     () -> authorisationService.userCanAccessPublicationsData(TEST_UUID, artefactIds, false),
+                     "Bulk publication data request over the limit should be rejected");
+        verifyNoInteractions(publicationRetrievalService);
+    }
+
+    @Test
+    void testUserCannotAccessMultiplePublicationsDataWhenOneNotAuthorised() {
+        Artefact publicArtefact = new Artefact();
+        publicArtefact.setSensitivity(Sensitivity.PUBLIC);
+        Artefact privateArtefact = new Artefact();
+        privateArtefact.setSensitivity(Sensitivity.PRIVATE);
+        privateArtefact.setListType(LIST_TYPE);
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(ADMIN_ROLE));
+        Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        when(securityContext.getAuthentication()).thenReturn(auth);
+        when(publicationRetrievalService.getMetadataByArtefactIds(List.of(TEST_UUID, TEST_USER_ID)))
+            .thenReturn(List.of(publicArtefact, privateArtefact));
+        when(authorisationDecisionCache.isAuthorised(TEST_UUID, LIST_TYPE, Sensitivity.PRIVATE))
+            .thenReturn(false);
+
+        assertFalse(authorisationService.userCanAccessPublicationsData(TEST_UUID, List.of(TEST_UUID, TEST_USER_ID),
+                                                                       false),
+                    "Unauthorised User can access private publication in bulk request");
+        verify(authorisationDecisionCache).preload(TEST_UUID, List.of(publicArtefact, privateArtefact));
+    }
+
     @Test
     void testSystemAdminUserCanAccessListSearchConfig() {
-        when(accountManagementService.getUserById(TEST_UUID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_UUID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         List<GrantedAuthority> authorities = List.of(
             new SimpleGrantedAuthority(ADMIN_ROLE)
         );
@@ -285,8 +358,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testVerifiedUserCannotAccessListSearchConfig() {
-        when(accountManagementService.getUserById(TEST_UUID))
-            .thenReturn(createUser(Roles.VERIFIED));
+        when(userRoleCache.getRoles(TEST_UUID))
+            .thenReturn(Optional.of(Roles.VERIFIED));
         List<GrantedAuthority> authorities = List.of(
             new SimpleGrantedAuthority(ADMIN_ROLE)
         );
@@ -310,8 +383,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testVerifiedUserCanSearchInPublicationData() {
-        when(accountManagementService.getUserById(TEST_UUID))
-            .thenReturn(createUser(Roles.VERIFIED));
+        when(userRoleCache.getRoles(TEST_UUID))
+            .thenReturn(Optional.of(Roles.VERIFIED));
         List<GrantedAuthority> authorities = List.of(
             new SimpleGrantedAuthority(ADMIN_ROLE)
         );
@@ -326,8 +399,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testAdminUserCannotSearchInPublicationData() {
-        when(accountManagementService.getUserById(TEST_UUID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_UUID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         List<GrantedAuthority> authorities = List.of(
             new SimpleGrantedAuthority(ADMIN_ROLE)
         );
@@ -380,8 +453,8 @@ class AuthorisationServiceTest {
         Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(auth);
 
         assertTrue(authorisationService.userCanArchivePublications(TEST_USER_ID),
@@ -396,8 +469,8 @@ class AuthorisationServiceTest {
         Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(auth);
 
         assertTrue(authorisationService.userCanAddLocationMetadata(TEST_USER_ID),
@@ -412,8 +485,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testUserCannotAddLocationMetadataWhenRequesterIdNotAdmin() {
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.VERIFIED));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.VERIFIED));
         assertFalse(authorisationService.userCanAddLocationMetadata(TEST_USER_ID),
                    "API Token with Admin permission cannot add location metadata");
     }
@@ -432,8 +505,8 @@ class AuthorisationServiceTest {
         Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(auth);
 
         assertTrue(authorisationService.userCanUpdateLocationMetadata(TEST_USER_ID),
@@ -448,8 +521,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testUserCannotUpdateLocationMetadataWhenRequesterIdNotAdmin() {
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.VERIFIED));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.VERIFIED));
         assertFalse(authorisationService.userCanUpdateLocationMetadata(TEST_USER_ID),
                     "API Token with Admin permission cannot update location metadata");
     }
@@ -468,8 +541,8 @@ class AuthorisationServiceTest {
         Authentication auth = new TestingAuthenticationToken(TEST_USER_ID, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.SYSTEM_ADMIN));
         when(securityContext.getAuthentication()).thenReturn(auth);
 
         assertTrue(authorisationService.userCanDeleteLocationMetadata(TEST_USER_ID),
@@ -484,8 +557,8 @@ class AuthorisationServiceTest {
 
     @Test
     void testUserCannotDeleteLocationMetadataWhenRequesterIdNotAdmin() {
-        when(accountManagementService.getUserById(TEST_USER_ID))
-            .thenReturn(createUser(Roles.VERIFIED));
+        when(userRoleCache.getRoles(TEST_USER_ID))
+            .thenReturn(Optional.of(Roles.VERIFIED));
         assertFalse(authorisationService.userCanDeleteLocationMetadata(TEST_USER_ID),
                     "API Token with Admin permission cannot delete location metadata");
     }
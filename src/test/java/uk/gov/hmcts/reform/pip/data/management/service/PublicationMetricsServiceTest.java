@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.pip.data.management.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicationMetricsServiceTest {
+    private static final String LIST_TYPE_TAG = "list_type";
+    private static final String PROVENANCE_TAG = "provenance";
+    private static final String LANGUAGE_TAG = "language";
+    private static final String STAGE_TAG = "stage";
+    private static final String PROVENANCE = "MANUAL_UPLOAD";
+
+    private SimpleMeterRegistry meterRegistry;
+    private PublicationMetricsService publicationMetricsService;
+    private Artefact artefact;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        publicationMetricsService = new PublicationMetricsService(meterRegistry);
+
+        artefact = new Artefact();
+        artefact.setListType(ListType.CIVIL_DAILY_CAUSE_LIST);
+        artefact.setProvenance(PROVENANCE);
+        artefact.setLanguage(Language.ENGLISH);
+    }
+
+    @Test
+    void testStopTimerRecordsStageDurationForArtefact() {
+        Timer.Sample sample = publicationMetricsService.startTimer();
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.DB_UPSERT, artefact);
+
+        Timer timer = meterRegistry.find(PublicationMetricsService.STAGE_DURATION_METRIC)
+            .tag(STAGE_TAG, PublicationMetricsService.DB_UPSERT)
+            .tag(LIST_TYPE_TAG, ListType.CIVIL_DAILY_CAUSE_LIST.name())
+            .tag(PROVENANCE_TAG, PROVENANCE)
+            .tag(LANGUAGE_TAG, Language.ENGLISH.name())
+            .timer();
+
+        assertThat(timer)
+            .as("Stage timer should be registered")
+            .isNotNull();
+        assertThat(timer.count())
+            .as("Stage timer count does not match")
+            .isEqualTo(1);
+    }
+
+    @Test
+    void testStopTimerWithUnknownTags() {
+        Timer.Sample sample = publicationMetricsService.startTimer();
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.HEADER_VALIDATION, null, null, null);
+
+        assertThat(meterRegistry.find(PublicationMetricsService.STAGE_DURATION_METRIC)
+                       .tag(STAGE_TAG, PublicationMetricsService.HEADER_VALIDATION)
+                       .tag(LIST_TYPE_TAG, "UNKNOWN")
+                       .tag(PROVENANCE_TAG, "UNKNOWN")
+                       .tag(LANGUAGE_TAG, "UNKNOWN")
+                       .timer())
+            .as("Stage timer with unknown tags should be registered")
+            .isNotNull();
+    }
+
+    @Test
+    void testStopTimerTagsUnrecognisedProvenanceAsOther() {
+        artefact.setProvenance("Unrecognised provenance");
+        Timer.Sample sample = publicationMetricsService.startTimer();
+        publicationMetricsService.stopTimer(sample, PublicationMetricsService.DB_UPSERT, artefact);
+
+        assertThat(meterRegistry.find(PublicationMetricsService.STAGE_DURATION_METRIC)
+                       .tag(PROVENANCE_TAG, "OTHER")
+                       .timer())
+            .as("Stage timer should be tagged with the other provenance")
+            .isNotNull();
+        assertThat(meterRegistry.find(PublicationMetricsService.STAGE_DURATION_METRIC)
+                       .tag(PROVENANCE_TAG, "Unrecognised provenance")
+                       .timer())
+            .as("Stage timer should not be tagged with an unrecognised provenance")
+            .isNull();
+    }
+
+    @Test
+    void testRecordSize() {
+        publicationMetricsService.recordSize(PublicationMetricsService.PDF_RENDER, artefact, Language.WELSH, 1234);
+
+        DistributionSummary summary = meterRegistry.find(PublicationMetricsService.STAGE_SIZE_METRIC)
+            .tag(STAGE_TAG, PublicationMetricsService.PDF_RENDER)
+            .tag(LANGUAGE_TAG, Language.WELSH.name())
+            .summary();
+
+        assertThat(summary)
+            .as("Size summary should be registered")
+            .isNotNull();
+        assertThat(summary.totalAmount())
+            .as("Size summary total does not match")
+            .isEqualTo(1234);
+    }
+
+    @Test
+    void testIncrementCreationRetry() {
+        publicationMetricsService.incrementCreationRetry(artefact);
+        publicationMetricsService.incrementCreationRetry(artefact);
+
+        Counter counter = meterRegistry.find(PublicationMetricsService.CREATION_RETRY_METRIC)
+            .tag(LIST_TYPE_TAG, ListType.CIVIL_DAILY_CAUSE_LIST.name())
+            .counter();
+
+        assertThat(counter)
+            .as("Retry counter should be registered")
+            .isNotNull();
+        assertThat(counter.count())
+            .as("Retry count does not match")
+            .isEqualTo(2);
+    }
+
+    @Test
+    void testIncrementPdfSizeFallback() {
+        publicationMetricsService.incrementPdfSizeFallback(artefact, Language.WELSH);
+
+        Counter counter = meterRegistry.find(PublicationMetricsService.PDF_SIZE_FALLBACK_METRIC)
+            .tag(LANGUAGE_TAG, Language.WELSH.name())
+            .counter();
+
+        assertThat(counter)
+            .as("PDF size fallback counter should be registered")
+            .isNotNull();
+        assertThat(counter.count())
+            .as("PDF size fallback count does not match")
+            .isEqualTo(1);
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.pip.data.management.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.pip.model.account.PiUser;
+import uk.gov.hmcts.reform.pip.model.account.Roles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserRoleCacheTest {
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final long TTL_SECONDS = 60;
+    private static final long MAX_SIZE = 10;
+    private static final String ROLES_MESSAGE = "User roles do not match";
+
+    @Mock
+    private AccountManagementService accountManagementService;
+
+    private UserRoleCache createCache(long failureTtlSeconds) {
+        return new UserRoleCache(accountManagementService, new SimpleMeterRegistry(), TTL_SECONDS,
+                                 failureTtlSeconds, MAX_SIZE);
+    }
+
+    private PiUser createUser(Roles role) {
+        PiUser user = new PiUser();
+        user.setRoles(role);
+        return user;
+    }
+
+    @Test
+    void testRolesAreLookedUpOnceAndThenServedFromCache() {
+        when(accountManagementService.getUserById(USER_ID)).thenReturn(createUser(Roles.SYSTEM_ADMIN));
+        UserRoleCache userRoleCache = createCache(TTL_SECONDS);
+
+        assertThat(userRoleCache.getRoles(USER_ID))
+            .as(ROLES_MESSAGE)
+            .contains(Roles.SYSTEM_ADMIN);
+        assertThat(userRoleCache.getRoles(USER_ID))
+            .as(ROLES_MESSAGE)
+            .contains(Roles.SYSTEM_ADMIN);
+
+        verify(accountManagementService, times(1)).getUserById(USER_ID);
+    }
+
+    @Test
+    void testFailedLookupIsCached() {
+        when(accountManagementService.getUserById(USER_ID)).thenReturn(new PiUser());
+        UserRoleCache userRoleCache = createCache(TTL_SECONDS);
+
+        assertThat(userRoleCache.getRoles(USER_ID))
+            .as(ROLES_MESSAGE)
+            .isEmpty();
+        userRoleCache.getRoles(USER_ID);
+
+        verify(accountManagementService, times(1)).getUserById(USER_ID);
+    }
+
+    @Test
+    void testFailedLookupIsRetriedAfterFailureTtl() {
+        when(accountManagementService.getUserById(USER_ID))
+            .thenReturn(new PiUser())
+            .thenReturn(createUser(Roles.VERIFIED));
+        UserRoleCache userRoleCache = createCache(0);
+
+        assertThat(userRoleCache.getRoles(USER_ID))
+            .as(ROLES_MESSAGE)
+            .isEmpty();
+        assertThat(userRoleCache.getRoles(USER_ID))
+            .as(ROLES_MESSAGE)
+            .contains(Roles.VERIFIED);
+
+        verify(accountManagementService, times(2)).getUserById(USER_ID);
+    }
+
+    @Test
+    void testConcurrentLookupsAreCoalesced() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(accountManagementService.getUserById(USER_ID)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await(5, TimeUnit.SECONDS);
+            return createUser(Roles.SYSTEM_ADMIN);
+        });
+        UserRoleCache userRoleCache = createCache(TTL_SECONDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Roles>> first = executor.submit(() -> userRoleCache.getRoles(USER_ID));
+            lookupStarted.await(5, TimeUnit.SECONDS);
+            Future<Optional<Roles>> second = executor.submit(() -> userRoleCache.getRoles(USER_ID));
+            releaseLookup.countDown();
+
+            for (Future<Optional<Roles>> result : List.of(first, second)) {
+                assertThat(result.get(5, TimeUnit.SECONDS))
+                    .as(ROLES_MESSAGE)
+                    .contains(Roles.SYSTEM_ADMIN);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(accountManagementService, times(1)).getUserById(USER_ID);
+    }
+}
@@ -1,18 +1,30 @@
 package uk.gov.hmcts.reform.pip.data.management.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ViewServiceTest {
+    private static final String REFRESH_COUNT_MESSAGE = "Number of view refreshes recorded does not match";
 
     @Mock
     private LocationRepository locationRepository;
@@ -20,15 +32,93 @@ class ViewServiceTest {
     @Mock
     private ArtefactRepository artefactRepository;
 
-    @InjectMocks
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private ViewService viewService;
 
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewService = new ViewService(artefactRepository, locationRepository, transactionTemplate, meterRegistry);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+    }
+
+    private long refreshCount() {
+        return meterRegistry.get(ViewService.REFRESH_DURATION_METRIC).timer().count();
+    }
+
     @Test
     void refreshViewTest() {
+        when(artefactRepository.tryLockViewRefresh()).thenReturn(true);
+
+        viewService.refreshView();
+        viewService.refreshRequestedView();
+
+        verify(locationRepository, times(1)).refreshLocationView();
+        verify(artefactRepository, times(1)).refreshArtefactView();
+        assertEquals(1, refreshCount(), REFRESH_COUNT_MESSAGE);
+    }
+
+    @Test
+    void refreshViewCoalescesRequests() {
+        when(artefactRepository.tryLockViewRefresh()).thenReturn(true);
+
+        viewService.refreshView();
         viewService.refreshView();
+        viewService.refreshRequestedView();
+        viewService.refreshRequestedView();
+
         verify(locationRepository, times(1)).refreshLocationView();
         verify(artefactRepository, times(1)).refreshArtefactView();
+        assertEquals(1, refreshCount(), REFRESH_COUNT_MESSAGE);
+    }
 
+    @Test
+    void refreshViewNotRequested() {
+        viewService.refreshRequestedView();
+
+        verifyNoInteractions(transactionTemplate, artefactRepository, locationRepository);
+        assertEquals(0, refreshCount(), REFRESH_COUNT_MESSAGE);
+    }
+
+    @Test
+    void refreshViewRetriedWhenLockedByAnotherInstance() {
+        when(artefactRepository.tryLockViewRefresh()).thenReturn(false, true);
+
+        viewService.refreshView();
+        viewService.refreshRequestedView();
+
+        verify(artefactRepository, never()).refreshArtefactView();
+        verify(locationRepository, never()).refreshLocationView();
+
+        viewService.refreshRequestedView();
+
+        verify(artefactRepository, times(1)).refreshArtefactView();
+        verify(locationRepository, times(1)).refreshLocationView();
+        assertEquals(1, refreshCount(), REFRESH_COUNT_MESSAGE);
     }
 
+    @Test
+    void refreshViewRetriedWhenRefreshFails() {
+        when(artefactRepository.tryLockViewRefresh()).thenReturn(true);
+        doThrow(new DataAccessResourceFailureException("Failed"))
+            .doNothing()
+            .when(artefactRepository).refreshArtefactView();
+
+        viewService.refreshView();
+        viewService.refreshRequestedView();
+
+        verify(locationRepository, never()).refreshLocationView();
+
+        viewService.refreshRequestedView();
+
+        verify(artefactRepository, times(2)).refreshArtefactView();
+        verify(locationRepository, times(1)).refreshLocationView();
+    }
 }
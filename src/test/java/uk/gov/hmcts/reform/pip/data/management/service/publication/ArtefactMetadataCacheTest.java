@@ -0,0 +1,177 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArtefactMetadataCacheTest {
+    private static final UUID ARTEFACT_ID = UUID.randomUUID();
+    private static final long TTL_SECONDS = 60;
+    private static final long MAX_SIZE = 10;
+    private static final String ARTEFACT_MESSAGE = "Artefact does not match";
+
+    private final Artefact artefact = Artefact.builder().artefactId(ARTEFACT_ID).build();
+
+    @Mock
+    private ArtefactRepository artefactRepository;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ArtefactMetadataCache createCache(long ttlSeconds) {
+        return new ArtefactMetadataCache(artefactRepository, new SimpleMeterRegistry(), ttlSeconds, MAX_SIZE);
+    }
+
+    @Test
+    void testArtefactIsLoadedOnceAndThenServedFromSharedCache() {
+        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString())).thenReturn(Optional.of(artefact));
+        ArtefactMetadataCache artefactMetadataCache = createCache(TTL_SECONDS);
+
+        assertThat(artefactMetadataCache.getArtefact(ARTEFACT_ID))
+            .as(ARTEFACT_MESSAGE)
+            .contains(artefact);
+        assertThat(artefactMetadataCache.getArtefact(ARTEFACT_ID))
+            .as(ARTEFACT_MESSAGE)
+            .contains(artefact);
+
+        verify(artefactRepository, times(1)).findArtefactByArtefactId(ARTEFACT_ID.toString());
+    }
+
+    @Test
+    void testArtefactIsMemoisedForRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString())).thenReturn(Optional.of(artefact));
+        ArtefactMetadataCache artefactMetadataCache = createCache(0);
+
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+        assertThat(artefactMetadataCache.getArtefact(ARTEFACT_ID))
+            .as(ARTEFACT_MESSAGE)
+            .contains(artefact);
+
+        verify(artefactRepository, times(1)).findArtefactByArtefactId(ARTEFACT_ID.toString());
+    }
+
+    @Test
+    void testArtefactIsNotSharedBetweenRequestsWhenSharedCacheDisabled() {
+        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString())).thenReturn(Optional.of(artefact));
+        ArtefactMetadataCache artefactMetadataCache = createCache(0);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+
+        verify(artefactRepository, times(2)).findArtefactByArtefactId(ARTEFACT_ID.toString());
+    }
+
+    @Test
+    void testEvictedArtefactIsReloaded() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString())).thenReturn(Optional.of(artefact));
+        ArtefactMetadataCache artefactMetadataCache = createCache(TTL_SECONDS);
+
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+        artefactMetadataCache.evict(ARTEFACT_ID);
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+
+        verify(artefactRepository, times(2)).findArtefactByArtefactId(ARTEFACT_ID.toString());
+    }
+
+    @Test
+    void testMissingArtefactIsNotCached() {
+        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString())).thenReturn(Optional.empty());
+        ArtefactMetadataCache artefactMetadataCache = createCache(TTL_SECONDS);
+
+        assertThat(artefactMetadataCache.getArtefact(ARTEFACT_ID))
+            .as(ARTEFACT_MESSAGE)
+            .isEmpty();
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+
+        verify(artefactRepository, times(2)).findArtefactByArtefactId(ARTEFACT_ID.toString());
+    }
+
+    @Test
+    void testArtefactsNotCachedAreLoadedInOneLookup() {
+        UUID otherArtefactId = UUID.randomUUID();
+        Artefact otherArtefact = Artefact.builder().artefactId(otherArtefactId).build();
+        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString())).thenReturn(Optional.of(artefact));
+        when(artefactRepository.findAllByArtefactIdIn(List.of(otherArtefactId))).thenReturn(List.of(otherArtefact));
+        ArtefactMetadataCache artefactMetadataCache = createCache(TTL_SECONDS);
+
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+        Map<UUID, Artefact> artefacts = artefactMetadataCache.getArtefacts(List.of(ARTEFACT_ID, otherArtefactId));
+
+        assertThat(artefacts)
+            .as(ARTEFACT_MESSAGE)
+            .containsOnlyKeys(ARTEFACT_ID, otherArtefactId);
+        assertThat(artefactMetadataCache.getArtefact(otherArtefactId))
+            .as(ARTEFACT_MESSAGE)
+            .isPresent();
+        verify(artefactRepository, never()).findArtefactByArtefactId(otherArtefactId.toString());
+    }
+
+    @Test
+    void testCachedArtefactIsNotChangedByCaller() {
+        Artefact searchableArtefact = Artefact.builder()
+            .artefactId(ARTEFACT_ID)
+            .locationId("123")
+            .search(Map.of("cases", List.of("case")))
+            .build();
+        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString()))
+            .thenReturn(Optional.of(searchableArtefact));
+        ArtefactMetadataCache artefactMetadataCache = createCache(TTL_SECONDS);
+
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+        Artefact cachedArtefact = artefactMetadataCache.getArtefact(ARTEFACT_ID).orElseThrow();
+        cachedArtefact.setLocationId("456");
+
+        assertThat(artefactMetadataCache.getArtefact(ARTEFACT_ID))
+            .as(ARTEFACT_MESSAGE)
+            .hasValueSatisfying(artefact -> assertThat(artefact.getLocationId()).isEqualTo("123"));
+        assertThatThrownBy(() -> cachedArtefact.getSearch().put("parties", List.of()))
+            .as("Cached search metadata should not be modifiable")
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testArtefactIsEvictedAgainAfterCommit() {
+        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString())).thenReturn(Optional.of(artefact));
+        ArtefactMetadataCache artefactMetadataCache = createCache(TTL_SECONDS);
+        TransactionSynchronizationManager.initSynchronization();
+
+        artefactMetadataCache.evict(ARTEFACT_ID);
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        artefactMetadataCache.getArtefact(ARTEFACT_ID);
+
+        verify(artefactRepository, times(2)).findArtefactByArtefactId(ARTEFACT_ID.toString());
+    }
+}
@@ -24,6 +24,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,6 +52,9 @@ class ArtefactSearchServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private CaseSuggestionIndex caseSuggestionIndex;
+
     @InjectMocks
     private ArtefactSearchService artefactSearchService;
 
@@ -92,6 +96,7 @@ class ArtefactSearchServiceTest {
         artefactSearchService.deleteByArtefactId(artefactId);
 
         verify(artefactSearchRepository).deleteByArtefactId(artefactId);
+        verify(caseSuggestionIndex).remove(artefactId);
     }
 
     @Test
@@ -102,6 +107,7 @@ class ArtefactSearchServiceTest {
         assertThrows(NotFoundException.class, () -> artefactSearchService.deleteByArtefactId(artefactId));
 
         verify(artefactSearchRepository, never()).deleteByArtefactId(artefactId);
+        verify(caseSuggestionIndex, never()).remove(artefactId);
     }
 
 
@@ -137,5 +143,9 @@ class ArtefactSearchServiceTest {
                 assertThat(row.getCaseName()).isEqualTo("Case A");
             });
         }));
+
+        verify(caseSuggestionIndex).update(eq(artefactWithIdAndListType), assertArg(rows -> {
+            assertThat(rows).singleElement().satisfies(row -> assertThat(row.getCaseNumber()).isEqualTo("123"));
+        }));
     }
 }
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlobDeletionExecutorTest {
+    private static final String FAILURE_MESSAGE = "Blob store unavailable";
+
+    private final BlobDeletionExecutor blobDeletionExecutor = new BlobDeletionExecutor(2);
+
+    @AfterEach
+    void tearDown() {
+        blobDeletionExecutor.shutdown();
+    }
+
+    private static Artefact buildArtefact() {
+        return Artefact.builder()
+            .artefactId(UUID.randomUUID())
+            .build();
+    }
+
+    @Test
+    void testDeleteAllRunsDeletionForEachArtefact() {
+        List<Artefact> artefacts = List.of(buildArtefact(), buildArtefact(), buildArtefact());
+        Set<UUID> deletedArtefactIds = ConcurrentHashMap.newKeySet();
+
+        Map<UUID, String> failures = blobDeletionExecutor.deleteAll(
+            artefacts, artefact -> deletedArtefactIds.add(artefact.getArtefactId())
+        );
+
+        assertThat(failures)
+            .as("No deletion should fail")
+            .isEmpty();
+        assertThat(deletedArtefactIds)
+            .as("Blobs should be deleted for every artefact")
+            .containsExactlyInAnyOrderElementsOf(artefacts.stream().map(Artefact::getArtefactId).toList());
+    }
+
+    @Test
+    void testDeleteAllReportsFailedDeletions() {
+        Artefact failedArtefact = buildArtefact();
+        Artefact deletedArtefact = buildArtefact();
+        Set<UUID> deletedArtefactIds = ConcurrentHashMap.newKeySet();
+
+        Map<UUID, String> failures = blobDeletionExecutor.deleteAll(
+            List.of(failedArtefact, deletedArtefact),
+            artefact -> {
+                if (artefact == failedArtefact) {
+                    throw new IllegalStateException(FAILURE_MESSAGE);
+                }
+                deletedArtefactIds.add(artefact.getArtefactId());
+            }
+        );
+
+        assertThat(failures)
+            .as("Failed deletion should be reported against its artefact")
+            .containsExactly(Map.entry(failedArtefact.getArtefactId(), FAILURE_MESSAGE));
+        assertThat(deletedArtefactIds)
+            .as("A failed deletion should not stop the others")
+            .containsExactly(deletedArtefact.getArtefactId());
+    }
+}
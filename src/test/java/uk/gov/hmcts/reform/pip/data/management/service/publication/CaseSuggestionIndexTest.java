@@ -0,0 +1,263 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchIndexRow;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSearch;
+import uk.gov.hmcts.reform.pip.model.publication.ArtefactCaseInfo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseSuggestionIndexTest {
+    private static final int MAX_RESULTS = 2;
+    private static final String CASE_NUMBER = "AB12345";
+    private static final String CASE_NAME = "Smith v Jones";
+    private static final String SUGGESTIONS_MESSAGE = "Suggestions do not match";
+
+    private final UUID artefactId = UUID.randomUUID();
+
+    @Mock
+    private ArtefactSearchRepository artefactSearchRepository;
+
+    private CaseSuggestionIndex caseSuggestionIndex;
+
+    @BeforeEach
+    void setup() {
+        caseSuggestionIndex = new CaseSuggestionIndex(artefactSearchRepository, new SimpleMeterRegistry(),
+                                                      MAX_RESULTS);
+    }
+
+    private static Artefact buildArtefact(UUID artefactId, LocalDateTime displayFrom, LocalDateTime displayTo) {
+        return Artefact.builder()
+            .artefactId(artefactId)
+            .displayFrom(displayFrom)
+            .displayTo(displayTo)
+            .build();
+    }
+
+    private static Artefact buildDisplayedArtefact(UUID artefactId) {
+        return buildArtefact(artefactId, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+    }
+
+    private static ArtefactSearch buildSearchRow(UUID artefactId, String caseNumber, String caseName) {
+        return ArtefactSearch.builder()
+            .artefactId(artefactId)
+            .caseNumber(caseNumber)
+            .caseName(caseName)
+            .build();
+    }
+
+    private static List<String> caseNumbers(List<ArtefactCaseInfo> suggestions) {
+        return suggestions.stream().map(ArtefactCaseInfo::getCaseNumber).toList();
+    }
+
+    @Test
+    void testSuggestByCaseNumberPrefix() {
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+
+        List<ArtefactCaseInfo> suggestions = caseSuggestionIndex.suggest("ab1");
+
+        assertThat(caseNumbers(suggestions))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly(CASE_NUMBER);
+        assertThat(suggestions.get(0).getCaseName())
+            .as(SUGGESTIONS_MESSAGE)
+            .isEqualTo(CASE_NAME);
+    }
+
+    @Test
+    void testSuggestByStartOfAnyCaseNameWord() {
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("SMI")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly(CASE_NUMBER);
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("jon")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly(CASE_NUMBER);
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("v   jones")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly(CASE_NUMBER);
+    }
+
+    @Test
+    void testSuggestDoesNotMatchWithinWord() {
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+
+        assertThat(caseSuggestionIndex.suggest("mith"))
+            .as(SUGGESTIONS_MESSAGE)
+            .isEmpty();
+        assertThat(caseSuggestionIndex.suggest("12345"))
+            .as(SUGGESTIONS_MESSAGE)
+            .isEmpty();
+    }
+
+    @Test
+    void testSuggestReturnsNothingForBlankQuery() {
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+
+        assertThat(caseSuggestionIndex.suggest("  "))
+            .as(SUGGESTIONS_MESSAGE)
+            .isEmpty();
+    }
+
+    @Test
+    void testSuggestOnlyDisplayedArtefacts() {
+        UUID futureArtefactId = UUID.randomUUID();
+        caseSuggestionIndex.update(buildArtefact(futureArtefactId, LocalDateTime.now().plusDays(1), null),
+                                   List.of(buildSearchRow(futureArtefactId, "AB999", CASE_NAME)));
+        caseSuggestionIndex.update(buildArtefact(artefactId, LocalDateTime.now().minusDays(1), null),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("ab")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly(CASE_NUMBER);
+    }
+
+    @Test
+    void testSuggestDistinctCasesAcrossArtefacts() {
+        UUID otherArtefactId = UUID.randomUUID();
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+        caseSuggestionIndex.update(buildDisplayedArtefact(otherArtefactId),
+                                   List.of(buildSearchRow(otherArtefactId, CASE_NUMBER, CASE_NAME)));
+
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("smith")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly(CASE_NUMBER);
+    }
+
+    @Test
+    void testSuggestIsLimitedToMaxResults() {
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId), List.of(
+            buildSearchRow(artefactId, "AB1", CASE_NAME),
+            buildSearchRow(artefactId, "AB2", CASE_NAME),
+            buildSearchRow(artefactId, "AB3", CASE_NAME)
+        ));
+
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("ab")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly("AB1", "AB2");
+    }
+
+    @Test
+    void testUpdateReplacesPreviousCases() {
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, "CD678", "Brown v Green")));
+
+        assertThat(caseSuggestionIndex.suggest("smith"))
+            .as(SUGGESTIONS_MESSAGE)
+            .isEmpty();
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("brown")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly("CD678");
+    }
+
+    @Test
+    void testRemove() {
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+
+        caseSuggestionIndex.remove(artefactId);
+
+        assertThat(caseSuggestionIndex.suggest("smith"))
+            .as(SUGGESTIONS_MESSAGE)
+            .isEmpty();
+    }
+
+    @Test
+    void testRebuildFromDatabase() {
+        LocalDateTime displayFrom = LocalDateTime.now().minusDays(1);
+        when(artefactSearchRepository.findAllNotExpired(any())).thenReturn(List.of(
+            new IndexRow(artefactId, CASE_NUMBER, CASE_NAME, displayFrom, null),
+            new IndexRow(artefactId, "CD678", "Brown v Green", displayFrom, null)
+        ));
+
+        caseSuggestionIndex.rebuild();
+
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("brown")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly("CD678");
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("ab")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly(CASE_NUMBER);
+    }
+
+    @Test
+    void testRebuildReplacesIndex() {
+        UUID staleArtefactId = UUID.randomUUID();
+        caseSuggestionIndex.update(buildDisplayedArtefact(staleArtefactId),
+                                   List.of(buildSearchRow(staleArtefactId, "CD678", "Brown v Green")));
+        when(artefactSearchRepository.findAllNotExpired(any())).thenReturn(List.of(
+            new IndexRow(artefactId, CASE_NUMBER, CASE_NAME, LocalDateTime.now().minusDays(1), null)
+        ));
+
+        caseSuggestionIndex.rebuild();
+
+        assertThat(caseSuggestionIndex.suggest("brown"))
+            .as(SUGGESTIONS_MESSAGE)
+            .isEmpty();
+    }
+
+    @Test
+    void testFailedRebuildKeepsCurrentIndex() {
+        caseSuggestionIndex.update(buildDisplayedArtefact(artefactId),
+                                   List.of(buildSearchRow(artefactId, CASE_NUMBER, CASE_NAME)));
+        when(artefactSearchRepository.findAllNotExpired(any()))
+            .thenThrow(new DataAccessResourceFailureException("Database unavailable"));
+
+        caseSuggestionIndex.rebuild();
+
+        assertThat(caseNumbers(caseSuggestionIndex.suggest("smith")))
+            .as(SUGGESTIONS_MESSAGE)
+            .containsExactly(CASE_NUMBER);
+    }
+
+    private record IndexRow(UUID artefactId, String caseNumber, String caseName,
+                            LocalDateTime displayFrom, LocalDateTime displayTo) implements ArtefactSearchIndexRow {
+        @Override
+        public UUID getArtefactId() {
+            return artefactId;
+        }
+
+        @Override
+        public String getCaseNumber() {
+            return caseNumber;
+        }
+
+        @Override
+        public String getCaseName() {
+            return caseName;
+        }
+
+        @Override
+        public LocalDateTime getDisplayFrom() {
+            return displayFrom;
+        }
+
+        @Override
+        public LocalDateTime getDisplayTo() {
+            return displayTo;
+        }
+    }
+}
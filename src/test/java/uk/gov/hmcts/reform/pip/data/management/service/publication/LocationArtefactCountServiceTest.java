@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.pip.data.management.database.LocationArtefactCountRepository;
+import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefact;
+import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefactCount;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class LocationArtefactCountServiceTest {
+    private static final String LOCATION_ID = "123";
+    private static final String NO_MATCH_LOCATION_ID = LocationArtefactCountService.NO_MATCH_LOCATION_ID;
+    private static final String COUNTS_MESSAGE = "Artefact counts do not match";
+
+    @Mock
+    private LocationArtefactCountRepository locationArtefactCountRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private LocationArtefactCountService locationArtefactCountService;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+    }
+
+    private Artefact buildArtefact(String locationId, LocalDateTime displayTo) {
+        return Artefact.builder()
+            .locationId(locationId)
+            .displayTo(displayTo)
+            .build();
+    }
+
+    @Test
+    void testRecordAddedForDisplayedArtefact() {
+        locationArtefactCountService.recordAdded(buildArtefact(LOCATION_ID, LocalDateTime.now().plusDays(1)));
+        verify(locationArtefactCountRepository).addToCount(LOCATION_ID, 1);
+    }
+
+    @Test
+    void testRecordAddedWithoutDisplayTo() {
+        locationArtefactCountService.recordAdded(buildArtefact(LOCATION_ID, null));
+        verify(locationArtefactCountRepository).addToCount(LOCATION_ID, 1);
+    }
+
+    @Test
+    void testRecordAddedForExpiredArtefact() {
+        locationArtefactCountService.recordAdded(buildArtefact(LOCATION_ID, LocalDateTime.now().minusDays(1)));
+        verifyNoInteractions(locationArtefactCountRepository);
+    }
+
+    @Test
+    void testRecordAddedForNoMatchArtefact() {
+        locationArtefactCountService.recordAdded(buildArtefact("NoMatch1", null));
+        verify(locationArtefactCountRepository).addToCount(NO_MATCH_LOCATION_ID, 1);
+    }
+
+    @Test
+    void testRecordAddedForNonNumericLocation() {
+        locationArtefactCountService.recordAdded(buildArtefact("abc", null));
+        verifyNoInteractions(locationArtefactCountRepository);
+    }
+
+    @Test
+    void testRecordRemoved() {
+        locationArtefactCountService.recordRemoved(buildArtefact(LOCATION_ID, LocalDateTime.now().plusDays(1)));
+        verify(locationArtefactCountRepository).addToCount(LOCATION_ID, -1);
+    }
+
+    @Test
+    void testReconcile() {
+        when(locationArtefactCountRepository.tryLockReconcile()).thenReturn(true);
+
+        locationArtefactCountService.reconcile();
+
+        InOrder orderVerifier = inOrder(locationArtefactCountRepository);
+        orderVerifier.verify(locationArtefactCountRepository).tryLockReconcile();
+        orderVerifier.verify(locationArtefactCountRepository).reconcileCounts(any());
+        orderVerifier.verify(locationArtefactCountRepository).deleteUndisplayedCounts(any());
+    }
+
+    @Test
+    void testReconcileSkippedWhenLockedByAnotherInstance() {
+        when(locationArtefactCountRepository.tryLockReconcile()).thenReturn(false);
+
+        locationArtefactCountService.reconcile();
+
+        verify(locationArtefactCountRepository, never()).reconcileCounts(any());
+        verify(locationArtefactCountRepository, never()).deleteUndisplayedCounts(any());
+    }
+
+    @Test
+    void testGetArtefactCounts() {
+        when(locationArtefactCountRepository.findAll()).thenReturn(List.of(
+            new LocationArtefactCount(NO_MATCH_LOCATION_ID, 4),
+            new LocationArtefactCount(LOCATION_ID, 3),
+            new LocationArtefactCount("456", 0)
+        ));
+
+        assertThat(locationArtefactCountService.getArtefactCounts())
+            .as(COUNTS_MESSAGE)
+            .containsExactly(new LocationArtefact(LOCATION_ID, 3), new LocationArtefact(NO_MATCH_LOCATION_ID, 4));
+    }
+
+    @Test
+    void testGetArtefactCountsWithoutNoMatchCount() {
+        when(locationArtefactCountRepository.findAll()).thenReturn(List.of());
+
+        assertThat(locationArtefactCountService.getArtefactCounts())
+            .as(COUNTS_MESSAGE)
+            .containsExactly(new LocationArtefact(NO_MATCH_LOCATION_ID, 0));
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.CreateArtefactConflictException;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.service.PublicationMetricsService;
 import uk.gov.hmcts.reform.pip.data.management.utils.JsonExtractor;
 
 import java.time.LocalDate;
@@ -60,6 +61,9 @@ class PublicationCreationRunnerTest {
     @Mock
     JsonExtractor jsonExtractor;
 
+    @Mock
+    private PublicationMetricsService publicationMetricsService;
+
     @InjectMocks
     private PublicationCreationRunner publicationCreationRunner;
 
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,6 +16,7 @@ import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.location.Location;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.service.PublicationMetricsService;
 import uk.gov.hmcts.reform.pip.model.publication.Language;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 
@@ -27,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -69,6 +72,18 @@ class PublicationCreationServiceTest {
     @Mock
     private ArtefactSearchService artefactSearchService;
 
+    @Mock
+    private PublicationMetricsService publicationMetricsService;
+
+    @Mock
+    private ArtefactMetadataCache artefactMetadataCache;
+
+    @Mock
+    private PublicationMiRollupService publicationMiRollupService;
+
+    @Mock
+    private LocationArtefactCountService locationArtefactCountService;
+
     @InjectMocks
     private PublicationCreationService publicationCreationService;
 
@@ -169,6 +184,11 @@ class PublicationCreationServiceTest {
 
         verify(artefactSearchService).artefactSearchStore(returnedArtefact, PAYLOAD);
         verify(azureArtefactBlobService).deleteBlob(anyString());
+        verify(artefactMetadataCache).evict(returnedArtefact.getArtefactId());
+        verify(publicationMiRollupService).recordSuperseded(existingArtefact);
+        verify(publicationMiRollupService).recordReceived(returnedArtefact);
+        verify(locationArtefactCountService).recordRemoved(existingArtefact);
+        verify(locationArtefactCountService).recordAdded(returnedArtefact);
         assertEquals(artefactToBeCreated, returnedArtefact, ROWID_RETURNS_UUID);
     }
 
@@ -212,6 +232,8 @@ class PublicationCreationServiceTest {
         verify(publicationFileManagementService).deleteFiles(artefactToBeCreated.getArtefactId(),
                                                          artefactToBeCreated.getListType(),
                                                          artefactToBeCreated.getLanguage());
+        verify(publicationFileManagementService).deleteManifest(artefactToBeCreated.getArtefactId());
+        verify(publicationSubscriptionService).deleteArtefactSummary(artefactToBeCreated.getArtefactId());
 
         assertEquals(artefactToBeCreated, returnedArtefact, ROWID_RETURNS_UUID);
     }
@@ -251,6 +273,7 @@ class PublicationCreationServiceTest {
 
         publicationCreationService.applyInternalLocationId(artefact);
         assertThat(artefact.getLocationId()).isEqualTo(LOCATION_ID);
+        assertThat(artefact.getIsNoMatch()).isFalse();
     }
 
     @Test
@@ -260,6 +283,7 @@ class PublicationCreationServiceTest {
 
         publicationCreationService.applyInternalLocationId(artefact);
         assertThat(artefact.getLocationId()).isEqualTo("NoMatch" + PROVENANCE_ID);
+        assertThat(artefact.getIsNoMatch()).isTrue();
     }
 
     @Test
@@ -307,5 +331,22 @@ class PublicationCreationServiceTest {
         publicationCreationService.createPublication(artefact, PAYLOAD);
 
         assertEquals(0, captor.getValue().getSupersededCount(), "Superseded count has been incremented");
+        verify(publicationMiRollupService, never()).recordSuperseded(any());
+        verify(publicationMiRollupService).recordReceived(artefactWithIdAndPayloadUrl);
+        verify(locationArtefactCountService, never()).recordRemoved(any());
+        verify(locationArtefactCountService).recordAdded(artefactWithIdAndPayloadUrl);
+    }
+
+    @Test
+    void testProcessCreatedPublicationPrecomputesSummaryBeforeTriggeringSubscriptions() {
+        publicationCreationService.processCreatedPublication(artefactWithIdAndPayloadUrl, PAYLOAD);
+
+        InOrder inOrder = inOrder(publicationFileManagementService, publicationSubscriptionService);
+        inOrder.verify(publicationFileManagementService).generateFiles(artefactWithIdAndPayloadUrl.getArtefactId(),
+                                                                       PAYLOAD);
+        inOrder.verify(publicationSubscriptionService).precomputeArtefactSummary(artefactWithIdAndPayloadUrl,
+                                                                                 PAYLOAD);
+        inOrder.verify(publicationSubscriptionService)
+            .checkAndTriggerPublicationSubscription(artefactWithIdAndPayloadUrl);
     }
 }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
+import com.azure.storage.blob.models.BlobProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeAll;
@@ -9,24 +10,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.AzurePublicationBlobService;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationFileManifestRepository;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.FileSizeLimitException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.UnauthorisedRequestException;
 import uk.gov.hmcts.reform.pip.data.management.models.PublicationFileSizes;
 import uk.gov.hmcts.reform.pip.data.management.models.PublicationFiles;
+import uk.gov.hmcts.reform.pip.data.management.models.StoredPublicationFile;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
-import uk.gov.hmcts.reform.pip.data.management.service.AccountManagementService;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationFileManifest;
+import uk.gov.hmcts.reform.pip.data.management.service.AuthorisationDecisionCache;
 import uk.gov.hmcts.reform.pip.model.publication.Language;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -37,12 +49,15 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.pip.model.publication.FileType.EXCEL;
 import static uk.gov.hmcts.reform.pip.model.publication.FileType.PDF;
@@ -59,6 +74,7 @@ class PublicationFileManagementServiceTest {
     private static final String EXCEPTION_NOT_MATCH = "Exception message should contain expected";
     private static final String FILE_EXISTS_FLAG_MESSAGE = "File exists flag does not match";
     private static final String FILE_SIZE_MESSAGE = "File size does not match";
+    private static final String MANIFEST_MESSAGE = "File manifest does not match";
     private static final byte[] TEST_BYTE = "test".getBytes();
 
     private static final UUID TEST_ARTEFACT_ID = UUID.randomUUID();
@@ -69,12 +85,13 @@ class PublicationFileManagementServiceTest {
     private static final String PAYLOAD = "Test payload";
     private static final byte[] EMPTY_BYTES = new byte[0];
     private static final byte[] BYTE_DATA = { 1 };
+    private static final String TEST_ETAG = "\"0x8DC1234567890AB\"";
 
     @Mock
     private PublicationRetrievalService publicationRetrievalService;
 
     @Mock
-    private AccountManagementService accountManagementService;
+    private AuthorisationDecisionCache authorisationDecisionCache;
 
     @Mock
     private AzurePublicationBlobService azureBlobService;
@@ -82,6 +99,18 @@ class PublicationFileManagementServiceTest {
     @Mock
     private PublicationFileGenerationService publicationFileGenerationService;
 
+    @Mock
+    private PublicationFileManifestRepository publicationFileManifestRepository;
+
+    @Mock
+    private BlobProperties blobProperties;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Captor
+    private ArgumentCaptor<List<PublicationFileManifest>> manifestCaptor;
+
     @InjectMocks
     private PublicationFileManagementService publicationFileManagementService;
 
@@ -104,6 +133,9 @@ class PublicationFileManagementServiceTest {
             .thenReturn(true);
         lenient().when(publicationRetrievalService.payloadWithinPdfLimit(argThat(arg -> arg <= 256)))
             .thenReturn(true);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
     }
 
     @Test
@@ -157,6 +189,44 @@ class PublicationFileManagementServiceTest {
         verify(azureBlobService).uploadFile(eq(TEST_ARTEFACT_ID + EXCEL.getExtension()), any());
     }
 
+    @Test
+    void testGenerateFilesRecordsFileManifest() {
+        when(publicationFileGenerationService.generate(TEST_ARTEFACT_ID, PAYLOAD))
+            .thenReturn(Optional.of(new PublicationFiles(BYTE_DATA, EMPTY_BYTES, TEST_BYTE)));
+
+        publicationFileManagementService.generateFiles(TEST_ARTEFACT_ID, PAYLOAD);
+
+        verify(publicationFileManifestRepository).deleteByArtefactId(TEST_ARTEFACT_ID);
+        verify(publicationFileManifestRepository).saveAll(manifestCaptor.capture());
+
+        List<PublicationFileManifest> manifest = manifestCaptor.getValue();
+        assertEquals(2, manifest.size(), "Manifest row count does not match");
+        assertEquals(TEST_ARTEFACT_ID + PDF.getExtension(), manifest.get(0).getFileName(),
+                     "Manifest file name does not match");
+        assertEquals(BYTE_DATA.length, manifest.get(0).getFileSize(), FILE_SIZE_MESSAGE);
+        assertEquals(TEST_ARTEFACT_ID + EXCEL.getExtension(), manifest.get(1).getFileName(),
+                     "Manifest file name does not match");
+        assertEquals(TEST_BYTE.length, manifest.get(1).getFileSize(), FILE_SIZE_MESSAGE);
+        assertEquals(64, manifest.get(1).getContentHash().length(), "Manifest content hash does not match");
+    }
+
+    @Test
+    void testGenerateFilesReplacesFileManifestInTransaction() {
+        when(publicationFileGenerationService.generate(TEST_ARTEFACT_ID, PAYLOAD))
+            .thenReturn(Optional.of(new PublicationFiles(BYTE_DATA, EMPTY_BYTES, EMPTY_BYTES)));
+        doAnswer(invocation -> {
+            verifyNoInteractions(publicationFileManifestRepository);
+            Object result = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            verify(publicationFileManifestRepository).deleteByArtefactId(TEST_ARTEFACT_ID);
+            verify(publicationFileManifestRepository).saveAll(any());
+            return result;
+        }).when(transactionTemplate).execute(any());
+
+        publicationFileManagementService.generateFiles(TEST_ARTEFACT_ID, PAYLOAD);
+
+        verify(transactionTemplate).execute(any());
+    }
+
     @Test
     void testGenerateFilesWhenFailed() {
         when(publicationFileGenerationService.generate(TEST_ARTEFACT_ID, PAYLOAD))
@@ -168,6 +238,7 @@ class PublicationFileManagementServiceTest {
         verify(azureBlobService, never())
             .uploadFile(eq(TEST_ARTEFACT_ID + WELSH_PDF_SUFFIX + PDF.getExtension()), any());
         verify(azureBlobService, never()).uploadFile(eq(TEST_ARTEFACT_ID + EXCEL.getExtension()), any());
+        verify(publicationFileManifestRepository, never()).saveAll(any());
     }
 
     @Test
@@ -258,6 +329,8 @@ class PublicationFileManagementServiceTest {
     @Test
     void testGetStoredPublicationWithinFileSizeLimit() {
         when(publicationRetrievalService.getMetadataByArtefactId(any())).thenReturn(ARTEFACT);
+        when(blobProperties.getBlobSize()).thenReturn((long) TEST_BYTE.length);
+        when(azureBlobService.getBlobProperties(TEST_ARTEFACT_ID + PDF.getExtension())).thenReturn(blobProperties);
         when(azureBlobService.getBlobFile(any())).thenReturn(TEST_BYTE);
 
         String response = publicationFileManagementService.getStoredPublication(
@@ -271,7 +344,8 @@ class PublicationFileManagementServiceTest {
     @Test
     void testGetStoredPublicationOverFileSizeLimit() {
         when(publicationRetrievalService.getMetadataByArtefactId(any())).thenReturn(ARTEFACT);
-        when(azureBlobService.getBlobFile(any())).thenReturn(TEST_BYTE);
+        when(blobProperties.getBlobSize()).thenReturn((long) TEST_BYTE.length);
+        when(azureBlobService.getBlobProperties(TEST_ARTEFACT_ID + PDF.getExtension())).thenReturn(blobProperties);
 
         FileSizeLimitException ex = assertThrows(FileSizeLimitException.class, () ->
             publicationFileManagementService.getStoredPublication(
@@ -280,6 +354,72 @@ class PublicationFileManagementServiceTest {
 
         assertTrue(ex.getMessage().contains("File with type PDF for artefact with id " + TEST_ARTEFACT_ID
                                                 + " has size over the limit of 2 bytes"), EXCEPTION_NOT_MATCH);
+        verify(azureBlobService, never()).getBlobFile(any());
+    }
+
+    @Test
+    void testGetStoredPublicationFile() {
+        when(publicationRetrievalService.getMetadataByArtefactId(any())).thenReturn(ARTEFACT);
+        when(blobProperties.getBlobSize()).thenReturn((long) TEST_BYTE.length);
+        when(blobProperties.getETag()).thenReturn(TEST_ETAG);
+        when(azureBlobService.getBlobProperties(TEST_ARTEFACT_ID + WELSH_PDF_SUFFIX + PDF.getExtension()))
+            .thenReturn(blobProperties);
+
+        StoredPublicationFile file = publicationFileManagementService.getStoredPublicationFile(
+            TEST_ARTEFACT_ID, PDF, 20, TEST_USER_ID, true, true
+        );
+
+        assertEquals(TEST_ARTEFACT_ID + WELSH_PDF_SUFFIX + PDF.getExtension(), file.getFileName(),
+                     "File name does not match");
+        assertEquals(TEST_BYTE.length, file.getSize(), FILE_SIZE_MESSAGE);
+        assertEquals(TEST_ETAG, file.getETag(), "ETag does not match");
+    }
+
+    @Test
+    void testGetStoredPublicationFileOverFileSizeLimit() {
+        when(publicationRetrievalService.getMetadataByArtefactId(any())).thenReturn(ARTEFACT);
+        when(blobProperties.getBlobSize()).thenReturn((long) TEST_BYTE.length);
+        when(azureBlobService.getBlobProperties(TEST_ARTEFACT_ID + EXCEL.getExtension())).thenReturn(blobProperties);
+
+        assertThrows(FileSizeLimitException.class, () ->
+            publicationFileManagementService.getStoredPublicationFile(
+                TEST_ARTEFACT_ID, EXCEL, 2, TEST_USER_ID, true, false
+            ), "Expected exception to be thrown");
+    }
+
+    @Test
+    void testGetStoredPublicationFileUnauthorised() {
+        ARTEFACT.setSensitivity(Sensitivity.CLASSIFIED);
+        when(publicationRetrievalService.getMetadataByArtefactId(any())).thenReturn(ARTEFACT);
+
+        assertThrows(UnauthorisedRequestException.class, () ->
+            publicationFileManagementService.getStoredPublicationFile(
+                TEST_ARTEFACT_ID, PDF, null, null, false, false
+            ), "Expected exception to be thrown");
+
+        verify(azureBlobService, never()).getBlobProperties(any());
+    }
+
+    @Test
+    void testStreamStoredPublicationFile() {
+        StoredPublicationFile file = new StoredPublicationFile(TEST_ARTEFACT_ID + PDF.getExtension(), PDF,
+                                                               TEST_BYTE.length, TEST_ETAG);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        publicationFileManagementService.streamStoredPublicationFile(file, outputStream, 1, 2);
+
+        verify(azureBlobService).streamBlobFile(TEST_ARTEFACT_ID + PDF.getExtension(), outputStream, 1, 2,
+                                                TEST_ETAG);
+    }
+
+    @Test
+    void testStreamStoredPublicationFileWithNoBytes() {
+        StoredPublicationFile file = new StoredPublicationFile(TEST_ARTEFACT_ID + PDF.getExtension(), PDF,
+                                                               0, TEST_ETAG);
+
+        publicationFileManagementService.streamStoredPublicationFile(file, new ByteArrayOutputStream(), 0, 0);
+
+        verify(azureBlobService, never()).streamBlobFile(any(), any(), anyLong(), anyLong(), any());
     }
 
     @Test
@@ -317,7 +457,7 @@ class PublicationFileManagementServiceTest {
         ARTEFACT.setListType(ListType.CIVIL_DAILY_CAUSE_LIST);
         ARTEFACT.setSensitivity(Sensitivity.CLASSIFIED);
         when(publicationRetrievalService.getMetadataByArtefactId(any())).thenReturn(ARTEFACT);
-        when(accountManagementService.getIsAuthorised(any(), any(), any())).thenReturn(false);
+        when(authorisationDecisionCache.isAuthorised(any(), any(), any())).thenReturn(false);
 
         UnauthorisedRequestException ex = assertThrows(UnauthorisedRequestException.class, () ->
             publicationFileManagementService.getStoredPublication(
@@ -363,6 +503,7 @@ class PublicationFileManagementServiceTest {
         verify(azureBlobService).deleteBlobFile(TEST_ARTEFACT_ID + PDF.getExtension());
         verify(azureBlobService).deleteBlobFile(TEST_ARTEFACT_ID + WELSH_PDF_SUFFIX + PDF.getExtension());
         verify(azureBlobService, never()).deleteBlobFile(TEST_ARTEFACT_ID + EXCEL.getExtension());
+        verify(publicationFileManifestRepository, never()).deleteByArtefactId(any());
     }
 
     @Test
@@ -375,36 +516,87 @@ class PublicationFileManagementServiceTest {
         verify(azureBlobService).deleteBlobFile(TEST_ARTEFACT_ID + EXCEL.getExtension());
     }
 
+    @Test
+    void testDeleteManifest() {
+        publicationFileManagementService.deleteManifest(TEST_ARTEFACT_ID);
+
+        verify(publicationFileManifestRepository).deleteByArtefactId(TEST_ARTEFACT_ID);
+        verifyNoInteractions(azureBlobService);
+    }
+
     @Test
     void testFileExistsReturnTrueIfAllFilesExist() {
-        when(azureBlobService.blobFileExists(TEST_ARTEFACT_ID + PDF.getExtension()))
-            .thenReturn(true);
+        when(azureBlobService.getBlobSize(TEST_ARTEFACT_ID + PDF.getExtension())).thenReturn(1234L);
+        when(azureBlobService.getBlobSize(TEST_ARTEFACT_ID + WELSH_PDF_SUFFIX + PDF.getExtension())).thenReturn(999L);
+        when(azureBlobService.getBlobSize(TEST_ARTEFACT_ID + EXCEL.getExtension())).thenReturn(123L);
+
+        assertTrue(publicationFileManagementService.fileExists(TEST_ARTEFACT_ID), FILE_EXISTS_FLAG_MESSAGE);
+    }
+
+    @Test
+    void testFileExistsReturnTrueFromFileManifest() {
+        when(publicationFileManifestRepository.findByArtefactId(TEST_ARTEFACT_ID))
+            .thenReturn(List.of(buildManifest(TEST_ARTEFACT_ID, PDF.getExtension(), 1234L)));
 
         assertTrue(publicationFileManagementService.fileExists(TEST_ARTEFACT_ID), FILE_EXISTS_FLAG_MESSAGE);
+        verify(azureBlobService, never()).getBlobSize(any());
+        verify(publicationFileManifestRepository, never()).saveAll(any());
     }
 
     @Test
     void testFileExistsReturnTrueIfOnlyOneFileExists() {
-        when(azureBlobService.blobFileExists(TEST_ARTEFACT_ID + PDF.getExtension()))
-            .thenReturn(false);
-        when(azureBlobService.blobFileExists(TEST_ARTEFACT_ID  + WELSH_PDF_SUFFIX + PDF.getExtension()))
-            .thenReturn(false);
-        when(azureBlobService.blobFileExists(TEST_ARTEFACT_ID + EXCEL.getExtension()))
-            .thenReturn(true);
+        when(azureBlobService.getBlobSize(TEST_ARTEFACT_ID + EXCEL.getExtension())).thenReturn(123L);
 
         assertTrue(publicationFileManagementService.fileExists(TEST_ARTEFACT_ID), FILE_EXISTS_FLAG_MESSAGE);
     }
 
     @Test
     void testFileExistsReturnFalseIfNoFileExist() {
-        when(azureBlobService.blobFileExists(TEST_ARTEFACT_ID + PDF.getExtension()))
-            .thenReturn(false);
-        when(azureBlobService.blobFileExists(TEST_ARTEFACT_ID  + WELSH_PDF_SUFFIX + PDF.getExtension()))
-            .thenReturn(false);
-        when(azureBlobService.blobFileExists(TEST_ARTEFACT_ID + EXCEL.getExtension()))
-            .thenReturn(false);
+        assertFalse(publicationFileManagementService.fileExists(TEST_ARTEFACT_ID), FILE_EXISTS_FLAG_MESSAGE);
+    }
+
+    @Test
+    void testFileExistsRecordsManifestFromBlobStore() {
+        when(azureBlobService.getBlobSize(TEST_ARTEFACT_ID + PDF.getExtension())).thenReturn(1234L);
+
+        publicationFileManagementService.fileExists(TEST_ARTEFACT_ID);
+
+        verify(publicationFileManifestRepository).saveAll(manifestCaptor.capture());
+        assertEquals(1, manifestCaptor.getValue().size(), MANIFEST_MESSAGE);
+        assertEquals(TEST_ARTEFACT_ID + PDF.getExtension(), manifestCaptor.getValue().get(0).getFileName(),
+                     MANIFEST_MESSAGE);
+        assertEquals(1234L, manifestCaptor.getValue().get(0).getFileSize(), MANIFEST_MESSAGE);
+    }
+
+    @Test
+    void testFileExistsRecordsNoFilesInManifest() {
+        publicationFileManagementService.fileExists(TEST_ARTEFACT_ID);
+
+        verify(publicationFileManifestRepository).saveAll(manifestCaptor.capture());
+        assertEquals(1, manifestCaptor.getValue().size(), MANIFEST_MESSAGE);
+        assertEquals(TEST_ARTEFACT_ID, manifestCaptor.getValue().get(0).getArtefactId(), MANIFEST_MESSAGE);
+        assertNull(manifestCaptor.getValue().get(0).getFileSize(), MANIFEST_MESSAGE);
+    }
+
+    @Test
+    void testFileExistsReturnFalseFromNoFilesManifest() {
+        when(publicationFileManifestRepository.findByArtefactId(TEST_ARTEFACT_ID))
+            .thenReturn(List.of(PublicationFileManifest.builder()
+                                    .artefactId(TEST_ARTEFACT_ID)
+                                    .fileName("")
+                                    .build()));
 
         assertFalse(publicationFileManagementService.fileExists(TEST_ARTEFACT_ID), FILE_EXISTS_FLAG_MESSAGE);
+        verify(azureBlobService, never()).getBlobSize(any());
+    }
+
+    @Test
+    void testFileExistsWhenManifestCannotBeRecorded() {
+        when(azureBlobService.getBlobSize(TEST_ARTEFACT_ID + PDF.getExtension())).thenReturn(1234L);
+        when(publicationFileManifestRepository.saveAll(any()))
+            .thenThrow(new DataIntegrityViolationException("Artefact not found"));
+
+        assertTrue(publicationFileManagementService.fileExists(TEST_ARTEFACT_ID), FILE_EXISTS_FLAG_MESSAGE);
     }
 
     @Test
@@ -423,6 +615,52 @@ class PublicationFileManagementServiceTest {
         assertEquals(123L, fileSizes.getExcel(), FILE_SIZE_MESSAGE);
     }
 
+    @Test
+    void testGetFileSizesFromFileManifest() {
+        when(publicationFileManifestRepository.findByArtefactId(TEST_ARTEFACT_ID))
+            .thenReturn(List.of(
+                buildManifest(TEST_ARTEFACT_ID, PDF.getExtension(), 1234L),
+                buildManifest(TEST_ARTEFACT_ID, EXCEL.getExtension(), 123L)
+            ));
+
+        PublicationFileSizes fileSizes = publicationFileManagementService.getFileSizes(TEST_ARTEFACT_ID);
+
+        assertEquals(1234L, fileSizes.getPrimaryPdf(), FILE_SIZE_MESSAGE);
+        assertNull(fileSizes.getAdditionalPdf(), FILE_SIZE_MESSAGE);
+        assertEquals(123L, fileSizes.getExcel(), FILE_SIZE_MESSAGE);
+        verify(azureBlobService, never()).getBlobSize(any());
+    }
+
+    @Test
+    void testGetFileSizesForMultipleArtefacts() {
+        UUID legacyArtefactId = UUID.randomUUID();
+        when(publicationFileManifestRepository.findByArtefactIdIn(List.of(TEST_ARTEFACT_ID, legacyArtefactId)))
+            .thenReturn(List.of(
+                buildManifest(TEST_ARTEFACT_ID, WELSH_PDF_SUFFIX + PDF.getExtension(), 999L)
+            ));
+        when(azureBlobService.getBlobSize(legacyArtefactId + PDF.getExtension())).thenReturn(12L);
+
+        Map<UUID, PublicationFileSizes> fileSizes = publicationFileManagementService.getFileSizes(
+            List.of(TEST_ARTEFACT_ID, legacyArtefactId)
+        );
+
+        assertEquals(2, fileSizes.size(), "File sizes count does not match");
+        assertEquals(999L, fileSizes.get(TEST_ARTEFACT_ID).getAdditionalPdf(), FILE_SIZE_MESSAGE);
+        assertNull(fileSizes.get(TEST_ARTEFACT_ID).getPrimaryPdf(), FILE_SIZE_MESSAGE);
+        assertEquals(12L, fileSizes.get(legacyArtefactId).getPrimaryPdf(), FILE_SIZE_MESSAGE);
+        verify(azureBlobService, never()).getBlobSize(TEST_ARTEFACT_ID + PDF.getExtension());
+        verify(publicationFileManifestRepository).saveAll(manifestCaptor.capture());
+        assertEquals(legacyArtefactId, manifestCaptor.getValue().get(0).getArtefactId(), MANIFEST_MESSAGE);
+    }
+
+    private static PublicationFileManifest buildManifest(UUID artefactId, String fileSuffix, Long fileSize) {
+        return PublicationFileManifest.builder()
+            .artefactId(artefactId)
+            .fileName(artefactId + fileSuffix)
+            .fileSize(fileSize)
+            .build();
+    }
+
     private static Stream<Arguments> sjpParameters() throws JsonProcessingException {
         Artefact sjpPublicArtefact = ARTEFACT;
         sjpPublicArtefact.setListType(ListType.SJP_PUBLIC_LIST);
@@ -2,34 +2,44 @@ package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import nl.altindag.log.LogCaptor;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactArchivedRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.ArtefactNotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.location.LocationArtefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPage;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPageCursor;
 import uk.gov.hmcts.reform.pip.data.management.service.location.LocationService;
 import uk.gov.hmcts.reform.pip.model.location.LocationType;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,17 +67,31 @@ class PublicationLocationServiceTest {
     @Mock
     private PublicationRemovalService publicationRemovalService;
 
+    @Mock
+    private PublicationMiRollupService publicationMiRollupService;
+
+    @Mock
+    private LocationArtefactCountService locationArtefactCountService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private PublicationLocationService publicationLocationService;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+    }
+
     @Test
     void testArtefactCountService() {
         List<LocationArtefact> artefactsPerLocations = new ArrayList<>();
         artefactsPerLocations.add(new LocationArtefact("1", 3));
         artefactsPerLocations.add(new LocationArtefact("noMatch", 0));
-        List<Object[]> result = new ArrayList<>();
-        result.add(new Object[]{"1", "3"});
-        when(artefactRepository.countArtefactsByLocation(any())).thenReturn(result);
+        when(locationArtefactCountService.getArtefactCounts()).thenReturn(artefactsPerLocations);
         assertEquals(artefactsPerLocations, publicationLocationService.countArtefactsByLocation(),
                      MESSAGES_MATCH);
     }
@@ -122,6 +146,28 @@ class PublicationLocationServiceTest {
         assertEquals(List.of(artefact), publicationLocationService.findAllNoMatchArtefacts(), MESSAGES_MATCH);
     }
 
+    @Test
+    void testFindNoMatchArtefactsFirstPage() {
+        when(artefactRepository.findNoMatchArtefactsPage(Limit.of(2))).thenReturn(List.of(artefact));
+
+        ArtefactPage page = publicationLocationService.findNoMatchArtefactsPage(null, 1);
+
+        assertEquals(List.of(artefact), page.getArtefacts(), MESSAGES_MATCH);
+        assertNull(page.getNextCursor(), MESSAGES_MATCH);
+    }
+
+    @Test
+    void testFindNoMatchArtefactsPageAfterCursor() {
+        ArtefactPageCursor cursor = new ArtefactPageCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(artefactRepository.findNoMatchArtefactsPageAfter(cursor.getContentDate(), cursor.getArtefactId(),
+                                                             Limit.of(2)))
+            .thenReturn(List.of(artefact));
+
+        ArtefactPage page = publicationLocationService.findNoMatchArtefactsPage(cursor.encode(), 1);
+
+        assertEquals(List.of(artefact), page.getArtefacts(), MESSAGES_MATCH);
+    }
+
     @Test
     void testDeleteArtefactByLocation() throws JsonProcessingException {
         try (LogCaptor logCaptor = LogCaptor.forClass(PublicationLocationService.class)) {
@@ -141,6 +187,20 @@ class PublicationLocationServiceTest {
         }
     }
 
+    @Test
+    void testDeleteArtefactByLocationReportsFailures() throws JsonProcessingException {
+        UUID failedArtefactId = UUID.randomUUID();
+        when(artefactRepository.findActiveArtefactsForLocation(any(), eq(LOCATION_ID.toString())))
+            .thenReturn(List.of(artefact));
+        when(publicationRemovalService.deleteArtefactByLocation(List.of(artefact), LOCATION_ID, USER_ID))
+            .thenReturn(Map.of(failedArtefactId, "Blob deletion failed: Failed"));
+
+        assertEquals("Total 1 artefact deleted for location id 1. 1 artefact(s) were not fully deleted: "
+                         + failedArtefactId + " - Blob deletion failed: Failed",
+                     publicationLocationService.deleteArtefactByLocation(LOCATION_ID, USER_ID),
+                     "The failed artefact deletions are not reported");
+    }
+
     @Test
     void testDeleteArtefactByLocationWhenNoArtefactFound() throws JsonProcessingException {
         try (LogCaptor logCaptor = LogCaptor.forClass(PublicationLocationService.class)) {
@@ -186,12 +246,17 @@ class PublicationLocationServiceTest {
         when(artefactRepository.findAllByLocationIdIn(List.of(locationId1.toString(), locationId2.toString())))
             .thenReturn(artefactsToDelete);
         doNothing().when(artefactArchivedRepository).deleteAllByLocationIdIn(any());
-        doNothing().when(publicationRemovalService).deleteArtefacts(artefactsToDelete);
+        when(publicationRemovalService.deleteArtefacts(artefactsToDelete)).thenReturn(Map.of());
 
         assertThat(publicationLocationService.deleteAllArtefactsWithLocationNamePrefix(LOCATION_NAME_PREFIX))
             .isEqualTo("3 artefacts(s) deleted for location name starting with " + LOCATION_NAME_PREFIX);
 
         verify(publicationRemovalService).deleteArtefacts(any());
+        verify(publicationMiRollupService)
+            .recordArchivedLocationsDeleted(List.of(locationId1.toString(), locationId2.toString()));
+        verify(artefactArchivedRepository)
+            .deleteAllByLocationIdIn(List.of(locationId1.toString(), locationId2.toString()));
+        verify(transactionTemplate).execute(any());
     }
 
     @Test
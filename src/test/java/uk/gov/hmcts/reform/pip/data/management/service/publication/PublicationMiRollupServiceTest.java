@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationMiDailyRollupRepository;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.model.publication.Language;
+import uk.gov.hmcts.reform.pip.model.publication.ListType;
+import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class PublicationMiRollupServiceTest {
+    private static final LocalDateTime RECEIVED_DATE = LocalDateTime.of(2024, 3, 14, 10, 30);
+    private static final String PROVENANCE = "MANUAL_UPLOAD";
+    private static final String LOCATION_ID = "1";
+    private static final String LIST_TYPE = ListType.CIVIL_DAILY_CAUSE_LIST.name();
+    private static final String LANGUAGE = Language.ENGLISH.name();
+    private static final String SENSITIVITY = Sensitivity.PUBLIC.name();
+
+    @Mock
+    private PublicationMiDailyRollupRepository publicationMiDailyRollupRepository;
+
+    @InjectMocks
+    private PublicationMiRollupService publicationMiRollupService;
+
+    private Artefact buildArtefact(int supersededCount) {
+        return Artefact.builder()
+            .provenance(PROVENANCE)
+            .locationId(LOCATION_ID)
+            .listType(ListType.CIVIL_DAILY_CAUSE_LIST)
+            .language(Language.ENGLISH)
+            .sensitivity(Sensitivity.PUBLIC)
+            .lastReceivedDate(RECEIVED_DATE)
+            .supersededCount(supersededCount)
+            .build();
+    }
+
+    @Test
+    void testRecordReceived() {
+        publicationMiRollupService.recordReceived(buildArtefact(2));
+
+        verify(publicationMiDailyRollupRepository).addToRollup(
+            LocalDate.of(2024, 3, 14), PROVENANCE, LIST_TYPE, LOCATION_ID, LANGUAGE, SENSITIVITY, 1, 2, 0
+        );
+    }
+
+    @Test
+    void testRecordSuperseded() {
+        publicationMiRollupService.recordSuperseded(buildArtefact(1));
+
+        verify(publicationMiDailyRollupRepository).addToRollup(
+            LocalDate.of(2024, 3, 14), PROVENANCE, LIST_TYPE, LOCATION_ID, LANGUAGE, SENSITIVITY, -1, -1, 0
+        );
+    }
+
+    @Test
+    void testRecordArchived() {
+        publicationMiRollupService.recordArchived(buildArtefact(1));
+
+        verify(publicationMiDailyRollupRepository).addToRollup(
+            LocalDate.of(2024, 3, 14), PROVENANCE, LIST_TYPE, LOCATION_ID, LANGUAGE, SENSITIVITY, 0, 0, 1
+        );
+    }
+
+    @Test
+    void testRecordDeleted() {
+        publicationMiRollupService.recordDeleted(buildArtefact(3));
+
+        verify(publicationMiDailyRollupRepository).addToRollup(
+            LocalDate.of(2024, 3, 14), PROVENANCE, LIST_TYPE, LOCATION_ID, LANGUAGE, SENSITIVITY, -1, -3, 0
+        );
+    }
+
+    @Test
+    void testRecordReceivedWithoutReceivedDate() {
+        Artefact artefact = buildArtefact(0);
+        artefact.setLastReceivedDate(null);
+
+        publicationMiRollupService.recordReceived(artefact);
+
+        verifyNoInteractions(publicationMiDailyRollupRepository);
+    }
+
+    @Test
+    void testRecordArchivedLocationsDeleted() {
+        List<String> locationIds = List.of("1", "2");
+
+        publicationMiRollupService.recordArchivedLocationsDeleted(locationIds);
+
+        verify(publicationMiDailyRollupRepository).subtractArchivedLocations(locationIds);
+    }
+}
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.pip.data.management.service.publication;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.pip.data.management.database.AzureArtefactBlobService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicationPayloadCacheTest {
+    private static final String PAYLOAD_ID = UUID.randomUUID().toString();
+    private static final String OTHER_PAYLOAD_ID = UUID.randomUUID().toString();
+    private static final String PAYLOAD = "0123456789";
+    private static final String OTHER_PAYLOAD = "abcdefghij";
+    private static final long MAX_SIZE_BYTES = 15;
+
+    private static final String PAYLOAD_MESSAGE = "Payload does not match";
+    private static final String METRIC_MESSAGE = "Cache metric does not match";
+
+    @Mock
+    private AzureArtefactBlobService azureArtefactBlobService;
+
+    private MeterRegistry meterRegistry;
+    private PublicationPayloadCache publicationPayloadCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        publicationPayloadCache = new PublicationPayloadCache(azureArtefactBlobService, meterRegistry,
+                                                              MAX_SIZE_BYTES);
+    }
+
+    @Test
+    void testPayloadIsDownloadedOnceAndThenServedFromCache() {
+        when(azureArtefactBlobService.getBlobData(PAYLOAD_ID)).thenReturn(PAYLOAD);
+
+        assertThat(publicationPayloadCache.getPayload(PAYLOAD_ID))
+            .as(PAYLOAD_MESSAGE)
+            .isEqualTo(PAYLOAD);
+        assertThat(publicationPayloadCache.getPayload(PAYLOAD_ID))
+            .as(PAYLOAD_MESSAGE)
+            .isEqualTo(PAYLOAD);
+
+        verify(azureArtefactBlobService, times(1)).getBlobData(PAYLOAD_ID);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+            .as(METRIC_MESSAGE)
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+            .as(METRIC_MESSAGE)
+            .isEqualTo(1);
+    }
+
+    @Test
+    void testPayloadsAreEvictedWhenMemoryBudgetExceeded() {
+        when(azureArtefactBlobService.getBlobData(PAYLOAD_ID)).thenReturn(PAYLOAD);
+        when(azureArtefactBlobService.getBlobData(OTHER_PAYLOAD_ID)).thenReturn(OTHER_PAYLOAD);
+
+        publicationPayloadCache.getPayload(PAYLOAD_ID);
+        publicationPayloadCache.getPayload(OTHER_PAYLOAD_ID);
+        publicationPayloadCache.getPayload(PAYLOAD_ID);
+
+        verify(azureArtefactBlobService, times(2)).getBlobData(PAYLOAD_ID);
+        assertThat(meterRegistry.get("cache.evictions").functionCounter().count())
+            .as(METRIC_MESSAGE)
+            .isPositive();
+        assertThat(meterRegistry.get("publication.payload.cache.weight").gauge().value())
+            .as(METRIC_MESSAGE)
+            .isEqualTo(PAYLOAD.length());
+    }
+
+    @Test
+    void testPayloadIsWeighedByEncodedSize() {
+        String multiByteRecord = "£10 – Ynad";
+        when(azureArtefactBlobService.getBlobData(PAYLOAD_ID)).thenReturn(multiByteRecord);
+
+        publicationPayloadCache.getPayload(PAYLOAD_ID);
+
+        assertThat(meterRegistry.get("publication.payload.cache.weight").gauge().value())
+            .as(METRIC_MESSAGE)
+            .isEqualTo(multiByteRecord.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void testConcurrentRequestsShareSingleDownload() throws Exception {
+        CountDownLatch downloadStarted = new CountDownLatch(1);
+        CountDownLatch releaseDownload = new CountDownLatch(1);
+        when(azureArtefactBlobService.getBlobData(PAYLOAD_ID)).thenAnswer(invocation -> {
+            downloadStarted.countDown();
+            releaseDownload.await(5, TimeUnit.SECONDS);
+            return PAYLOAD;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(
+                () -> publicationPayloadCache.getPayload(PAYLOAD_ID), executor);
+            assertThat(downloadStarted.await(5, TimeUnit.SECONDS))
+                .as("Download was not started")
+                .isTrue();
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(
+                () -> publicationPayloadCache.getPayload(PAYLOAD_ID), executor);
+            releaseDownload.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS))
+                .as(PAYLOAD_MESSAGE)
+                .isEqualTo(PAYLOAD);
+            assertThat(second.get(5, TimeUnit.SECONDS))
+                .as(PAYLOAD_MESSAGE)
+                .isEqualTo(PAYLOAD);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(azureArtefactBlobService, times(1)).getBlobData(PAYLOAD_ID);
+    }
+
+    @Test
+    void testDownloadFailureIsNotWrapped() {
+        IllegalStateException failure = new IllegalStateException("Blob not available");
+        when(azureArtefactBlobService.getBlobData(PAYLOAD_ID)).thenThrow(failure);
+
+        assertThatThrownBy(() -> publicationPayloadCache.getPayload(PAYLOAD_ID))
+            .as("Download failure should be propagated")
+            .isSameAs(failure);
+        assertThat(meterRegistry.get("publication.payload.cache.weight").gauge().value())
+            .as(METRIC_MESSAGE)
+            .isZero();
+    }
+}
@@ -9,19 +9,25 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactArchivedRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.AzureArtefactBlobService;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PendingBlobDeletionRepository;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.ArtefactNotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.location.Location;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactArchived;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PendingBlobDeletion;
 import uk.gov.hmcts.reform.pip.data.management.service.AccountManagementService;
 import uk.gov.hmcts.reform.pip.data.management.service.SystemAdminNotificationService;
 import uk.gov.hmcts.reform.pip.model.account.PiUser;
@@ -32,6 +38,7 @@ import uk.gov.hmcts.reform.pip.model.system.admin.ChangeType;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,8 +47,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -59,20 +70,16 @@ class PublicationRemovalServiceTest {
     private static final UUID USER_ID = UUID.randomUUID();
     private static final String EMAIL_ADDRESS = "test@test.com";
     private static final Integer LOCATION_ID = 1;
+    private static final int ARCHIVAL_BATCH_SIZE = 100;
+    private static final String ARCHIVAL_BATCH_SIZE_FIELD = "archivalBatchSize";
 
     private final Artefact artefactWithPayloadUrl = ArtefactConstantTestHelper.buildArtefactWithPayloadUrl();
     private final Artefact artefactWithIdAndPayloadUrl = ArtefactConstantTestHelper.buildArtefactWithIdAndPayloadUrl();
     private final Artefact artefactWithNoMatchLocationId = ArtefactConstantTestHelper
         .buildNoMatchArtefactWithIdAndPayloadUrl();
 
-    private final ArtefactArchived archivedArtefactWithPayloadUrl = new
-        ArtefactArchived(artefactWithPayloadUrl, Boolean.FALSE);
-    private final ArtefactArchived archivedArtefactWithIdAndPayloadUrl = new
-        ArtefactArchived(artefactWithIdAndPayloadUrl, Boolean.FALSE);
     private final ArtefactArchived archivedManuallyArtefactWithIdAndPayloadUrl = new
         ArtefactArchived(artefactWithIdAndPayloadUrl, Boolean.TRUE);
-    private final ArtefactArchived archivedArtefactWithNoMatchLocationId = new
-        ArtefactArchived(artefactWithNoMatchLocationId, Boolean.FALSE);
     private final ArtefactArchived artefactArchivedManuallyWithNoMatchLocationId =
         new ArtefactArchived(artefactWithNoMatchLocationId, Boolean.TRUE);
 
@@ -105,6 +112,20 @@ class PublicationRemovalServiceTest {
 
     @Mock private ArtefactSearchRepository artefactSearchRepository;
 
+    @Mock private ArtefactMetadataCache artefactMetadataCache;
+
+    @Mock private CaseSuggestionIndex caseSuggestionIndex;
+
+    @Mock private PublicationMiRollupService publicationMiRollupService;
+
+    @Mock private LocationArtefactCountService locationArtefactCountService;
+
+    @Mock private PendingBlobDeletionRepository pendingBlobDeletionRepository;
+
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @Spy private BlobDeletionExecutor blobDeletionExecutor = new BlobDeletionExecutor(2);
+
     @InjectMocks
     private PublicationRemovalService publicationRemovalService;
 
@@ -113,6 +134,11 @@ class PublicationRemovalServiceTest {
         piUser = new PiUser();
         piUser.setEmail(EMAIL_ADDRESS);
         piUser.setUserId(USER_ID.toString());
+
+        ReflectionTestUtils.setField(publicationRemovalService, ARCHIVAL_BATCH_SIZE_FIELD, ARCHIVAL_BATCH_SIZE);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
     }
 
     @Test
@@ -136,6 +162,10 @@ class PublicationRemovalServiceTest {
             orderVerifier.verify(artefactRepository).delete(artefactWithIdAndPayloadUrl);
             orderVerifier.verify(publicationSubscriptionService)
                 .sendDeleteArtefactForApiSubscription(artefactWithIdAndPayloadUrl);
+            verify(artefactMetadataCache).evict(ARTEFACT_ID);
+            verify(caseSuggestionIndex).remove(ARTEFACT_ID);
+            verify(publicationMiRollupService).recordDeleted(artefactWithIdAndPayloadUrl);
+            verify(locationArtefactCountService).recordRemoved(artefactWithIdAndPayloadUrl);
         }
     }
 
@@ -212,30 +242,155 @@ class PublicationRemovalServiceTest {
 
     @Test
     void testArchiveExpiredArtefacts() {
-        when(artefactRepository.findOutdatedArtefacts(any())).thenReturn(List.of(artefactWithIdAndPayloadUrl));
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithIdAndPayloadUrl));
         publicationRemovalService.archiveExpiredArtefacts();
 
-        verify(artefactArchivedRepository).save(
-            matchesArchivedArtefact(archivedArtefactWithIdAndPayloadUrl)
-        );
-        verify(artefactSearchRepository).deleteByArtefactId(ARTEFACT_ID);
-        verify(artefactRepository).delete(artefactWithIdAndPayloadUrl);
+        verify(artefactRepository).archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE));
+        verify(artefactMetadataCache).evict(ARTEFACT_ID);
+        verify(caseSuggestionIndex).remove(ARTEFACT_ID);
+        verify(publicationMiRollupService).recordArchived(artefactWithIdAndPayloadUrl);
+        verify(locationArtefactCountService).recordRemoved(artefactWithIdAndPayloadUrl);
         verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
         verify(publicationFileManagementService).deleteFiles(ARTEFACT_ID, ListType.CIVIL_DAILY_CAUSE_LIST,
                                                              Language.ENGLISH);
+        verifyNoInteractions(artefactArchivedRepository);
+        verifyNoInteractions(artefactSearchRepository);
         verifyNoInteractions(accountManagementService);
     }
 
+    @Test
+    void testArchiveExpiredArtefactsInBatches() {
+        UUID secondArtefactId = UUID.randomUUID();
+        artefactWithPayloadUrl.setArtefactId(secondArtefactId);
+        ReflectionTestUtils.setField(publicationRemovalService, ARCHIVAL_BATCH_SIZE_FIELD, 1);
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(1)))
+            .thenReturn(List.of(artefactWithIdAndPayloadUrl))
+            .thenReturn(List.of(artefactWithPayloadUrl))
+            .thenReturn(Collections.emptyList());
+
+        publicationRemovalService.archiveExpiredArtefacts();
+
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(artefactRepository, times(3)).archiveExpiredArtefacts(any(), any(), eq(1));
+        verify(publicationMiRollupService).recordArchived(artefactWithIdAndPayloadUrl);
+        verify(publicationMiRollupService).recordArchived(artefactWithPayloadUrl);
+        verify(publicationFileManagementService).deleteFiles(ARTEFACT_ID, ListType.CIVIL_DAILY_CAUSE_LIST,
+                                                             Language.ENGLISH);
+        verify(publicationFileManagementService).deleteFiles(secondArtefactId, ListType.CIVIL_DAILY_CAUSE_LIST,
+                                                             Language.ENGLISH);
+        verify(azureArtefactBlobService, times(2)).deleteBlob(PAYLOAD_STRIPPED);
+    }
+
+    @Test
+    void testArchiveExpiredArtefactsDeletesBlobsAfterBatchCommits() {
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithIdAndPayloadUrl));
+        doAnswer(invocation -> {
+            Object result = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            verifyNoInteractions(azureArtefactBlobService, publicationFileManagementService, artefactMetadataCache);
+            return result;
+        }).when(transactionTemplate).execute(any());
+
+        publicationRemovalService.archiveExpiredArtefacts();
+
+        verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
+        verify(publicationFileManagementService).deleteFiles(ARTEFACT_ID, ListType.CIVIL_DAILY_CAUSE_LIST,
+                                                             Language.ENGLISH);
+        verify(artefactMetadataCache).evict(ARTEFACT_ID);
+    }
+
+    @Test
+    void testArchiveExpiredArtefactsKeepsBlobsWhenBatchRollsBack() {
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithIdAndPayloadUrl));
+        doThrow(new IllegalStateException("Rollup unavailable"))
+            .when(publicationMiRollupService).recordArchived(artefactWithIdAndPayloadUrl);
+
+        assertThrows(IllegalStateException.class, () -> publicationRemovalService.archiveExpiredArtefacts());
+
+        verifyNoInteractions(azureArtefactBlobService, publicationFileManagementService, artefactMetadataCache,
+                             caseSuggestionIndex);
+    }
+
+    @Test
+    void testArchiveExpiredArtefactsContinuesWhenBlobDeletionFails() {
+        UUID secondArtefactId = UUID.randomUUID();
+        artefactWithPayloadUrl.setArtefactId(secondArtefactId);
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithIdAndPayloadUrl, artefactWithPayloadUrl));
+        doThrow(new IllegalStateException("Blob store unavailable"))
+            .when(publicationFileManagementService)
+            .deleteFiles(ARTEFACT_ID, ListType.CIVIL_DAILY_CAUSE_LIST, Language.ENGLISH);
+
+        publicationRemovalService.archiveExpiredArtefacts();
+
+        verify(publicationFileManagementService).deleteFiles(secondArtefactId, ListType.CIVIL_DAILY_CAUSE_LIST,
+                                                             Language.ENGLISH);
+        verify(publicationMiRollupService).recordArchived(artefactWithIdAndPayloadUrl);
+        verify(publicationMiRollupService).recordArchived(artefactWithPayloadUrl);
+        verify(pendingBlobDeletionRepository).deleteAllByArtefactIdIn(List.of(secondArtefactId));
+    }
+
+    @Test
+    void testArchiveExpiredArtefactsRemovesPendingDeletionOnceBlobsDeleted() {
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithIdAndPayloadUrl));
+
+        publicationRemovalService.archiveExpiredArtefacts();
+
+        InOrder orderVerifier = inOrder(azureArtefactBlobService, pendingBlobDeletionRepository);
+        orderVerifier.verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
+        orderVerifier.verify(pendingBlobDeletionRepository).deleteAllByArtefactIdIn(List.of(ARTEFACT_ID));
+    }
+
+    @Test
+    void testArchiveExpiredArtefactsRetriesPendingBlobDeletions() {
+        PendingBlobDeletion pendingBlobDeletion = PendingBlobDeletion.builder()
+            .artefactId(ARTEFACT_ID)
+            .payload(artefactWithIdAndPayloadUrl.getPayload())
+            .isFlatFile(false)
+            .locationId(artefactWithIdAndPayloadUrl.getLocationId())
+            .listType(ListType.CIVIL_DAILY_CAUSE_LIST)
+            .language(Language.ENGLISH)
+            .build();
+        when(pendingBlobDeletionRepository.findAllByOrderByCreatedDate(any()))
+            .thenReturn(List.of(pendingBlobDeletion));
+
+        publicationRemovalService.archiveExpiredArtefacts();
+
+        verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
+        verify(publicationFileManagementService).deleteFiles(ARTEFACT_ID, ListType.CIVIL_DAILY_CAUSE_LIST,
+                                                             Language.ENGLISH);
+        verify(pendingBlobDeletionRepository).deleteAllByArtefactIdIn(List.of(ARTEFACT_ID));
+    }
+
+    @Test
+    void testArchiveExpiredArtefactsKeepsPendingDeletionWhenRetryFails() {
+        PendingBlobDeletion pendingBlobDeletion = PendingBlobDeletion.builder()
+            .artefactId(ARTEFACT_ID)
+            .payload(artefactWithIdAndPayloadUrl.getPayload())
+            .isFlatFile(true)
+            .locationId(artefactWithIdAndPayloadUrl.getLocationId())
+            .build();
+        when(pendingBlobDeletionRepository.findAllByOrderByCreatedDate(any()))
+            .thenReturn(List.of(pendingBlobDeletion));
+        doThrow(new IllegalStateException("Blob store unavailable"))
+            .when(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
+
+        publicationRemovalService.archiveExpiredArtefacts();
+
+        verify(pendingBlobDeletionRepository, never()).deleteAllByArtefactIdIn(any());
+        verify(artefactRepository).archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE));
+    }
+
     @Test
     void testArchiveExpiredArtefactsWithNoMatchLocationId() {
-        when(artefactRepository.findOutdatedArtefacts(any())).thenReturn(List.of(artefactWithNoMatchLocationId));
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithNoMatchLocationId));
         publicationRemovalService.archiveExpiredArtefacts();
 
-        verify(artefactArchivedRepository).save(
-            matchesArchivedArtefact(archivedArtefactWithNoMatchLocationId)
-        );
-        verify(artefactSearchRepository).deleteByArtefactId(ARTEFACT_ID);
-        verify(artefactRepository).delete(artefactWithNoMatchLocationId);
+        verify(publicationMiRollupService).recordArchived(artefactWithNoMatchLocationId);
         verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
         verifyNoInteractions(publicationFileManagementService);
         verifyNoInteractions(accountManagementService);
@@ -246,16 +401,11 @@ class PublicationRemovalServiceTest {
         UUID testArtefactId = UUID.randomUUID();
         artefactWithPayloadUrl.setArtefactId(testArtefactId);
         artefactWithPayloadUrl.setListType(ListType.SJP_PUBLIC_LIST);
-        archivedArtefactWithPayloadUrl.setArtefactId(testArtefactId);
-        archivedArtefactWithPayloadUrl.setListType(ListType.SJP_PUBLIC_LIST);
-        when(artefactRepository.findOutdatedArtefacts(any())).thenReturn(List.of(artefactWithPayloadUrl));
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithPayloadUrl));
 
         publicationRemovalService.archiveExpiredArtefacts();
-        verify(artefactArchivedRepository).save(
-            matchesArchivedArtefact(archivedArtefactWithPayloadUrl)
-        );
-        verify(artefactSearchRepository).deleteByArtefactId(testArtefactId);
-        verify(artefactRepository).delete(artefactWithPayloadUrl);
+
         verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
         verify(publicationFileManagementService).deleteFiles(testArtefactId, ListType.SJP_PUBLIC_LIST,
                                                              Language.ENGLISH);
@@ -267,18 +417,11 @@ class PublicationRemovalServiceTest {
         UUID testArtefactId = UUID.randomUUID();
         artefactWithPayloadUrl.setArtefactId(testArtefactId);
         artefactWithPayloadUrl.setListType(ListType.SJP_PRESS_LIST);
-        archivedArtefactWithPayloadUrl.setArtefactId(testArtefactId);
-        archivedArtefactWithPayloadUrl.setListType(ListType.SJP_PRESS_LIST);
-        when(artefactRepository.findOutdatedArtefacts(any())).thenReturn(List.of(artefactWithPayloadUrl));
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithPayloadUrl));
 
         publicationRemovalService.archiveExpiredArtefacts();
 
-        verify(artefactArchivedRepository).save(
-            matchesArchivedArtefact(archivedArtefactWithPayloadUrl)
-        );
-
-        verify(artefactSearchRepository).deleteByArtefactId(testArtefactId);
-        verify(artefactRepository).delete(artefactWithPayloadUrl);
         verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
         verify(publicationFileManagementService).deleteFiles(testArtefactId, ListType.SJP_PRESS_LIST, Language.ENGLISH);
         verifyNoInteractions(accountManagementService);
@@ -291,18 +434,10 @@ class PublicationRemovalServiceTest {
         artefactWithPayloadUrl.setListType(ListType.SJP_PRESS_LIST);
         artefactWithPayloadUrl.setIsFlatFile(true);
 
-        archivedArtefactWithPayloadUrl.setArtefactId(testArtefactId);
-        archivedArtefactWithPayloadUrl.setListType(ListType.SJP_PRESS_LIST);
-        archivedArtefactWithPayloadUrl.setIsFlatFile(true);
-
-        when(artefactRepository.findOutdatedArtefacts(any())).thenReturn(List.of(artefactWithPayloadUrl));
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithPayloadUrl));
         publicationRemovalService.archiveExpiredArtefacts();
 
-        verify(artefactArchivedRepository).save(
-            matchesArchivedArtefact(archivedArtefactWithPayloadUrl)
-        );
-        verify(artefactSearchRepository).deleteByArtefactId(testArtefactId);
-        verify(artefactRepository).delete(artefactWithPayloadUrl);
         verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
         verifyNoInteractions(publicationFileManagementService);
         verifyNoInteractions(accountManagementService);
@@ -311,16 +446,11 @@ class PublicationRemovalServiceTest {
     @Test
     void testArchiveExpiredArtefactsFlatFileWithNoMatchLocationId() {
         artefactWithNoMatchLocationId.setIsFlatFile(true);
-        archivedArtefactWithNoMatchLocationId.setIsFlatFile(true);
-        when(artefactRepository.findOutdatedArtefacts(any())).thenReturn(List.of(artefactWithNoMatchLocationId));
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(List.of(artefactWithNoMatchLocationId));
 
         publicationRemovalService.archiveExpiredArtefacts();
 
-        verify(artefactArchivedRepository).save(
-            matchesArchivedArtefact(archivedArtefactWithNoMatchLocationId)
-        );
-        verify(artefactSearchRepository).deleteByArtefactId(ARTEFACT_ID);
-        verify(artefactRepository).delete(artefactWithNoMatchLocationId);
         verify(azureArtefactBlobService).deleteBlob(PAYLOAD_STRIPPED);
         verifyNoInteractions(publicationFileManagementService);
         verifyNoInteractions(accountManagementService);
@@ -328,7 +458,8 @@ class PublicationRemovalServiceTest {
 
     @Test
     void testArchiveExpiredArtefactsWhenArtefactsNotFound() {
-        when(artefactRepository.findOutdatedArtefacts(any())).thenReturn(Collections.emptyList());
+        when(artefactRepository.archiveExpiredArtefacts(any(), any(), eq(ARCHIVAL_BATCH_SIZE)))
+            .thenReturn(Collections.emptyList());
         publicationRemovalService.archiveExpiredArtefacts();
         verifyNoInteractions(artefactSearchRepository);
         verifyNoInteractions(azureArtefactBlobService);
@@ -388,17 +519,23 @@ class PublicationRemovalServiceTest {
         when(accountManagementService.getUserById(any()))
             .thenReturn(piUser);
 
-        publicationRemovalService.deleteArtefactByLocation(List.of(artefactWithIdAndPayloadUrl), LOCATION_ID, USER_ID);
+        Map<UUID, String> failures = publicationRemovalService.deleteArtefactByLocation(
+            List.of(artefactWithIdAndPayloadUrl), LOCATION_ID, USER_ID
+        );
+
+        assertTrue(failures.isEmpty(), "No deletion failures should be reported");
 
         InOrder orderVerifier = inOrder(azureArtefactBlobService, publicationFileManagementService,
                                         artefactRepository, artefactSearchRepository,
                                         publicationSubscriptionService, systemAdminNotificationService);
+        orderVerifier.verify(publicationSubscriptionService)
+            .convertArtefactsToSharedModel(List.of(artefactWithIdAndPayloadUrl));
+        orderVerifier.verify(artefactSearchRepository).deleteAllByArtefactIdIn(List.of(ARTEFACT_ID));
+        orderVerifier.verify(artefactRepository).deleteAllByArtefactIdIn(List.of(ARTEFACT_ID));
         orderVerifier.verify(azureArtefactBlobService).deleteBlob(any());
         orderVerifier.verify(publicationFileManagementService).deleteFiles(ARTEFACT_ID, ListType.CIVIL_DAILY_CAUSE_LIST,
                                                                            Language.ENGLISH);
-        orderVerifier.verify(artefactSearchRepository).deleteByArtefactId(ARTEFACT_ID);
-        orderVerifier.verify(artefactRepository).delete(artefactWithIdAndPayloadUrl);
-        orderVerifier.verify(publicationSubscriptionService).sendDeleteArtefactForApiSubscription(any());
+        orderVerifier.verify(publicationSubscriptionService).sendDeleteArtefactsForApiSubscription(any());
         orderVerifier.verify(systemAdminNotificationService).sendEmailNotification(
             EMAIL_ADDRESS, USER_ID, ActionResult.SUCCEEDED, "Total 1 artefact(s) for location NAME",
             ChangeType.DELETE_LOCATION_ARTEFACT
@@ -443,18 +580,56 @@ class PublicationRemovalServiceTest {
         artefact3.setPayload(payload3);
 
         List<Artefact> artefactsToDelete = List.of(artefact1, artefact2, artefact3);
+        List<UUID> artefactIds = List.of(artefact1.getArtefactId(), artefact2.getArtefactId(),
+                                         artefact3.getArtefactId());
 
-        publicationRemovalService.deleteArtefacts(artefactsToDelete);
+        assertTrue(publicationRemovalService.deleteArtefacts(artefactsToDelete).isEmpty(),
+                   "No deletion failures should be reported");
 
-        verify(artefactSearchRepository).deleteByArtefactId(artefact1.getArtefactId());
-        verify(artefactSearchRepository).deleteByArtefactId(artefact2.getArtefactId());
-        verify(artefactSearchRepository).deleteByArtefactId(artefact3.getArtefactId());
+        verify(artefactSearchRepository).deleteAllByArtefactIdIn(artefactIds);
+        verify(artefactRepository).deleteAllByArtefactIdIn(artefactIds);
 
         verify(azureArtefactBlobService).deleteBlob("url1");
         verify(azureArtefactBlobService).deleteBlob("url2");
         verify(azureArtefactBlobService).deleteBlob("url3");
-        verify(artefactRepository, times(3)).delete(any());
-        verify(publicationSubscriptionService, times(3)).sendDeleteArtefactForApiSubscription(any());
+        verify(publicationMiRollupService, times(3)).recordDeleted(any());
+        verify(locationArtefactCountService, times(3)).recordRemoved(any());
+        verify(publicationSubscriptionService).convertArtefactsToSharedModel(artefactsToDelete);
+        verify(publicationSubscriptionService, times(1)).sendDeleteArtefactsForApiSubscription(any());
+        verify(publicationSubscriptionService, never()).sendDeleteArtefactForApiSubscription(any());
+    }
+
+    @Test
+    void testDeleteArtefactsDoesNotNotifyThirdPartiesOfNoMatchArtefacts() {
+        publicationRemovalService.deleteArtefacts(List.of(artefactWithNoMatchLocationId));
+
+        verify(artefactRepository).deleteAllByArtefactIdIn(List.of(ARTEFACT_ID));
+        verify(publicationSubscriptionService).convertArtefactsToSharedModel(Collections.emptyList());
+        verify(azureArtefactBlobService).deleteBlob(any());
+        verifyNoInteractions(publicationFileManagementService);
+    }
+
+    @Test
+    void testDeleteArtefactsReportsFailures() {
+        Artefact blobFailureArtefact = ArtefactConstantTestHelper.buildArtefactWithIdAndPayloadUrl();
+        blobFailureArtefact.setArtefactId(UUID.randomUUID());
+        blobFailureArtefact.setPayload("payload/failed");
+        UUID notificationFailureId = artefactWithIdAndPayloadUrl.getArtefactId();
+
+        lenient().doThrow(new IllegalStateException("Blob store unavailable"))
+            .when(azureArtefactBlobService).deleteBlob("failed");
+        when(publicationSubscriptionService.sendDeleteArtefactsForApiSubscription(any()))
+            .thenReturn(Map.of(notificationFailureId, "Account management unavailable"));
+
+        Map<UUID, String> failures = publicationRemovalService.deleteArtefacts(
+            List.of(blobFailureArtefact, artefactWithIdAndPayloadUrl)
+        );
+
+        assertEquals(Map.of(
+            blobFailureArtefact.getArtefactId(), "Blob deletion failed: Blob store unavailable",
+            notificationFailureId, "Third party notification failed: Account management unavailable"
+        ), failures, "Deletion failures should be reported against their artefacts");
+        verify(publicationMiRollupService, times(2)).recordDeleted(any());
     }
 
     @Test
@@ -465,6 +640,7 @@ class PublicationRemovalServiceTest {
         verifyNoInteractions(azureArtefactBlobService);
         verifyNoMoreInteractions(artefactRepository);
         verifyNoInteractions(accountManagementService);
+        verifyNoInteractions(publicationSubscriptionService);
     }
 
     private static ArtefactArchived matchesArchivedArtefact(ArtefactArchived expected) {
@@ -1,18 +1,23 @@
 package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactArchivedRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationMiDailyRollupRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.PublicationMiDataExportRepository;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.location.Location;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.NoMatchArtefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.PublicationMiDailyRollup;
 import uk.gov.hmcts.reform.pip.data.management.service.PublicationServicesService;
 import uk.gov.hmcts.reform.pip.model.publication.ArtefactType;
 import uk.gov.hmcts.reform.pip.model.publication.Language;
@@ -20,14 +25,24 @@ import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 import uk.gov.hmcts.reform.pip.model.report.PublicationMiData;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -48,9 +63,18 @@ class PublicationReportingServiceTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private PublicationMiDataExportRepository publicationMiDataExportRepository;
+
+    @Mock
+    private PublicationMiDailyRollupRepository publicationMiDailyRollupRepository;
+
     @Mock
     private PublicationServicesService publicationServicesService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private PublicationReportingService publicationReportingService;
 
@@ -157,6 +181,105 @@ class PublicationReportingServiceTest {
             .as("Location name is not blank").isNull();
     }
 
+    @Test
+    void testWriteMiDataWithPublicationReceivedDate() throws IOException {
+        PublicationMiData publicationMiData = new PublicationMiData(
+            UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now(), Language.ENGLISH, MANUAL_UPLOAD_PROVENANCE,
+            Sensitivity.PUBLIC, UUID.randomUUID().toString(), 0, ArtefactType.GENERAL_PUBLICATION,
+            LocalDateTime.now(), "1", ListType.CIVIL_DAILY_CAUSE_LIST);
+        publicationMiData.setLocationName("Test Location");
+
+        PublicationMiData publicationMiData2 = new PublicationMiData(
+            UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now(), Language.ENGLISH, MANUAL_UPLOAD_PROVENANCE,
+            Sensitivity.PUBLIC, "", 1, ArtefactType.GENERAL_PUBLICATION,
+            LocalDateTime.now(), "NoMatch2", ListType.CIVIL_DAILY_CAUSE_LIST);
+
+        doAnswer(invocation -> {
+            Consumer<PublicationMiData> consumer = invocation.getArgument(1);
+            consumer.accept(publicationMiData);
+            consumer.accept(publicationMiData2);
+            return null;
+        }).when(publicationMiDataExportRepository)
+            .streamMiData(eq(LocalDate.now().minusDays(7).atStartOfDay()), any());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        publicationReportingService.writeMiData(7, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines)
+            .as("Each publication should be written on its own line")
+            .hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], PublicationMiData.class))
+            .as("Publication MI does not match")
+            .isEqualTo(publicationMiData);
+        assertThat(objectMapper.readValue(lines[1], PublicationMiData.class))
+            .as("Publication MI does not match")
+            .isEqualTo(publicationMiData2);
+    }
+
+    @Test
+    void testWriteAllMiData() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        publicationReportingService.writeMiData(null, outputStream);
+
+        verify(publicationMiDataExportRepository).streamMiData(isNull(), any());
+        verifyNoInteractions(locationRepository);
+        assertThat(outputStream.size())
+            .as("No MI data should be written")
+            .isZero();
+    }
+
+    @Test
+    void testWriteMiDataWhenOutputStreamFails() {
+        PublicationMiData publicationMiData = new PublicationMiData(
+            UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now(), Language.ENGLISH, MANUAL_UPLOAD_PROVENANCE,
+            Sensitivity.PUBLIC, UUID.randomUUID().toString(), 0, ArtefactType.GENERAL_PUBLICATION,
+            LocalDateTime.now(), "1", ListType.CIVIL_DAILY_CAUSE_LIST);
+
+        doAnswer(invocation -> {
+            Consumer<PublicationMiData> consumer = invocation.getArgument(1);
+            consumer.accept(publicationMiData);
+            return null;
+        }).when(publicationMiDataExportRepository).streamMiData(isNull(), any());
+
+        OutputStream outputStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Client disconnected");
+            }
+        };
+
+        assertThrows(IOException.class, () -> publicationReportingService.writeMiData(null, outputStream),
+                     "Output stream failure should be rethrown");
+    }
+
+    @Test
+    void testGetDailyMiDataWithDays() {
+        PublicationMiDailyRollup rollup = new PublicationMiDailyRollup(
+            1L, LocalDate.now(), MANUAL_UPLOAD_PROVENANCE, ListType.CIVIL_DAILY_CAUSE_LIST.name(), "1",
+            Language.ENGLISH.name(), Sensitivity.PUBLIC.name(), 3, 1, 0);
+
+        when(publicationMiDailyRollupRepository.findRollupsFrom(LocalDate.now().minusDays(7)))
+            .thenReturn(List.of(rollup));
+
+        assertThat(publicationReportingService.getDailyMiData(7))
+            .as("Daily MI data does not match")
+            .containsExactly(rollup);
+    }
+
+    @Test
+    void testGetAllDailyMiData() {
+        PublicationMiDailyRollup rollup = new PublicationMiDailyRollup(
+            1L, LocalDate.now(), MANUAL_UPLOAD_PROVENANCE, ListType.CIVIL_DAILY_CAUSE_LIST.name(), "1",
+            Language.ENGLISH.name(), Sensitivity.PUBLIC.name(), 3, 1, 0);
+
+        when(publicationMiDailyRollupRepository.findAllRollups()).thenReturn(List.of(rollup));
+
+        assertThat(publicationReportingService.getDailyMiData(null))
+            .as("Daily MI data does not match")
+            .containsExactly(rollup);
+    }
+
     @Test
     void testReportNoMatchArtefacts() {
         when(artefactRepository.findAllNoMatchArtefacts()).thenReturn(List.of(noMatchArtefact));
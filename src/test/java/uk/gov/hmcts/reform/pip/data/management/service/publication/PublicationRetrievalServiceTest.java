@@ -1,38 +1,46 @@
 package uk.gov.hmcts.reform.pip.data.management.service.publication;
 
+import com.azure.storage.blob.models.BlobProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.AzureArtefactBlobService;
 import uk.gov.hmcts.reform.pip.data.management.database.LocationRepository;
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper;
+import uk.gov.hmcts.reform.pip.data.management.models.StoredPayload;
 import uk.gov.hmcts.reform.pip.data.management.models.location.Location;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
-import uk.gov.hmcts.reform.pip.data.management.service.AccountManagementService;
+import uk.gov.hmcts.reform.pip.data.management.service.AuthorisationDecisionCache;
 import uk.gov.hmcts.reform.pip.model.publication.ListType;
 import uk.gov.hmcts.reform.pip.model.publication.Sensitivity;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.ARTEFACT_ID;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.LOCATION_VENUE;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.PROVENANCE;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.PROVENANCE_ID;
-import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.TEST_FILE;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.USER_ID;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.VALIDATION_ARTEFACT_NOT_MATCH;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.VALIDATION_NOT_THROWN_MESSAGE;
@@ -42,6 +50,11 @@ import static uk.gov.hmcts.reform.pip.data.management.helpers.ConstantsTestHelpe
 @ExtendWith(MockitoExtension.class)
 class PublicationRetrievalServiceTest {
     private static final String PAYLOAD = "payload";
+    private static final LocalDateTime DISPLAY_FROM = LocalDateTime.now().minusDays(1);
+    private static final String ETAG = "\"0x8DC1234567890AB\"";
+    private static final String STORED_PAYLOAD_MESSAGE = "Stored payload does not match";
+    private static final String PAYLOAD_ID = "ThisIsATestPayload";
+    private static final StoredPayload STORED_PAYLOAD = new StoredPayload(PAYLOAD_ID, 100, ETAG, null);
 
     @Mock
     private ArtefactRepository artefactRepository;
@@ -53,7 +66,16 @@ class PublicationRetrievalServiceTest {
     private AzureArtefactBlobService azureArtefactBlobService;
 
     @Mock
-    private AccountManagementService accountManagementService;
+    private AuthorisationDecisionCache authorisationDecisionCache;
+
+    @Mock
+    private PublicationPayloadCache publicationPayloadCache;
+
+    @Mock
+    private ArtefactMetadataCache artefactMetadataCache;
+
+    @Mock
+    private BlobProperties blobProperties;
 
     @InjectMocks
     private PublicationRetrievalService publicationRetrievalService;
@@ -87,11 +109,17 @@ class PublicationRetrievalServiceTest {
         artefact = ArtefactConstantTestHelper.buildArtefact();
         artefactWithPayloadUrl = ArtefactConstantTestHelper.buildArtefactWithPayloadUrl();
         artefactWithIdAndPayloadUrl = ArtefactConstantTestHelper.buildArtefactWithIdAndPayloadUrl();
+
+        artefact.setDisplayFrom(DISPLAY_FROM);
+        artefactWithPayloadUrl.setDisplayFrom(DISPLAY_FROM);
+        artefactWithIdAndPayloadUrl.setDisplayFrom(DISPLAY_FROM);
     }
 
     private void createClassifiedPayloads() {
         artefactClassified = ArtefactConstantTestHelper.buildClassifiedPayloads();
         artefactWithPayloadUrlClassified = ArtefactConstantTestHelper.buildArtefactWithPayloadUrlClassified();
+        artefactClassified.setDisplayFrom(DISPLAY_FROM);
+        artefactWithPayloadUrlClassified.setDisplayFrom(DISPLAY_FROM);
 
         Location location = ArtefactConstantTestHelper.initialiseCourts();
 
@@ -109,155 +137,54 @@ class PublicationRetrievalServiceTest {
 
     @Test
     void testArtefactPayloadFromAzureWhenAdmin() {
-        when(artefactRepository.findArtefactByArtefactId(any())).thenReturn(Optional.of(artefactWithPayloadUrl));
-        when(azureArtefactBlobService.getBlobData(any())).thenReturn(PAYLOAD);
+        when(artefactMetadataCache.getArtefact(any())).thenReturn(Optional.of(artefactWithPayloadUrl));
+        when(publicationPayloadCache.getPayload(any())).thenReturn(PAYLOAD);
         assertEquals(PAYLOAD, publicationRetrievalService.getPayloadByArtefactId(ARTEFACT_ID),
                      VALIDATION_ARTEFACT_NOT_MATCH
         );
     }
 
     @Test
-    void testArtefactPayloadFromAzureWhenArtefactIsPublic() {
-        when(artefactRepository.findByArtefactId(any(), any())).thenReturn(Optional.of(artefactWithPayloadUrl));
-        when(azureArtefactBlobService.getBlobData(any()))
-            .thenReturn(PAYLOAD);
-        assertEquals(PAYLOAD, publicationRetrievalService.getPayloadByArtefactId(ARTEFACT_ID, USER_ID),
-                     VALIDATION_ARTEFACT_NOT_MATCH
-        );
+    void testGetStoredPayload() {
+        when(azureArtefactBlobService.getBlobProperties(PAYLOAD_ID)).thenReturn(blobProperties);
+        when(blobProperties.getBlobSize()).thenReturn(100L);
+        when(blobProperties.getETag()).thenReturn(ETAG);
+        when(blobProperties.getContentEncoding()).thenReturn("gzip");
+
+        StoredPayload storedPayload = publicationRetrievalService.getStoredPayload(artefactWithPayloadUrl);
+
+        assertEquals(PAYLOAD_ID, storedPayload.getPayloadId(), STORED_PAYLOAD_MESSAGE);
+        assertEquals(100L, storedPayload.getSize(), STORED_PAYLOAD_MESSAGE);
+        assertEquals(ETAG, storedPayload.getETag(), STORED_PAYLOAD_MESSAGE);
+        assertTrue(storedPayload.isGzipEncoded(), STORED_PAYLOAD_MESSAGE);
     }
 
     @Test
-    void testArtefactPayloadFromAzureWhenArtefactIsNotPublicAndIsAuthorised() {
-        when(artefactRepository.findByArtefactId(any(), any()))
-            .thenReturn(Optional.of(artefactWithPayloadUrlClassified));
-        when(azureArtefactBlobService.getBlobData(any()))
-            .thenReturn(PAYLOAD);
-        when(accountManagementService.getIsAuthorised(USER_ID,
-                                                      ListType.CIVIL_DAILY_CAUSE_LIST, Sensitivity.CLASSIFIED))
-            .thenReturn(true);
+    void testStreamStoredPayload() {
+        OutputStream outputStream = new ByteArrayOutputStream();
+        publicationRetrievalService.streamStoredPayload(STORED_PAYLOAD, outputStream, 10, 20);
 
-        assertEquals(PAYLOAD, publicationRetrievalService.getPayloadByArtefactId(ARTEFACT_ID, USER_ID),
-                     VALIDATION_ARTEFACT_NOT_MATCH
-        );
+        verify(azureArtefactBlobService).streamBlob(PAYLOAD_ID, outputStream, 10, 20, ETAG);
     }
 
     @Test
-    void testArtefactPayloadFromAzureWhenArtefactIsNotPublicAndIsNotAuthorised() {
-        when(artefactRepository.findByArtefactId(any(), any()))
-            .thenReturn(Optional.of(artefactWithPayloadUrlClassified));
-
-        when(accountManagementService.getIsAuthorised(USER_ID,
-                                                      ListType.CIVIL_DAILY_CAUSE_LIST, Sensitivity.CLASSIFIED))
-            .thenReturn(false);
+    void testStreamStoredPayloadWithEmptyRange() {
+        publicationRetrievalService.streamStoredPayload(STORED_PAYLOAD, new ByteArrayOutputStream(), 0, 0);
 
-        assertThrows(NotFoundException.class, () -> publicationRetrievalService.getPayloadByArtefactId(ARTEFACT_ID,
-                                                                                                       USER_ID),
-                     VALIDATION_NOT_THROWN_MESSAGE);
+        verifyNoInteractions(azureArtefactBlobService);
     }
 
     @Test
-    void testArtefactFileFromAzureWhenAdmin() {
-        byte[] testData = TEST_FILE.getBytes();
-        when(artefactRepository.findArtefactByArtefactId(any())).thenReturn(Optional.of(artefactWithPayloadUrl));
-        when(azureArtefactBlobService.getBlobFile(any())).thenReturn(new ByteArrayResource(testData));
-
-        assertEquals(new ByteArrayResource(testData), publicationRetrievalService.getFlatFileByArtefactID(
-            ARTEFACT_ID), VALIDATION_ARTEFACT_NOT_MATCH);
-    }
+    void testStreamDecompressedPayload() throws IOException {
+        OutputStream outputStream = new ByteArrayOutputStream();
+        publicationRetrievalService.streamDecompressedPayload(STORED_PAYLOAD, outputStream);
 
-    @Test
-    void testArtefactFileFromAzureWhenArtefactIsPublic() {
-        byte[] testData = TEST_FILE.getBytes();
-        when(artefactRepository.findByArtefactId(any(), any())).thenReturn(Optional.of(artefactWithPayloadUrl));
-        when(azureArtefactBlobService.getBlobFile(any())).thenReturn(new ByteArrayResource(testData));
-
-        assertEquals(new ByteArrayResource(testData), publicationRetrievalService.getFlatFileByArtefactID(
-            ARTEFACT_ID,
-            USER_ID), VALIDATION_ARTEFACT_NOT_MATCH);
-    }
-
-    @Test
-    void testArtefactFileFromAzureWhenArtefactIsNotPublic() {
-        byte[] testData = TEST_FILE.getBytes();
-        when(artefactRepository.findByArtefactId(any(), any()))
-            .thenReturn(Optional.of(artefactWithPayloadUrlClassified));
-        when(azureArtefactBlobService.getBlobFile(any())).thenReturn(new ByteArrayResource(testData));
-
-        when(accountManagementService.getIsAuthorised(USER_ID,
-                                                      ListType.CIVIL_DAILY_CAUSE_LIST, Sensitivity.CLASSIFIED))
-            .thenReturn(true);
-
-        assertEquals(new ByteArrayResource(testData), publicationRetrievalService.getFlatFileByArtefactID(
-            ARTEFACT_ID,
-            USER_ID), VALIDATION_ARTEFACT_NOT_MATCH);
-    }
-
-    @Test
-    void testArtefactFileFromAzureWhenArtefactIsNotPublicAndNotAuthorised() {
-        when(artefactRepository.findByArtefactId(any(), any()))
-            .thenReturn(Optional.of(artefactWithPayloadUrlClassified));
-
-        when(accountManagementService.getIsAuthorised(USER_ID, ListType.CIVIL_DAILY_CAUSE_LIST, Sensitivity.CLASSIFIED))
-            .thenReturn(false);
-
-        assertThrows(NotFoundException.class, () -> publicationRetrievalService.getFlatFileByArtefactID(
-            ARTEFACT_ID,
-            USER_ID), VALIDATION_NOT_THROWN_MESSAGE);
-    }
-
-    @Test
-    void testArtefactPayloadFromAzureWhenUnauthorized() {
-        when(artefactRepository.findByArtefactId(any(), any()))
-            .thenReturn(Optional.of(artefactWithPayloadUrlClassified));
-        when(accountManagementService.getIsAuthorised(USER_ID, ListType.CIVIL_DAILY_CAUSE_LIST,
-                                                       Sensitivity.CLASSIFIED))
-            .thenReturn(false);
-
-        assertThrows(NotFoundException.class, () -> publicationRetrievalService.getPayloadByArtefactId(ARTEFACT_ID,
-                                                                                                       USER_ID),
-                     VALIDATION_NOT_THROWN_MESSAGE);
-        verify(azureArtefactBlobService, never()).getBlobFile(any());
-    }
-
-    @Test
-    void testArtefactContentFromAzureWhenDoesNotExist() {
-        when(artefactRepository.findByArtefactId(any(), any())).thenReturn(Optional.empty());
-        assertThrows(
-            NotFoundException.class,
-            ()
-                -> publicationRetrievalService.getPayloadByArtefactId(ARTEFACT_ID, USER_ID),
-            "Not Found exception has not been thrown when artefact does not exist"
-        );
-    }
-
-    @Test
-    void testArtefactFileFromAzureWhenUnauthorized() {
-        when(artefactRepository.findByArtefactId(any(), any()))
-            .thenReturn(Optional.of(artefactWithPayloadUrlClassified));
-        when(accountManagementService.getIsAuthorised(USER_ID, ListType.CIVIL_DAILY_CAUSE_LIST,
-                                                      Sensitivity.CLASSIFIED))
-            .thenReturn(false);
-
-        assertThrows(NotFoundException.class, () -> publicationRetrievalService.getFlatFileByArtefactID(ARTEFACT_ID,
-                                                                                                        USER_ID),
-                     VALIDATION_NOT_THROWN_MESSAGE);
-        verify(azureArtefactBlobService, never()).getBlobFile(any());
-    }
-
-    @Test
-    void testArtefactFileFromAzureWhenDoesNotExist() {
-        when(artefactRepository.findByArtefactId(any(), any())).thenReturn(Optional.empty());
-        assertThrows(
-            NotFoundException.class,
-            ()
-                -> publicationRetrievalService.getFlatFileByArtefactID(ARTEFACT_ID, USER_ID),
-            "Not Found exception has not been thrown when artefact does not exist"
-        );
+        verify(azureArtefactBlobService).streamDecompressedBlob(PAYLOAD_ID, outputStream, ETAG);
     }
 
     @Test
     void testArtefactMetadataFromAzureWhenPublic() {
-        when(artefactRepository.findByArtefactId(any(), any())).thenReturn(Optional.of(artefact));
+        when(artefactMetadataCache.getArtefact(any())).thenReturn(Optional.of(artefact));
 
         assertEquals(artefact, publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID),
                      VALIDATION_ARTEFACT_NOT_MATCH
@@ -266,9 +193,9 @@ class PublicationRetrievalServiceTest {
 
     @Test
     void testArtefactMetadataFromAzureWhenNotPublic() {
-        when(artefactRepository.findByArtefactId(any(), any())).thenReturn(Optional.of(artefactClassified));
+        when(artefactMetadataCache.getArtefact(any())).thenReturn(Optional.of(artefactClassified));
 
-        when(accountManagementService.getIsAuthorised(USER_ID, ListType.CIVIL_DAILY_CAUSE_LIST, Sensitivity.CLASSIFIED))
+        when(authorisationDecisionCache.isAuthorised(USER_ID, ListType.CIVIL_DAILY_CAUSE_LIST, Sensitivity.CLASSIFIED))
             .thenReturn(true);
 
         assertEquals(artefactClassified, publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID, USER_ID),
@@ -278,9 +205,9 @@ class PublicationRetrievalServiceTest {
 
     @Test
     void testArtefactMetadataFromAzureWhenNotPublicAndNotAuthorised() {
-        when(artefactRepository.findByArtefactId(any(), any())).thenReturn(Optional.of(artefactClassified));
+        when(artefactMetadataCache.getArtefact(any())).thenReturn(Optional.of(artefactClassified));
 
-        when(accountManagementService.getIsAuthorised(USER_ID, ListType.CIVIL_DAILY_CAUSE_LIST, Sensitivity.CLASSIFIED))
+        when(authorisationDecisionCache.isAuthorised(USER_ID, ListType.CIVIL_DAILY_CAUSE_LIST, Sensitivity.CLASSIFIED))
             .thenReturn(false);
 
         assertThrows(NotFoundException.class, () -> publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID,
@@ -291,7 +218,7 @@ class PublicationRetrievalServiceTest {
 
     @Test
     void testGetArtefactMetadataForAdmin() {
-        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString()))
+        when(artefactMetadataCache.getArtefact(ARTEFACT_ID))
             .thenReturn(Optional.of(artefactWithIdAndPayloadUrl));
         assertEquals(artefactWithIdAndPayloadUrl, publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID),
                      VALIDATION_ARTEFACT_NOT_MATCH);
@@ -299,7 +226,7 @@ class PublicationRetrievalServiceTest {
 
     @Test
     void testGetArtefactMetadataForAdminThrows() {
-        when(artefactRepository.findArtefactByArtefactId(ARTEFACT_ID.toString())).thenReturn(Optional.empty());
+        when(artefactMetadataCache.getArtefact(ARTEFACT_ID)).thenReturn(Optional.empty());
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
                                                 publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID),
                                             "Not found exception should be thrown"
@@ -308,12 +235,71 @@ class PublicationRetrievalServiceTest {
                      MESSAGES_MATCH);
     }
 
+    @Test
+    void testGetArtefactsMetadataForAdmin() {
+        when(artefactMetadataCache.getArtefacts(List.of(ARTEFACT_ID)))
+            .thenReturn(Map.of(ARTEFACT_ID, artefactWithIdAndPayloadUrl));
+        assertEquals(List.of(artefactWithIdAndPayloadUrl),
+                     List.copyOf(publicationRetrievalService.getMetadataByArtefactIds(List.of(ARTEFACT_ID))),
+                     VALIDATION_ARTEFACT_NOT_MATCH);
+    }
+
+    @Test
+    void testGetArtefactsMetadataForAdminThrowsWhenOneMissing() {
+        UUID missingArtefactId = UUID.randomUUID();
+        when(artefactMetadataCache.getArtefacts(List.of(ARTEFACT_ID, missingArtefactId)))
+            .thenReturn(Map.of(ARTEFACT_ID, artefactWithIdAndPayloadUrl));
+        NotFoundException ex = assertThrows(NotFoundException.class, () ->
+                                                publicationRetrievalService.getMetadataByArtefactIds(
+                                                    List.of(ARTEFACT_ID, missingArtefactId)),
+                                            "Not found exception should be thrown"
+        );
+        assertEquals("No artefact found with the ID: " + missingArtefactId, ex.getMessage(), MESSAGES_MATCH);
+    }
+
     @Test
     void testGetArtefactMetadataCallsNonAdmin() {
-        when(artefactRepository.findByArtefactId(any(), any()))
+        when(artefactMetadataCache.getArtefact(any()))
             .thenReturn(Optional.of(artefactWithIdAndPayloadUrl));
         assertEquals(artefactWithIdAndPayloadUrl, publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID,
                                                                                                       USER_ID),
                      VALIDATION_ARTEFACT_NOT_MATCH);
     }
+
+    @Test
+    void testGetArtefactMetadataNonAdminWhenNotYetDisplayed() {
+        artefact.setDisplayFrom(LocalDateTime.now().plusDays(1));
+        when(artefactMetadataCache.getArtefact(any())).thenReturn(Optional.of(artefact));
+
+        assertThrows(NotFoundException.class, () -> publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID,
+                                                                                                        USER_ID),
+                     VALIDATION_NOT_THROWN_MESSAGE
+        );
+    }
+
+    @Test
+    void testGetArtefactMetadataNonAdminWhenNoLongerDisplayed() {
+        artefact.setDisplayTo(LocalDateTime.now().minusHours(1));
+        when(artefactMetadataCache.getArtefact(any())).thenReturn(Optional.of(artefact));
+
+        assertThrows(NotFoundException.class, () -> publicationRetrievalService.getMetadataByArtefactId(ARTEFACT_ID,
+                                                                                                        USER_ID),
+                     VALIDATION_NOT_THROWN_MESSAGE
+        );
+    }
+
+    @Test
+    void testPreloadAuthorisations() {
+        List<Artefact> artefacts = List.of(artefactClassified);
+        publicationRetrievalService.preloadAuthorisations(artefacts, USER_ID);
+
+        verify(authorisationDecisionCache).preload(USER_ID, artefacts);
+    }
+
+    @Test
+    void testPreloadAuthorisationsWithoutUser() {
+        publicationRetrievalService.preloadAuthorisations(List.of(artefactClassified), null);
+
+        verifyNoInteractions(authorisationDecisionCache);
+    }
 }
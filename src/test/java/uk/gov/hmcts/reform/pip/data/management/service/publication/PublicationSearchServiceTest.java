@@ -9,6 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
@@ -19,6 +20,8 @@ import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.CreateLi
 import uk.gov.hmcts.reform.pip.data.management.errorhandling.exceptions.NotFoundException;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPage;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactPageCursor;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.ListSearchConfig;
 import uk.gov.hmcts.reform.pip.data.management.utils.CaseSearchTerm;
 import uk.gov.hmcts.reform.pip.model.publication.ArtefactCaseInfo;
@@ -36,12 +39,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.ARTEFACT_ID;
 import static uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper.CONTENT_DATE;
@@ -82,6 +87,9 @@ class PublicationSearchServiceTest {
     @Mock
     private PublicationRetrievalService publicationRetrievalService;
 
+    @Mock
+    private CaseSuggestionIndex caseSuggestionIndex;
+
     @InjectMocks
     private PublicationSearchService publicationSearchService;
 
@@ -328,6 +336,51 @@ class PublicationSearchServiceTest {
 
         assertEquals(1, artefacts.size(), VALIDATION_MORE_THAN_PUBLIC);
         assertEquals(artefactPublic, artefacts.get(0), VALIDATION_ARTEFACT_NOT_MATCH);
+        verify(publicationRetrievalService).preloadAuthorisations(artefactList, USER_ID);
+    }
+
+    @Test
+    void testFindPageByLocationIdAdmin() {
+        Artefact first = Artefact.builder().artefactId(UUID.randomUUID()).contentDate(CONTENT_DATE).build();
+        Artefact second = Artefact.builder().artefactId(UUID.randomUUID()).contentDate(CONTENT_DATE).build();
+
+        when(artefactRepository.findArtefactsPageByLocationIdAdmin(eq(ABC), any(), eq(Limit.of(2))))
+            .thenReturn(List.of(first, second));
+
+        ArtefactPage page = publicationSearchService.findPageByLocationIdAdmin(ABC, USER_ID, true, null, 1);
+
+        assertEquals(List.of(first), page.getArtefacts(), VALIDATION_ARTEFACT_NOT_MATCH);
+        assertEquals(ArtefactPageCursor.from(first).encode(), page.getNextCursor(), VALIDATION_ARTEFACT_NOT_MATCH);
+        verifyNoInteractions(publicationRetrievalService);
+    }
+
+    @Test
+    void testFindPageByLocationIdAfterCursorFiltersUnauthorised() {
+        Artefact artefactPublic = Artefact.builder()
+            .artefactId(UUID.randomUUID())
+            .contentDate(CONTENT_DATE)
+            .sensitivity(Sensitivity.PUBLIC)
+            .build();
+        Artefact artefactClassified = Artefact.builder()
+            .artefactId(UUID.randomUUID())
+            .contentDate(CONTENT_DATE)
+            .sensitivity(Sensitivity.CLASSIFIED)
+            .build();
+        ArtefactPageCursor cursor = new ArtefactPageCursor(CONTENT_DATE, UUID.randomUUID());
+        List<Artefact> artefactList = List.of(artefactPublic, artefactClassified);
+
+        when(artefactRepository.findArtefactsPageByLocationIdAfter(eq(ABC), any(), eq(CONTENT_DATE),
+                                                                   eq(cursor.getArtefactId()), eq(Limit.of(3))))
+            .thenReturn(artefactList);
+        when(publicationRetrievalService.isAuthorised(artefactPublic, USER_ID)).thenReturn(true);
+        when(publicationRetrievalService.isAuthorised(artefactClassified, USER_ID)).thenReturn(false);
+
+        ArtefactPage page = publicationSearchService.findPageByLocationIdAdmin(ABC, USER_ID, false,
+                                                                              cursor.encode(), 2);
+
+        assertEquals(List.of(artefactPublic), page.getArtefacts(), VALIDATION_MORE_THAN_PUBLIC);
+        assertNull(page.getNextCursor(), VALIDATION_ARTEFACT_NOT_MATCH);
+        verify(publicationRetrievalService).preloadAuthorisations(artefactList, USER_ID);
     }
 
     @Test
@@ -626,4 +679,15 @@ class PublicationSearchServiceTest {
         List<ArtefactCaseInfo> results = publicationSearchService.findCasesByCaseName("not found", true);
         assertEquals(0, results.size(), VALIDATION_ARTEFACT_NOT_MATCH);
     }
+
+    @Test
+    void testSuggestCases() {
+        when(caseSuggestionIndex.suggest(TEST_VALUE)).thenReturn(List.of(new ArtefactCaseInfo("123", TEST_VALUE)));
+
+        List<ArtefactCaseInfo> results = publicationSearchService.suggestCases(TEST_VALUE);
+
+        assertEquals(1, results.size(), VALIDATION_ARTEFACT_NOT_MATCH);
+        assertEquals(TEST_VALUE, results.get(0).getCaseName(), VALIDATION_ARTEFACT_NOT_MATCH);
+        verifyNoInteractions(artefactSearchRepository);
+    }
 }
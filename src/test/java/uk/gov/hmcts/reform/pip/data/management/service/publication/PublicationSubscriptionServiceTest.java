@@ -10,9 +10,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactRepository;
 import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSearchRepository;
+import uk.gov.hmcts.reform.pip.data.management.database.ArtefactSummaryRepository;
 import uk.gov.hmcts.reform.pip.data.management.helpers.ArtefactConstantTestHelper;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.Artefact;
 import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSearch;
+import uk.gov.hmcts.reform.pip.data.management.models.publication.ArtefactSummary;
 import uk.gov.hmcts.reform.pip.data.management.service.AccountManagementService;
 import uk.gov.hmcts.reform.pip.data.management.service.ListConversionFactory;
 import uk.gov.hmcts.reform.pip.data.management.service.artefactsummary.CivilDailyCauseListSummaryData;
@@ -30,7 +32,9 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -45,6 +49,7 @@ class PublicationSubscriptionServiceTest {
     private static final Artefact ARTEFACT = new Artefact();
     private static final String CASE_NUMBER = "caseNumber";
     private static final String CASE_NAME = "caseName";
+    private static final String STORED_SUMMARY = "Stored summary";
 
     private static final String RESPONSE_MESSAGE = "Response didn't contain expected text";
     private static final String ERROR_LOG_EMPTY = "Error log not empty";
@@ -67,6 +72,9 @@ class PublicationSubscriptionServiceTest {
     @Mock
     private AccountManagementService accountManagementService;
 
+    @Mock
+    private ArtefactSummaryRepository artefactSummaryRepository;
+
     @Mock
     private CivilDailyCauseListSummaryData civilDailyCauseListSummaryData;
 
@@ -197,6 +205,69 @@ class PublicationSubscriptionServiceTest {
         assertFalse(response.isEmpty(), RESPONSE_MESSAGE);
 
         verify(civilDailyCauseListSummaryData).get(any());
+        verify(artefactSummaryRepository).upsertSummary(eq(TEST_ARTEFACT_ID), eq(ARTEFACT.getSupersededCount()),
+                                                        eq(TEST), any());
+    }
+
+    @Test
+    void testGenerateArtefactSummaryReturnsStoredSummary() {
+        ArtefactSummary artefactSummary = ArtefactSummary.builder()
+            .artefactId(TEST_ARTEFACT_ID)
+            .supersededCount(ARTEFACT.getSupersededCount())
+            .summary(STORED_SUMMARY)
+            .build();
+
+        when(publicationRetrievalService.getMetadataByArtefactId(TEST_ARTEFACT_ID)).thenReturn(ARTEFACT);
+        when(listConversionFactory.getArtefactSummaryData(any(ListType.class)))
+            .thenReturn(Optional.of(civilDailyCauseListSummaryData));
+        when(artefactSummaryRepository.findByArtefactIdAndSupersededCount(TEST_ARTEFACT_ID,
+                                                                          ARTEFACT.getSupersededCount()))
+            .thenReturn(Optional.of(artefactSummary));
+
+        assertEquals(STORED_SUMMARY, publicationSubscriptionService.generateArtefactSummary(TEST_ARTEFACT_ID),
+                     RESPONSE_MESSAGE);
+        verify(publicationRetrievalService, never()).getPayloadByArtefactId(any());
+        verify(artefactSummaryRepository, never()).upsertSummary(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void testPrecomputeArtefactSummary() {
+        when(listConversionFactory.getArtefactSummaryData(any(ListType.class)))
+            .thenReturn(Optional.of(civilDailyCauseListSummaryData));
+        when(publicationSummaryGenerationService.generate(any())).thenReturn(TEST);
+
+        publicationSubscriptionService.precomputeArtefactSummary(ARTEFACT, "{}");
+
+        verify(artefactSummaryRepository).upsertSummary(eq(TEST_ARTEFACT_ID), eq(ARTEFACT.getSupersededCount()),
+                                                        eq(TEST), any());
+    }
+
+    @Test
+    void testPrecomputeArtefactSummaryWhenNoSummaryData() {
+        when(listConversionFactory.getArtefactSummaryData(any(ListType.class))).thenReturn(Optional.empty());
+
+        publicationSubscriptionService.precomputeArtefactSummary(ARTEFACT, "{}");
+
+        verifyNoInteractions(artefactSummaryRepository);
+    }
+
+    @Test
+    void testPrecomputeArtefactSummaryWithInvalidPayload() {
+        when(listConversionFactory.getArtefactSummaryData(any(ListType.class)))
+            .thenReturn(Optional.of(new NonStrategicListSummaryData(ListType.CST_WEEKLY_HEARING_LIST)));
+
+        try (LogCaptor logCaptor = LogCaptor.forClass(PublicationSubscriptionService.class)) {
+            publicationSubscriptionService.precomputeArtefactSummary(ARTEFACT, "{invalid");
+
+            assertFalse(logCaptor.getErrorLogs().isEmpty(), "Error log should not be empty");
+        }
+        verifyNoInteractions(artefactSummaryRepository);
+    }
+
+    @Test
+    void testDeleteArtefactSummary() {
+        publicationSubscriptionService.deleteArtefactSummary(TEST_ARTEFACT_ID);
+        verify(artefactSummaryRepository).deleteByArtefactId(TEST_ARTEFACT_ID);
     }
 
     @Test
@@ -260,4 +331,37 @@ class PublicationSubscriptionServiceTest {
         assertEquals(CASE_NUMBER, caseInfo.getCaseNumber(), RESPONSE_MESSAGE);
         assertEquals(CASE_NAME, caseInfo.getCaseName(), RESPONSE_MESSAGE);
     }
+
+    @Test
+    void testConvertArtefactsToSharedModelLooksUpCaseInfoOnce() {
+        Artefact artefact = new Artefact();
+        artefact.setArtefactId(TEST_ARTEFACT_ID);
+        Artefact artefactWithoutCases = new Artefact();
+        artefactWithoutCases.setArtefactId(UUID.randomUUID());
+
+        ArtefactSearch artefactSearch = new ArtefactSearch();
+        artefactSearch.setArtefactId(TEST_ARTEFACT_ID);
+        artefactSearch.setCaseNumber(CASE_NUMBER);
+        artefactSearch.setCaseName(CASE_NAME);
+
+        when(artefactSearchRepository.findByArtefactIdIn(
+            List.of(TEST_ARTEFACT_ID, artefactWithoutCases.getArtefactId())
+        )).thenReturn(List.of(artefactSearch));
+
+        List<uk.gov.hmcts.reform.pip.model.publication.Artefact> sharedArtefacts = publicationSubscriptionService
+            .convertArtefactsToSharedModel(List.of(artefact, artefactWithoutCases));
+
+        assertEquals(2, sharedArtefacts.size(), RESPONSE_MESSAGE);
+        assertEquals(TEST_ARTEFACT_ID, sharedArtefacts.get(0).getArtefactId(), RESPONSE_MESSAGE);
+        assertEquals(CASE_NUMBER, sharedArtefacts.get(0).getCaseInfoList().get(0).getCaseNumber(), RESPONSE_MESSAGE);
+        assertTrue(RESPONSE_MESSAGE, sharedArtefacts.get(1).getCaseInfoList().isEmpty());
+        verify(artefactSearchRepository, never()).findByArtefactId(any());
+    }
+
+    @Test
+    void testSendDeleteArtefactsForApiSubscriptionWithNoArtefacts() {
+        assertTrue(RESPONSE_MESSAGE,
+                   publicationSubscriptionService.sendDeleteArtefactsForApiSubscription(List.of()).isEmpty());
+        verifyNoInteractions(accountManagementService);
+    }
 }